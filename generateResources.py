@@ -1047,6 +1047,9 @@ for wood_type in WOOD_TYPES:
 # LEATHER / HIDES
 blockstate(('placed_hide',), 'tfc:hide_rack', {})
 
+# PLACED ITEMS (rendered by BakedModelPlacedItemFlat, this is only used for the particle texture)
+blockstate(('placed_item_flat',), 'tfc:empty', {})
+
 # AGRICULTURE
 
 for cropName, data in CROPS.items():
@@ -47,6 +47,8 @@ import net.minecraft.world.GameRules;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.biome.Biome;
+import net.minecraft.world.gen.ChunkProviderServer;
+import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.common.capabilities.ICapabilityProvider;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.GameRuleChangeEvent;
@@ -71,6 +73,7 @@ import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.PlayerEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.damage.CapabilityDamageResistance;
 import net.dries007.tfc.api.capability.damage.DamageType;
 import net.dries007.tfc.api.capability.egg.CapabilityEgg;
@@ -119,6 +122,7 @@ import net.dries007.tfc.util.calendar.CalendarWorldData;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.util.skills.SmithingSkill;
+import net.dries007.tfc.world.classic.ChunkGenTFC;
 import net.dries007.tfc.world.classic.WorldTypeTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
@@ -375,10 +379,13 @@ public final class CommonEventHandler
         Item item = stack.getItem();
         if (!stack.isEmpty())
         {
+            // Resolve all custom providers with a single lookup, as this is called for every stack created (including copies)
+            ItemCapabilityResolver.Resolution resolution = ItemCapabilityResolver.resolve(stack);
+
             // Size
             if (CapabilityItemSize.getIItemSize(stack) == null)
             {
-                ICapabilityProvider sizeHandler = CapabilityItemSize.getCustomSize(stack);
+                ICapabilityProvider sizeHandler = resolution.getSize(stack);
                 event.addCapability(CapabilityItemSize.KEY, sizeHandler);
                 if (sizeHandler instanceof IItemSize)
                 {
@@ -396,7 +403,7 @@ public final class CommonEventHandler
             // Because our foods supply a custom capability in Item#initCapabilities, we need to avoid attaching a duplicate, otherwise it breaks food stacking recipes.
             // This problem goes away in 1.15 as all of these definitions (including ours) become tags)
             // We allow custom defined capabilities to attach to non-food items, that should have rot (such as eggs).
-            ICapabilityProvider foodHandler = CapabilityFood.getCustomFood(stack);
+            ICapabilityProvider foodHandler = resolution.getFood(stack);
             if (foodHandler != null || stack.getItem() instanceof ItemFood)
             {
                 if (stack.getItem() instanceof IItemFoodTFC)
@@ -411,7 +418,7 @@ public final class CommonEventHandler
             }
 
             // Forge / Metal / Heat. Try forge first, because it's more specific
-            ICapabilityProvider forgeHandler = CapabilityForgeable.getCustomForgeable(stack);
+            ICapabilityProvider forgeHandler = resolution.getForgeable(stack);
             boolean isForgeable = false;
             boolean isHeatable = false;
             if (forgeHandler != null)
@@ -421,7 +428,7 @@ public final class CommonEventHandler
                 isHeatable = forgeHandler instanceof IItemHeat;
             }
             // Metal
-            ICapabilityProvider metalCapability = CapabilityMetalItem.getCustomMetalItem(stack);
+            ICapabilityProvider metalCapability = resolution.getMetalItem(stack);
             if (metalCapability != null)
             {
                 event.addCapability(CapabilityMetalItem.KEY, metalCapability);
@@ -440,7 +447,7 @@ public final class CommonEventHandler
             // If one of the above is also heatable, skip this
             if (!isHeatable)
             {
-                ICapabilityProvider heatHandler = CapabilityItemHeat.getCustomHeat(stack);
+                ICapabilityProvider heatHandler = resolution.getHeat(stack);
                 if (heatHandler != null)
                 {
                     event.addCapability(CapabilityItemHeat.KEY, heatHandler);
@@ -944,6 +951,20 @@ public final class CommonEventHandler
         }
     }
 
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        final World world = event.getWorld();
+        if (!world.isRemote && world.getChunkProvider() instanceof ChunkProviderServer)
+        {
+            IChunkGenerator chunkGenerator = ((ChunkProviderServer) world.getChunkProvider()).chunkGenerator;
+            if (chunkGenerator instanceof ChunkGenTFC)
+            {
+                ((ChunkGenTFC) chunkGenerator).onWorldUnload();
+            }
+        }
+    }
+
     /**
      * This will disable the bonus chest, cheaty cheaty players >:(
      *
@@ -407,6 +407,12 @@ public final class ConfigTFC
             @Config.Comment("Which inventory slots will ammo refill/pickup search for quivers?")
             @Config.LangKey("config." + MOD_ID + ".general.player.quiverSearch")
             public QuiverSearch quiverSearch = QuiverSearch.HOTBAR;
+
+            @Config.Comment({"Maximum delay (in ticks) between nutrition and thirst updates sent to the client.",
+                "Changes are sent immediately, this only controls how often unchanged values are refreshed."})
+            @Config.LangKey("config." + MOD_ID + ".general.player.foodStatsSyncInterval")
+            @Config.RangeInt(min = 1)
+            public int foodStatsSyncInterval = 100;
         }
 
         public static final class WorldCFG
@@ -486,6 +492,19 @@ public final class ConfigTFC
             @Config.LangKey("config." + MOD_ID + ".general.world.floraDensitySpreadFactor")
             public double floraDensitySpreadFactor = 0.16;
 
+            @Config.RequiresWorldRestart
+            @Config.RangeInt(min = 0, max = 16)
+            @Config.Comment({"The number of background threads used to compute the terrain shape, rock layers and climate of chunks ahead of their generation.",
+                "Set to 0 to do all generation on the server thread."})
+            @Config.LangKey("config." + MOD_ID + ".general.world.generationThreads")
+            public int generationThreads = 2;
+
+            @Config.RequiresWorldRestart
+            @Config.RangeInt(min = 1, max = 8)
+            @Config.Comment("The radius, in chunks, around each generated chunk for which the terrain is computed ahead of time by the background threads.")
+            @Config.LangKey("config." + MOD_ID + ".general.world.generationPrefetchRadius")
+            public int generationPrefetchRadius = 2;
+
             @Config.RequiresMcRestart
             @Config.Comment({"This controls which registered entities can respawn in TFC biomes.",
                 "You must specify by following the pattern 'modid:entity <rarity> <minGroupSpawn> <maxGroupSpawn>'",
@@ -504,6 +523,11 @@ public final class ConfigTFC
             @Config.RangeDouble(min = 0, max = 1)
             @Config.LangKey("config." + MOD_ID + ".general.world_regen.sticksRocksModifier")
             public double sticksRocksModifier = 0.5;
+
+            @Config.Comment("The time, in microseconds, that may be spent on regenerating chunks each tick. Chunks that have not been updated the longest are regenerated first. Set to 0 to disable regeneration.")
+            @Config.RangeInt(min = 0, max = 50000)
+            @Config.LangKey("config." + MOD_ID + ".general.world_regen.tickBudget")
+            public int tickBudget = 0;
         }
 
         public static final class FoodCFG
@@ -659,6 +683,12 @@ public final class ConfigTFC
             @Config.RangeDouble(min = 1, max = 1000)
             @Config.LangKey("config." + MOD_ID + ".general.misc.logMiningTimeModifier")
             public double logMiningTimeModifier = 7.5;
+
+            @Config.Comment({"Interval (in ticks) between full comparisons of item capabilities in open containers, used to sync changes which happen over time, such as food rotting.",
+                "Other changes (such as heating an item) are synced immediately."})
+            @Config.RangeInt(min = 1)
+            @Config.LangKey("config." + MOD_ID + ".general.misc.capabilitySyncInterval")
+            public int capabilitySyncInterval = 20;
         }
     }
 
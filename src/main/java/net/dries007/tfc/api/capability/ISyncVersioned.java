@@ -0,0 +1,23 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.capability;
+
+import net.dries007.tfc.objects.container.CapabilityContainerListener;
+
+/**
+ * A capability which counts its own modifications, so {@link CapabilityContainerListener} can detect changes without comparing the serialized capability every tick.
+ * Capabilities that need syncing but don't implement this are still compared every tick.
+ */
+public interface ISyncVersioned
+{
+    /**
+     * This must change whenever a method call changes the serialized capability.
+     * Changes which happen only with time (such as food becoming rotten) don't need to, they are picked up by a periodic full comparison instead.
+     *
+     * @return the current version
+     */
+    int getSyncVersion();
+}
@@ -0,0 +1,221 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.capability;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.common.capabilities.ICapabilityProvider;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.dries007.tfc.api.capability.food.CapabilityFood;
+import net.dries007.tfc.api.capability.forge.CapabilityForgeable;
+import net.dries007.tfc.api.capability.heat.CapabilityItemHeat;
+import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
+import net.dries007.tfc.api.capability.size.CapabilityItemSize;
+import net.dries007.tfc.api.recipes.RecipeIndex;
+import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+
+/**
+ * Resolves the custom capability providers (size, food, forge, metal and heat) for item stacks.
+ *
+ * Until {@link ItemCapabilityResolver#compile()} is called (after init and CraftTweaker have finished adding custom items), this falls back to a linear scan of each {@code CUSTOM_ITEMS} map.
+ * Afterwards, the candidates of every map are computed once per item + metadata and stored in a table, so resolving a stack is a single lookup, followed by testing the (usually zero or one) candidate ingredients.
+ */
+public final class ItemCapabilityResolver
+{
+    private static final CustomProviders SIZE = new CustomProviders(CapabilityItemSize.CUSTOM_ITEMS);
+    private static final CustomProviders FOOD = new CustomProviders(CapabilityFood.CUSTOM_FOODS);
+    private static final CustomProviders FORGE = new CustomProviders(CapabilityForgeable.CUSTOM_ITEMS);
+    private static final CustomProviders METAL = new CustomProviders(CapabilityMetalItem.CUSTOM_METAL_ITEMS);
+    private static final CustomProviders HEAT = new CustomProviders(CapabilityItemHeat.CUSTOM_ITEMS);
+
+    private static final Map<Item, Int2ObjectMap<Resolution>> TABLE = new HashMap<>(); // By item and meta. Keyed by the item, not its id, as ids may be remapped when joining a server
+    private static final Map<String, LongAdder> COUNTERS = new LinkedHashMap<>();
+    private static final LongAdder RESOLVED = counter("resolved");
+    private static final LongAdder TABLE_MISSES = counter("table_misses");
+    private static final LongAdder SIZE_CUSTOM = counter("size_custom");
+    private static final LongAdder SIZE_DEFAULT = counter("size_default");
+    private static final LongAdder FOOD_CUSTOM = counter("food_custom");
+    private static final LongAdder FORGE_CUSTOM = counter("forge_custom");
+    private static final LongAdder METAL_CUSTOM = counter("metal_custom");
+    private static final LongAdder METAL_ORE_DICT = counter("metal_ore_dict");
+    private static final LongAdder HEAT_CUSTOM = counter("heat_custom");
+
+    private static volatile boolean compiled = false;
+
+    /**
+     * Clears and enables the resolution table. Call this once all custom items have been registered, and again after modifying any of the {@code CUSTOM_ITEMS} maps
+     */
+    public static void compile()
+    {
+        synchronized (TABLE)
+        {
+            TABLE.clear();
+        }
+        compiled = true;
+    }
+
+    @Nonnull
+    public static Resolution resolve(ItemStack stack)
+    {
+        RESOLVED.increment();
+        if (!compiled)
+        {
+            return new Resolution(stack, false);
+        }
+        synchronized (TABLE)
+        {
+            Int2ObjectMap<Resolution> byMeta = TABLE.computeIfAbsent(stack.getItem(), key -> new Int2ObjectOpenHashMap<>());
+            Resolution resolution = byMeta.get(stack.getMetadata());
+            if (resolution == null)
+            {
+                TABLE_MISSES.increment();
+                resolution = new Resolution(stack, true);
+                byMeta.put(stack.getMetadata(), resolution);
+            }
+            return resolution;
+        }
+    }
+
+    /**
+     * @return the number of times each resolution path has been hit, for debugging purposes
+     */
+    public static Map<String, Long> getCounters()
+    {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        COUNTERS.forEach((name, counter) -> counters.put(name, counter.sum()));
+        synchronized (TABLE)
+        {
+            counters.put("table_size", TABLE.values().stream().mapToLong(Int2ObjectMap::size).sum());
+        }
+        return counters;
+    }
+
+    private static LongAdder counter(String name)
+    {
+        LongAdder counter = new LongAdder();
+        COUNTERS.put(name, counter);
+        return counter;
+    }
+
+    private ItemCapabilityResolver() {}
+
+    /**
+     * The candidate providers for a single item + metadata
+     */
+    public static final class Resolution
+    {
+        private final List<Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>>> size, food, forge, metal, heat;
+        private final Supplier<ICapabilityProvider> oreDictMetal;
+
+        private Resolution(ItemStack stack, boolean indexed)
+        {
+            size = SIZE.getCandidates(stack, indexed);
+            food = FOOD.getCandidates(stack, indexed);
+            forge = FORGE.getCandidates(stack, indexed);
+            metal = METAL.getCandidates(stack, indexed);
+            heat = HEAT.getCandidates(stack, indexed);
+            oreDictMetal = CapabilityMetalItem.getOreDictMetalItem(stack);
+        }
+
+        @Nonnull
+        public ICapabilityProvider getSize(ItemStack stack)
+        {
+            ICapabilityProvider provider = get(size, stack);
+            if (provider != null)
+            {
+                SIZE_CUSTOM.increment();
+                return provider;
+            }
+            SIZE_DEFAULT.increment();
+            return CapabilityItemSize.getDefaultSize(stack.getItem());
+        }
+
+        @Nullable
+        public ICapabilityProvider getFood(ItemStack stack)
+        {
+            return count(get(food, stack), FOOD_CUSTOM);
+        }
+
+        @Nullable
+        public ICapabilityProvider getForgeable(ItemStack stack)
+        {
+            return count(get(forge, stack), FORGE_CUSTOM);
+        }
+
+        @Nullable
+        public ICapabilityProvider getMetalItem(ItemStack stack)
+        {
+            ICapabilityProvider provider = get(metal, stack);
+            if (provider != null)
+            {
+                METAL_CUSTOM.increment();
+                return provider;
+            }
+            // Try using ore dict prefix-suffix common values (ie: ingotCopper)
+            return oreDictMetal != null ? count(oreDictMetal.get(), METAL_ORE_DICT) : null;
+        }
+
+        @Nullable
+        public ICapabilityProvider getHeat(ItemStack stack)
+        {
+            return count(get(heat, stack), HEAT_CUSTOM);
+        }
+
+        @Nullable
+        private ICapabilityProvider get(List<Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>>> candidates, ItemStack stack)
+        {
+            // Candidates only share the item + metadata, the ingredient may still depend on other properties (such as nbt or food traits)
+            for (Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> entry : candidates)
+            {
+                if (entry.getKey().testIgnoreCount(stack))
+                {
+                    return entry.getValue().get();
+                }
+            }
+            return null;
+        }
+
+        @Nullable
+        private ICapabilityProvider count(@Nullable ICapabilityProvider provider, LongAdder counter)
+        {
+            if (provider != null)
+            {
+                counter.increment();
+            }
+            return provider;
+        }
+    }
+
+    private static final class CustomProviders
+    {
+        private final Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> map;
+        private final RecipeIndex<Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>>> index;
+
+        private CustomProviders(Map<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> map)
+        {
+            this.map = map;
+            this.index = new RecipeIndex<>(map::entrySet, (entry, keys) -> entry.getKey().addIndexKeys(keys));
+        }
+
+        private List<Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>>> getCandidates(ItemStack stack, boolean indexed)
+        {
+            if (indexed)
+            {
+                List<Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>>> candidates = index.findAll(stack, entry -> true);
+                return candidates.isEmpty() ? Collections.emptyList() : candidates;
+            }
+            return new ArrayList<>(map.entrySet());
+        }
+    }
+}
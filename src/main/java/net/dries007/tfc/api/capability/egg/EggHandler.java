@@ -16,11 +16,14 @@ import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 
-public class EggHandler implements IEgg, ICapabilitySerializable<NBTTagCompound>
+import net.dries007.tfc.api.capability.ISyncVersioned;
+
+public class EggHandler implements IEgg, ICapabilitySerializable<NBTTagCompound>, ISyncVersioned
 {
     private boolean fertilized;
     private long hatchDay;
     private NBTTagCompound entitytag;
+    private int syncVersion;
 
     public EggHandler()
     {
@@ -63,6 +66,13 @@ public class EggHandler implements IEgg, ICapabilitySerializable<NBTTagCompound>
         this.fertilized = true;
         this.entitytag = entity.serializeNBT();
         this.hatchDay = hatchDay;
+        syncVersion++;
+    }
+
+    @Override
+    public int getSyncVersion()
+    {
+        return syncVersion;
     }
 
     @Override
@@ -107,5 +117,6 @@ public class EggHandler implements IEgg, ICapabilitySerializable<NBTTagCompound>
             entitytag = null;
             hatchDay = 0;
         }
+        syncVersion++;
     }
 }
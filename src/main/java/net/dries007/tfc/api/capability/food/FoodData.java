@@ -76,6 +76,11 @@ public class FoodData implements INBTSerializable<NBTTagCompound>
         return decayModifier;
     }
 
+    public boolean isBuffed()
+    {
+        return buffed;
+    }
+
     @Override
     public NBTTagCompound serializeNBT()
     {
@@ -18,10 +18,11 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 
 import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.capability.ISyncVersioned;
 import net.dries007.tfc.util.agriculture.Food;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 
-public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompound>
+public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompound>, ISyncVersioned
 {
     private static final long ROTTEN_DATE = Long.MIN_VALUE;
     private static final long NEVER_DECAY_DATE = Long.MAX_VALUE;
@@ -38,6 +39,7 @@ public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompoun
     protected FoodData data;
 
     protected long creationDate;
+    protected int syncVersion;
     protected boolean isNonDecaying; // This is intentionally not serialized, as we don't want it to preserve over `ItemStack.copy()` operations
 
     public FoodHandler()
@@ -77,6 +79,7 @@ public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompoun
     public void setCreationDate(long creationDate)
     {
         this.creationDate = creationDate;
+        syncVersion++;
     }
 
     @Override
@@ -131,6 +134,13 @@ public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompoun
         return foodTraits;
     }
 
+    @Override
+    public int getSyncVersion()
+    {
+        // Traits are modified directly through the list
+        return 31 * syncVersion + foodTraits.hashCode();
+    }
+
     @Override
     public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing)
     {
@@ -186,6 +196,7 @@ public class FoodHandler implements IFood, ICapabilitySerializable<NBTTagCompoun
             // Stop defaulting to zero, in cases where the item stack is cloned or copied from one that was initialized at load (and thus was before the calendar was initialized)
             creationDate = CapabilityFood.getRoundedCreationDate();
         }
+        syncVersion++;
     }
 
     /**
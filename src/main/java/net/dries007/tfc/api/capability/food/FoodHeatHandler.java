@@ -91,6 +91,12 @@ public class FoodHeatHandler extends ItemHeatHandler implements IFood, ICapabili
         return internalFoodCap.getTraits();
     }
 
+    @Override
+    public int getSyncVersion()
+    {
+        return 31 * super.getSyncVersion() + internalFoodCap.getSyncVersion();
+    }
+
     @Override
     public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing)
     {
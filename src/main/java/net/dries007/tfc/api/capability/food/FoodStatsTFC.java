@@ -36,6 +36,19 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
     public static final float EXHAUSTION_MULTIPLIER = 0.4f; // Multiplier for vanilla sources of exhaustion (we use passive exhaustion to keep hunger decaying even when not sprinting everywhere. That said, vanilla exhaustion should be reduced to compensate
     public static final float PASSIVE_EXHAUSTION = 20f * 4f / (2.5f * ICalendar.TICKS_IN_DAY); // Passive exhaustion will deplete your food bar once every 2.5 days. Food bar holds ~5 "meals", this requires two per day
 
+    private static long packetsSent = 0;
+    private static long packetsSuppressed = 0;
+
+    public static long getPacketsSent()
+    {
+        return packetsSent;
+    }
+
+    public static long getPacketsSuppressed()
+    {
+        return packetsSuppressed;
+    }
+
     public static void replaceFoodStats(EntityPlayer player)
     {
         // Only replace the server player's stats if they aren't already
@@ -46,6 +59,11 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         // Send the update regardless so the client can perform the same logic
         if (player instanceof EntityPlayerMP)
         {
+            if (player.getFoodStats() instanceof FoodStatsTFC)
+            {
+                // The client will start over with default stats, so they need a full update
+                ((FoodStatsTFC) player.getFoodStats()).markForSync();
+            }
             TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsReplace(), (EntityPlayerMP) player);
         }
     }
@@ -57,6 +75,12 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
     private float thirst;
     private int healTimer;
 
+    // Sync state, in the quantized values that were last sent to the client
+    private final int[] lastSentNutrients = new int[Nutrient.TOTAL];
+    private int lastSentThirst;
+    private int ticksSinceSync;
+    private boolean needsSync = true;
+
     public FoodStatsTFC(EntityPlayer sourcePlayer, FoodStats originalStats)
     {
         this.sourcePlayer = sourcePlayer;
@@ -212,7 +236,7 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         // Since this is only called server side, and vanilla has a custom packet for this stuff, we need our own
         if (player instanceof EntityPlayerMP)
         {
-            TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsUpdate(nutritionStats.getNutrients(), thirst), (EntityPlayerMP) player);
+            syncToClient((EntityPlayerMP) player);
         }
     }
 
@@ -228,6 +252,7 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
 
         // Food
         originalStats.readNBT(nbt);
+        markForSync();
     }
 
     @Override
@@ -283,6 +308,14 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         originalStats.foodSaturationLevel = saturation;
     }
 
+    /**
+     * Forces the stats to be sent to the client on the next update
+     */
+    public void markForSync()
+    {
+        needsSync = true;
+    }
+
     @SideOnly(Side.CLIENT)
     public void onReceivePacket(float[] nutrients, float thirst)
     {
@@ -351,4 +384,33 @@ public class FoodStatsTFC extends FoodStats implements IFoodStatsTFC
         // Using total world time is okay here because it's done on a per-player basis
         lastDrinkTick = sourcePlayer.world.getTotalWorldTime();
     }
-}
\ No newline at end of file
+
+    /**
+     * Sends the nutrients and thirst to the client, but only if they have visibly changed (as seen by the client, after quantization), or the refresh interval has passed
+     */
+    private void syncToClient(EntityPlayerMP player)
+    {
+        float[] nutrients = nutritionStats.getNutrients();
+        boolean changed = needsSync || ++ticksSinceSync >= ConfigTFC.General.PLAYER.foodStatsSyncInterval || PacketFoodStatsUpdate.quantizeThirst(thirst) != lastSentThirst;
+        for (int i = 0; i < nutrients.length && !changed; i++)
+        {
+            changed = PacketFoodStatsUpdate.quantizeNutrient(nutrients[i]) != lastSentNutrients[i];
+        }
+        if (changed)
+        {
+            for (int i = 0; i < nutrients.length; i++)
+            {
+                lastSentNutrients[i] = PacketFoodStatsUpdate.quantizeNutrient(nutrients[i]);
+            }
+            lastSentThirst = PacketFoodStatsUpdate.quantizeThirst(thirst);
+            ticksSinceSync = 0;
+            needsSync = false;
+            packetsSent++;
+            TerraFirmaCraft.getNetwork().sendTo(new PacketFoodStatsUpdate(nutrients, thirst), player);
+        }
+        else
+        {
+            packetsSuppressed++;
+        }
+    }
+}
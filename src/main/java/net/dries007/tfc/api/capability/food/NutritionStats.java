@@ -6,7 +6,6 @@
 package net.dries007.tfc.api.capability.food;
 
 import java.util.Arrays;
-import java.util.LinkedList;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -22,22 +21,35 @@ import net.dries007.tfc.ConfigTFC;
  * This acts as a FIFO queue for the last N foods eaten.
  * It has capability to manage the total hunger and averages over that value
  *
+ * The foods are stored in a ring buffer of primitive records (hunger, followed by each nutrient), most recent first.
+ * Every record is either fully inside the hunger window, or is the single oldest record which is only partially inside it.
+ * The weighted nutrient sums of the full records are kept up to date as foods are added and removed, so adding a food doesn't need to walk the whole queue.
+ *
  * This only executes logic on server side, on client side it simply sets the lastAverageNutrients
  */
 public class NutritionStats implements INBTSerializable<NBTTagCompound>
 {
-    private final LinkedList<FoodData> records;
+    private static final int STRIDE = 1 + Nutrient.TOTAL;
+    private static final int INITIAL_CAPACITY = 32;
+
     private final float defaultNutritionValue, defaultDairyNutritionValue;
     private final float[] nutrients;
+    private final double[] weightedNutrients; // Sum of hunger * nutrient over the full records
+    private float[] records; // Ring buffer, of capacity * STRIDE
+    private int head, size; // Index of the most recent record, and the number of records
+    private int fullRecords, fullHunger; // The number of records (from the most recent) fully inside the hunger window, and their total hunger
+    private float recentSaturation, recentWater, recentDecayModifier; // Only used for display of the most recent record
+    private boolean recentBuffed; // Only the most recent record can be buffed
     private float averageNutrients;
     private int hungerWindow;
 
     public NutritionStats(float defaultNutritionValue, float defaultDairyNutritionValue)
     {
-        this.records = new LinkedList<>();
         this.defaultNutritionValue = defaultNutritionValue;
         this.defaultDairyNutritionValue = defaultDairyNutritionValue;
-        this.nutrients = new float[5];
+        this.nutrients = new float[Nutrient.TOTAL];
+        this.weightedNutrients = new double[Nutrient.TOTAL];
+        this.records = new float[INITIAL_CAPACITY * STRIDE];
         this.hungerWindow = 0;
 
         calculateNutrition();
@@ -45,14 +57,22 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
 
     public void reset()
     {
-        this.records.clear();
+        clearRecords();
         calculateNutrition();
     }
 
+    /**
+     * @return a copy of the most recent record. Modifying it will not affect these stats
+     */
     @Nullable
     public FoodData getMostRecentRecord()
     {
-        return records.peekFirst(); // The "most recent" is actually the first in the queue
+        if (size == 0)
+        {
+            return null;
+        }
+        int index = indexOf(0);
+        return new FoodData((int) records[index], recentWater, recentSaturation, Arrays.copyOfRange(records, index + 1, index + STRIDE), recentDecayModifier);
     }
 
     public float getAverageNutrition()
@@ -79,8 +99,32 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
 
     public void addNutrients(@Nonnull FoodData data)
     {
-        records.addFirst(data.copy());
-        calculateNutrition();
+        int index = push();
+        int hunger = data.getHunger();
+        float[] foodNutrients = data.getNutrients();
+        records[index] = hunger;
+        for (int i = 0; i < Nutrient.TOTAL; i++)
+        {
+            records[index + 1 + i] = foodNutrients[i];
+            weightedNutrients[i] += foodNutrients[i] * hunger;
+        }
+        recentSaturation = data.getSaturation();
+        recentWater = data.getWater();
+        recentDecayModifier = data.getDecayModifier();
+        recentBuffed = false;
+
+        // The new record is fully inside the window, until proven otherwise
+        fullRecords++;
+        fullHunger += hunger;
+        if (hungerWindow == ConfigTFC.General.PLAYER.nutritionRotationHungerWindow)
+        {
+            removeExcessRecords();
+            updateNutrients();
+        }
+        else
+        {
+            calculateNutrition();
+        }
     }
 
     /**
@@ -90,11 +134,30 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
      */
     public void addBuff(@Nonnull FoodData data)
     {
-        FoodData recentFood = getMostRecentRecord();
-        if (recentFood != null)
+        if (size > 0)
         {
-            recentFood.applyBuff(data);
-            calculateNutrition();
+            if (!recentBuffed)
+            {
+                recentBuffed = true;
+                int index = indexOf(0);
+                float[] buffNutrients = data.getNutrients();
+                for (int i = 0; i < Nutrient.TOTAL; i++)
+                {
+                    records[index + 1 + i] += buffNutrients[i];
+                    if (fullRecords > 0)
+                    {
+                        weightedNutrients[i] += buffNutrients[i] * records[index];
+                    }
+                }
+            }
+            if (hungerWindow == ConfigTFC.General.PLAYER.nutritionRotationHungerWindow)
+            {
+                updateNutrients();
+            }
+            else
+            {
+                calculateNutrition();
+            }
         }
     }
 
@@ -102,12 +165,20 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
     public NBTTagCompound serializeNBT()
     {
         NBTTagCompound nbt = new NBTTagCompound();
-        NBTTagList recordsNbt = new NBTTagList();
-        for (FoodData data : records)
+        int[] packed = new int[size * STRIDE];
+        for (int i = 0; i < size; i++)
         {
-            recordsNbt.appendTag(data.serializeNBT());
+            int index = indexOf(i);
+            for (int j = 0; j < STRIDE; j++)
+            {
+                packed[i * STRIDE + j] = Float.floatToIntBits(records[index + j]);
+            }
         }
-        nbt.setTag("records", recordsNbt);
+        nbt.setIntArray("history", packed);
+        nbt.setFloat("recentSaturation", recentSaturation);
+        nbt.setFloat("recentWater", recentWater);
+        nbt.setFloat("recentDecay", recentDecayModifier);
+        nbt.setBoolean("recentBuffed", recentBuffed);
         return nbt;
     }
 
@@ -116,65 +187,112 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
     {
         if (nbt != null)
         {
-            records.clear();
-            NBTTagList recordsNbt = nbt.getTagList("records", Constants.NBT.TAG_COMPOUND);
-            for (int i = 0; i < recordsNbt.tagCount(); i++)
+            clearRecords();
+            if (nbt.hasKey("records", Constants.NBT.TAG_LIST))
             {
-                records.add(new FoodData(recordsNbt.getCompoundTagAt(i)));
+                // Legacy format, a list of food data
+                NBTTagList recordsNbt = nbt.getTagList("records", Constants.NBT.TAG_COMPOUND);
+                for (int i = recordsNbt.tagCount() - 1; i >= 0; i--)
+                {
+                    FoodData data = new FoodData(recordsNbt.getCompoundTagAt(i));
+                    int index = push();
+                    records[index] = data.getHunger();
+                    System.arraycopy(data.getNutrients(), 0, records, index + 1, Nutrient.TOTAL);
+                    recentSaturation = data.getSaturation();
+                    recentWater = data.getWater();
+                    recentDecayModifier = data.getDecayModifier();
+                    recentBuffed = data.isBuffed();
+                }
+            }
+            else
+            {
+                int[] packed = nbt.getIntArray("history");
+                for (int i = packed.length / STRIDE - 1; i >= 0; i--)
+                {
+                    int index = push();
+                    for (int j = 0; j < STRIDE; j++)
+                    {
+                        records[index + j] = Float.intBitsToFloat(packed[i * STRIDE + j]);
+                    }
+                }
+                recentSaturation = nbt.getFloat("recentSaturation");
+                recentWater = nbt.getFloat("recentWater");
+                recentDecayModifier = nbt.getFloat("recentDecay");
+                recentBuffed = nbt.getBoolean("recentBuffed");
             }
             calculateNutrition();
         }
     }
 
+    /**
+     * Recalculates the full records and their sums from scratch
+     */
     private void calculateNutrition()
     {
-        // Reset
-        Arrays.fill(this.nutrients, 0);
-        int runningHungerTotal = 0;
         // Reload from config
         hungerWindow = ConfigTFC.General.PLAYER.nutritionRotationHungerWindow;
-        for (int i = 0; i < records.size(); i++)
+        fullRecords = 0;
+        fullHunger = 0;
+        Arrays.fill(weightedNutrients, 0);
+        while (fullRecords < size)
         {
-            FoodData record = records.get(i);
-            int nextHunger = record.getHunger() + runningHungerTotal;
-            if (nextHunger < this.hungerWindow)
+            int index = indexOf(fullRecords);
+            int hunger = (int) records[index];
+            if (fullHunger + hunger >= hungerWindow)
             {
-                // Add weighted nutrition, keep moving
-                updateAllNutrients(nutrients, j -> nutrients[j] + record.getNutrients()[j] * record.getHunger());
-                runningHungerTotal = nextHunger;
+                // This record overshoots the window, remove any older records
+                size = fullRecords + 1;
+                break;
             }
-            else
+            for (int i = 0; i < Nutrient.TOTAL; i++)
             {
-                // Calculate overshoot, weight appropriately, and exit
-                float actualHunger = hungerWindow - runningHungerTotal;
-                updateAllNutrients(nutrients, j -> nutrients[j] + record.getNutrients()[j] * actualHunger);
+                weightedNutrients[i] += records[index + 1 + i] * hunger;
+            }
+            fullHunger += hunger;
+            fullRecords++;
+        }
+        updateNutrients();
+    }
 
-                // Remove any excess elements, this has the side effect of exiting the loop
-                while (records.size() > i + 1)
-                {
-                    records.remove(i + 1);
-                }
+    /**
+     * After adding a record, older records may have been pushed out of the window
+     */
+    private void removeExcessRecords()
+    {
+        while (fullHunger >= hungerWindow)
+        {
+            // The oldest full record is now only partially inside the window, and the previous partial record is removed
+            fullRecords--;
+            int index = indexOf(fullRecords);
+            int hunger = (int) records[index];
+            for (int i = 0; i < Nutrient.TOTAL; i++)
+            {
+                weightedNutrients[i] -= records[index + 1 + i] * hunger;
             }
+            fullHunger -= hunger;
+            size = fullRecords + 1;
         }
+    }
+
+    private void updateNutrients()
+    {
+        // The oldest record, if it overshoots the window, is weighted by the remaining part of the window
+        int partialIndex = size > fullRecords ? indexOf(fullRecords) : -1;
+        float partialHunger = hungerWindow - fullHunger;
         // Average over hunger window, using default value if beyond the hunger window
-        updateAllNutrients(nutrients, j -> nutrients[j] / hungerWindow);
-        if (runningHungerTotal < hungerWindow)
+        float defaultModifier = 1 - (float) fullHunger / hungerWindow;
+        for (int i = 0; i < Nutrient.TOTAL; i++)
         {
-            float defaultModifier = 1 - (float) runningHungerTotal / hungerWindow;
-            for (Nutrient nutrient : Nutrient.values())
+            float nutrient = (float) weightedNutrients[i];
+            if (partialIndex != -1)
             {
-                if (nutrient == Nutrient.DAIRY)
-                {
-                    nutrients[nutrient.ordinal()] += defaultDairyNutritionValue * defaultModifier;
-                }
-                else
-                {
-                    nutrients[nutrient.ordinal()] += defaultNutritionValue * defaultModifier;
-                }
+                nutrient += records[partialIndex + 1 + i] * partialHunger;
             }
+            nutrient /= hungerWindow;
+            nutrient += (i == Nutrient.DAIRY.ordinal() ? defaultDairyNutritionValue : defaultNutritionValue) * defaultModifier;
+            // Cap all nutrient averages at 1
+            nutrients[i] = Math.min(1, nutrient);
         }
-        // Cap all nutrient averages at 1
-        updateAllNutrients(nutrients, j -> Math.min(1, nutrients[j]));
         // Also calculate overall average
         updateAverageNutrients();
     }
@@ -189,17 +307,44 @@ public class NutritionStats implements INBTSerializable<NBTTagCompound>
         averageNutrients /= Nutrient.TOTAL;
     }
 
-    private void updateAllNutrients(float[] array, IntToFloatFunction operator)
+    private void clearRecords()
     {
-        // Arrays.setAll doesn't have a float version >:(
-        for (int i = 0; i < array.length; i++)
+        head = 0;
+        size = 0;
+        recentSaturation = recentWater = recentDecayModifier = 0;
+        recentBuffed = false;
+    }
+
+    /**
+     * Adds a new most recent record, growing the buffer if required
+     *
+     * @return the index of the new record
+     */
+    private int push()
+    {
+        int capacity = records.length / STRIDE;
+        if (size == capacity)
         {
-            array[i] = operator.apply(i);
+            float[] newRecords = new float[capacity * 2 * STRIDE];
+            for (int i = 0; i < size; i++)
+            {
+                System.arraycopy(records, indexOf(i), newRecords, i * STRIDE, STRIDE);
+            }
+            records = newRecords;
+            head = 0;
+            capacity *= 2;
         }
+        head = (head + capacity - 1) % capacity;
+        size++;
+        return head * STRIDE;
     }
 
-    private interface IntToFloatFunction
+    /**
+     * @param i the age of the record, 0 = most recent
+     * @return the index of the record in the buffer
+     */
+    private int indexOf(int i)
     {
-        float apply(int i);
+        return ((head + i) % (records.length / STRIDE)) * STRIDE;
     }
 }
@@ -14,14 +14,16 @@ import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 
+import net.dries007.tfc.api.capability.ISyncVersioned;
 import net.dries007.tfc.util.forge.ForgeStep;
 import net.dries007.tfc.util.forge.ForgeSteps;
 
-public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>, IForgeable
+public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>, IForgeable, ISyncVersioned
 {
     protected final ForgeSteps steps;
     protected int work;
     protected ResourceLocation recipeName;
+    protected int syncVersion;
 
     public ForgeableHandler(@Nullable NBTTagCompound nbt)
     {
@@ -45,6 +47,7 @@ public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>
     public void setWork(int work)
     {
         this.work = work;
+        syncVersion++;
     }
 
     @Override
@@ -58,6 +61,7 @@ public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>
     public void setRecipe(@Nullable ResourceLocation recipeName)
     {
         this.recipeName = recipeName;
+        syncVersion++;
     }
 
     @Override
@@ -72,6 +76,7 @@ public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>
     {
         steps.addStep(step);
         work += step.getStepAmount();
+        syncVersion++;
     }
 
     @Override
@@ -80,6 +85,13 @@ public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>
         steps.reset();
         recipeName = null;
         work = 0;
+        syncVersion++;
+    }
+
+    @Override
+    public int getSyncVersion()
+    {
+        return syncVersion;
     }
 
     @Override
@@ -121,5 +133,6 @@ public class ForgeableHandler implements ICapabilitySerializable<NBTTagCompound>
             recipeName = nbt.hasKey("recipe") ? new ResourceLocation(nbt.getString("recipe")) : null; // stops defaulting to empty string
             steps.deserializeNBT(nbt.getCompoundTag("steps"));
         }
+        syncVersion++;
     }
 }
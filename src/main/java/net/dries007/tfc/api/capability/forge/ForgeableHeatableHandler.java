@@ -81,6 +81,12 @@ public class ForgeableHeatableHandler extends ItemHeatHandler implements IForgea
         internalForgeCap.reset();
     }
 
+    @Override
+    public int getSyncVersion()
+    {
+        return 31 * super.getSyncVersion() + internalForgeCap.getSyncVersion();
+    }
+
     @Override
     public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing)
     {
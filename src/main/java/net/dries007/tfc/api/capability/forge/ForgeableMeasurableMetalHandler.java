@@ -53,6 +53,7 @@ public class ForgeableMeasurableMetalHandler extends ForgeableHeatableHandler im
     public void setMetalAmount(int metalAmount)
     {
         this.metalAmount = metalAmount;
+        syncVersion++;
     }
 
     public Metal getMetal()
@@ -63,6 +64,7 @@ public class ForgeableMeasurableMetalHandler extends ForgeableHeatableHandler im
     public void setMetal(Metal metal)
     {
         this.metal = metal;
+        syncVersion++;
     }
 
     @Override
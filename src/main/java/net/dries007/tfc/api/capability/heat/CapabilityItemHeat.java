@@ -7,7 +7,6 @@ package net.dries007.tfc.api.capability.heat;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -22,6 +21,7 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 import net.dries007.tfc.objects.items.ItemsTFC;
@@ -106,14 +106,6 @@ public final class CapabilityItemHeat
     @Nullable
     public static ICapabilityProvider getCustomHeat(ItemStack stack)
     {
-        Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_ITEMS.keySet();
-        for (IIngredient<ItemStack> ingredient : itemItemSet)
-        {
-            if (ingredient.testIgnoreCount(stack))
-            {
-                return CUSTOM_ITEMS.get(ingredient).get();
-            }
-        }
-        return null;
+        return ItemCapabilityResolver.resolve(stack).getHeat(stack);
     }
 }
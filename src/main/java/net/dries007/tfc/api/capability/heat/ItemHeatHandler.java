@@ -13,6 +13,7 @@ import net.minecraft.util.EnumFacing;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.capabilities.ICapabilitySerializable;
 
+import net.dries007.tfc.api.capability.ISyncVersioned;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 
 /**
@@ -20,7 +21,7 @@ import net.dries007.tfc.util.calendar.CalendarTFC;
  * Prefer extending or using this than implementing IItemHeat directly
  * Exceptions if you want to extend another capability object (see SmallVessel) but you should still implement this functionality somewhere
  */
-public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>, IItemHeat
+public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>, IItemHeat, ISyncVersioned
 {
     // These are "constants". Some implementations will want to change these based on other factors. (See ItemMold)
     protected float heatCapacity;
@@ -30,6 +31,7 @@ public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>,
     // Note that if temperature is == 0, lastUpdateTick should set itself to -1 to keep their capabilities compatible - i.e. stackable
     protected float temperature;
     protected long lastUpdateTick;
+    protected int syncVersion;
 
     /**
      * Default ItemHeatHandler implementation
@@ -70,6 +72,7 @@ public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>,
     {
         this.temperature = temperature;
         this.lastUpdateTick = CalendarTFC.PLAYER_TIME.getTicks();
+        syncVersion++;
     }
 
     @Override
@@ -90,6 +93,12 @@ public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>,
         return getTemperature() >= meltTemp;
     }
 
+    @Override
+    public int getSyncVersion()
+    {
+        return syncVersion;
+    }
+
     @Override
     public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing facing)
     {
@@ -133,5 +142,6 @@ public class ItemHeatHandler implements ICapabilitySerializable<NBTTagCompound>,
             temperature = nbt.getFloat("heat");
             lastUpdateTick = nbt.getLong("ticks");
         }
+        syncVersion++;
     }
 }
@@ -8,7 +8,6 @@ package net.dries007.tfc.api.capability.metal;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 
@@ -24,6 +23,7 @@ import net.minecraftforge.oredict.OreDictionary;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
@@ -89,19 +89,26 @@ public final class CapabilityMetalItem
     {
         if (!stack.isEmpty())
         {
-            Set<IIngredient<ItemStack>> itemItemSet = CUSTOM_METAL_ITEMS.keySet();
-            for (IIngredient<ItemStack> ingredient : itemItemSet)
-            {
-                if (ingredient.testIgnoreCount(stack))
-                {
-                    return CUSTOM_METAL_ITEMS.get(ingredient).get();
-                }
-            }
-            // Try using ore dict prefix-suffix common values (ie: ingotCopper)
+            return ItemCapabilityResolver.resolve(stack).getMetalItem(stack);
+        }
+        return null;
+    }
+
+    /**
+     * Finds a metal item handler using ore dict prefix-suffix common values (ie: ingotCopper)
+     * This only depends on the item and metadata of the stack, so the result can be cached
+     *
+     * @return a factory for the handler, or null if none of the ore names of the stack match
+     */
+    @Nullable
+    public static Supplier<ICapabilityProvider> getOreDictMetalItem(ItemStack stack)
+    {
+        if (!stack.isEmpty())
+        {
             int[] ids = OreDictionary.getOreIDs(stack);
             for (int id : ids)
             {
-                ICapabilityProvider handler = getMetalItemFromOreDict(OreDictionary.getOreName(id));
+                Supplier<ICapabilityProvider> handler = getMetalItemFromOreDict(OreDictionary.getOreName(id));
                 if (handler != null)
                 {
                     return handler;
@@ -112,7 +119,7 @@ public final class CapabilityMetalItem
     }
 
     @Nullable
-    private static ICapabilityProvider getMetalItemFromOreDict(String oreDict)
+    private static Supplier<ICapabilityProvider> getMetalItemFromOreDict(String oreDict)
     {
         for (String oreName : ORE_DICT_METAL_ITEMS.keySet())
         {
@@ -124,7 +131,7 @@ public final class CapabilityMetalItem
                     .findFirst()
                     .map(metal -> {
                         Metal.ItemType type = ORE_DICT_METAL_ITEMS.get(oreName);
-                        return new MetalItemHandler(metal, type.getSmeltAmount(), true);
+                        return (Supplier<ICapabilityProvider>) () -> new MetalItemHandler(metal, type.getSmeltAmount(), true);
                     }).orElse(null);
             }
         }
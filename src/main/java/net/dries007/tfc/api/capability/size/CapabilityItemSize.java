@@ -23,6 +23,7 @@ import net.minecraftforge.common.capabilities.ICapabilityProvider;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.DumbStorage;
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
 import net.dries007.tfc.api.capability.ItemStickCapability;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
@@ -96,15 +97,15 @@ public final class CapabilityItemSize
     @Nonnull
     public static ICapabilityProvider getCustomSize(ItemStack stack)
     {
-        for (Map.Entry<IIngredient<ItemStack>, Supplier<ICapabilityProvider>> entry : CUSTOM_ITEMS.entrySet())
-        {
-            if (entry.getKey().testIgnoreCount(stack))
-            {
-                return entry.getValue().get();
-            }
-        }
-        // Check for generic item types
-        Item item = stack.getItem();
+        return ItemCapabilityResolver.resolve(stack).getSize(stack);
+    }
+
+    /**
+     * @return the size handler for items without a custom size, based on generic item types
+     */
+    @Nonnull
+    public static ICapabilityProvider getDefaultSize(Item item)
+    {
         if (item instanceof ItemTool || item instanceof ItemSword)
         {
             return new ItemSizeHandler(Size.LARGE, Weight.MEDIUM, true); // Stored only in chests, stacksize should be limited to 1 since it is a tool
@@ -22,16 +22,21 @@ import net.dries007.tfc.objects.items.metal.ItemIngot;
 @SuppressWarnings("WeakerAccess")
 public class BlastFurnaceRecipe extends IForgeRegistryEntry.Impl<BlastFurnaceRecipe>
 {
+    private static final RecipeIndex<BlastFurnaceRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLAST_FURNACE.getValuesCollection(), (recipe, keys) -> {
+        keys.addMetal(recipe.input);
+        return true;
+    });
+
     @Nullable
     public static BlastFurnaceRecipe get(ItemStack inputItem)
     {
-        return TFCRegistries.BLAST_FURNACE.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        return INDEX.find(inputItem, x -> x.isValidInput(inputItem));
     }
 
     @Nullable
     public static BlastFurnaceRecipe get(Metal inputMetal)
     {
-        return TFCRegistries.BLAST_FURNACE.getValuesCollection().stream().filter(x -> x.input == inputMetal).findFirst().orElse(null);
+        return INDEX.find(inputMetal, x -> x.input == inputMetal);
     }
 
     protected Metal output;
@@ -24,16 +24,21 @@ import net.dries007.tfc.objects.items.ItemsTFC;
 
 public class BloomeryRecipe extends IForgeRegistryEntry.Impl<BloomeryRecipe>
 {
+    private static final RecipeIndex<BloomeryRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.BLOOMERY.getValuesCollection(), (recipe, keys) -> {
+        keys.addMetal(recipe.metal);
+        return true;
+    });
+
     @Nullable
     public static BloomeryRecipe get(@Nonnull ItemStack inputItem)
     {
-        return TFCRegistries.BLOOMERY.getValuesCollection().stream().filter(x -> x.isValidInput(inputItem)).findFirst().orElse(null);
+        return INDEX.find(inputItem, x -> x.isValidInput(inputItem));
     }
 
     @Nullable
     public static BloomeryRecipe get(@Nonnull Metal metal)
     {
-        return TFCRegistries.BLOOMERY.getValuesCollection().stream().filter(x -> metal == x.metal).findFirst().orElse(null);
+        return INDEX.find(metal, x -> metal == x.metal);
     }
 
     private final Metal metal; // Melting metal (which will be stored in a bloom)
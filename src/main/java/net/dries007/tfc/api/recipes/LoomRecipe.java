@@ -18,10 +18,12 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
 public class LoomRecipe extends IForgeRegistryEntry.Impl<LoomRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<LoomRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.LOOM.getValuesCollection(), (recipe, keys) -> recipe.inputItem.addIndexKeys(keys));
+
     @Nullable
     public static LoomRecipe get(ItemStack item)
     {
-        return TFCRegistries.LOOM.getValuesCollection().stream().filter(x -> x.isValidInput(item)).findFirst().orElse(null);
+        return INDEX.find(item, x -> x.isValidInput(item));
     }
 
     private final IIngredient<ItemStack> inputItem;
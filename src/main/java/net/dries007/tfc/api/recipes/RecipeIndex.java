@@ -0,0 +1,372 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.recipes;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+import it.unimi.dsi.fastutil.ints.*;
+import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
+import net.dries007.tfc.api.capability.metal.IMetalItem;
+import net.dries007.tfc.api.types.Metal;
+import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+
+/**
+ * An index over a recipe registry (or any other collection of ingredient based values), used to narrow down a lookup to a small list of candidates before testing the full recipe.
+ * Recipes are indexed by the keys their ingredients provide (see {@link IIngredient#addIndexKeys(Keys)}). Recipes that can't be described by keys are tested against every input.
+ * Lookups respect iteration order, so they will always return the same recipe as a linear search over the registry would.
+ *
+ * The index is built lazily, and is rebuilt after {@link RecipeIndex#invalidateAll()}, or if the size of the collection has changed.
+ *
+ * @param <R> the recipe type
+ */
+public final class RecipeIndex<R>
+{
+    private static final List<RecipeIndex<?>> INDEXES = new ArrayList<>();
+    private static final int[] NONE = new int[0];
+
+    /**
+     * Invalidates all recipe indexes. Call this after modifying recipe registries (i.e. CraftTweaker removals)
+     */
+    public static void invalidateAll()
+    {
+        synchronized (INDEXES)
+        {
+            INDEXES.forEach(RecipeIndex::invalidate);
+        }
+    }
+
+    private final Supplier<? extends Collection<R>> values;
+    private final KeyProvider<R> keyProvider;
+    private volatile Data<R> data;
+
+    /**
+     * @param values      the values to index, i.e. the values of a registry
+     * @param keyProvider provides the keys for each value
+     */
+    public RecipeIndex(Supplier<? extends Collection<R>> values, KeyProvider<R> keyProvider)
+    {
+        this.values = values;
+        this.keyProvider = keyProvider;
+        synchronized (INDEXES)
+        {
+            INDEXES.add(this);
+        }
+    }
+
+    /**
+     * @return the first recipe (in registry order) for the item stack which passes the filter
+     */
+    @Nullable
+    public R find(ItemStack stack, Predicate<R> filter)
+    {
+        Data<R> data = getData();
+        return data.findFirst(data.getItemCandidates(stack), data.getMetalCandidates(stack), filter);
+    }
+
+    /**
+     * @return all recipes (in registry order) for the item stack which pass the filter
+     */
+    @Nonnull
+    public List<R> findAll(ItemStack stack, Predicate<R> filter)
+    {
+        Data<R> data = getData();
+        return data.findAll(data.getItemCandidates(stack), data.getMetalCandidates(stack), filter);
+    }
+
+    /**
+     * @return the first recipe (in registry order) for the fluid stack which passes the filter
+     */
+    @Nullable
+    public R find(@Nullable FluidStack fluidStack, Predicate<R> filter)
+    {
+        Data<R> data = getData();
+        return data.findFirst(data.getFluidCandidates(fluidStack), NONE, filter);
+    }
+
+    /**
+     * @return the first recipe (in registry order) for the metal which passes the filter
+     */
+    @Nullable
+    public R find(@Nullable Metal metal, Predicate<R> filter)
+    {
+        Data<R> data = getData();
+        return data.findFirst(data.unindexed, data.byMetal.getOrDefault(metal, NONE), filter);
+    }
+
+    public void invalidate()
+    {
+        data = null;
+    }
+
+    @Nonnull
+    private Data<R> getData()
+    {
+        Data<R> data = this.data;
+        Collection<R> values = this.values.get();
+        if (data == null || data.size != values.size())
+        {
+            synchronized (this)
+            {
+                data = this.data;
+                if (data == null || data.size != values.size())
+                {
+                    data = new Data<>(values, keyProvider);
+                    this.data = data;
+                }
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Provides the index keys for a recipe
+     */
+    @FunctionalInterface
+    public interface KeyProvider<R>
+    {
+        /**
+         * @return true if the recipe could be fully described by the keys added, false if the recipe should be tested against every input
+         */
+        boolean addKeys(R recipe, Keys keys);
+    }
+
+    /**
+     * A collector for the keys of a single recipe.
+     * A recipe will be a candidate for any input that matches at least one of the keys
+     */
+    public interface Keys
+    {
+        /**
+         * @param meta the metadata, or {@link OreDictionary#WILDCARD_VALUE} to match all metadata
+         */
+        void addItem(Item item, int meta);
+
+        void addOre(String oreName);
+
+        void addFluid(Fluid fluid);
+
+        /**
+         * Matches any item stack with a {@link IMetalItem} capability of this metal
+         */
+        void addMetal(Metal metal);
+    }
+
+    private static final class Data<R> implements Keys
+    {
+        private final List<R> recipes;
+        private final int size;
+        private final int[] unindexed;
+        private final Map<Item, IntList> byItem = new HashMap<>();
+        private final Map<Item, Int2ObjectMap<IntList>> byItemMeta = new HashMap<>();
+        private final Int2ObjectMap<IntList> byOre = new Int2ObjectOpenHashMap<>();
+        private final Map<Fluid, IntList> fluidKeys = new HashMap<>();
+        private final Map<Metal, IntList> metalKeys = new HashMap<>();
+        private final Map<Fluid, int[]> byFluid = new HashMap<>();
+        private final Map<Metal, int[]> byMetal = new HashMap<>();
+        private final Map<Item, Int2ObjectMap<int[]>> itemCandidates = new HashMap<>(); // By item and meta. Keyed by the item, not its id, as ids may be remapped when joining a server. Also caches negative results (items without any candidate)
+
+        private int ordinal;
+
+        private Data(Collection<R> values, KeyProvider<R> keyProvider)
+        {
+            recipes = new ArrayList<>(values);
+            size = recipes.size();
+
+            IntList unindexedList = new IntArrayList();
+            for (ordinal = 0; ordinal < size; ordinal++)
+            {
+                R recipe = recipes.get(ordinal);
+                if (!keyProvider.addKeys(recipe, this))
+                {
+                    unindexedList.add(ordinal);
+                }
+            }
+
+            unindexed = unindexedList.toIntArray();
+            fluidKeys.forEach((fluid, list) -> byFluid.put(fluid, merge(unindexed, list)));
+            metalKeys.forEach((metal, list) -> byMetal.put(metal, list.toIntArray()));
+        }
+
+        @Override
+        public void addItem(Item item, int meta)
+        {
+            if (meta == OreDictionary.WILDCARD_VALUE)
+            {
+                add(byItem.computeIfAbsent(item, key -> new IntArrayList()));
+            }
+            else
+            {
+                add(byItemMeta.computeIfAbsent(item, key -> new Int2ObjectOpenHashMap<>()).computeIfAbsent(meta, key -> new IntArrayList()));
+            }
+        }
+
+        @Override
+        public void addOre(String oreName)
+        {
+            // Don't register new ore names, a non-existent name can't match anything
+            if (OreDictionary.doesOreNameExist(oreName))
+            {
+                add(byOre.computeIfAbsent(OreDictionary.getOreID(oreName), key -> new IntArrayList()));
+            }
+        }
+
+        @Override
+        public void addFluid(Fluid fluid)
+        {
+            add(fluidKeys.computeIfAbsent(fluid, key -> new IntArrayList()));
+        }
+
+        @Override
+        public void addMetal(Metal metal)
+        {
+            add(metalKeys.computeIfAbsent(metal, key -> new IntArrayList()));
+        }
+
+        private void add(IntList list)
+        {
+            // Recipes are added in order, so this both keeps the list sorted and prevents duplicate keys of the same recipe
+            if (list.isEmpty() || list.getInt(list.size() - 1) != ordinal)
+            {
+                list.add(ordinal);
+            }
+        }
+
+        private int[] getItemCandidates(ItemStack stack)
+        {
+            if (stack.isEmpty())
+            {
+                return unindexed;
+            }
+            synchronized (itemCandidates)
+            {
+                Int2ObjectMap<int[]> byMeta = itemCandidates.computeIfAbsent(stack.getItem(), key -> new Int2ObjectOpenHashMap<>());
+                int[] candidates = byMeta.get(stack.getMetadata());
+                if (candidates == null)
+                {
+                    candidates = computeItemCandidates(stack);
+                    byMeta.put(stack.getMetadata(), candidates);
+                }
+                return candidates;
+            }
+        }
+
+        private int[] computeItemCandidates(ItemStack stack)
+        {
+            IntSortedSet candidates = new IntRBTreeSet(unindexed);
+            IntList wildcard = byItem.get(stack.getItem());
+            if (wildcard != null)
+            {
+                candidates.addAll(wildcard);
+            }
+            Int2ObjectMap<IntList> metaMap = byItemMeta.get(stack.getItem());
+            if (metaMap != null && metaMap.containsKey(stack.getMetadata()))
+            {
+                candidates.addAll(metaMap.get(stack.getMetadata()));
+            }
+            if (!byOre.isEmpty())
+            {
+                for (int oreId : OreDictionary.getOreIDs(stack))
+                {
+                    IntList ores = byOre.get(oreId);
+                    if (ores != null)
+                    {
+                        candidates.addAll(ores);
+                    }
+                }
+            }
+            return candidates.isEmpty() ? NONE : candidates.toIntArray();
+        }
+
+        private int[] getMetalCandidates(ItemStack stack)
+        {
+            if (!byMetal.isEmpty())
+            {
+                IMetalItem metalItem = CapabilityMetalItem.getMetalItem(stack);
+                if (metalItem != null)
+                {
+                    Metal metal = metalItem.getMetal(stack);
+                    if (metal != null)
+                    {
+                        return byMetal.getOrDefault(metal, NONE);
+                    }
+                }
+            }
+            return NONE;
+        }
+
+        private int[] getFluidCandidates(@Nullable FluidStack fluidStack)
+        {
+            if (fluidStack == null || fluidStack.getFluid() == null)
+            {
+                return unindexed;
+            }
+            return byFluid.getOrDefault(fluidStack.getFluid(), unindexed);
+        }
+
+        /**
+         * Iterates the union of two sorted candidate arrays in registry order
+         */
+        @Nullable
+        private R findFirst(int[] first, int[] second, Predicate<R> filter)
+        {
+            int i = 0, j = 0;
+            while (i < first.length || j < second.length)
+            {
+                int next;
+                if (j >= second.length || (i < first.length && first[i] <= second[j]))
+                {
+                    next = first[i++];
+                    if (j < second.length && second[j] == next)
+                    {
+                        j++;
+                    }
+                }
+                else
+                {
+                    next = second[j++];
+                }
+                R recipe = recipes.get(next);
+                if (filter.test(recipe))
+                {
+                    return recipe;
+                }
+            }
+            return null;
+        }
+
+        @Nonnull
+        private List<R> findAll(int[] first, int[] second, Predicate<R> filter)
+        {
+            List<R> results = new ArrayList<>();
+            for (int next : merge(first, IntArrayList.wrap(second)))
+            {
+                R recipe = recipes.get(next);
+                if (filter.test(recipe))
+                {
+                    results.add(recipe);
+                }
+            }
+            return results;
+        }
+
+        private int[] merge(int[] first, IntList second)
+        {
+            IntSortedSet merged = new IntRBTreeSet(first);
+            merged.addAll(second);
+            return merged.toIntArray();
+        }
+    }
+}
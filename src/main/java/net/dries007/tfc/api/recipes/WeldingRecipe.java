@@ -32,9 +32,12 @@ import net.dries007.tfc.util.skills.SmithingSkill;
 @ParametersAreNonnullByDefault
 public class WeldingRecipe extends IForgeRegistryEntry.Impl<WeldingRecipe> implements IJEISimpleRecipe
 {
+    // Indexed by both inputs, as the first stack can match either of them
+    private static final RecipeIndex<WeldingRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.WELDING.getValuesCollection(), (recipe, keys) -> recipe.input1.addIndexKeys(keys) & recipe.input2.addIndexKeys(keys));
+
     public static WeldingRecipe get(ItemStack stack1, ItemStack stack2, Metal.Tier tier)
     {
-        return TFCRegistries.WELDING.getValuesCollection().stream().filter(x -> x.matches(stack1, stack2, tier)).findFirst().orElse(null);
+        return INDEX.find(stack1, x -> x.matches(stack1, stack2, tier));
     }
 
     private final Metal.Tier minTier;
@@ -7,7 +7,6 @@ package net.dries007.tfc.api.recipes.anvil;
 
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -17,6 +16,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
@@ -37,12 +37,13 @@ public class AnvilRecipe extends IForgeRegistryEntry.Impl<AnvilRecipe> implement
 {
     public static final NonNullList<ItemStack> EMPTY = NonNullList.create();
     private static final Random RNG = new Random();
+    private static final RecipeIndex<AnvilRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.ANVIL.getValuesCollection(), (recipe, keys) -> recipe.ingredient.addIndexKeys(keys));
     private static long SEED = 0;
 
     @Nonnull
     public static List<AnvilRecipe> getAllFor(ItemStack stack)
     {
-        return TFCRegistries.ANVIL.getValuesCollection().stream().filter(x -> x.matches(stack)).collect(Collectors.toList());
+        return INDEX.findAll(stack, x -> x.matches(stack));
     }
 
     protected final ForgeRule[] rules;
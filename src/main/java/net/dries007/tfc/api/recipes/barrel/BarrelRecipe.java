@@ -19,22 +19,25 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 import net.dries007.tfc.util.Helpers;
 
 public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
 {
+    private static final RecipeIndex<BarrelRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.BARREL.getValuesCollection(), BarrelRecipe::addIndexKeys);
+
     @Nullable
     public static BarrelRecipe get(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() != 0).findFirst().orElse(null);
+        return INDEX.find(fluidStack, x -> x.isValidInput(fluidStack, stack) && x.getDuration() != 0);
     }
 
     @Nullable
     public static BarrelRecipe getInstant(ItemStack stack, FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && x.getDuration() == 0).findFirst().orElse(null);
+        return INDEX.find(fluidStack, x -> x.isValidInput(fluidStack, stack) && x.getDuration() == 0);
     }
 
     /**
@@ -43,7 +46,7 @@ public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
      */
     public static boolean isBarrelFluid(FluidStack fluidStack)
     {
-        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.inputFluid.testIgnoreCount(fluidStack)).findFirst().orElse(null) != null;
+        return INDEX.find(fluidStack, x -> x.inputFluid.testIgnoreCount(fluidStack)) != null;
     }
 
     protected final IIngredient<ItemStack> inputStack;
@@ -81,6 +84,15 @@ public class BarrelRecipe extends IForgeRegistryEntry.Impl<BarrelRecipe>
         return inputFluid == null || inputFluid.amount / this.inputFluid.getAmount() <= inputStack.getCount() / this.inputStack.getAmount();
     }
 
+    /**
+     * Barrel recipes are indexed by their input fluid, as every recipe requires a matching fluid
+     * Override this if a recipe doesn't test the input fluid
+     */
+    protected boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        return inputFluid.addIndexKeys(keys);
+    }
+
     public int getDuration()
     {
         return duration;
@@ -14,6 +14,7 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
@@ -28,6 +29,8 @@ import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 @ParametersAreNonnullByDefault
 public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<HeatRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.HEAT.getValuesCollection(), HeatRecipe::addIndexKeys);
+
     /**
      * Overload that ignores the tier requirement by passing in the maximum tier
      */
@@ -40,7 +43,7 @@ public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> im
     @Nullable
     public static HeatRecipe get(ItemStack stack, Metal.Tier tier)
     {
-        return TFCRegistries.HEAT.getValuesCollection().stream().filter(r -> r.isValidInput(stack, tier)).findFirst().orElse(null);
+        return INDEX.find(stack, r -> r.isValidInput(stack, tier));
     }
 
     /**
@@ -83,6 +86,16 @@ public abstract class HeatRecipe extends IForgeRegistryEntry.Impl<HeatRecipe> im
         return tier.isAtLeast(minTier) && ingredient.test(input);
     }
 
+    /**
+     * Adds the keys used by {@link RecipeIndex} to find this recipe
+     *
+     * @return true if the recipe can be indexed, see {@link IIngredient#addIndexKeys(RecipeIndex.Keys)}
+     */
+    protected boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        return ingredient.addIndexKeys(keys);
+    }
+
     /**
      * @param temperature a temperature
      * @return true if the recipe should melt / transform at this temperature
@@ -13,6 +13,7 @@ import net.minecraftforge.fluids.FluidStack;
 
 import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
 import net.dries007.tfc.api.capability.metal.IMetalItem;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.objects.fluids.FluidsTFC;
 
@@ -58,6 +59,13 @@ public class HeatRecipeMetalMelting extends HeatRecipe
         return null;
     }
 
+    @Override
+    protected boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        keys.addMetal(metal);
+        return true;
+    }
+
     //Used by JEI to determine valid inputs and the output
     public Metal getMetal()
     {
@@ -13,16 +13,19 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.registries.IForgeRegistryEntry;
 
 import net.dries007.tfc.api.capability.food.CapabilityFood;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.compat.jei.IJEISimpleRecipe;
 import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
 
 public class QuernRecipe extends IForgeRegistryEntry.Impl<QuernRecipe> implements IJEISimpleRecipe
 {
+    private static final RecipeIndex<QuernRecipe> INDEX = new RecipeIndex<>(() -> TFCRegistries.QUERN.getValuesCollection(), (recipe, keys) -> recipe.inputItem.addIndexKeys(keys));
+
     @Nullable
     public static QuernRecipe get(ItemStack item)
     {
-        return TFCRegistries.QUERN.getValuesCollection().stream().filter(x -> x.isValidInput(item)).findFirst().orElse(null);
+        return INDEX.find(item, x -> x.isValidInput(item));
     }
 
     protected IIngredient<ItemStack> inputItem;
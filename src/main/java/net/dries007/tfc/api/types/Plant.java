@@ -210,6 +210,26 @@ public class Plant extends IForgeRegistryEntry.Impl<Plant>
         return maxGrowthTemp;
     }
 
+    public float getMinTemp()
+    {
+        return minTemp;
+    }
+
+    public float getMaxTemp()
+    {
+        return maxTemp;
+    }
+
+    public float getMinRain()
+    {
+        return minRain;
+    }
+
+    public float getMaxRain()
+    {
+        return maxRain;
+    }
+
     public int getStageForMonth(Month month)
     {
         return stages[month.ordinal()];
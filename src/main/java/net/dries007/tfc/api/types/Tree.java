@@ -132,6 +132,36 @@ public class Tree extends IForgeRegistryEntry.Impl<Tree>
         return minTemp <= temp && maxTemp >= temp && minRain <= rain && maxRain >= rain && minDensity <= density && maxDensity >= density;
     }
 
+    public float getMinTemp()
+    {
+        return minTemp;
+    }
+
+    public float getMaxTemp()
+    {
+        return maxTemp;
+    }
+
+    public float getMinRain()
+    {
+        return minRain;
+    }
+
+    public float getMaxRain()
+    {
+        return maxRain;
+    }
+
+    public float getMinDensity()
+    {
+        return minDensity;
+    }
+
+    public float getMaxDensity()
+    {
+        return maxDensity;
+    }
+
     @SuppressWarnings("unused")
     public void setTreeGenerator(ITreeGenerator generator)
     {
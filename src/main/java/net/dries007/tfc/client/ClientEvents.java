@@ -47,6 +47,7 @@ import net.dries007.tfc.api.capability.size.CapabilityItemSize;
 import net.dries007.tfc.api.capability.size.IItemSize;
 import net.dries007.tfc.api.util.IRockObject;
 import net.dries007.tfc.client.button.GuiButtonPlayerInventoryTab;
+import net.dries007.tfc.client.model.BakedModelPlacedItemFlat;
 import net.dries007.tfc.client.render.RenderBoatTFC;
 import net.dries007.tfc.client.render.RenderFallingBlockTFC;
 import net.dries007.tfc.client.render.animal.*;
@@ -228,6 +229,10 @@ public class ClientEvents
                 if (ConfigTFC.General.DEBUG.enable)
                 {
                     list.add(I18n.format("tfc.tooltip.debug_times", CalendarTFC.PLAYER_TIME.getTicks(), CalendarTFC.CALENDAR_TIME.getTicks()));
+                    list.add(String.format("%sPlaced Items: %s%d%s meshed, %s%d%s quads built, %s%d%s TESR draws avoided",
+                        GRAY, WHITE, BakedModelPlacedItemFlat.getItemsMeshed(), GRAY,
+                        WHITE, BakedModelPlacedItemFlat.getQuadsBuilt(), GRAY,
+                        WHITE, BakedModelPlacedItemFlat.getTESRDrawsAvoided(), GRAY));
 
                     if (chunkDataValid)
                     {
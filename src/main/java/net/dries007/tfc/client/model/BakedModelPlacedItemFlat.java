@@ -0,0 +1,321 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.client.model;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector3f;
+import javax.vecmath.Vector4f;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.block.model.ItemCameraTransforms;
+import net.minecraft.client.renderer.block.model.ItemOverrideList;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.client.model.pipeline.TRSRTransformer;
+import net.minecraftforge.client.model.pipeline.UnpackedBakedQuad;
+import net.minecraftforge.common.model.TRSRTransformation;
+import net.minecraftforge.common.property.IExtendedBlockState;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+import net.dries007.tfc.objects.blocks.BlockPlacedItemFlat;
+
+/**
+ * Renders placed flat items (i.e. loose rocks and sticks) as part of the chunk, instead of with a TESR every frame.
+ * The quads are the item model's quads, transformed the same way the TESR used to, and cached per item model and rotation.
+ * Items which would look different in the chunk are still rendered by {@link net.dries007.tfc.client.render.TESRPlacedItemFlat}, see {@link #canBake(ItemStack, IBakedModel)}
+ */
+@SideOnly(Side.CLIENT)
+public class BakedModelPlacedItemFlat implements IBakedModel
+{
+    private static final AtomicLong ITEMS_MESHED = new AtomicLong(), QUADS_BUILT = new AtomicLong(), TESR_DRAWS_AVOIDED = new AtomicLong();
+    private static final Cache<IBakedModel, Boolean> BAKEABLE_MODELS = CacheBuilder.newBuilder().weakKeys().maximumSize(512).build();
+
+    /**
+     * @return the number of placed items that were added to a chunk mesh
+     */
+    public static long getItemsMeshed()
+    {
+        return ITEMS_MESHED.get();
+    }
+
+    /**
+     * @return the number of times the transformed quads of an item model had to be built
+     */
+    public static long getQuadsBuilt()
+    {
+        return QUADS_BUILT.get();
+    }
+
+    /**
+     * @return the number of times the TESR was skipped, because the item was already part of the chunk
+     */
+    public static long getTESRDrawsAvoided()
+    {
+        return TESR_DRAWS_AVOIDED.get();
+    }
+
+    /**
+     * Called from {@link net.dries007.tfc.objects.te.TEPlacedItemFlat#shouldRenderInPass(int)}
+     *
+     * @return true if the item still needs to be rendered by the TESR
+     */
+    public static boolean needsTESR(ItemStack stack)
+    {
+        if (stack.isEmpty() || canBake(stack, getItemModel(stack)))
+        {
+            TESR_DRAWS_AVOIDED.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The chunk mesh can only show what the item model's quads show. These are left to the TESR, which uses the item renderer:
+     * - Items with a custom renderer, which have no quads
+     * - Enchanted items, as the glint is drawn by the item renderer
+     * - Models with tinted quads, as those would be tinted by the block colors, instead of the item colors
+     * - Models with translucent textures, as the block is in the cutout layer
+     */
+    static boolean canBake(ItemStack stack, IBakedModel itemModel)
+    {
+        if (stack.hasEffect() || itemModel.isBuiltInRenderer())
+        {
+            return false;
+        }
+        try
+        {
+            return BAKEABLE_MODELS.get(itemModel, () -> hasOnlyOpaqueUntintedQuads(itemModel));
+        }
+        catch (ExecutionException e)
+        {
+            return false;
+        }
+    }
+
+    static boolean hasOnlyOpaqueUntintedQuads(IBakedModel itemModel)
+    {
+        Set<TextureAtlasSprite> opaqueSprites = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (EnumFacing side : EnumFacing.values())
+        {
+            if (!hasOnlyOpaqueUntintedQuads(itemModel.getQuads(null, side, 0), opaqueSprites))
+            {
+                return false;
+            }
+        }
+        return hasOnlyOpaqueUntintedQuads(itemModel.getQuads(null, null, 0), opaqueSprites);
+    }
+
+    private static boolean hasOnlyOpaqueUntintedQuads(List<BakedQuad> quads, Set<TextureAtlasSprite> opaqueSprites)
+    {
+        for (BakedQuad quad : quads)
+        {
+            if (quad.hasTintIndex())
+            {
+                return false;
+            }
+            TextureAtlasSprite sprite = quad.getSprite();
+            if (!opaqueSprites.contains(sprite))
+            {
+                if (isTranslucent(sprite))
+                {
+                    return false;
+                }
+                opaqueSprites.add(sprite);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true if any pixel is partially transparent. Fully transparent pixels are fine, as those are cut out
+     */
+    private static boolean isTranslucent(TextureAtlasSprite sprite)
+    {
+        if (sprite.getFrameCount() == 0)
+        {
+            // The texture data isn't kept, so this can't be checked
+            return true;
+        }
+        // Only the full size texture, as mipmaps blend the edges of transparent pixels
+        for (int pixel : sprite.getFrameTextureData(0)[0])
+        {
+            int alpha = pixel >>> 24;
+            if (alpha != 0 && alpha != 255)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static IBakedModel getItemModel(ItemStack stack)
+    {
+        return Minecraft.getMinecraft().getRenderItem().getItemModelWithOverrides(stack, null, null);
+    }
+
+    /**
+     * Same as the TESR: translate(0.5, 0.03125, 0.5), scale(0.5), rotate(90, x), rotate(90 * rotation, z), then the item model's fixed transform and translate(-0.5, -0.5, -0.5)
+     */
+    static Matrix4f getTransform(@Nullable Matrix4f itemTransform, int rotation)
+    {
+        Matrix4f matrix = new Matrix4f();
+        matrix.setIdentity();
+        matrix.setTranslation(new Vector3f(0.5f, 0.03125f, 0.5f));
+
+        Matrix4f step = new Matrix4f();
+        step.setIdentity();
+        step.setScale(0.5f);
+        matrix.mul(step);
+
+        step.setIdentity();
+        step.rotX((float) Math.toRadians(90));
+        matrix.mul(step);
+
+        step.setIdentity();
+        step.rotZ((float) Math.toRadians(90 * rotation));
+        matrix.mul(step);
+
+        if (itemTransform != null)
+        {
+            matrix.mul(itemTransform);
+        }
+
+        step.setIdentity();
+        step.setTranslation(new Vector3f(-0.5f, -0.5f, -0.5f));
+        matrix.mul(step);
+        return matrix;
+    }
+
+    static List<BakedQuad> buildQuads(IBakedModel itemModel, int rotation)
+    {
+        QUADS_BUILT.incrementAndGet();
+        Matrix4f itemTransform = itemModel.handlePerspective(ItemCameraTransforms.TransformType.FIXED).getRight();
+        Matrix4f matrix = getTransform(itemTransform, rotation);
+        TRSRTransformation transformation = new TRSRTransformation(matrix);
+
+        List<BakedQuad> quads = new ArrayList<>();
+        for (EnumFacing side : EnumFacing.values())
+        {
+            transformQuads(itemModel.getQuads(null, side, 0), matrix, transformation, quads);
+        }
+        transformQuads(itemModel.getQuads(null, null, 0), matrix, transformation, quads);
+        return Collections.unmodifiableList(quads);
+    }
+
+    private static void transformQuads(List<BakedQuad> source, Matrix4f matrix, TRSRTransformation transformation, List<BakedQuad> quads)
+    {
+        for (BakedQuad quad : source)
+        {
+            UnpackedBakedQuad.Builder builder = new UnpackedBakedQuad.Builder(quad.getFormat());
+            quad.pipe(new TRSRTransformer(builder, transformation));
+
+            // The quad now faces a different direction, which is used for shading
+            Vector4f normal = new Vector4f(quad.getFace().getXOffset(), quad.getFace().getYOffset(), quad.getFace().getZOffset(), 0);
+            matrix.transform(normal);
+            builder.setQuadOrientation(EnumFacing.getFacingFromVector(normal.x, normal.y, normal.z));
+            quads.add(builder.build());
+        }
+    }
+
+    private final IBakedModel particleModel;
+    private final Cache<IBakedModel, List<BakedQuad>[]> quadCache = CacheBuilder.newBuilder().weakKeys().maximumSize(512).build();
+
+    /**
+     * @param particleModel the model from the blockstate file, which only provides the particle texture
+     */
+    public BakedModelPlacedItemFlat(IBakedModel particleModel)
+    {
+        this.particleModel = particleModel;
+    }
+
+    @Nonnull
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand)
+    {
+        if (side != null || !(state instanceof IExtendedBlockState))
+        {
+            return Collections.emptyList();
+        }
+
+        IExtendedBlockState extendedState = (IExtendedBlockState) state;
+        ItemStack stack = extendedState.getValue(BlockPlacedItemFlat.STACK);
+        Integer rotation = extendedState.getValue(BlockPlacedItemFlat.ROTATION);
+        if (stack == null || stack.isEmpty() || rotation == null)
+        {
+            return Collections.emptyList();
+        }
+
+        IBakedModel itemModel = getItemModel(stack);
+        if (!canBake(stack, itemModel))
+        {
+            return Collections.emptyList();
+        }
+
+        ITEMS_MESHED.incrementAndGet();
+        try
+        {
+            List<BakedQuad>[] quadsByRotation = quadCache.get(itemModel, () -> new List[4]);
+            int index = rotation & 3;
+            List<BakedQuad> quads = quadsByRotation[index];
+            if (quads == null)
+            {
+                // Racing threads may both build these, which is harmless as the result is the same
+                quads = buildQuads(itemModel, index);
+                quadsByRotation[index] = quads;
+            }
+            return quads;
+        }
+        catch (ExecutionException e)
+        {
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public boolean isAmbientOcclusion()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isGui3d()
+    {
+        return false;
+    }
+
+    @Override
+    public boolean isBuiltInRenderer()
+    {
+        return false;
+    }
+
+    @Nonnull
+    @Override
+    public TextureAtlasSprite getParticleTexture()
+    {
+        return particleModel.getParticleTexture();
+    }
+
+    @Nonnull
+    @Override
+    public ItemOverrideList getOverrides()
+    {
+        return ItemOverrideList.NONE;
+    }
+}
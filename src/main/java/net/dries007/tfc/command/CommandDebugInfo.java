@@ -18,10 +18,19 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.registries.ForgeRegistry;
 
+import net.dries007.tfc.api.capability.ItemCapabilityResolver;
+import net.dries007.tfc.api.capability.food.FoodStatsTFC;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Rock;
+import net.dries007.tfc.objects.te.TESyncHandler;
+import net.dries007.tfc.util.WorldRegenHandler;
+import net.dries007.tfc.util.calendar.CalendarCatchUpHandler;
+import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataSyncHandler;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.worldgen.WorldGenOreVeins;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinIndex;
 
 /**
  * This is part of an effort to find the cause of TerraFirmaCraft#355 and TerraFirmaCraft#361
@@ -74,5 +83,44 @@ public class CommandDebugInfo extends CommandBase
             //noinspection ConstantConditions
             LOGGER.info("Rock: {} -> Id: {}", rock.getRegistryName().getPath(), ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getID(rock));
         }
+
+        // Tile entity sync statistics
+        LOGGER.info("TILE ENTITY SYNC");
+        LOGGER.info("Packets sent: {}", TESyncHandler.getPacketsSent());
+        TESyncHandler.getBytesSent().forEach((tileClass, bytes) -> LOGGER.info("TE: {} -> Bytes sent: {}", tileClass.getSimpleName(), bytes));
+
+        // Item capability statistics
+        LOGGER.info("ITEM CAPABILITIES");
+        ItemCapabilityResolver.getCounters().forEach((name, count) -> LOGGER.info("Path: {} -> Count: {}", name, count));
+
+        // Player food stats sync statistics
+        LOGGER.info("FOOD STATS SYNC");
+        LOGGER.info("Packets sent: {}, Packets suppressed: {}", FoodStatsTFC.getPacketsSent(), FoodStatsTFC.getPacketsSuppressed());
+
+        // Chunk data sync statistics
+        LOGGER.info("CHUNK DATA SYNC");
+        LOGGER.info("Packets sent: {}, Chunks sent: {}, Bytes sent: {}", ChunkDataSyncHandler.getPacketsSent(), ChunkDataSyncHandler.getChunksSent(), ChunkDataSyncHandler.getBytesSent());
+
+        // Server climate cache statistics
+        LOGGER.info("CLIMATE CACHE");
+        ClimateTFC.getCache(false).getCounters().forEach((name, count) -> LOGGER.info("{}: {}", name, count));
+
+        // Seasonal world regeneration statistics
+        LOGGER.info("WORLD REGEN");
+        LOGGER.info("Backlog: {}, Chunks regenerated: {}, Chunks skipped: {}, Average time: {}us, Max time: {}us", WorldRegenHandler.getBacklog(), WorldRegenHandler.getChunksRegenerated(), WorldRegenHandler.getChunksSkipped(), WorldRegenHandler.getAverageMicros(), WorldRegenHandler.getMaxMicros());
+
+        // Calendar catch up of non-ticking tile entities
+        LOGGER.info("CALENDAR CATCH UP");
+        LOGGER.info("Sweeps: {}, Chunks: {}, Tile entities updated: {}", CalendarCatchUpHandler.getSweeps(), CalendarCatchUpHandler.getChunks(), CalendarCatchUpHandler.getTilesUpdated());
+        for (World dimension : server.worlds)
+        {
+            LOGGER.info("Dimension {}: Loaded tile entities: {}, Ticking tile entities: {}", dimension.provider.getDimension(), dimension.loadedTileEntityList.size(), dimension.tickableTileEntities.size());
+        }
+
+        // Ore vein placement and index statistics
+        LOGGER.info("ORE VEINS");
+        VeinIndex veinIndex = VeinIndex.get(server.getWorld(0));
+        LOGGER.info("Veins: {}, Regions: {}", veinIndex.size(), veinIndex.getRegionCount());
+        LOGGER.info("Blocks evaluated: {}, Blocks per second: {}", WorldGenOreVeins.getBlocksEvaluated(), WorldGenOreVeins.getBlocksPerSecond());
     }
 }
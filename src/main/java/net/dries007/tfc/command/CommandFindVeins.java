@@ -32,12 +32,19 @@ import net.minecraftforge.common.WorldWorkerManager;
 import gnu.trove.map.hash.TObjectIntHashMap;
 import net.dries007.tfc.api.types.Rock;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.worldgen.vein.Vein;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinIndex;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinOracle;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
 @ParametersAreNonnullByDefault
 public class CommandFindVeins extends CommandBase
 {
+    private static final int DIMENSION = 0; // In TFC, veins can only be generated in dimension 0. Should this change in the future, please update this accordingly
+    private static final int MAX_PREDICT_RADIUS = 64; // Predicting veins is done on the server thread, each chunk rolls every vein type
+    private static final int MAX_PREDICT_MESSAGES = 20;
+
     @Override
     @Nonnull
     public String getName()
@@ -73,47 +80,90 @@ public class CommandFindVeins extends CommandBase
             }
         }
 
-        final List<ChunkPos> chunks = new LinkedList<>();
+        final int radius = parseInt(args[1], 1, 1000);
+        final int chunkX = sender.getCommandSenderEntity().chunkCoordX;
+        final int chunkZ = sender.getCommandSenderEntity().chunkCoordZ;
+        final WorldServer world = server.getWorld(DIMENSION);
+        final VeinIndex index = VeinIndex.get(world);
 
-        int type = 0;
-        boolean generated = false;
-        if (args.length >= 3)
+        // Generated veins are looked up in the index, so no chunks need to be loaded
+        final List<Vein> veins = index.getVeins((chunkX - radius) << 4, (chunkZ - radius) << 4, ((chunkX + radius) << 4) + 15, ((chunkZ + radius) << 4) + 15, filter);
+        if (args.length < 3)
         {
-            generated = true;
-            if (args[2].equalsIgnoreCase("dump"))
+            for (Vein vein : veins)
             {
-                type = 1;
-                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.dump_veins"));
+                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.output", getVeinName(vein), vein.getPos()));
             }
-            else if (args[2].equalsIgnoreCase("rate"))
+        }
+        else if (args[2].equalsIgnoreCase("nearest"))
+        {
+            Vein vein = index.getNearestVein(sender.getPosition(), radius << 4, filter);
+            if (vein != null)
             {
-                type = 2;
-                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.rate_veins"));
+                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.output", getVeinName(vein), vein.getPos()));
             }
             else
             {
-                throw new WrongUsageException("tfc.command.findveins.usage");
+                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.not_found"));
             }
         }
+        else if (args[2].equalsIgnoreCase("predict"))
+        {
+            if (radius > MAX_PREDICT_RADIUS)
+            {
+                throw new WrongUsageException("tfc.command.findveins.predict_radius_too_large", MAX_PREDICT_RADIUS);
+            }
 
-        final int radius = parseInt(args[1], 1, 1000);
-        final int chunkX = sender.getCommandSenderEntity().chunkCoordX;
-        final int chunkZ = sender.getCommandSenderEntity().chunkCoordZ;
-        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(0, 0, 0);
-        for (int x = chunkX - radius; x <= chunkX + radius; x++)
+            // Veins that world gen will try to place, including in chunks that haven't generated yet
+            final List<Vein> predicted = new VeinOracle(world.getSeed()).getVeins(chunkX - radius, chunkZ - radius, chunkX + radius, chunkZ + radius, filter);
+            for (Vein vein : predicted.subList(0, Math.min(predicted.size(), MAX_PREDICT_MESSAGES)))
+            {
+                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_predicted", getVeinName(vein), vein.getPos()));
+            }
+            if (predicted.size() > MAX_PREDICT_MESSAGES)
+            {
+                sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_predicted_more", predicted.size() - MAX_PREDICT_MESSAGES));
+            }
+        }
+        else if (args[2].equalsIgnoreCase("dump"))
+        {
+            List<String> outputLog = new ArrayList<>();
+            for (Vein vein : veins)
+            {
+                outputLog.add(String.format("Found %s at %s", getVeinName(vein), vein.getPos()));
+            }
+            writeFile(sender, "tfc-veins-dump.log", outputLog);
+        }
+        else if (args[2].equalsIgnoreCase("rate"))
         {
-            for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
+            sender.sendMessage(new TextComponentTranslation("tfc.command.findveins.rate_veins"));
+
+            TObjectIntHashMap<VeinType> veinRateMap = new TObjectIntHashMap<>();
+            for (Vein vein : veins)
+            {
+                veinRateMap.adjustOrPutValue(vein.getType(), 1, 1);
+            }
+
+            // Rock layers are only stored in the chunks, so those still need to be loaded
+            final List<ChunkPos> chunks = new LinkedList<>();
+            for (int x = chunkX - radius; x <= chunkX + radius; x++)
             {
-                pos.setPos(x * 16, 0, z * 16);
-                if (sender.getEntityWorld().isBlockLoaded(pos) || (generated && sender.getEntityWorld().isChunkGeneratedAt(x, z)))
+                for (int z = chunkZ - radius; z <= chunkZ + radius; z++)
                 {
-                    // Add to the list of positions so we spread chunk loading and not freeze / crash the server
-                    chunks.add(new ChunkPos(pos));
+                    if (world.isChunkGeneratedAt(x, z))
+                    {
+                        // Add to the list of positions so we spread chunk loading and not freeze / crash the server
+                        chunks.add(new ChunkPos(x, z));
+                    }
                 }
             }
+            WorldWorkerManager.IWorker worker = new Worker(sender, chunks, veinRateMap);
+            WorldWorkerManager.addWorker(worker);
+        }
+        else
+        {
+            throw new WrongUsageException("tfc.command.findveins.usage");
         }
-        WorldWorkerManager.IWorker worker = new Worker(sender, chunks, filter, type);
-        WorldWorkerManager.addWorker(worker);
     }
 
     @Override
@@ -132,45 +182,56 @@ public class CommandFindVeins extends CommandBase
         }
         else if (args.length == 3)
         {
-            return getListOfStringsMatchingLastWord(args, "dump", "rate");
+            return getListOfStringsMatchingLastWord(args, "dump", "rate", "nearest", "predict");
         }
         return Collections.emptyList();
     }
 
+    private static String getVeinName(Vein vein)
+    {
+        return vein.getType() != null ? vein.getType().getRegistryName() : "Unregistered Vein";
+    }
+
+    private static void writeFile(ICommandSender listener, String fileName, List<String> lines)
+    {
+        final File file = new File(fileName);
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
+        {
+            for (String line : lines)
+            {
+                writer.write(line);
+                writer.newLine();
+            }
+
+            listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
+        }
+        catch (IOException error)
+        {
+            listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
+        }
+    }
+
+    /**
+     * Counts rock layers of chunks, loading them a few at a time
+     */
     private static class Worker implements WorldWorkerManager.IWorker
     {
-        private static final int DIMENSION = 0; // In TFC, veins can only be generated in dimension 0. Should this change in the future, please update this accordingly
         private final ICommandSender listener;
         private final List<ChunkPos> chunks;
         private final int jobSize;
-        private final VeinType filter; // null if any, a vein type to filter out all other veins
 
-        private final Set<BlockPos> veinsFound = new HashSet<>(); // Using BlockPos instead of vein objs lowers ram usage
-
-        // Selects which type of worker this one is. Since they have so many similarities, I don't see a point in creating other classes and copy pasting code
-        // 0 = output found veins in chat
-        // 1 = output all vein instances in log file
-        // 2 = count vein types and rock types (effort to close #867)
-        private final int type;
-
-        // Only used in type = 1
-        private final List<String> outputLog = new ArrayList<>();
-
-        // Only used in type = 2
-        private final TObjectIntHashMap<VeinType> veinRateMap = new TObjectIntHashMap<>();
+        private final TObjectIntHashMap<VeinType> veinRateMap;
         private final TObjectIntHashMap<Rock> rockRateMap = new TObjectIntHashMap<>();
 
-
         private long lastNotifcationTime;
         private Boolean keepingLoaded;
 
-        public Worker(@Nonnull ICommandSender listener, @Nonnull List<ChunkPos> chunks, @Nullable VeinType filter, int type)
+        public Worker(@Nonnull ICommandSender listener, @Nonnull List<ChunkPos> chunks, TObjectIntHashMap<VeinType> veinRateMap)
         {
             this.listener = listener;
             this.chunks = chunks;
             this.jobSize = chunks.size();
-            this.type = type;
-            this.filter = filter;
+            this.veinRateMap = veinRateMap;
             lastNotifcationTime = 0;
             keepingLoaded = false;
         }
@@ -204,10 +265,7 @@ public class CommandFindVeins extends CommandBase
                 // Slowing down notification to not spam the same value too much
                 if (lastNotifcationTime < System.currentTimeMillis() - 10000) // 10 sec notification
                 {
-                    if (type > 0)
-                    {
-                        this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
-                    }
+                    this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
                     lastNotifcationTime = System.currentTimeMillis();
                 }
                 return false;
@@ -219,10 +277,7 @@ public class CommandFindVeins extends CommandBase
             {
                 if (lastNotifcationTime < System.currentTimeMillis() - 5000) // 5 sec notification
                 {
-                    if (type > 0)
-                    {
-                        this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
-                    }
+                    this.listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.remaining_chunks", chunks.size(), jobSize));
                     lastNotifcationTime = System.currentTimeMillis();
                 }
 
@@ -235,64 +290,10 @@ public class CommandFindVeins extends CommandBase
                 Chunk target = world.getChunk(next.x, next.z);
                 ChunkDataTFC chunkData = ChunkDataTFC.get(target);
 
-                chunkData.getGeneratedVeins().stream()
-                    .filter(vein -> !veinsFound.contains(vein.getPos()))
-                    .filter(vein -> filter == null || filter.equals(vein.getType()))
-                    .forEach(vein ->
-                    {
-                        veinsFound.add(vein.getPos());
-                        String veinName = "Unregistered Vein";
-                        if (vein.getType() != null)
-                        {
-                            veinName = vein.getType().getRegistryName();
-                        }
-                        if (type == 0)
-                        {
-                            listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output", veinName, vein.getPos()));
-                        }
-                        else if (type == 1)
-                        {
-                            outputLog.add(String.format("Found %s at %s", veinName, vein.getPos()));
-                        }
-                        else if (type == 2 && vein.getType() != null)
-                        {
-                            int count = 1;
-                            if (veinRateMap.containsKey(vein.getType()))
-                            {
-                                count += veinRateMap.get(vein.getType());
-                            }
-                            veinRateMap.put(vein.getType(), count);
-                        }
-                    });
-
-                if (type == 2)
-                {
-                    // Also count rock layers
-                    Rock rock1 = chunkData.getRockLayer1(8, 8); // Grabbing the middle is fine
-                    Rock rock2 = chunkData.getRockLayer2(8, 8);
-                    Rock rock3 = chunkData.getRockLayer3(8, 8);
-
-                    int value = 1;
-                    if (rockRateMap.containsKey(rock1))
-                    {
-                        value += rockRateMap.get(rock1);
-                    }
-                    rockRateMap.put(rock1, value);
-
-                    value = 1;
-                    if (rockRateMap.containsKey(rock2))
-                    {
-                        value += rockRateMap.get(rock2);
-                    }
-                    rockRateMap.put(rock2, value);
-
-                    value = 1;
-                    if (rockRateMap.containsKey(rock3))
-                    {
-                        value += rockRateMap.get(rock3);
-                    }
-                    rockRateMap.put(rock3, value);
-                }
+                // Count rock layers
+                rockRateMap.adjustOrPutValue(chunkData.getRockLayer1(8, 8), 1, 1); // Grabbing the middle is fine
+                rockRateMap.adjustOrPutValue(chunkData.getRockLayer2(8, 8), 1, 1);
+                rockRateMap.adjustOrPutValue(chunkData.getRockLayer3(8, 8), 1, 1);
 
                 PlayerChunkMapEntry watchers = world.getPlayerChunkMap().getEntry(target.x, target.z);
                 if (watchers == null) //If there are no players watching this, this will be null, so we can unload.
@@ -303,59 +304,21 @@ public class CommandFindVeins extends CommandBase
 
             if (chunks.isEmpty())
             {
-                if (type == 1)
+                List<String> lines = new ArrayList<>();
+                lines.add("Found Veins: ");
+                for (VeinType veinType : veinRateMap.keySet())
                 {
-                    final String fileName = "tfc-veins-dump.log";
-                    final File file = new File(fileName);
-                    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
-                    {
-                        for (String line : outputLog)
-                        {
-                            writer.write(line);
-                            writer.newLine();
-                        }
-
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
-                    }
-                    catch (IOException error)
-                    {
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
-                    }
-
+                    lines.add(String.format("%s: %d", veinType.getRegistryName(), veinRateMap.get(veinType)));
                 }
-                else if (type == 2)
+
+                lines.add("");
+                lines.add("Found Rock Layers (chunks): ");
+                for (Rock rock : rockRateMap.keySet())
                 {
-                    final String fileName = "tfc-veins-rate.log";
-                    final File file = new File(fileName);
-                    try (BufferedWriter writer = new BufferedWriter(new FileWriter(file)))
-                    {
-                        writer.write("Found Veins: ");
-                        writer.newLine();
-                        for (VeinType veinType : veinRateMap.keySet())
-                        {
-                            String line = String.format("%s: %d", veinType.getRegistryName(), veinRateMap.get(veinType));
-                            writer.write(line);
-                            writer.newLine();
-                        }
-
-                        writer.newLine();
-                        writer.write("Found Rock Layers (chunks): ");
-                        writer.newLine();
-
-                        for (Rock rock : rockRateMap.keySet())
-                        {
-                            String line = String.format("%s: %d", rock, rockRateMap.get(rock));
-                            writer.write(line);
-                            writer.newLine();
-                        }
-
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file", file.getAbsolutePath()));
-                    }
-                    catch (IOException error)
-                    {
-                        listener.sendMessage(new TextComponentTranslation("tfc.command.findveins.output_file.error", error.toString()));
-                    }
+                    lines.add(String.format("%s: %d", rock, rockRateMap.get(rock)));
                 }
+                writeFile(listener, "tfc-veins-rate.log", lines);
+
                 if (keepingLoaded)
                 {
                     DimensionManager.keepDimensionLoaded(DIMENSION, false);
@@ -366,4 +329,3 @@ public class CommandFindVeins extends CommandBase
         }
     }
 }
-
@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.network;
 
-import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
@@ -18,45 +16,42 @@ import io.netty.buffer.ByteBuf;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.util.climate.ClimateTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataSyncHandler;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
+/**
+ * Syncs the client side data of one or more chunks
+ * Each entry is a chunk position + length prefixed data, as written by {@link ChunkDataTFC#writeSyncData(ByteBuf)}
+ *
+ * @see ChunkDataSyncHandler
+ */
 public class PacketChunkData implements IMessage
 {
-    private NBTTagCompound nbt;
-    private int x, z;
-    private float regionalTemp, rainfall;
+    private int count;
+    private ByteBuf payload;
 
     @SuppressWarnings("unused")
     @Deprecated
     public PacketChunkData() {}
 
-    public PacketChunkData(ChunkPos chunkPos, NBTTagCompound nbt, float regionalTemp, float rainfall)
+    public PacketChunkData(int count, ByteBuf payload)
     {
-        this.x = chunkPos.x;
-        this.z = chunkPos.z;
-        this.nbt = nbt;
-        this.regionalTemp = regionalTemp;
-        this.rainfall = rainfall;
+        this.count = count;
+        this.payload = payload;
     }
 
     @Override
     public void fromBytes(ByteBuf buf)
     {
-        x = buf.readInt();
-        z = buf.readInt();
-        nbt = ByteBufUtils.readTag(buf);
-        regionalTemp = buf.readFloat();
-        rainfall = buf.readFloat();
+        count = ByteBufUtils.readVarInt(buf, 5);
+        payload = buf.readBytes(buf.readableBytes());
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
-        buf.writeInt(x);
-        buf.writeInt(z);
-        ByteBufUtils.writeTag(buf, nbt);
-        buf.writeFloat(regionalTemp);
-        buf.writeFloat(rainfall);
+        ByteBufUtils.writeVarInt(buf, count, 5);
+        buf.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
     }
 
     public static class Handler implements IMessageHandler<PacketChunkData, IMessage>
@@ -68,16 +63,34 @@ public class PacketChunkData implements IMessage
             if (world != null)
             {
                 TerraFirmaCraft.getProxy().getThreadListener(ctx).addScheduledTask(() -> {
-                    // Update client-side chunk data capability
-                    Chunk chunk = world.getChunk(message.x, message.z);
-                    ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
-                    if (data != null)
+                    ByteBuf buf = message.payload;
+                    try
                     {
-                        ChunkDataProvider.CHUNK_DATA_CAPABILITY.readNBT(data, null, message.nbt);
-                    }
+                        for (int i = 0; i < message.count; i++)
+                        {
+                            int x = buf.readInt(), z = buf.readInt();
+                            int length = ByteBufUtils.readVarInt(buf, 5);
+                            // The chunk may have been unloaded client side already
+                            Chunk chunk = world.getChunkProvider().getLoadedChunk(x, z);
+                            ChunkDataTFC data = chunk == null ? null : chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+                            if (data != null)
+                            {
+                                // Update client-side chunk data capability
+                                data.readSyncData(buf.readSlice(length));
 
-                    // Update climate cache
-                    ClimateTFC.update(chunk.getPos(), message.regionalTemp, message.rainfall);
+                                // Update climate cache
+                                ClimateTFC.update(world, chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
+                            }
+                            else
+                            {
+                                buf.skipBytes(length);
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        buf.release();
+                    }
                 });
             }
             return null;
@@ -7,6 +7,7 @@ package net.dries007.tfc.network;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.FoodStats;
+import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
@@ -16,8 +17,29 @@ import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.capability.food.FoodStatsTFC;
 import net.dries007.tfc.api.capability.food.Nutrient;
 
+/**
+ * Nutrients and thirst are sent as fixed point values, see {@link PacketFoodStatsUpdate#quantizeNutrient(float)} and {@link PacketFoodStatsUpdate#quantizeThirst(float)}
+ */
 public class PacketFoodStatsUpdate implements IMessage
 {
+    private static final float NUTRIENT_SCALE = 1000f; // Nutrients are in [0, 1], 0.1% steps
+    private static final float THIRST_SCALE = 100f; // Thirst is in [0, 100], 0.01 steps
+
+    public static int quantizeNutrient(float value)
+    {
+        return quantize(value * NUTRIENT_SCALE);
+    }
+
+    public static int quantizeThirst(float value)
+    {
+        return quantize(value * THIRST_SCALE);
+    }
+
+    private static int quantize(float value)
+    {
+        return MathHelper.clamp(Math.round(value), 0, 0xFFFF);
+    }
+
     private final float[] nutrients;
     private float thirst;
 
@@ -37,20 +59,20 @@ public class PacketFoodStatsUpdate implements IMessage
     @Override
     public void fromBytes(ByteBuf buf)
     {
-        thirst = buf.readFloat();
+        thirst = buf.readUnsignedShort() / THIRST_SCALE;
         for (int i = 0; i < nutrients.length; i++)
         {
-            nutrients[i] = buf.readFloat();
+            nutrients[i] = buf.readUnsignedShort() / NUTRIENT_SCALE;
         }
     }
 
     @Override
     public void toBytes(ByteBuf buf)
     {
-        buf.writeFloat(thirst);
+        buf.writeShort(quantizeThirst(thirst));
         for (float f : nutrients)
         {
-            buf.writeFloat(f);
+            buf.writeShort(quantizeNutrient(f));
         }
     }
 
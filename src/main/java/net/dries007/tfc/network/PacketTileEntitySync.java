@@ -0,0 +1,114 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.network;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+import io.netty.buffer.ByteBuf;
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.objects.te.TEBase;
+import net.dries007.tfc.objects.te.TESyncHandler;
+
+/**
+ * Syncs the pending data of all {@link TEBase} in a single chunk
+ * Each entry is a local position + length prefixed data, as written by {@link TEBase#writeSyncData(ByteBuf)}
+ *
+ * @see TESyncHandler
+ */
+public class PacketTileEntitySync implements IMessage
+{
+    /**
+     * Packs a position into the chunk local x (4 bits), z (4 bits) and y (8 bits) coordinates
+     */
+    public static short packLocalPos(BlockPos pos)
+    {
+        return (short) ((pos.getX() & 15) << 12 | (pos.getZ() & 15) << 8 | (pos.getY() & 255));
+    }
+
+    private static BlockPos unpackLocalPos(int chunkX, int chunkZ, short packed)
+    {
+        return new BlockPos((chunkX << 4) | (packed >> 12 & 15), packed & 255, (chunkZ << 4) | (packed >> 8 & 15));
+    }
+
+    private int chunkX, chunkZ;
+    private int count;
+    private ByteBuf payload;
+
+    @SuppressWarnings("unused")
+    @Deprecated
+    public PacketTileEntitySync() {}
+
+    public PacketTileEntitySync(ChunkPos chunkPos, int count, ByteBuf payload)
+    {
+        this.chunkX = chunkPos.x;
+        this.chunkZ = chunkPos.z;
+        this.count = count;
+        this.payload = payload;
+    }
+
+    @Override
+    public void fromBytes(ByteBuf buf)
+    {
+        chunkX = buf.readInt();
+        chunkZ = buf.readInt();
+        count = ByteBufUtils.readVarInt(buf, 5);
+        payload = buf.readBytes(buf.readableBytes());
+    }
+
+    @Override
+    public void toBytes(ByteBuf buf)
+    {
+        buf.writeInt(chunkX);
+        buf.writeInt(chunkZ);
+        ByteBufUtils.writeVarInt(buf, count, 5);
+        buf.writeBytes(payload, payload.readerIndex(), payload.readableBytes());
+    }
+
+    public static class Handler implements IMessageHandler<PacketTileEntitySync, IMessage>
+    {
+        @Override
+        public IMessage onMessage(PacketTileEntitySync message, MessageContext ctx)
+        {
+            final World world = TerraFirmaCraft.getProxy().getWorld(ctx);
+            if (world != null)
+            {
+                TerraFirmaCraft.getProxy().getThreadListener(ctx).addScheduledTask(() -> {
+                    ByteBuf buf = message.payload;
+                    try
+                    {
+                        for (int i = 0; i < message.count; i++)
+                        {
+                            BlockPos pos = unpackLocalPos(message.chunkX, message.chunkZ, buf.readShort());
+                            int length = ByteBufUtils.readVarInt(buf, 5);
+                            TileEntity tile = world.isBlockLoaded(pos) ? world.getTileEntity(pos) : null;
+                            if (tile instanceof TEBase)
+                            {
+                                ((TEBase) tile).readSyncData(buf.readSlice(length));
+                            }
+                            else
+                            {
+                                // The TE may have been removed client side already
+                                buf.skipBytes(length);
+                            }
+                        }
+                    }
+                    finally
+                    {
+                        buf.release();
+                    }
+                });
+            }
+            return null;
+        }
+    }
+}
@@ -12,7 +12,9 @@ import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
+import net.minecraft.block.properties.IProperty;
 import net.minecraft.block.state.BlockFaceShape;
+import net.minecraft.block.state.BlockStateContainer;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.client.particle.ParticleManager;
 import net.minecraft.entity.Entity;
@@ -22,6 +24,7 @@ import net.minecraft.init.Items;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.BlockRenderLayer;
 import net.minecraft.util.EnumBlockRenderType;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.EnumHand;
@@ -31,10 +34,14 @@ import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.property.ExtendedBlockState;
+import net.minecraftforge.common.property.IExtendedBlockState;
+import net.minecraftforge.common.property.IUnlistedProperty;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import net.minecraftforge.items.ItemHandlerHelper;
 
+import net.dries007.tfc.objects.blocks.property.UnlistedProperty;
 import net.dries007.tfc.objects.blocks.stone.BlockFarmlandTFC;
 import net.dries007.tfc.objects.te.TEPlacedItemFlat;
 import net.dries007.tfc.util.Helpers;
@@ -42,6 +49,12 @@ import net.dries007.tfc.util.Helpers;
 @ParametersAreNonnullByDefault
 public class BlockPlacedItemFlat extends Block
 {
+    /**
+     * The placed item and its rotation, which are used by the baked model
+     */
+    public static final IUnlistedProperty<ItemStack> STACK = new UnlistedProperty<>("stack", ItemStack.class);
+    public static final IUnlistedProperty<Integer> ROTATION = new UnlistedProperty<>("rotation", Integer.class);
+
     private static final AxisAlignedBB AABB = new AxisAlignedBB(0.25D, 0D, 0.25D, 0.75D, 0.0625D, 0.75D);
 
     public BlockPlacedItemFlat()
@@ -90,7 +103,15 @@ public class BlockPlacedItemFlat extends Block
     @SuppressWarnings("deprecation")
     public EnumBlockRenderType getRenderType(IBlockState state)
     {
-        return EnumBlockRenderType.ENTITYBLOCK_ANIMATED;
+        return EnumBlockRenderType.MODEL;
+    }
+
+    @Override
+    @Nonnull
+    @SideOnly(Side.CLIENT)
+    public BlockRenderLayer getRenderLayer()
+    {
+        return BlockRenderLayer.CUTOUT;
     }
 
     @Override
@@ -182,6 +203,18 @@ public class BlockPlacedItemFlat extends Block
         return false;
     }
 
+    @Override
+    @Nonnull
+    public IBlockState getExtendedState(IBlockState state, IBlockAccess world, BlockPos pos)
+    {
+        TEPlacedItemFlat te = Helpers.getTE(world, pos, TEPlacedItemFlat.class);
+        if (te != null && state instanceof IExtendedBlockState)
+        {
+            return ((IExtendedBlockState) state).withProperty(STACK, te.getStack()).withProperty(ROTATION, (int) te.getRotation());
+        }
+        return state;
+    }
+
     @Override
     public boolean hasTileEntity(IBlockState state)
     {
@@ -207,6 +240,13 @@ public class BlockPlacedItemFlat extends Block
         return ItemStack.EMPTY;
     }
 
+    @Override
+    @Nonnull
+    protected BlockStateContainer createBlockState()
+    {
+        return new ExtendedBlockState(this, new IProperty[0], new IUnlistedProperty[] {STACK, ROTATION});
+    }
+
     @Override
     public boolean addLandingEffects(IBlockState state, WorldServer worldObj, BlockPos blockPosition, IBlockState iblockstate, EntityLivingBase entity, int numberOfParticles)
     {
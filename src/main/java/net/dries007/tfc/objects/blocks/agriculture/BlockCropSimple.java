@@ -6,6 +6,7 @@
 package net.dries007.tfc.objects.blocks.agriculture;
 
 import java.util.Random;
+import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.block.properties.PropertyInteger;
@@ -60,13 +61,25 @@ public abstract class BlockCropSimple extends BlockCropTFC
     {
         if (!worldIn.isRemote)
         {
-            if (state.getValue(getStageProperty()) < getCrop().getMaxStage())
+            IBlockState grownState = getGrownState(state);
+            if (grownState != state)
             {
-                worldIn.setBlockState(pos, state.withProperty(getStageProperty(), state.getValue(getStageProperty()) + 1), 2);
+                worldIn.setBlockState(pos, grownState, 2);
             }
         }
     }
 
+    @Nonnull
+    @Override
+    protected IBlockState getGrownState(IBlockState state)
+    {
+        if (state.getValue(getStageProperty()) < getCrop().getMaxStage())
+        {
+            return state.withProperty(getStageProperty(), state.getValue(getStageProperty()) + 1);
+        }
+        return state;
+    }
+
     @Override
     public boolean onBlockActivated(World worldIn, BlockPos pos, IBlockState state, EntityPlayer playerIn, EnumHand hand, EnumFacing facing, float hitX, float hitY, float hitZ)
     {
@@ -242,40 +242,83 @@ public abstract class BlockCropTFC extends BlockBush
                 }
 
                 long growthTicks = (long) (crop.getGrowthTicks() * ConfigTFC.General.FOOD.cropGrowthTimeModifier);
+                long ticksSinceUpdate = te.getTicksSinceUpdate();
+                if (ticksSinceUpdate <= growthTicks)
+                {
+                    return;
+                }
+
+                // Simulate every growth interval that has passed, and only then apply the result to the world
+                float rainfall = ChunkDataTFC.getRainfall(worldIn, pos);
+                long elapsedTicks = 0;
                 int fullGrownStages = 0;
-                while (te.getTicksSinceUpdate() > growthTicks)
+                boolean dead = false;
+                while (ticksSinceUpdate - elapsedTicks > growthTicks)
                 {
-                    te.reduceCounter(growthTicks);
+                    elapsedTicks += growthTicks;
 
                     // find stats for the time in which the crop would have grown
-                    float temp = ClimateTFC.getActualTemp(worldIn, pos, -te.getTicksSinceUpdate());
-                    float rainfall = ChunkDataTFC.getRainfall(worldIn, pos);
+                    float temp = ClimateTFC.getActualTemp(worldIn, pos, elapsedTicks - ticksSinceUpdate);
 
                     // check if the crop could grow, if so, grow
                     if (crop.isValidForGrowth(temp, rainfall))
                     {
-                        grow(worldIn, pos, state, random);
-                        state = worldIn.getBlockState(pos);
+                        IBlockState grownState = getGrownState(state);
+                        if (grownState != null)
+                        {
+                            state = grownState;
+                        }
+                        else
+                        {
+                            grow(worldIn, pos, state, random);
+                            state = worldIn.getBlockState(pos);
+                        }
                         if (state.getBlock() instanceof BlockCropTFC && !state.getValue(WILD) && state.getValue(getStageProperty()) == crop.getMaxStage())
                         {
                             fullGrownStages++;
                             if (fullGrownStages > 2)
                             {
-                                die(worldIn, pos, state, random);
-                                return;
+                                dead = true;
+                                break;
                             }
                         }
                     }
                     else if (!crop.isValidConditions(temp, rainfall))
                     {
-                        die(worldIn, pos, state, random);
+                        dead = true;
+                        break;
+                    }
+                }
+
+                if (dead)
+                {
+                    die(worldIn, pos, state, random);
+                    if (ConfigTFC.General.FOOD.enableCropDeath)
+                    {
                         return;
                     }
                 }
+                if (state != worldIn.getBlockState(pos))
+                {
+                    worldIn.setBlockState(pos, state, 2);
+                }
+                te.reduceCounter(elapsedTicks);
             }
         }
     }
 
+    /**
+     * Gets the state after growing once, for crops where growing only changes their own state.
+     * This lets {@link #checkGrowth} catch up on any number of growth intervals with a single block change.
+     *
+     * @return the grown state, or null if {@link #grow} has to be called instead
+     */
+    @Nullable
+    protected IBlockState getGrownState(IBlockState state)
+    {
+        return null;
+    }
+
     public abstract void grow(World worldIn, BlockPos pos, IBlockState state, Random random);
 
     public void die(World worldIn, BlockPos pos, IBlockState state, Random random)
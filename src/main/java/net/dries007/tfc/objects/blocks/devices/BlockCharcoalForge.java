@@ -91,6 +91,15 @@ public class BlockCharcoalForge extends Block implements IBellowsConsumerBlock,
         return CHARCOAL_FORGE_MULTIBLOCK.test(world, pos);
     }
 
+    /**
+     * Uses the structure cached by the tile entity, if present
+     */
+    private static boolean isStructureValid(World world, BlockPos pos)
+    {
+        TECharcoalForge te = Helpers.getTE(world, pos, TECharcoalForge.class);
+        return te != null ? te.isStructureValid() : isValid(world, pos);
+    }
+
     public static boolean isValidSide(IBlockState state)
     {
         return state.getMaterial() == Material.ROCK && state.isOpaqueCube() && state.isNormalCube();
@@ -196,7 +205,7 @@ public class BlockCharcoalForge extends Block implements IBellowsConsumerBlock,
     @Override
     public void updateTick(World worldIn, BlockPos pos, IBlockState state, Random rand)
     {
-        if (!isValid(worldIn, pos))
+        if (!isStructureValid(worldIn, pos))
         {
             worldIn.setBlockState(pos, state.withProperty(LIT, false));
         }
@@ -224,7 +233,7 @@ public class BlockCharcoalForge extends Block implements IBellowsConsumerBlock,
     {
         if (!worldIn.isRemote)
         {
-            if (state.getValue(LIT) && !isValid(worldIn, pos))
+            if (state.getValue(LIT) && !isStructureValid(worldIn, pos))
             {
                 // This is not a valid pit, therefor extinguish it
                 worldIn.setBlockState(pos, state.withProperty(LIT, false));
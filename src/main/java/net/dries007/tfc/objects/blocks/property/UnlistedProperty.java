@@ -0,0 +1,47 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.blocks.property;
+
+import net.minecraftforge.common.property.IUnlistedProperty;
+
+/**
+ * A property that is only part of the extended state, used to pass tile entity data to a baked model
+ */
+public class UnlistedProperty<T> implements IUnlistedProperty<T>
+{
+    private final String name;
+    private final Class<T> type;
+
+    public UnlistedProperty(String name, Class<T> type)
+    {
+        this.name = name;
+        this.type = type;
+    }
+
+    @Override
+    public String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public boolean isValid(T value)
+    {
+        return true;
+    }
+
+    @Override
+    public Class<T> getType()
+    {
+        return type;
+    }
+
+    @Override
+    public String valueToString(T value)
+    {
+        return String.valueOf(value);
+    }
+}
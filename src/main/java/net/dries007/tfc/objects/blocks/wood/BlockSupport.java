@@ -30,10 +30,12 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.types.Tree;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 @ParametersAreNonnullByDefault
 public class BlockSupport extends Block
@@ -82,8 +84,7 @@ public class BlockSupport extends Block
         {
             return true; // If world isn't loaded...
         }
-        for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(
-            pos.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), pos.add(sRangeHor, sRangeVert, sRangeHor)))
+        for (BlockPos searchSupport : getSupportsIn(worldIn, pos.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), pos.add(sRangeHor, sRangeVert, sRangeHor)))
         {
             IBlockState st = worldIn.getBlockState(searchSupport);
             if (st.getBlock() instanceof BlockSupport)
@@ -104,8 +105,6 @@ public class BlockSupport extends Block
      */
     public static Set<BlockPos> getAllUnsupportedBlocksIn(World worldIn, BlockPos from, BlockPos to)
     {
-        Set<BlockPos> listSupported = new HashSet<>();
-        Set<BlockPos> listUnsupported = new HashSet<>();
         int minX = Math.min(from.getX(), to.getX());
         int maxX = Math.max(from.getX(), to.getX());
         int minY = Math.min(from.getY(), to.getY());
@@ -118,35 +117,83 @@ public class BlockSupport extends Block
         int sRangeVertNeg = ConfigTFC.General.FALLABLE.supportBeamRangeDown * -1;
         BlockPos minPoint = new BlockPos(minX, minY, minZ);
         BlockPos maxPoint = new BlockPos(maxX, maxY, maxZ);
-        for (BlockPos.MutableBlockPos searchingPoint : BlockPos.getAllInBoxMutable(minPoint.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg),
-            maxPoint.add(sRangeHor, sRangeVert, sRangeHor)))
+
+        // Rasterize the volume supported by each beam into the searched area
+        int sizeX = maxX - minX + 1, sizeY = maxY - minY + 1, sizeZ = maxZ - minZ + 1;
+        boolean[] supported = new boolean[sizeX * sizeY * sizeZ];
+        for (BlockPos support : getSupportsIn(worldIn, minPoint.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), maxPoint.add(sRangeHor, sRangeVert, sRangeHor)))
         {
-            if (!listSupported.contains(searchingPoint))
+            IBlockState st = worldIn.getBlockState(support);
+            if (st.getBlock() instanceof BlockSupport && ((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, support))
             {
-                listUnsupported.add(searchingPoint.toImmutable()); //Adding blocks that wasn't found supported
+                int x0 = Math.max(minX, support.getX() + sRangeHorNeg), x1 = Math.min(maxX, support.getX() + sRangeHor);
+                int y0 = Math.max(minY, support.getY() + sRangeVertNeg), y1 = Math.min(maxY, support.getY() + sRangeVert);
+                int z0 = Math.max(minZ, support.getZ() + sRangeHorNeg), z1 = Math.min(maxZ, support.getZ() + sRangeHor);
+                for (int x = x0; x <= x1; x++)
+                {
+                    for (int y = y0; y <= y1; y++)
+                    {
+                        for (int z = z0; z <= z1; z++)
+                        {
+                            supported[((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ)] = true;
+                        }
+                    }
+                }
             }
-            IBlockState st = worldIn.getBlockState(searchingPoint);
-            if (st.getBlock() instanceof BlockSupport)
+        }
+
+        Set<BlockPos> listUnsupported = new HashSet<>();
+        for (int x = 0; x < sizeX; x++)
+        {
+            for (int y = 0; y < sizeY; y++)
             {
-                if (((BlockSupport) st.getBlock()).canSupportBlocks(worldIn, searchingPoint))
+                for (int z = 0; z < sizeZ; z++)
                 {
-                    for (BlockPos.MutableBlockPos supported : BlockPos.getAllInBoxMutable(searchingPoint.add(sRangeHorNeg, sRangeVertNeg, sRangeHorNeg), searchingPoint.add(sRangeHor, sRangeVert, sRangeHor)))
+                    if (!supported[(x * sizeY + y) * sizeZ + z])
                     {
-                        listSupported.add(supported.toImmutable()); //Adding all supported blocks by this support
-                        listUnsupported.remove(supported); //Remove if this block was added earlier
+                        listUnsupported.add(new BlockPos(minX + x, minY + y, minZ + z));
                     }
                 }
             }
         }
-        //Searching point wasn't from points between from <-> to but
-        //Time to remove the outsides that were added for convenience
-        listUnsupported.removeIf(content -> content.getX() < minX || content.getX() > maxX
-            || content.getY() < minY || content.getY() > maxY
-            || content.getZ() < minZ || content.getZ() > maxZ);
-
         return listUnsupported;
     }
 
+    /**
+     * Finds the positions of all support blocks in the box (inclusive). These may or may not be able to support blocks.
+     * Uses the support index of each chunk where possible, and otherwise scans the box
+     */
+    private static List<BlockPos> getSupportsIn(World worldIn, BlockPos min, BlockPos max)
+    {
+        List<BlockPos> supports = new ArrayList<>();
+        for (int chunkX = min.getX() >> 4; chunkX <= max.getX() >> 4; chunkX++)
+        {
+            for (int chunkZ = min.getZ() >> 4; chunkZ <= max.getZ() >> 4; chunkZ++)
+            {
+                Chunk chunk = worldIn.getChunk(chunkX, chunkZ);
+                ChunkDataTFC data = ChunkDataTFC.get(chunk);
+                if (!worldIn.isRemote && data.isInitialized())
+                {
+                    data.getSupportIndex().collect(chunk, min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ(), supports);
+                }
+                else
+                {
+                    // The index is only maintained server side, in TFC worlds
+                    BlockPos chunkMin = new BlockPos(Math.max(min.getX(), chunkX << 4), min.getY(), Math.max(min.getZ(), chunkZ << 4));
+                    BlockPos chunkMax = new BlockPos(Math.min(max.getX(), (chunkX << 4) + 15), max.getY(), Math.min(max.getZ(), (chunkZ << 4) + 15));
+                    for (BlockPos.MutableBlockPos searchSupport : BlockPos.getAllInBoxMutable(chunkMin, chunkMax))
+                    {
+                        if (chunk.getBlockState(searchSupport).getBlock() instanceof BlockSupport)
+                        {
+                            supports.add(searchSupport.toImmutable());
+                        }
+                    }
+                }
+            }
+        }
+        return supports;
+    }
+
     private final Tree wood;
 
     public BlockSupport(Tree wood)
@@ -384,6 +431,28 @@ public class BlockSupport extends Block
         }
     }
 
+    @Override
+    public void onBlockAdded(World worldIn, BlockPos pos, IBlockState state)
+    {
+        super.onBlockAdded(worldIn, pos, state);
+        ChunkDataTFC data = ChunkDataTFC.get(worldIn, pos);
+        if (!worldIn.isRemote && data.isInitialized())
+        {
+            data.getSupportIndex().add(pos);
+        }
+    }
+
+    @Override
+    public void breakBlock(World worldIn, BlockPos pos, IBlockState state)
+    {
+        ChunkDataTFC data = ChunkDataTFC.get(worldIn, pos);
+        if (!worldIn.isRemote && data.isInitialized())
+        {
+            data.getSupportIndex().remove(pos);
+        }
+        super.breakBlock(worldIn, pos, state);
+    }
+
     @Override
     @Nonnull
     public BlockStateContainer createBlockState()
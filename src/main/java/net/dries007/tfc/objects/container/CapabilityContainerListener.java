@@ -22,7 +22,9 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.INBTSerializable;
 
+import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.api.capability.ISyncVersioned;
 import net.dries007.tfc.api.capability.egg.CapabilityEgg;
 import net.dries007.tfc.api.capability.food.CapabilityFood;
 import net.dries007.tfc.api.capability.forge.CapabilityForgeable;
@@ -35,6 +37,9 @@ import net.dries007.tfc.network.PacketCapabilityContainerUpdate;
  * - On player tick, we perform a second pass of {@link Container#detectAndSendChanges()}, in order to detect and send updates for cases where ONLY capabilities have changed. These are not detected by vanilla's implementation of this method and as a result no packets are sent
  * - This listener itself is used to sync capability data WITHOUT overwriting the client side item stack. It uses {@link INBTSerializable} capabilities and calls deserialization on the client to accomplish this. This avoids issues with packets arriving out of order resulting in perceived "flickering" on the client.
  *
+ * To avoid comparing every slot every tick, slots are only compared when the item stack, or the version of one of its capabilities (see {@link ISyncVersioned}), has changed.
+ * Every slot is still compared periodically, to pick up changes that happen over time, or that aren't tracked by a version.
+ *
  * To register a capability for synchronization, add it to {@link CapabilityContainerListener#SYNC_CAPS}
  * This will automatically sync any containers it can, as it is added during various spots from {@link net.dries007.tfc.CommonEventHandler}
  */
@@ -49,7 +54,12 @@ public class CapabilityContainerListener implements IContainerListener
     /**
      * Container listeners for each player.
      */
-    private static final Map<EntityPlayerMP, IContainerListener> CAPABILITY_LISTENERS = new HashMap<>();
+    private static final Map<EntityPlayerMP, CapabilityContainerListener> CAPABILITY_LISTENERS = new HashMap<>();
+
+    /**
+     * Returned by {@link CapabilityContainerListener#getSyncVersion(ItemStack)} if the stack has a capability that is not versioned
+     */
+    private static final long UNVERSIONED = Long.MIN_VALUE;
 
     static
     {
@@ -92,10 +102,33 @@ public class CapabilityContainerListener implements IContainerListener
      */
     public static void syncCapabilityOnlyChanges(Container container, EntityPlayerMP player)
     {
-        IContainerListener listener = CAPABILITY_LISTENERS.computeIfAbsent(player, CapabilityContainerListener::new);
-        for (int i = 0; i < container.inventorySlots.size(); ++i)
+        CapabilityContainerListener listener = CAPABILITY_LISTENERS.computeIfAbsent(player, CapabilityContainerListener::new);
+        int slots = container.inventorySlots.size();
+        boolean compareAll = ++listener.ticksSinceCompareAll >= ConfigTFC.General.MISC.capabilitySyncInterval;
+        if (container != listener.trackedContainer || listener.trackedStacks.length != slots)
+        {
+            listener.trackedContainer = container;
+            listener.trackedStacks = new ItemStack[slots];
+            listener.trackedVersions = new long[slots];
+            compareAll = true;
+        }
+        if (compareAll)
+        {
+            listener.ticksSinceCompareAll = 0;
+        }
+
+        for (int i = 0; i < slots; ++i)
         {
             ItemStack newStack = container.inventorySlots.get(i).getStack();
+            long version = getSyncVersion(newStack);
+            if (!compareAll && version != UNVERSIONED && newStack == listener.trackedStacks[i] && version == listener.trackedVersions[i])
+            {
+                // Nothing that needs syncing has changed since the last comparison
+                continue;
+            }
+            listener.trackedStacks[i] = newStack;
+            listener.trackedVersions[i] = version;
+
             ItemStack cachedStack = container.inventoryItemStacks.get(i);
 
             if (!ItemStack.areItemStacksEqual(cachedStack, newStack))
@@ -198,8 +231,35 @@ public class CapabilityContainerListener implements IContainerListener
         return false;
     }
 
+    /**
+     * @return a combination of the versions of all synced capabilities on the stack, or {@link CapabilityContainerListener#UNVERSIONED}
+     */
+    private static long getSyncVersion(ItemStack stack)
+    {
+        long version = 0;
+        for (Capability<? extends INBTSerializable<? extends NBTBase>> capability : SYNC_CAPS.values())
+        {
+            Object instance = stack.getCapability(capability, null);
+            if (instance instanceof ISyncVersioned)
+            {
+                version = 31 * version + ((ISyncVersioned) instance).getSyncVersion();
+            }
+            else if (instance != null)
+            {
+                return UNVERSIONED;
+            }
+        }
+        return version;
+    }
+
     private final EntityPlayerMP player;
 
+    // The state of the container at the last comparison, see syncCapabilityOnlyChanges
+    private Container trackedContainer;
+    private ItemStack[] trackedStacks = new ItemStack[0];
+    private long[] trackedVersions = new long[0];
+    private int ticksSinceCompareAll;
+
     public CapabilityContainerListener(EntityPlayerMP player)
     {
         this.player = player;
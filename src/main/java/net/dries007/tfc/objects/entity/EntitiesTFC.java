@@ -23,6 +23,8 @@ import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.objects.entity.animal.*;
 import net.dries007.tfc.objects.entity.projectile.EntityThrownJavelin;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
+import net.dries007.tfc.world.classic.WorldEntitySpawnerTFC;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
@@ -76,46 +78,46 @@ public class EntitiesTFC
         register("falling_block", EntityFallingBlockTFC.class);
         register("thrown_javelin", EntityThrownJavelin.class);
         register("boat", EntityBoatTFC.class);
-        registerLiving("sheeptfc", EntitySheepTFC.class, 0xFFFFFF, 0xFF6347);
-        registerLiving("cowtfc", EntityCowTFC.class, 0xA52A2A, 0xFFFFFF);
-        registerLiving("grizzlybeartfc", EntityGrizzlyBearTFC.class, 0xB22222, 0xDEB887);
-        registerLiving("chickentfc", EntityChickenTFC.class, 0x557755, 0xFFF91F);
-        registerLiving("pheasanttfc", EntityPheasantTFC.class, 0x5577FF, 0xFFFA90);
-        registerLiving("deertfc", EntityDeerTFC.class, 0x55FF55, 0x5FFAAF);
-        registerLiving("pigtfc", EntityPigTFC.class, 0xAA7722, 0xFFEBCD);
-        registerLiving("wolftfc", EntityWolfTFC.class, 0xB0ACAC, 0x796555);
-        registerLiving("rabbittfc", EntityRabbitTFC.class, 0x885040, 0x462612);
-        registerLiving("horsetfc", EntityHorseTFC.class, 0xA5886B, 0xABA400);
-        registerLiving("donkeytfc", EntityDonkeyTFC.class, 0x493C32, 0x756659);
-        registerLiving("muletfc", EntityMuleTFC.class, 0x180200, 0x482D1A);
-        registerLiving("polarbeartfc", EntityPolarBearTFC.class, 0xF1FFF1, 0xA0A0A0);
-        registerLiving("parrottfc", EntityParrotTFC.class, 0x885040, 0xB0ACAC);
-        registerLiving("llamatfc", EntityLlamaTFC.class, 0xA52A2A, 0xAA7722);
-        registerLiving("ocelottfc", EntityOcelotTFC.class, 0x3527FA, 0x7F23A0);
-        registerLiving("panthertfc", EntityPantherTFC.class, 0x000066, 0x000000);
-        registerLiving("ducktfc", EntityDuckTFC.class, 0xFFF91F, 0x462612);
-        registerLiving("alpacatfc", EntityAlpacaTFC.class, 0x00CC66, 0x006633);
-        registerLiving("goattfc", EntityGoatTFC.class, 0xA0A0A0, 0x404040);
-        registerLiving("sabertoothtfc", EntitySaberToothTFC.class, 0xFF8000, 0xFFD700);
-        registerLiving("cameltfc", EntityCamelTFC.class, 0xA5886B, 0x006633);
-        registerLiving("liontfc", EntityLionTFC.class, 0xDAA520, 0xA0522D);
-        registerLiving("hyenatfc", EntityHyenaTFC.class, 0x666600, 0x331900);
-        registerLiving("direwolftfc", EntityDireWolfTFC.class, 0x343434, 0x978f7e);
-        registerLiving("haretfc", EntityHareTFC.class, 0x866724, 0xDADADA);
-        registerLiving("boartfc", EntityBoarTFC.class, 0x463c09, 0xe39ad8);
-        registerLiving("zebutfc", EntityZebuTFC.class, 0x2c2507, 0xbcb38e);
-        registerLiving("gazelletfc", EntityGazelleTFC.class, 0xa9a76f, 0xc0ab55);
-        registerLiving("wildebeesttfc", EntityWildebeestTFC.class, 0x696142, 0x9c8115);
-        registerLiving("quailtfc", EntityQuailTFC.class, 0x237ddc, 0xe3e36d);
-        registerLiving("grousetfc", EntityGrouseTFC.class, 0xf7a100, 0x71ffd0);
-        registerLiving("mongoosetfc", EntityMongooseTFC.class, 0xf9f50f, 0x90ec7f);
-        registerLiving("turkeytfc", EntityTurkeyTFC.class, 0xad1d1d, 0xeaa659);
-        registerLiving("jackaltfc", EntityJackalTFC.class, 0xb8762b, 0xffffff);
-        registerLiving("muskoxtfc", EntityMuskOxTFC.class, 0x620d55, 0xcdaf4f);
-        registerLiving("yaktfc", EntityYakTFC.class, 0x837669, 0x3e3d7cc);
-        registerLiving("blackbeartfc", EntityBlackBearTFC.class, 0x000000, 0xa18f6c);
-        registerLiving("cougartfc", EntityCougarTFC.class, 0x817a00, 0xdcd889);
-        registerLiving("coyotetfc", EntityCoyoteTFC.class, 0xb7bc88, 0xdac213);
+        registerLiving("sheeptfc", EntitySheepTFC.class, 0xFFFFFF, 0xFF6347, EntitySheepTFC.SPAWN_RULE);
+        registerLiving("cowtfc", EntityCowTFC.class, 0xA52A2A, 0xFFFFFF, EntityCowTFC.SPAWN_RULE);
+        registerLiving("grizzlybeartfc", EntityGrizzlyBearTFC.class, 0xB22222, 0xDEB887, EntityGrizzlyBearTFC.SPAWN_RULE);
+        registerLiving("chickentfc", EntityChickenTFC.class, 0x557755, 0xFFF91F, EntityChickenTFC.SPAWN_RULE);
+        registerLiving("pheasanttfc", EntityPheasantTFC.class, 0x5577FF, 0xFFFA90, EntityPheasantTFC.SPAWN_RULE);
+        registerLiving("deertfc", EntityDeerTFC.class, 0x55FF55, 0x5FFAAF, EntityDeerTFC.SPAWN_RULE);
+        registerLiving("pigtfc", EntityPigTFC.class, 0xAA7722, 0xFFEBCD, EntityPigTFC.SPAWN_RULE);
+        registerLiving("wolftfc", EntityWolfTFC.class, 0xB0ACAC, 0x796555, EntityWolfTFC.SPAWN_RULE);
+        registerLiving("rabbittfc", EntityRabbitTFC.class, 0x885040, 0x462612, EntityRabbitTFC.SPAWN_RULE);
+        registerLiving("horsetfc", EntityHorseTFC.class, 0xA5886B, 0xABA400, EntityHorseTFC.SPAWN_RULE);
+        registerLiving("donkeytfc", EntityDonkeyTFC.class, 0x493C32, 0x756659, EntityDonkeyTFC.SPAWN_RULE);
+        registerLiving("muletfc", EntityMuleTFC.class, 0x180200, 0x482D1A, EntityMuleTFC.SPAWN_RULE);
+        registerLiving("polarbeartfc", EntityPolarBearTFC.class, 0xF1FFF1, 0xA0A0A0, EntityPolarBearTFC.SPAWN_RULE);
+        registerLiving("parrottfc", EntityParrotTFC.class, 0x885040, 0xB0ACAC, EntityParrotTFC.SPAWN_RULE);
+        registerLiving("llamatfc", EntityLlamaTFC.class, 0xA52A2A, 0xAA7722, EntityLlamaTFC.SPAWN_RULE);
+        registerLiving("ocelottfc", EntityOcelotTFC.class, 0x3527FA, 0x7F23A0, EntityOcelotTFC.SPAWN_RULE);
+        registerLiving("panthertfc", EntityPantherTFC.class, 0x000066, 0x000000, EntityPantherTFC.SPAWN_RULE);
+        registerLiving("ducktfc", EntityDuckTFC.class, 0xFFF91F, 0x462612, EntityDuckTFC.SPAWN_RULE);
+        registerLiving("alpacatfc", EntityAlpacaTFC.class, 0x00CC66, 0x006633, EntityAlpacaTFC.SPAWN_RULE);
+        registerLiving("goattfc", EntityGoatTFC.class, 0xA0A0A0, 0x404040, EntityGoatTFC.SPAWN_RULE);
+        registerLiving("sabertoothtfc", EntitySaberToothTFC.class, 0xFF8000, 0xFFD700, EntitySaberToothTFC.SPAWN_RULE);
+        registerLiving("cameltfc", EntityCamelTFC.class, 0xA5886B, 0x006633, EntityCamelTFC.SPAWN_RULE);
+        registerLiving("liontfc", EntityLionTFC.class, 0xDAA520, 0xA0522D, EntityLionTFC.SPAWN_RULE);
+        registerLiving("hyenatfc", EntityHyenaTFC.class, 0x666600, 0x331900, EntityHyenaTFC.SPAWN_RULE);
+        registerLiving("direwolftfc", EntityDireWolfTFC.class, 0x343434, 0x978f7e, EntityDireWolfTFC.SPAWN_RULE);
+        registerLiving("haretfc", EntityHareTFC.class, 0x866724, 0xDADADA, EntityHareTFC.SPAWN_RULE);
+        registerLiving("boartfc", EntityBoarTFC.class, 0x463c09, 0xe39ad8, EntityBoarTFC.SPAWN_RULE);
+        registerLiving("zebutfc", EntityZebuTFC.class, 0x2c2507, 0xbcb38e, EntityZebuTFC.SPAWN_RULE);
+        registerLiving("gazelletfc", EntityGazelleTFC.class, 0xa9a76f, 0xc0ab55, EntityGazelleTFC.SPAWN_RULE);
+        registerLiving("wildebeesttfc", EntityWildebeestTFC.class, 0x696142, 0x9c8115, EntityWildebeestTFC.SPAWN_RULE);
+        registerLiving("quailtfc", EntityQuailTFC.class, 0x237ddc, 0xe3e36d, EntityQuailTFC.SPAWN_RULE);
+        registerLiving("grousetfc", EntityGrouseTFC.class, 0xf7a100, 0x71ffd0, EntityGrouseTFC.SPAWN_RULE);
+        registerLiving("mongoosetfc", EntityMongooseTFC.class, 0xf9f50f, 0x90ec7f, EntityMongooseTFC.SPAWN_RULE);
+        registerLiving("turkeytfc", EntityTurkeyTFC.class, 0xad1d1d, 0xeaa659, EntityTurkeyTFC.SPAWN_RULE);
+        registerLiving("jackaltfc", EntityJackalTFC.class, 0xb8762b, 0xffffff, EntityJackalTFC.SPAWN_RULE);
+        registerLiving("muskoxtfc", EntityMuskOxTFC.class, 0x620d55, 0xcdaf4f, EntityMuskOxTFC.SPAWN_RULE);
+        registerLiving("yaktfc", EntityYakTFC.class, 0x837669, 0x3e3d7cc, EntityYakTFC.SPAWN_RULE);
+        registerLiving("blackbeartfc", EntityBlackBearTFC.class, 0x000000, 0xa18f6c, EntityBlackBearTFC.SPAWN_RULE);
+        registerLiving("cougartfc", EntityCougarTFC.class, 0x817a00, 0xdcd889, EntityCougarTFC.SPAWN_RULE);
+        registerLiving("coyotetfc", EntityCoyoteTFC.class, 0xb7bc88, 0xdac213, EntityCoyoteTFC.SPAWN_RULE);
     }
 
     private static void register(String name, Class<? extends Entity> cls)
@@ -123,9 +125,10 @@ public class EntitiesTFC
         EntityRegistry.registerModEntity(new ResourceLocation(MOD_ID, name), cls, name, id++, TerraFirmaCraft.getInstance(), 160, 20, true);
     }
 
-    private static void registerLiving(String name, Class<? extends Entity> cls, int eggPrimaryColor, int eggSecondaryColor)
+    private static void registerLiving(String name, Class<? extends Entity> cls, int eggPrimaryColor, int eggSecondaryColor, CreatureSpawnRule spawnRule)
     {
         //Register entity and create a spawn egg for creative
         EntityRegistry.registerModEntity(new ResourceLocation(MOD_ID, name), cls, name, id++, TerraFirmaCraft.getInstance(), 80, 3, true, eggPrimaryColor, eggSecondaryColor);
+        WorldEntitySpawnerTFC.registerSpawnRule(cls, spawnRule);
     }
 }
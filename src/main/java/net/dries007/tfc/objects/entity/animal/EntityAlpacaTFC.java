@@ -30,7 +30,7 @@ import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.objects.LootTablesTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 /**
  * A Sheep of the colder regions!
@@ -39,6 +39,8 @@ import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 @ParametersAreNonnullByDefault
 public class EntityAlpacaTFC extends EntitySheepTFC implements ILivestock
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.ALPACA.rarity, BiomeHelper.BiomeType.TAIGA);
+
     @SuppressWarnings("unused")
     public EntityAlpacaTFC(World worldIn)
     {
@@ -53,13 +55,7 @@ public class EntityAlpacaTFC extends EntitySheepTFC implements ILivestock
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.TAIGA))
-        {
-            return ConfigTFC.Animals.ALPACA.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
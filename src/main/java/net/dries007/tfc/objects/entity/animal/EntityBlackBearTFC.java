@@ -26,11 +26,12 @@ import net.dries007.tfc.objects.entity.ai.EntityAIAttackMeleeTFC;
 import net.dries007.tfc.objects.entity.ai.EntityAIStandAttack;
 import net.dries007.tfc.objects.entity.ai.EntityAIWanderHuntArea;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 @ParametersAreNonnullByDefault
 public class EntityBlackBearTFC extends EntityGrizzlyBearTFC implements IPredator, EntityAIStandAttack.IEntityStandAttack
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.BLACK_BEAR.rarity, BiomeHelper.BiomeType.TEMPERATE_FOREST);
     private static final int DAYS_TO_ADULTHOOD = 240;
 
     @SuppressWarnings("unused")
@@ -48,13 +49,7 @@ public class EntityBlackBearTFC extends EntityGrizzlyBearTFC implements IPredato
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.TEMPERATE_FOREST))
-        {
-            return ConfigTFC.Animals.BLACK_BEAR.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
@@ -29,11 +29,12 @@ import net.dries007.tfc.api.types.IHuntable;
 import net.dries007.tfc.client.TFCSounds;
 import net.dries007.tfc.objects.LootTablesTFC;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 @ParametersAreNonnullByDefault
 public class EntityBoarTFC extends EntityAnimalMammal implements IHuntable
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.BOAR.rarity, BiomeHelper.BiomeType.PLAINS, BiomeHelper.BiomeType.SAVANNA, BiomeHelper.BiomeType.TROPICAL_FOREST);
     private static final int DAYS_TO_ADULTHOOD = 104;
 
     @SuppressWarnings("unused")
@@ -51,14 +52,7 @@ public class EntityBoarTFC extends EntityAnimalMammal implements IHuntable
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.PLAINS || biomeType == BiomeHelper.BiomeType.SAVANNA
-                || biomeType == BiomeHelper.BiomeType.TROPICAL_FOREST))
-        {
-            return ConfigTFC.Animals.BOAR.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
@@ -45,13 +45,14 @@ import net.dries007.tfc.objects.LootTablesTFC;
 import net.dries007.tfc.util.OreDictionaryHelper;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
 @ParametersAreNonnullByDefault
 public class EntityCamelTFC extends EntityLlamaTFC implements IAnimalTFC, ILivestock
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.CAMEL.rarity, BiomeHelper.BiomeType.DESERT, BiomeHelper.BiomeType.SAVANNA);
     private static final DataParameter<Integer> DATA_COLOR_ID = EntityDataManager.createKey(EntityCamelTFC.class, DataSerializers.VARINT);
     private static final DataParameter<Boolean> HALTER = EntityDataManager.createKey(EntityCamelTFC.class, DataSerializers.BOOLEAN);
 
@@ -250,13 +251,7 @@ public class EntityCamelTFC extends EntityLlamaTFC implements IAnimalTFC, ILives
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.DESERT || biomeType == BiomeHelper.BiomeType.SAVANNA))
-        {
-            return ConfigTFC.Animals.CAMEL.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
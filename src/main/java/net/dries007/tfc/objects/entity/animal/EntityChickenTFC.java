@@ -43,13 +43,15 @@ import net.dries007.tfc.objects.entity.EntitiesTFC;
 import net.dries007.tfc.objects.entity.ai.EntityAIFindNest;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
 @ParametersAreNonnullByDefault
 public class EntityChickenTFC extends EntityAnimalTFC implements ILivestock
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.CHICKEN.rarity, BiomeHelper.BiomeType.PLAINS);
+
     //The last time(in ticks) this chicken has laid eggs
     private static final DataParameter<Long> LAID = EntityDataManager.createKey(EntityChickenTFC.class, EntitiesTFC.getLongDataSerializer());
     //Copy from vanilla's EntityChicken, used by renderer to properly handle wing flap
@@ -73,13 +75,7 @@ public class EntityChickenTFC extends EntityAnimalTFC implements ILivestock
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.PLAINS))
-        {
-            return ConfigTFC.Animals.CHICKEN.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
@@ -24,11 +24,12 @@ import net.dries007.tfc.Constants;
 import net.dries007.tfc.api.types.IHuntable;
 import net.dries007.tfc.objects.LootTablesTFC;
 import net.dries007.tfc.util.climate.BiomeHelper;
-import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+import net.dries007.tfc.world.classic.CreatureSpawnRule;
 
 @ParametersAreNonnullByDefault
 public class EntityHareTFC extends EntityRabbitTFC implements IHuntable
 {
+    public static final CreatureSpawnRule SPAWN_RULE = CreatureSpawnRule.onLand(() -> ConfigTFC.Animals.HARE.rarity, BiomeHelper.BiomeType.TROPICAL_FOREST, BiomeHelper.BiomeType.TEMPERATE_FOREST, BiomeHelper.BiomeType.SAVANNA, BiomeHelper.BiomeType.DESERT);
     private static final int DAYS_TO_ADULTHOOD = 16;
     private static final DataParameter<Integer> HARE_TYPE = EntityDataManager.createKey(EntityHareTFC.class, DataSerializers.VARINT);
 
@@ -50,14 +51,7 @@ public class EntityHareTFC extends EntityRabbitTFC implements IHuntable
     @Override
     public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
     {
-        BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
-        if (!BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome) &&
-            (biomeType == BiomeHelper.BiomeType.TROPICAL_FOREST || biomeType == BiomeHelper.BiomeType.TEMPERATE_FOREST || biomeType == BiomeHelper.BiomeType.SAVANNA ||
-                biomeType == BiomeHelper.BiomeType.DESERT))
-        {
-            return ConfigTFC.Animals.HARE.rarity;
-        }
-        return 0;
+        return SPAWN_RULE.getSpawnWeight(biome, temperature, rainfall, floraDensity);
     }
 
     @Override
@@ -16,6 +16,8 @@ import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.oredict.OreDictionary;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
+
 /**
  * This is an ingredient wrapper for various types
  * It includes static constructors for both item stack and fluid stack ingredients
@@ -96,6 +98,18 @@ public interface IIngredient<T> extends Predicate<T>
         return NonNullList.create();
     }
 
+    /**
+     * This is used by {@link RecipeIndex} to narrow down recipe lookups
+     * Implementations should add every item, ore name or fluid that this ingredient could match
+     *
+     * @param keys the keys of the recipe this ingredient belongs to
+     * @return true if this ingredient was fully described by the keys added, false if it must be tested against every input
+     */
+    default boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        return false;
+    }
+
     /**
      * This is used by recipes to test if the ingredient matches the input
      *
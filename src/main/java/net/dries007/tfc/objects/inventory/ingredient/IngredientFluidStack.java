@@ -12,6 +12,8 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
+
 public class IngredientFluidStack implements IIngredient<FluidStack>
 {
     private final FluidStack inputFluid;
@@ -32,6 +34,13 @@ public class IngredientFluidStack implements IIngredient<FluidStack>
         return NonNullList.withSize(1, inputFluid.copy());
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        keys.addFluid(inputFluid.getFluid());
+        return true;
+    }
+
     @Override
     public boolean test(FluidStack fluidStack)
     {
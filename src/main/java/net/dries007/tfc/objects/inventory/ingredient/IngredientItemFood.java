@@ -10,6 +10,7 @@ import net.minecraft.util.NonNullList;
 
 import net.dries007.tfc.api.capability.food.CapabilityFood;
 import net.dries007.tfc.api.capability.food.IFood;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 
 /**
  * Accepts only valid, not rotten foods on recipes
@@ -38,6 +39,12 @@ public class IngredientItemFood implements IIngredient<ItemStack>
         return ingredients;
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        return innerIngredient.addIndexKeys(keys);
+    }
+
     @Override
     public boolean test(ItemStack input)
     {
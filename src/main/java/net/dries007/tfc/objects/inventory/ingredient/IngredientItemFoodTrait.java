@@ -11,6 +11,7 @@ import net.minecraft.util.NonNullList;
 import net.dries007.tfc.api.capability.food.CapabilityFood;
 import net.dries007.tfc.api.capability.food.FoodTrait;
 import net.dries007.tfc.api.capability.food.IFood;
+import net.dries007.tfc.api.recipes.RecipeIndex;
 
 public class IngredientItemFoodTrait implements IIngredient<ItemStack>
 {
@@ -38,6 +39,12 @@ public class IngredientItemFoodTrait implements IIngredient<ItemStack>
         return ingredients;
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        return innerIngredient.addIndexKeys(keys);
+    }
+
     @Override
     public boolean test(ItemStack input)
     {
@@ -11,6 +11,8 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.oredict.OreDictionary;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
+
 public class IngredientItemStack implements IIngredient<ItemStack>
 {
     private final ItemStack inputStack;
@@ -26,6 +28,17 @@ public class IngredientItemStack implements IIngredient<ItemStack>
         return NonNullList.withSize(1, inputStack.copy());
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        if (inputStack.isEmpty())
+        {
+            return false;
+        }
+        keys.addItem(inputStack.getItem(), inputStack.getMetadata());
+        return true;
+    }
+
     @Override
     public boolean test(ItemStack stack)
     {
@@ -9,6 +9,8 @@ import net.minecraft.util.NonNullList;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
+
 public class IngredientMultipleFluidStack implements IIngredient<FluidStack>
 {
     private final int amount;
@@ -32,6 +34,16 @@ public class IngredientMultipleFluidStack implements IIngredient<FluidStack>
         return output;
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        for (Fluid fluid : fluids)
+        {
+            keys.addFluid(fluid);
+        }
+        return true;
+    }
+
     @Override
     public boolean test(FluidStack input)
     {
@@ -11,6 +11,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.oredict.OreDictionary;
 
+import net.dries007.tfc.api.recipes.RecipeIndex;
 import net.dries007.tfc.util.OreDictionaryHelper;
 
 public class IngredientOreDict implements IIngredient<ItemStack>
@@ -42,6 +43,13 @@ public class IngredientOreDict implements IIngredient<ItemStack>
         return output;
     }
 
+    @Override
+    public boolean addIndexKeys(RecipeIndex.Keys keys)
+    {
+        keys.addOre(oreName);
+        return true;
+    }
+
     @Override
     public boolean test(ItemStack stack)
     {
@@ -245,6 +245,13 @@ public class ItemMold extends ItemPottery
             return null;
         }
 
+        @Override
+        public int getSyncVersion()
+        {
+            // The tank is modified directly by fill and drain
+            return 31 * super.getSyncVersion() + tank.getFluidAmount();
+        }
+
         @SideOnly(Side.CLIENT)
         @Override
         public void addHeatInfo(@Nonnull ItemStack stack, @Nonnull List<String> text)
@@ -322,6 +329,7 @@ public class ItemMold extends ItemPottery
                 lastUpdateTick = nbt.getLong("ticks");
                 tank.readFromNBT(nbt);
             }
+            syncVersion++;
             updateFluidData();
         }
 
@@ -5,10 +5,7 @@
 
 package net.dries007.tfc.objects.items.metal;
 
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import java.util.*;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -23,6 +20,7 @@ import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
@@ -31,6 +29,8 @@ import net.dries007.tfc.api.types.Metal;
 import net.dries007.tfc.api.types.Ore;
 import net.dries007.tfc.util.skills.ProspectingSkill;
 import net.dries007.tfc.util.skills.SkillType;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+import net.dries007.tfc.world.classic.chunkdata.OreIndex;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
 import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
 
@@ -145,7 +145,8 @@ public class ItemProspectorPick extends ItemMetalTool
     }
 
     /**
-     * Loops through every block in a 25x25x25 cube around the center
+     * Finds every ore block in a 25x25x25 cube around the center
+     * Ore blocks are found through the ore index of each chunk, instead of looking at every block in the cube
      *
      * @param world  The world
      * @param center The center position
@@ -154,22 +155,76 @@ public class ItemProspectorPick extends ItemMetalTool
     @Nonnull
     private Collection<ProspectResult> scanSurroundingBlocks(World world, BlockPos center)
     {
-        Map<String, ProspectResult> results = new HashMap<>();
-        for (BlockPos.MutableBlockPos pos : BlockPos.MutableBlockPos.getAllInBoxMutable(center.add(-PROSPECT_RADIUS, -PROSPECT_RADIUS, -PROSPECT_RADIUS), center.add(PROSPECT_RADIUS, PROSPECT_RADIUS, PROSPECT_RADIUS)))
+        final int minX = center.getX() - PROSPECT_RADIUS, minY = center.getY() - PROSPECT_RADIUS, minZ = center.getZ() - PROSPECT_RADIUS;
+        final int maxX = center.getX() + PROSPECT_RADIUS, maxY = center.getY() + PROSPECT_RADIUS, maxZ = center.getZ() + PROSPECT_RADIUS;
+        final int size = 2 * PROSPECT_RADIUS + 1;
+
+        Map<IBlockState, ItemStack> stacks = new HashMap<>();
+        Map<String, ProspectResult> found = new HashMap<>();
+        OreIndex.Visitor visitor = (x, y, z, state) ->
         {
-            ItemStack stack = getOreStack(world, pos, world.getBlockState(pos), true);
+            ItemStack stack = stacks.computeIfAbsent(state, key -> getOreStack(world, new BlockPos(x, y, z), state, true));
             if (!stack.isEmpty())
             {
-                String oreName = stack.getDisplayName();
-                if (results.containsKey(oreName))
+                // Where this block is in the order the cube is iterated in (x, then y, then z)
+                int index = ((z - minZ) * size + (y - minY)) * size + (x - minX);
+                ProspectResult result = found.get(stack.getDisplayName());
+                if (result == null)
                 {
-                    results.get(oreName).score += 1;
+                    found.put(stack.getDisplayName(), new ProspectResult(stack, 1, index));
                 }
                 else
                 {
-                    results.put(oreName, new ProspectResult(stack, 1));
+                    result.score += 1;
+                    if (index < result.firstIndex)
+                    {
+                        result.ore = stack;
+                        result.firstIndex = index;
+                    }
                 }
             }
+        };
+
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+        {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+            {
+                Chunk chunk = world.getChunk(chunkX, chunkZ);
+                ChunkDataTFC data = ChunkDataTFC.get(chunk);
+                int chunkMinX = Math.max(minX, chunkX << 4), chunkMaxX = Math.min(maxX, (chunkX << 4) + 15);
+                int chunkMinZ = Math.max(minZ, chunkZ << 4), chunkMaxZ = Math.min(maxZ, (chunkZ << 4) + 15);
+                if (data.isInitialized())
+                {
+                    data.getOreIndex().collect(chunk, chunkMinX, minY, chunkMinZ, chunkMaxX, maxY, chunkMaxZ, visitor);
+                }
+                else
+                {
+                    // The index is only maintained in TFC worlds
+                    for (int y = Math.max(minY, 0); y <= Math.min(maxY, 255); y++)
+                    {
+                        for (int z = chunkMinZ; z <= chunkMaxZ; z++)
+                        {
+                            for (int x = chunkMinX; x <= chunkMaxX; x++)
+                            {
+                                IBlockState state = chunk.getBlockState(x, y, z);
+                                if (VeinRegistry.INSTANCE.isOreBlock(state))
+                                {
+                                    visitor.visit(x, y, z, state);
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        // Results are picked from at random, so they are added in the same order the cube used to be scanned in, which keeps the results for a position the same
+        List<Map.Entry<String, ProspectResult>> sorted = new ArrayList<>(found.entrySet());
+        sorted.sort(Comparator.comparingInt(entry -> entry.getValue().firstIndex));
+        Map<String, ProspectResult> results = new HashMap<>();
+        for (Map.Entry<String, ProspectResult> entry : sorted)
+        {
+            results.put(entry.getKey(), entry.getValue());
         }
         return results.values();
     }
@@ -237,13 +292,15 @@ public class ItemProspectorPick extends ItemMetalTool
 
     private static final class ProspectResult
     {
-        private final ItemStack ore;
+        private ItemStack ore;
         private double score;
+        private int firstIndex;
 
-        ProspectResult(ItemStack itemStack, double num)
+        ProspectResult(ItemStack itemStack, double num, int firstIndex)
         {
             ore = itemStack;
             score = num;
+            this.firstIndex = firstIndex;
         }
     }
 }
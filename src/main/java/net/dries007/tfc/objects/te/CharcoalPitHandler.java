@@ -0,0 +1,165 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.te;
+
+import java.util.*;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectRBTreeMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectSortedMap;
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.objects.blocks.wood.BlockLogPile;
+import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.calendar.CalendarTFC;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
+
+/**
+ * Keeps track of burning charcoal pits, so the {@link TELogPile}s in them don't need to tick.
+ * A pit is every log pile that was lit at the same time. Lighting a log pile lights all log piles connected to it, and when the pit is done, they are all turned into charcoal together.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class CharcoalPitHandler
+{
+    private static final Map<World, Long2ObjectSortedMap<Set<BlockPos>>> PITS = new IdentityHashMap<>();
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (!event.world.isRemote && event.phase == TickEvent.Phase.END)
+        {
+            Long2ObjectSortedMap<Set<BlockPos>> pits = PITS.get(event.world);
+            if (pits != null && !pits.isEmpty())
+            {
+                final long currentTick = CalendarTFC.PLAYER_TIME.getTicks();
+                List<Set<BlockPos>> finishedPits = new ArrayList<>();
+                while (!pits.isEmpty() && currentTick - pits.firstLongKey() > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
+                {
+                    finishedPits.add(pits.remove(pits.firstLongKey()));
+                }
+                for (Set<BlockPos> pit : finishedPits)
+                {
+                    createCharcoal(event.world, pit);
+                }
+                if (pits.isEmpty())
+                {
+                    PITS.remove(event.world);
+                }
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        PITS.remove(event.getWorld());
+    }
+
+    /**
+     * Lights a log pile, and every log pile connected to it which isn't already burning, as a single pit
+     */
+    static void ignite(World world, BlockPos start)
+    {
+        final long startTick = CalendarTFC.PLAYER_TIME.getTicks();
+        Set<BlockPos> visited = new HashSet<>();
+        Deque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(start);
+        visited.add(start);
+        while (!queue.isEmpty())
+        {
+            BlockPos pos = queue.poll();
+            TELogPile tile = Helpers.getTE(world, pos, TELogPile.class);
+            if (tile != null && !tile.isBurning())
+            {
+                IBlockState state = world.getBlockState(pos);
+                if (!state.getValue(LIT))
+                {
+                    world.setBlockState(pos, state.withProperty(LIT, true));
+                }
+                tile.startBurning(startTick);
+
+                for (EnumFacing side : EnumFacing.values())
+                {
+                    BlockPos offsetPos = pos.offset(side);
+                    if (world.isBlockLoaded(offsetPos) && world.getBlockState(offsetPos).getBlock() instanceof BlockLogPile && visited.add(offsetPos))
+                    {
+                        queue.add(offsetPos);
+                    }
+                }
+            }
+        }
+    }
+
+    static void add(TELogPile tile)
+    {
+        PITS.computeIfAbsent(tile.getWorld(), key -> new Long2ObjectRBTreeMap<>()).computeIfAbsent(tile.getStartBurningTick(), key -> new HashSet<>()).add(tile.getPos());
+    }
+
+    static void remove(TELogPile tile)
+    {
+        Long2ObjectSortedMap<Set<BlockPos>> pits = PITS.get(tile.getWorld());
+        if (pits != null)
+        {
+            Set<BlockPos> pit = pits.get(tile.getStartBurningTick());
+            if (pit != null)
+            {
+                pit.remove(tile.getPos());
+            }
+        }
+    }
+
+    /**
+     * Turns a whole pit into charcoal in one pass, from the bottom up, so each log pile already has the charcoal below it in place.
+     * Blocks are changed without notifying neighbours, and then each changed position notifies its neighbours once.
+     */
+    private static void createCharcoal(World world, Set<BlockPos> pit)
+    {
+        List<TELogPile> tiles = new ArrayList<>(pit.size());
+        for (BlockPos pos : pit)
+        {
+            TELogPile tile = Helpers.getTE(world, pos, TELogPile.class);
+            if (tile != null && tile.isBurning())
+            {
+                tiles.add(tile);
+            }
+        }
+        tiles.sort(Comparator.comparingInt(tile -> tile.getPos().getY()));
+
+        Set<BlockPos> changed = new LinkedHashSet<>();
+        List<TELogPile> waiting = new ArrayList<>();
+        for (TELogPile tile : tiles)
+        {
+            if (!tile.createCharcoal(changed))
+            {
+                waiting.add(tile);
+            }
+        }
+        for (BlockPos pos : changed)
+        {
+            world.notifyNeighborsOfStateChange(pos, world.getBlockState(pos).getBlock(), true);
+        }
+
+        // Log piles on top of other, still burning, log piles have to wait for those to turn into charcoal first. They are tried again next tick
+        for (TELogPile tile : waiting)
+        {
+            if (!tile.isInvalid())
+            {
+                add(tile);
+            }
+        }
+    }
+
+    private CharcoalPitHandler() {}
+}
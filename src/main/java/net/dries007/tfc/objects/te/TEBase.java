@@ -13,11 +13,12 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.NetworkManager;
 import net.minecraft.network.play.server.SPacketUpdateTileEntity;
-import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+import io.netty.buffer.ByteBuf;
 
 /**
  * TE Implementation that syncs NBT on world / chunk load, and on block updates
@@ -25,6 +26,15 @@ import net.minecraft.world.WorldServer;
 @ParametersAreNonnullByDefault
 public abstract class TEBase extends TileEntity
 {
+    /**
+     * Sync flags, used by {@link TESyncHandler} to determine what is encoded for this TE
+     */
+    protected static final int SYNC_FULL = 1;
+    protected static final int SYNC_FIELDS = 2;
+    protected static final int SYNC_SLOTS = 4;
+
+    private int syncFlags;
+
     /**
      * Gets the update packet that is used to sync the TE on load
      */
@@ -86,25 +96,111 @@ public abstract class TEBase extends TileEntity
     /**
      * Marks a tile entity for syncing without sending a block update.
      * Use preferentially over {@link TEBase#markForBlockUpdate()} if there's no reason to have a block update.
+     * This sends the full update tag. For data that changes often, use {@link TEBase#markFieldsForSync()}
      * For container based integer synchronization, see ITileFields
      * DO NOT call every tick
      */
     public void markForSync()
     {
-        sendVanillaUpdatePacket();
+        requestSync(SYNC_FULL);
         markDirty();
     }
 
-    private void sendVanillaUpdatePacket()
+    /**
+     * Marks only the data written by {@link TEBase#writeSyncFields(NBTTagCompound)} for syncing.
+     * Unlike {@link TEBase#markForSync()}, this does not mark the TE dirty, and is cheap enough to be called every tick
+     */
+    public void markFieldsForSync()
+    {
+        requestSync(SYNC_FIELDS);
+    }
+
+    /**
+     * Encodes the pending sync data of this TE. Called by {@link TESyncHandler} once per tick at most
+     */
+    public void writeSyncData(ByteBuf buf)
+    {
+        int flags = (syncFlags & SYNC_FULL) != 0 ? SYNC_FULL : syncFlags;
+        syncFlags = 0;
+
+        buf.writeByte(flags);
+        if (flags == SYNC_FULL)
+        {
+            ByteBufUtils.writeTag(buf, getUpdateTag());
+        }
+        else
+        {
+            writeSyncDelta(buf, flags);
+        }
+    }
+
+    /**
+     * Decodes data written by {@link TEBase#writeSyncData(ByteBuf)} on client
+     */
+    public void readSyncData(ByteBuf buf)
+    {
+        int flags = buf.readByte();
+        if (flags == SYNC_FULL)
+        {
+            NBTTagCompound nbt = ByteBufUtils.readTag(buf);
+            if (nbt != null)
+            {
+                handleUpdateTag(nbt);
+            }
+        }
+        else
+        {
+            readSyncDelta(buf, flags);
+        }
+    }
+
+    /**
+     * Writes the fields that are synced by {@link TEBase#markFieldsForSync()}
+     * This should only contain small, frequently changing values, i.e. temperature
+     */
+    protected void writeSyncFields(NBTTagCompound nbt) {}
+
+    /**
+     * Reads the fields written by {@link TEBase#writeSyncFields(NBTTagCompound)} on client
+     */
+    protected void readSyncFields(NBTTagCompound nbt) {}
+
+    protected void writeSyncDelta(ByteBuf buf, int flags)
+    {
+        if ((flags & SYNC_FIELDS) != 0)
+        {
+            NBTTagCompound nbt = new NBTTagCompound();
+            writeSyncFields(nbt);
+            ByteBufUtils.writeTag(buf, nbt);
+        }
+    }
+
+    protected void readSyncDelta(ByteBuf buf, int flags)
     {
-        SPacketUpdateTileEntity packet = getUpdatePacket();
-        if (packet != null && world instanceof WorldServer)
+        if ((flags & SYNC_FIELDS) != 0)
         {
-            PlayerChunkMapEntry chunk = ((WorldServer) world).getPlayerChunkMap().getEntry(pos.getX() >> 4, pos.getZ() >> 4);
-            if (chunk != null)
+            NBTTagCompound nbt = ByteBufUtils.readTag(buf);
+            if (nbt != null)
             {
-                chunk.sendPacket(packet);
+                readSyncFields(nbt);
             }
         }
     }
-}
\ No newline at end of file
+
+    protected final void requestSync(int flags)
+    {
+        if (world != null && !world.isRemote)
+        {
+            syncFlags |= flags;
+            TESyncHandler.enqueue(this);
+        }
+    }
+
+    /**
+     * Called when the pending sync data is discarded, i.e. when no player is watching this TE
+     */
+    void resetSync()
+    {
+        syncFlags = 0;
+    }
+}
@@ -40,6 +40,7 @@ import net.dries007.tfc.objects.blocks.devices.BlockBlastFurnace;
 import net.dries007.tfc.util.Alloy;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.MultiblockTracker;
 import net.dries007.tfc.util.fuel.Fuel;
 import net.dries007.tfc.util.fuel.FuelManager;
 
@@ -59,6 +60,7 @@ public class TEBlastFurnace extends TETickableInventory implements ITickable, IT
     private int fuelCount = 0, oreCount = 0, oreUnits; // Used to show on client's GUI how much ore/fuel TE has
     private float temperature = 0;
     private float burnTemperature = 0;
+    private MultiblockTracker.Structure structure; // The chimney, only checked again after a change
 
     public TEBlastFurnace()
     {
@@ -332,22 +334,33 @@ public class TEBlastFurnace extends TETickableInventory implements ITickable, IT
                 int oldOre = oreCount;
                 int oldFuel = fuelCount;
 
-                chimney = BlockBlastFurnace.getChimneyLevels(world, pos);
-                int newMaxItems = chimney * 4;
-                maxFuel = newMaxItems;
-                maxOre = newMaxItems;
-                while (maxOre < oreStacks.size())
+                if (structure == null)
                 {
-                    //Structure lost one or more chimney levels
-                    InventoryHelper.spawnItemStack(world, pos.north().getX(), pos.getY(), pos.north().getZ(), oreStacks.get(0));
-                    oreStacks.remove(0);
+                    structure = MultiblockTracker.track(world, pos.add(-2, 1, -2), pos.add(2, 5, 2));
                 }
-                while (maxFuel < fuelStacks.size())
+                if (structure.checkChanged(world))
                 {
-                    InventoryHelper.spawnItemStack(world, pos.north().getX(), pos.north().getY(), pos.north().getZ(), fuelStacks.get(0));
-                    fuelStacks.remove(0);
+                    chimney = BlockBlastFurnace.getChimneyLevels(world, pos);
+                    int newMaxItems = chimney * 4;
+                    maxFuel = newMaxItems;
+                    maxOre = newMaxItems;
+                    while (maxOre < oreStacks.size())
+                    {
+                        //Structure lost one or more chimney levels
+                        InventoryHelper.spawnItemStack(world, pos.north().getX(), pos.getY(), pos.north().getZ(), oreStacks.get(0));
+                        oreStacks.remove(0);
+                    }
+                    while (maxFuel < fuelStacks.size())
+                    {
+                        InventoryHelper.spawnItemStack(world, pos.north().getX(), pos.north().getY(), pos.north().getZ(), fuelStacks.get(0));
+                        fuelStacks.remove(0);
+                    }
+                }
+                if (maxOre > oreStacks.size() || maxFuel > fuelStacks.size())
+                {
+                    // Only look for items if there's room for them
+                    addItemsFromWorld();
                 }
-                addItemsFromWorld();
                 updateSlagBlock(state.getValue(LIT));
 
                 oreCount = oreStacks.size();
@@ -381,6 +394,20 @@ public class TEBlastFurnace extends TETickableInventory implements ITickable, IT
     }
 
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeStructure();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        removeStructure();
+    }
+
     public void debug()
     {
         TerraFirmaCraft.getLog().debug("Debugging Blast Furnace:");
@@ -427,6 +454,15 @@ public class TEBlastFurnace extends TETickableInventory implements ITickable, IT
         }
     }
 
+    private void removeStructure()
+    {
+        if (structure != null)
+        {
+            structure.remove();
+            structure = null;
+        }
+    }
+
     private void addItemsFromWorld()
     {
         EntityItem fluxEntity = null, oreEntity = null;
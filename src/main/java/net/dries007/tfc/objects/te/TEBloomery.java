@@ -33,6 +33,7 @@ import net.dries007.tfc.objects.blocks.BlockMolten;
 import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.objects.blocks.devices.BlockBloomery;
 import net.dries007.tfc.util.Helpers;
+import net.dries007.tfc.util.block.MultiblockTracker;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 
 import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
@@ -54,6 +55,7 @@ public class TEBloomery extends TETickableInventory implements ITickable
 
     protected BlockPos internalBlock = null, externalBlock = null;
     protected BloomeryRecipe cachedRecipe = null;
+    protected MultiblockTracker.Structure structure = null; // The bloomery structure, only checked again after a change
 
     public TEBloomery()
     {
@@ -158,42 +160,49 @@ public class TEBloomery extends TETickableInventory implements ITickable
             }
 
             // Update multiblock status
-            int newMaxItems = BlockBloomery.getChimneyLevels(world, getInternalBlock()) * 8;
-            EnumFacing direction = world.getBlockState(pos).getValue(FACING);
-            if (!BlocksTFC.BLOOMERY.isFormed(world, getInternalBlock(), direction))
-            {
-                newMaxItems = 0;
-            }
-
-            maxFuel = newMaxItems;
-            maxOre = newMaxItems;
-            boolean turnOff = false;
-            while (maxOre < oreStacks.size())
-            {
-                turnOff = true;
-                // Structure lost one or more chimney levels
-                InventoryHelper.spawnItemStack(world, getExternalBlock().getX(), getExternalBlock().getY(), getExternalBlock().getZ(), oreStacks.get(0));
-                oreStacks.remove(0);
-                markForSync();
-            }
-            while (maxFuel < fuelStacks.size())
-            {
-                turnOff = true;
-                InventoryHelper.spawnItemStack(world, getExternalBlock().getX(), getExternalBlock().getY(), getExternalBlock().getZ(), fuelStacks.get(0));
-                fuelStacks.remove(0);
-                markForSync();
-            }
-            // Structure became compromised, unlit if needed
-            if (turnOff && state.getValue(LIT))
+            if (structure == null)
             {
-                state = state.withProperty(LIT, false);
-                world.setBlockState(pos, state);
+                structure = MultiblockTracker.track(world, getInternalBlock().add(-1, -1, -1), getInternalBlock().add(1, 3, 1));
             }
-            if (!BlocksTFC.BLOOMERY.canGateStayInPlace(world, pos, direction.getAxis()))
+            if (structure.checkChanged(world))
             {
-                // Bloomery gate (the front facing) structure became compromised
-                world.destroyBlock(pos, true);
-                return;
+                int newMaxItems = BlockBloomery.getChimneyLevels(world, getInternalBlock()) * 8;
+                EnumFacing direction = world.getBlockState(pos).getValue(FACING);
+                if (!BlocksTFC.BLOOMERY.isFormed(world, getInternalBlock(), direction))
+                {
+                    newMaxItems = 0;
+                }
+
+                maxFuel = newMaxItems;
+                maxOre = newMaxItems;
+                boolean turnOff = false;
+                while (maxOre < oreStacks.size())
+                {
+                    turnOff = true;
+                    // Structure lost one or more chimney levels
+                    InventoryHelper.spawnItemStack(world, getExternalBlock().getX(), getExternalBlock().getY(), getExternalBlock().getZ(), oreStacks.get(0));
+                    oreStacks.remove(0);
+                    markForSync();
+                }
+                while (maxFuel < fuelStacks.size())
+                {
+                    turnOff = true;
+                    InventoryHelper.spawnItemStack(world, getExternalBlock().getX(), getExternalBlock().getY(), getExternalBlock().getZ(), fuelStacks.get(0));
+                    fuelStacks.remove(0);
+                    markForSync();
+                }
+                // Structure became compromised, unlit if needed
+                if (turnOff && state.getValue(LIT))
+                {
+                    state = state.withProperty(LIT, false);
+                    world.setBlockState(pos, state);
+                }
+                if (!BlocksTFC.BLOOMERY.canGateStayInPlace(world, pos, direction.getAxis()))
+                {
+                    // Bloomery gate (the front facing) structure became compromised
+                    world.destroyBlock(pos, true);
+                    return;
+                }
             }
             if (!isInternalBlockComplete() && !fuelStacks.isEmpty())
             {
@@ -221,6 +230,20 @@ public class TEBloomery extends TETickableInventory implements ITickable
         getExternalBlock();
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeStructure();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        removeStructure();
+    }
+
     public long getRemainingTicks()
     {
         return ConfigTFC.Devices.BLOOMERY.ticks - (CalendarTFC.PLAYER_TIME.getTicks() - litTick);
@@ -305,6 +328,11 @@ public class TEBloomery extends TETickableInventory implements ITickable
                 this.dumpItems();
             }
         }
+        if (oreStacks.size() >= maxOre && fuelStacks.size() >= maxFuel)
+        {
+            // No room for any items
+            return;
+        }
         for (EntityItem entityItem : world.getEntitiesWithinAABB(EntityItem.class, new AxisAlignedBB(getInternalBlock().up(), getInternalBlock().add(1, 4, 1)), EntitySelectors.IS_ALIVE))
         {
             ItemStack stack = entityItem.getItem();
@@ -350,6 +378,15 @@ public class TEBloomery extends TETickableInventory implements ITickable
         }
     }
 
+    protected void removeStructure()
+    {
+        if (structure != null)
+        {
+            structure.remove();
+            structure = null;
+        }
+    }
+
     protected void updateSlagBlock(boolean cooking)
     {
         int slag = fuelStacks.size() + oreStacks.size();
@@ -15,6 +15,7 @@ import net.minecraft.init.SoundEvents;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.BlockPos;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -28,6 +29,8 @@ import net.dries007.tfc.api.capability.heat.CapabilityItemHeat;
 import net.dries007.tfc.api.capability.heat.IItemHeat;
 import net.dries007.tfc.api.recipes.heat.HeatRecipe;
 import net.dries007.tfc.api.util.IHeatConsumerBlock;
+import net.dries007.tfc.objects.blocks.devices.BlockCharcoalForge;
+import net.dries007.tfc.util.block.MultiblockTracker;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendarTickable;
 import net.dries007.tfc.util.fuel.Fuel;
@@ -54,6 +57,8 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
     private float burnTemperature; // Temperature provided from the current item of fuel
     private int airTicks; // Ticks of air provided by bellows
     private long lastPlayerTick; // Last player tick this forge was ticked (for purposes of catching up)
+    private MultiblockTracker.Structure structure; // The forge structure, including the columns above the chimney
+    private boolean structureValid;
 
     public TECharcoalForge()
     {
@@ -80,6 +85,37 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
         }
     }
 
+    /**
+     * @return if the forge structure is valid. This is only checked again after a block in the structure has changed
+     */
+    public boolean isStructureValid()
+    {
+        if (structure == null)
+        {
+            // The chimney needs to see the sky, so this includes everything above it
+            structure = MultiblockTracker.track(world, pos.add(-2, -1, -2), new BlockPos(pos.getX() + 2, world.getHeight() - 1, pos.getZ() + 2));
+        }
+        if (structure.checkChanged(world))
+        {
+            structureValid = BlockCharcoalForge.isValid(world, pos);
+        }
+        return structureValid;
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeStructure();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        removeStructure();
+    }
+
     /**
      * Consume more fuel on rain
      */
@@ -440,4 +476,13 @@ public class TECharcoalForge extends TETickableInventory implements ICalendarTic
             }
         }
     }
-}
\ No newline at end of file
+
+    private void removeStructure()
+    {
+        if (structure != null)
+        {
+            structure.remove();
+            structure = null;
+        }
+    }
+}
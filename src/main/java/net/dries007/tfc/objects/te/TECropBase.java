@@ -9,14 +9,16 @@ import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.ITickable;
 
 import net.dries007.tfc.objects.blocks.agriculture.BlockCropTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendarTickable;
 
+/**
+ * Crops don't tick, they grow on random ticks. Calendar jumps are caught up by {@link net.dries007.tfc.util.calendar.CalendarCatchUpHandler}
+ */
 @ParametersAreNonnullByDefault
-public class TECropBase extends TETickCounter implements ICalendarTickable, ITickable
+public class TECropBase extends TETickCounter implements ICalendarTickable
 {
     protected long lastTickCalChecked;
 
@@ -59,10 +61,4 @@ public class TECropBase extends TETickCounter implements ICalendarTickable, ITic
         nbt.setLong("lastTickCalChecked", lastTickCalChecked);
         return super.writeToNBT(nbt);
     }
-
-    @Override
-    public void update()
-    {
-        ICalendarTickable.super.checkForCalendarUpdate();
-    }
 }
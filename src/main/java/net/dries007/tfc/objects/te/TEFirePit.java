@@ -134,6 +134,9 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
         checkForCalendarUpdate();
         if (!world.isRemote)
         {
+            final float lastTemperature = temperature;
+            final int lastBurnTicks = burnTicks, lastAirTicks = airTicks;
+
             IBlockState state = world.getBlockState(pos);
             if (state.getValue(LIT))
             {
@@ -188,7 +191,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
             BlockFirePit.FirePitAttachment attachment = state.getValue(ATTACHMENT);
             if (attachment == BlockFirePit.FirePitAttachment.NONE)
             {
-                markForSync();
+                // Only the input and output slots change while heating, and only those that changed are synced
                 if (temperature > 0)
                 {
                     // The fire pit is nice: it will automatically move input to output for you, saving the trouble of losing the input due to melting / burning
@@ -200,6 +203,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                         if (temperature > itemTemp)
                         {
                             CapabilityItemHeat.addTemp(cap);
+                            markSlotForSync(SLOT_ITEM_INPUT);
                         }
 
                         handleInputMelting(stack);
@@ -223,12 +227,12 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
             {
                 if (cookingPotStage == CookingPotStage.WAITING)
                 {
-                    markForSync();
                     if (temperature > COOKING_POT_BOILING_TEMPERATURE)
                     {
                         // Begin boiling
                         cookingPotStage = CookingPotStage.BOILING;
                         boilingTicks = 0;
+                        markFieldsForSync();
                     }
                 }
                 else if (cookingPotStage == CookingPotStage.BOILING)
@@ -238,6 +242,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                         // Stop boiling
                         cookingPotStage = CookingPotStage.WAITING;
                         boilingTicks = 0;
+                        markFieldsForSync();
                     }
                     else
                     {
@@ -298,6 +303,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                             {
                                 cookingPotStage = CookingPotStage.EMPTY;
                             }
+                            markForSync();
                         }
                     }
                 }
@@ -326,6 +332,11 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
             {
                 cascadeFuelSlots();
             }
+
+            if (temperature != lastTemperature || burnTicks != lastBurnTicks || airTicks != lastAirTicks)
+            {
+                markFieldsForSync();
+            }
             markDirty();
         }
     }
@@ -458,6 +469,22 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
         }
     }
 
+    @Override
+    protected void writeSyncFields(NBTTagCompound nbt)
+    {
+        nbt.setFloat("temperature", temperature);
+        nbt.setInteger("burnTicks", burnTicks);
+        nbt.setInteger("cookingPotStage", cookingPotStage.ordinal());
+    }
+
+    @Override
+    protected void readSyncFields(NBTTagCompound nbt)
+    {
+        temperature = nbt.getFloat("temperature");
+        burnTicks = nbt.getInteger("burnTicks");
+        cookingPotStage = CookingPotStage.valueOf(nbt.getInteger("cookingPotStage"));
+    }
+
     @Override
     @Nonnull
     public NBTTagCompound writeToNBT(NBTTagCompound nbt)
@@ -725,6 +752,7 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                 }
                 lowestAvailSlot++;
             }
+            markSlotForSync(i);
         }
         requiresSlotUpdate = false;
     }
@@ -777,6 +805,11 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
                 }
             }
 
+            // Outputs may have been filled, and the input is always consumed
+            markSlotForSync(SLOT_ITEM_INPUT);
+            markSlotForSync(SLOT_OUTPUT_1);
+            markSlotForSync(SLOT_OUTPUT_2);
+
             // Handle removal of input
             ItemStack inputStack = inventory.getStackInSlot(SLOT_ITEM_INPUT);
             ItemStack outputStack = recipe.getOutputStack(inputStack);
@@ -813,10 +846,16 @@ public class TEFirePit extends TETickableInventory implements ICalendarTickable,
      */
     private ItemStack mergeOutputStack(ItemStack outputStack)
     {
+        int count = outputStack.getCount();
         outputStack = inventory.insertItem(SLOT_OUTPUT_1, outputStack, false);
         inventory.setStackInSlot(SLOT_OUTPUT_1, CapabilityFood.mergeItemStacksIgnoreCreationDate(inventory.getStackInSlot(SLOT_OUTPUT_1), outputStack));
         outputStack = inventory.insertItem(SLOT_OUTPUT_2, outputStack, false);
         inventory.setStackInSlot(SLOT_OUTPUT_2, CapabilityFood.mergeItemStacksIgnoreCreationDate(inventory.getStackInSlot(SLOT_OUTPUT_2), outputStack));
+        if (outputStack.getCount() != count)
+        {
+            markSlotForSync(SLOT_OUTPUT_1);
+            markSlotForSync(SLOT_OUTPUT_2);
+        }
         return outputStack;
     }
 
@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.objects.te;
 
+import java.util.BitSet;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -12,14 +13,17 @@ import javax.annotation.ParametersAreNonnullByDefault;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.InventoryHelper;
+import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.items.CapabilityItemHandler;
 import net.minecraftforge.items.ItemStackHandler;
 
+import io.netty.buffer.ByteBuf;
 import net.dries007.tfc.objects.inventory.capability.ISlotCallback;
 import net.dries007.tfc.objects.inventory.capability.ItemStackHandlerCallback;
 
@@ -32,15 +36,35 @@ import net.dries007.tfc.objects.inventory.capability.ItemStackHandlerCallback;
 public abstract class TEInventory extends TEBase implements ISlotCallback
 {
     protected final ItemStackHandler inventory;
+    private final BitSet syncSlots;
 
     protected TEInventory(int inventorySize)
     {
         inventory = new ItemStackHandlerCallback(this, inventorySize);
+        syncSlots = new BitSet(inventorySize);
     }
 
     protected TEInventory(ItemStackHandler inventory)
     {
         this.inventory = inventory;
+        this.syncSlots = new BitSet(inventory.getSlots());
+    }
+
+    /**
+     * Marks a single slot for syncing. Only the contents of marked slots are sent, rather than the whole inventory
+     * Like {@link TEBase#markFieldsForSync()}, this is cheap enough to be called every tick
+     */
+    public void markSlotForSync(int slot)
+    {
+        syncSlots.set(slot);
+        requestSync(SYNC_SLOTS);
+    }
+
+    @Override
+    public void writeSyncData(ByteBuf buf)
+    {
+        super.writeSyncData(buf);
+        syncSlots.clear();
     }
 
     @Override
@@ -64,6 +88,48 @@ public abstract class TEInventory extends TEBase implements ISlotCallback
         return super.writeToNBT(nbt);
     }
 
+    @Override
+    protected void writeSyncDelta(ByteBuf buf, int flags)
+    {
+        super.writeSyncDelta(buf, flags);
+        if ((flags & SYNC_SLOTS) != 0)
+        {
+            ByteBufUtils.writeVarInt(buf, syncSlots.cardinality(), 5);
+            for (int slot = syncSlots.nextSetBit(0); slot >= 0; slot = syncSlots.nextSetBit(slot + 1))
+            {
+                // Stacks are sent as NBT (not via the share tag) so capability data such as heat is included
+                ByteBufUtils.writeVarInt(buf, slot, 5);
+                ByteBufUtils.writeTag(buf, inventory.getStackInSlot(slot).serializeNBT());
+            }
+        }
+    }
+
+    @Override
+    protected void readSyncDelta(ByteBuf buf, int flags)
+    {
+        super.readSyncDelta(buf, flags);
+        if ((flags & SYNC_SLOTS) != 0)
+        {
+            int count = ByteBufUtils.readVarInt(buf, 5);
+            for (int i = 0; i < count; i++)
+            {
+                int slot = ByteBufUtils.readVarInt(buf, 5);
+                NBTTagCompound nbt = ByteBufUtils.readTag(buf);
+                if (nbt != null && slot < inventory.getSlots())
+                {
+                    inventory.setStackInSlot(slot, new ItemStack(nbt));
+                }
+            }
+        }
+    }
+
+    @Override
+    void resetSync()
+    {
+        super.resetSync();
+        syncSlots.clear();
+    }
+
     @Override
     public boolean hasCapability(Capability<?> capability, @Nullable EnumFacing facing)
     {
@@ -5,6 +5,7 @@
 
 package net.dries007.tfc.objects.te;
 
+import java.util.Set;
 import javax.annotation.ParametersAreNonnullByDefault;
 
 import net.minecraft.block.Block;
@@ -13,26 +14,21 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.util.EnumFacing;
-import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 
 import mcp.MethodsReturnNonnullByDefault;
-import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.Constants;
 import net.dries007.tfc.objects.blocks.BlockCharcoalPile;
 import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.objects.blocks.wood.BlockLogPile;
-import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
-import net.dries007.tfc.util.calendar.CalendarTFC;
 
 import static net.dries007.tfc.objects.blocks.BlockCharcoalPile.LAYERS;
-import static net.dries007.tfc.objects.blocks.property.ILightableBlock.LIT;
 
 @ParametersAreNonnullByDefault
 @MethodsReturnNonnullByDefault
-public class TELogPile extends TEInventory implements ITickable
+public class TELogPile extends TEInventory
 {
     private static final int NUM_SLOTS = 4;
 
@@ -98,26 +94,31 @@ public class TELogPile extends TEInventory implements ITickable
     }
 
     @Override
-    public void update()
+    public void onLoad()
     {
-        if (!world.isRemote)
+        if (!world.isRemote && burning)
         {
-            if (burning)
-            {
-                if ((int) (CalendarTFC.PLAYER_TIME.getTicks() - startBurningTick) > ConfigTFC.Devices.CHARCOAL_PIT.ticks)
-                {
-                    // Attempt to turn this log pile into charcoal
-                    createCharcoal();
-                }
-            }
-            else
-            {
-                if (world.getBlockState(pos.up()).getBlock() == Blocks.FIRE)
-                {
-                    burning = true;
-                    startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
-                }
-            }
+            CharcoalPitHandler.add(this);
+        }
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        if (!world.isRemote && burning)
+        {
+            CharcoalPitHandler.remove(this);
+        }
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        if (!world.isRemote && burning)
+        {
+            CharcoalPitHandler.remove(this);
         }
     }
 
@@ -185,12 +186,20 @@ public class TELogPile extends TEInventory implements ITickable
         return ItemStack.EMPTY;
     }
 
+    /**
+     * Lights this log pile, and all log piles connected to it
+     */
     public void light()
     {
-        burning = true;
-        startBurningTick = CalendarTFC.PLAYER_TIME.getTicks();
-        tryLightNearby();
-        markDirty();
+        if (!world.isRemote)
+        {
+            CharcoalPitHandler.ignite(world, pos);
+        }
+    }
+
+    public boolean isBurning()
+    {
+        return burning;
     }
 
     public int countLogs()
@@ -203,30 +212,29 @@ public class TELogPile extends TEInventory implements ITickable
         return logs;
     }
 
-    private void tryLightNearby()
+    long getStartBurningTick()
     {
-        for (EnumFacing side : EnumFacing.values())
-        {
-            IBlockState state = world.getBlockState(pos.offset(side));
-            if (state.getBlock() instanceof BlockLogPile)
-            {
-                if (state.getValue(LIT)) continue;
-                world.setBlockState(pos.offset(side), state.withProperty(LIT, true));
-                TELogPile tile = Helpers.getTE(world, pos.offset(side), TELogPile.class);
-                if (tile != null)
-                {
-                    tile.light();
-                }
-            }
-        }
+        return startBurningTick;
+    }
+
+    void startBurning(long tick)
+    {
+        burning = true;
+        startBurningTick = tick;
+        markDirty();
+        CharcoalPitHandler.add(this);
     }
 
     /**
      * This function does some magic **** to not create floating charcoal. Don't touch unless broken
      *
+     * Blocks are changed without notifying neighbours, see {@link CharcoalPitHandler}
+     *
+     * @param changed collects the positions that were changed
+     * @return false if this has to wait for a log pile below to turn into charcoal first
      * @author AlcatrazEscapee
      */
-    private void createCharcoal()
+    boolean createCharcoal(Set<BlockPos> changed)
     {
         int j = 0;
         Block block;
@@ -238,7 +246,7 @@ public class TELogPile extends TEInventory implements ITickable
             // Because the pile scans Top > Bottom this is necessary to avoid floating blocks
             if (block instanceof BlockLogPile)
             {
-                return;
+                return false;
             }
         } while (block == Blocks.AIR || block instanceof BlockCharcoalPile);
 
@@ -246,14 +254,14 @@ public class TELogPile extends TEInventory implements ITickable
         int charcoal = (int) MathHelper.clamp(logs, 0, 8);
         if (charcoal == 0)
         {
-            world.setBlockState(pos, Blocks.AIR.getDefaultState());
-            return;
+            setBlockState(changed, pos, Blocks.AIR.getDefaultState());
+            return true;
         }
         if (j == 1)
         {
             // This log pile is at the bottom of the charcoal pit
-            world.setBlockState(pos, BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
-            return;
+            setBlockState(changed, pos, BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
+            return true;
         }
         for (int k = j - 1; k >= 0; k--)
         {
@@ -262,9 +270,9 @@ public class TELogPile extends TEInventory implements ITickable
             if (state.getBlock() == Blocks.AIR)
             {
                 // If it hits air, place the remaining pile in that block
-                world.setBlockState(pos.down(k), BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
-                world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                return;
+                setBlockState(changed, pos.down(k), BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
+                setBlockState(changed, pos, Blocks.AIR.getDefaultState());
+                return true;
             }
 
             if (state.getBlock() instanceof BlockCharcoalPile)
@@ -272,17 +280,24 @@ public class TELogPile extends TEInventory implements ITickable
                 // Place what it can in the existing charcoal pit, then continue climbing
                 charcoal += state.getValue(LAYERS);
                 int toCreate = Math.min(charcoal, 8);
-                world.setBlockState(pos.down(k), BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, toCreate));
+                setBlockState(changed, pos.down(k), BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, toCreate));
                 charcoal -= toCreate;
             }
 
             if (charcoal <= 0)
             {
-                world.setBlockState(pos, Blocks.AIR.getDefaultState());
-                return;
+                setBlockState(changed, pos, Blocks.AIR.getDefaultState());
+                return true;
             }
         }
         // If you exit the loop, its arrived back at the original position OR needs to rest the original position, and needs to replace that block
-        world.setBlockState(pos, BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
+        setBlockState(changed, pos, BlocksTFC.CHARCOAL_PILE.getDefaultState().withProperty(LAYERS, charcoal));
+        return true;
+    }
+
+    private void setBlockState(Set<BlockPos> changed, BlockPos pos, IBlockState state)
+    {
+        world.setBlockState(pos, state, 2);
+        changed.add(pos.toImmutable());
     }
 }
@@ -41,6 +41,7 @@ import net.dries007.tfc.objects.blocks.devices.BlockPitKiln;
 import net.dries007.tfc.objects.items.ItemsTFC;
 import net.dries007.tfc.util.Helpers;
 import net.dries007.tfc.util.OreDictionaryHelper;
+import net.dries007.tfc.util.block.MultiblockTracker;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 
 import static net.dries007.tfc.objects.blocks.devices.BlockPitKiln.FULL;
@@ -107,6 +108,7 @@ public class TEPitKiln extends TEPlacedItem implements ITickable
     private final NonNullList<ItemStack> strawItems = NonNullList.withSize(STRAW_NEEDED, ItemStack.EMPTY);
     private long litTick;
     private boolean isLit;
+    private MultiblockTracker.Structure structure; // The surrounding blocks, only checked again after a change
 
     @Override
     public void update()
@@ -132,7 +134,11 @@ public class TEPitKiln extends TEPlacedItem implements ITickable
                     }
                 }
 
-                if (!isValid())
+                if (structure == null)
+                {
+                    structure = MultiblockTracker.track(world, pos.add(-1, -1, -1), pos.add(1, 0, 1));
+                }
+                if (structure.checkChanged(world) && !isValid())
                 {
                     // consume contents, don't cook items, convert to placed item
                     emptyFuelContents();
@@ -167,6 +173,20 @@ public class TEPitKiln extends TEPlacedItem implements ITickable
         }
     }
 
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        removeStructure();
+    }
+
+    @Override
+    public void onChunkUnload()
+    {
+        super.onChunkUnload();
+        removeStructure();
+    }
+
     @Override
     public void onBreakBlock(World worldIn, BlockPos pos, IBlockState state)
     {
@@ -405,6 +425,15 @@ public class TEPitKiln extends TEPlacedItem implements ITickable
         }
     }
 
+    private void removeStructure()
+    {
+        if (structure != null)
+        {
+            structure.remove();
+            structure = null;
+        }
+    }
+
     private boolean isValid()
     {
         for (EnumFacing face : EnumFacing.HORIZONTALS)
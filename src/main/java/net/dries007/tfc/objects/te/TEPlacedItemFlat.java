@@ -16,6 +16,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 import net.dries007.tfc.Constants;
+import net.dries007.tfc.client.model.BakedModelPlacedItemFlat;
 import net.dries007.tfc.util.Helpers;
 
 @ParametersAreNonnullByDefault
@@ -44,6 +45,11 @@ public class TEPlacedItemFlat extends TEBase
         rotation = nbt.hasKey("rotation") ? nbt.getByte("rotation") : 0;
         inventory = new ItemStack(nbt.getCompoundTag("stack"));
         super.readFromNBT(nbt);
+        if (world != null && world.isRemote)
+        {
+            // The item is part of the chunk's model, so it has to be rebuilt when the item changes
+            world.markBlockRangeForRenderUpdate(pos, pos);
+        }
     }
 
     @Override
@@ -55,6 +61,16 @@ public class TEPlacedItemFlat extends TEBase
         return super.writeToNBT(nbt);
     }
 
+    /**
+     * Most items are rendered by {@link BakedModelPlacedItemFlat} as part of the chunk, only items with a custom renderer still need the TESR
+     */
+    @Override
+    @SideOnly(Side.CLIENT)
+    public boolean shouldRenderInPass(int pass)
+    {
+        return pass == 0 && BakedModelPlacedItemFlat.needsTESR(inventory);
+    }
+
     @Override
     @SideOnly(Side.CLIENT)
     public double getMaxRenderDistanceSquared()
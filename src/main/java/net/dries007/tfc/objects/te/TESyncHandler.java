@@ -0,0 +1,124 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.objects.te;
+
+import java.util.*;
+
+import net.minecraft.server.management.PlayerChunkMapEntry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.network.PacketTileEntitySync;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Collects sync requests from {@link TEBase} and sends them at the end of the server tick.
+ * All TEs in the same chunk are coalesced into a single {@link PacketTileEntitySync}, which is sent to every player watching that chunk
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class TESyncHandler
+{
+    private static final Set<TEBase> PENDING = new LinkedHashSet<>();
+    private static final Object2LongMap<Class<? extends TEBase>> BYTES_SENT = new Object2LongOpenHashMap<>();
+    private static final ByteBuf SCRATCH = Unpooled.buffer();
+    private static long packetsSent = 0;
+
+    /**
+     * @return the total amount of bytes sent per TE class, for debugging purposes
+     */
+    public static Map<Class<? extends TEBase>, Long> getBytesSent()
+    {
+        return Collections.unmodifiableMap(BYTES_SENT);
+    }
+
+    public static long getPacketsSent()
+    {
+        return packetsSent;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !PENDING.isEmpty())
+        {
+            flush();
+        }
+    }
+
+    static void enqueue(TEBase tile)
+    {
+        PENDING.add(tile);
+    }
+
+    private static void flush()
+    {
+        // Group by world + chunk, as that determines the set of watching players
+        Map<World, Long2ObjectMap<List<TEBase>>> tilesByChunk = new HashMap<>();
+        for (TEBase tile : PENDING)
+        {
+            if (!tile.isInvalid() && tile.getWorld() instanceof WorldServer)
+            {
+                BlockPos pos = tile.getPos();
+                long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+                tilesByChunk.computeIfAbsent(tile.getWorld(), key -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(chunkKey, key -> new ArrayList<>()).add(tile);
+            }
+            else
+            {
+                tile.resetSync();
+            }
+        }
+        PENDING.clear();
+
+        for (Map.Entry<World, Long2ObjectMap<List<TEBase>>> worldEntry : tilesByChunk.entrySet())
+        {
+            WorldServer world = (WorldServer) worldEntry.getKey();
+            for (Long2ObjectMap.Entry<List<TEBase>> chunkEntry : worldEntry.getValue().long2ObjectEntrySet())
+            {
+                List<TEBase> tiles = chunkEntry.getValue();
+                BlockPos firstPos = tiles.get(0).getPos();
+                PlayerChunkMapEntry chunk = world.getPlayerChunkMap().getEntry(firstPos.getX() >> 4, firstPos.getZ() >> 4);
+                if (chunk == null || !chunk.isSentToPlayers())
+                {
+                    // Nobody is watching, the data will be sent with the chunk once it is
+                    tiles.forEach(TEBase::resetSync);
+                    continue;
+                }
+
+                ByteBuf payload = Unpooled.buffer();
+                for (TEBase tile : tiles)
+                {
+                    SCRATCH.clear();
+                    tile.writeSyncData(SCRATCH);
+
+                    int length = SCRATCH.readableBytes();
+                    int start = payload.writerIndex();
+                    payload.writeShort(PacketTileEntitySync.packLocalPos(tile.getPos()));
+                    ByteBufUtils.writeVarInt(payload, length, 5);
+                    payload.writeBytes(SCRATCH);
+
+                    BYTES_SENT.put(tile.getClass(), BYTES_SENT.getLong(tile.getClass()) + payload.writerIndex() - start);
+                }
+
+                chunk.sendPacket(TerraFirmaCraft.getNetwork().getPacketFrom(new PacketTileEntitySync(chunk.getPos(), tiles.size(), payload)));
+                packetsSent++;
+            }
+        }
+    }
+}
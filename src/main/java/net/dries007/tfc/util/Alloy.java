@@ -5,7 +5,7 @@
 
 package net.dries007.tfc.util;
 
-import java.util.Map;
+import java.util.*;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -17,6 +17,8 @@ import net.minecraftforge.fluids.FluidStack;
 
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.dries007.tfc.api.capability.metal.CapabilityMetalItem;
 import net.dries007.tfc.api.capability.metal.IMetalItem;
 import net.dries007.tfc.api.recipes.AlloyRecipe;
@@ -46,9 +48,20 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
      */
     public static final double EPSILON = 1d / SAFE_MAX_ALLOY;
 
+    private static volatile RecipeMatcher matcher;
+
+    /**
+     * Clears the precompiled alloy recipe matcher. Call this after modifying the alloy registry (i.e. CraftTweaker removals)
+     */
+    public static void invalidateRecipes()
+    {
+        matcher = null;
+    }
+
     private final Object2DoubleMap<Metal> metalMap, sanitizedMetalMap;
     private int totalUnits;
     private int maxUnits;
+    private Metal cachedResult; // Cleared whenever the metal map changes
 
     /**
      * Constructs a new alloy. It starts with no metal content
@@ -215,18 +228,11 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     @Nonnull
     public Metal getResult()
     {
-        if (metalMap.size() == 1)
+        if (cachedResult == null)
         {
-            return metalMap.keySet().iterator().next(); // Easy way to get the only metal in the alloy
-        }
-        for (AlloyRecipe r : TFCRegistries.ALLOYS.getValuesCollection())
-        {
-            if (matchesRecipe(r))
-            {
-                return r.getResult();
-            }
+            cachedResult = computeResult(getMatcher());
         }
-        return Metal.UNKNOWN;
+        return cachedResult;
     }
 
     /**
@@ -356,6 +362,7 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
     {
         metalMap.clear();
         totalUnits = 0;
+        cachedResult = null;
     }
 
     /**
@@ -363,6 +370,7 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
      */
     private void updateSanitizedMap()
     {
+        cachedResult = null;
         sanitizedMetalMap.clear();
         double actualTotalAmount = getAmountAccurately();
         metalMap.forEach((metal, value) -> {
@@ -378,7 +386,36 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
         return metalMap.values().stream().mapToDouble(x -> x).sum();
     }
 
-    private boolean matchesRecipe(AlloyRecipe recipe)
+    @Nonnull
+    Metal computeResult(RecipeMatcher matcher)
+    {
+        if (metalMap.size() == 1)
+        {
+            return metalMap.keySet().iterator().next(); // Easy way to get the only metal in the alloy
+        }
+        for (AlloyRecipe r : matcher.getCandidates(this))
+        {
+            if (matchesRecipe(r))
+            {
+                return r.getResult();
+            }
+        }
+        return Metal.UNKNOWN;
+    }
+
+    @Nonnull
+    private static RecipeMatcher getMatcher()
+    {
+        RecipeMatcher matcher = Alloy.matcher;
+        if (matcher == null || matcher.size != TFCRegistries.ALLOYS.getValuesCollection().size())
+        {
+            matcher = new RecipeMatcher(TFCRegistries.ALLOYS.getValuesCollection());
+            Alloy.matcher = matcher;
+        }
+        return matcher;
+    }
+
+    boolean matchesRecipe(AlloyRecipe recipe)
     {
         if (metalMap.containsKey(recipe.getResult()))
         {
@@ -406,4 +443,47 @@ public class Alloy implements INBTSerializable<NBTTagCompound>
         }
         return true;
     }
+
+    /**
+     * Alloy recipes indexed by their set of component metals.
+     * An alloy can only match a recipe if the recipe has exactly the same components, or if it contains the result of the recipe (see {@link Alloy#matchesRecipe(AlloyRecipe)}), so only those recipes need to be tested.
+     */
+    static final class RecipeMatcher
+    {
+        private final int size;
+        private final Map<Set<Metal>, List<AlloyRecipe>> byComponents = new HashMap<>();
+        private final Map<Metal, List<AlloyRecipe>> byResult = new HashMap<>(); // More than one recipe may have the same result
+        private final Object2IntMap<AlloyRecipe> ordinals = new Object2IntOpenHashMap<>();
+
+        RecipeMatcher(Collection<AlloyRecipe> recipes)
+        {
+            size = recipes.size();
+            for (AlloyRecipe recipe : recipes)
+            {
+                ordinals.put(recipe, ordinals.size());
+                byComponents.computeIfAbsent(recipe.getMetals().keySet(), key -> new ArrayList<>()).add(recipe);
+                byResult.computeIfAbsent(recipe.getResult(), key -> new ArrayList<>()).add(recipe);
+            }
+        }
+
+        /**
+         * @return the recipes that the alloy could possibly match, in registry order
+         */
+        List<AlloyRecipe> getCandidates(Alloy alloy)
+        {
+            List<AlloyRecipe> candidates = new ArrayList<>(byComponents.getOrDefault(alloy.sanitizedMetalMap.keySet(), Collections.emptyList()));
+            for (Metal metal : alloy.metalMap.keySet())
+            {
+                for (AlloyRecipe recipe : byResult.getOrDefault(metal, Collections.emptyList()))
+                {
+                    if (!candidates.contains(recipe))
+                    {
+                        candidates.add(recipe);
+                    }
+                }
+            }
+            candidates.sort(Comparator.comparingInt(ordinals::getInt));
+            return candidates;
+        }
+    }
 }
@@ -5,20 +5,26 @@
 
 package net.dries007.tfc.util;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Comparator;
+import java.util.PriorityQueue;
 import java.util.Random;
+import javax.annotation.Nullable;
 
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.ChunkProviderServer;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
@@ -30,6 +36,7 @@ import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
 
 /**
  * Seasonally regenerates rocks, sticks, snow, plants, crops and bushes.
+ * Chunks that need regenerating are queued when they load, most outdated first, and regenerated within a time budget at the end of each overworld tick.
  */
 @Mod.EventBusSubscriber(modid = MOD_ID)
 public final class WorldRegenHandler
@@ -40,75 +47,206 @@ public final class WorldRegenHandler
     private static final WorldGenBerryBushes BUSH_GEN = new WorldGenBerryBushes();
 
     private static final Random RANDOM = new Random();
-    private static final List<ChunkPos> POSITIONS = new LinkedList<>();
+    private static final PriorityQueue<RegenEntry> QUEUE = new PriorityQueue<>(Comparator.comparingLong((RegenEntry entry) -> entry.lastUpdateYear).thenComparingLong(entry -> entry.lastUpdateTick));
+    private static final LongSet QUEUED = new LongOpenHashSet();
+
+    private static long chunksRegenerated = 0, chunksSkipped = 0, totalNanos = 0, maxNanos = 0;
+
+    public static int getBacklog()
+    {
+        return QUEUE.size();
+    }
+
+    public static long getChunksRegenerated()
+    {
+        return chunksRegenerated;
+    }
+
+    public static long getChunksSkipped()
+    {
+        return chunksSkipped;
+    }
+
+    /**
+     * @return the average time spent regenerating a chunk, in microseconds
+     */
+    public static long getAverageMicros()
+    {
+        return chunksRegenerated == 0 ? 0 : totalNanos / chunksRegenerated / 1000;
+    }
+
+    /**
+     * @return the longest time spent regenerating a single chunk, in microseconds
+     */
+    public static long getMaxMicros()
+    {
+        return maxNanos / 1000;
+    }
 
     @SubscribeEvent
     public static void onChunkLoad(ChunkDataEvent.Load event)
     {
-        // This is disabled for now, as it was causing runaway regeneration of stuff (after multiple attempts to fix it), and potential performance issues
-        // This needs some proper design work on how it is going to operate
-        // todo: fix this
-        /*if (event.getWorld().provider.getDimension() == 0)
+        if (!event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0 && ConfigTFC.General.WORLD_REGEN.tickBudget > 0)
         {
-            ChunkDataTFC chunkDataTFC = ChunkDataTFC.get(event.getChunk());
-            if (chunkDataTFC.isInitialized() && !chunkDataTFC.isSpawnProtected() && (chunkDataTFC.getLastUpdateYear() > CalendarTFC.CALENDAR_TIME.getTotalYears() || CalendarTFC.PLAYER_TIME.getTicks() - chunkDataTFC.getLastUpdateTick() > 6 * ICalendar.TICKS_IN_DAY))
-            {
-                //POSITIONS.add(event.getChunk().getPos());
-            }
-        }*/
+            // A chunk is regenerated across the same area as it is populated, which includes its neighbours in the positive directions
+            // So both this chunk, and the ones which now may have all their neighbours loaded, are queued
+            Chunk chunk = event.getChunk();
+            enqueue(chunk);
+            IChunkProvider chunkProvider = event.getWorld().getChunkProvider();
+            enqueue(chunkProvider.getLoadedChunk(chunk.x - 1, chunk.z));
+            enqueue(chunkProvider.getLoadedChunk(chunk.x, chunk.z - 1));
+            enqueue(chunkProvider.getLoadedChunk(chunk.x - 1, chunk.z - 1));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        if (!event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0)
+        {
+            QUEUE.clear();
+            QUEUED.clear();
+        }
     }
 
     @SubscribeEvent
     public static void onWorldTick(TickEvent.WorldTickEvent event)
     {
-        if (!event.world.isRemote && event.phase == TickEvent.Phase.END)
+        if (!event.world.isRemote && event.phase == TickEvent.Phase.END && event.world.provider.getDimension() == 0 && !QUEUE.isEmpty())
         {
-            if (!POSITIONS.isEmpty())
+            final long budget = ConfigTFC.General.WORLD_REGEN.tickBudget * 1000L;
+            final long start = System.nanoTime();
+            long now = start;
+            while (!QUEUE.isEmpty() && now - start < budget)
             {
-                ChunkPos pos = POSITIONS.remove(0);
-                ChunkDataTFC chunkDataTFC = ChunkDataTFC.get(event.world, pos.getBlock(0, 0, 0));
+                RegenEntry entry = QUEUE.poll();
+                QUEUED.remove(ChunkPos.asLong(entry.x, entry.z));
+                if (regenerate(event.world, entry.x, entry.z))
+                {
+                    long end = System.nanoTime();
+                    chunksRegenerated++;
+                    totalNanos += end - now;
+                    maxNanos = Math.max(maxNanos, end - now);
+                    now = end;
+                }
+                else
+                {
+                    chunksSkipped++;
+                    now = System.nanoTime();
+                }
+            }
+        }
+    }
 
-                IChunkProvider chunkProvider = event.world.getChunkProvider();
-                IChunkGenerator chunkGenerator = ((ChunkProviderServer) chunkProvider).chunkGenerator;
+    private static void enqueue(@Nullable Chunk chunk)
+    {
+        if (chunk != null)
+        {
+            ChunkDataTFC chunkDataTFC = ChunkDataTFC.get(chunk);
+            if (needsRegen(chunkDataTFC) && QUEUED.add(ChunkPos.asLong(chunk.x, chunk.z)))
+            {
+                QUEUE.add(new RegenEntry(chunk.x, chunk.z, chunkDataTFC.getLastUpdateYear(), chunkDataTFC.getLastUpdateTick()));
+            }
+        }
+    }
 
-                // If past the update time, then run some regeneration of natural resources
-                long updateDelta = CalendarTFC.PLAYER_TIME.getTicks() - chunkDataTFC.getLastUpdateTick();
-                if (updateDelta > ConfigTFC.General.WORLD_REGEN.minimumTime * ICalendar.TICKS_IN_DAY && !chunkDataTFC.isSpawnProtected())
-                {
-                    float regenerationModifier = MathHelper.clamp((float) updateDelta / (4 * ConfigTFC.General.WORLD_REGEN.minimumTime * ICalendar.TICKS_IN_DAY), 0, 1);
+    private static boolean needsRegen(ChunkDataTFC chunkDataTFC)
+    {
+        if (!chunkDataTFC.isInitialized())
+        {
+            return false;
+        }
+        // Only queue chunks which will be reset by regenerating, otherwise they would be queued again on every load of them or their neighbours
+        // Snow and ice only update alongside one of these, as that is what resets the update tick
+        return needsResourceRegen(chunkDataTFC) || needsPlantRegen(chunkDataTFC);
+    }
 
-                    // Loose rocks - factors in time since last update
-                    if (ConfigTFC.General.WORLD_REGEN.sticksRocksModifier > 0)
-                    {
-                        double rockModifier = ConfigTFC.General.WORLD_REGEN.sticksRocksModifier * regenerationModifier;
-                        ROCKS_GEN.setFactor(rockModifier);
-                        ROCKS_GEN.generate(RANDOM, pos.x, pos.z, event.world, chunkGenerator, chunkProvider);
+    private static boolean needsResourceRegen(ChunkDataTFC chunkDataTFC)
+    {
+        long updateDelta = CalendarTFC.PLAYER_TIME.getTicks() - chunkDataTFC.getLastUpdateTick();
+        return updateDelta > ConfigTFC.General.WORLD_REGEN.minimumTime * ICalendar.TICKS_IN_DAY && !chunkDataTFC.isSpawnProtected();
+    }
 
-                        int stickDensity = (int) (rockModifier * (1 + (int) (3f * chunkDataTFC.getFloraDensity())));
-                        WorldGenTrees.generateLooseSticks(RANDOM, pos.x, pos.z, event.world, stickDensity);
-                    }
+    private static boolean needsPlantRegen(ChunkDataTFC chunkDataTFC)
+    {
+        return CalendarTFC.CALENDAR_TIME.getMonthOfYear().isWithin(Month.APRIL, Month.JULY) && !chunkDataTFC.isSpawnProtected() && CalendarTFC.CALENDAR_TIME.getTotalYears() > chunkDataTFC.getLastUpdateYear();
+    }
 
-                    chunkDataTFC.resetLastUpdateTick();
-                }
+    /**
+     * @return false if the chunk was skipped, because it, or one of the neighbours it generates into, is no longer loaded, or it no longer needs regenerating
+     */
+    private static boolean regenerate(World world, int chunkX, int chunkZ)
+    {
+        IChunkProvider chunkProvider = world.getChunkProvider();
+        Chunk chunk = chunkProvider.getLoadedChunk(chunkX, chunkZ);
+        if (chunk == null || chunkProvider.getLoadedChunk(chunkX + 1, chunkZ) == null || chunkProvider.getLoadedChunk(chunkX, chunkZ + 1) == null || chunkProvider.getLoadedChunk(chunkX + 1, chunkZ + 1) == null)
+        {
+            // Generating would load (or generate!) chunks, which would in turn be queued. It will be queued again when the missing chunks load
+            return false;
+        }
 
-                // Plants + crops. Only runs once (maximum) each year
-                if (CalendarTFC.CALENDAR_TIME.getMonthOfYear().isWithin(Month.APRIL, Month.JULY) && !chunkDataTFC.isSpawnProtected() && CalendarTFC.CALENDAR_TIME.getTotalYears() > chunkDataTFC.getLastUpdateYear())
-                {
-                    if (RANDOM.nextInt(20) == 0)
-                    {
-                        CROPS_GEN.generate(RANDOM, pos.x, pos.z, event.world, chunkGenerator, chunkProvider);
-                    }
-                    BUSH_GEN.generate(RANDOM, pos.x, pos.z, event.world, chunkGenerator, chunkProvider);
+        ChunkDataTFC chunkDataTFC = ChunkDataTFC.get(chunk);
+        IChunkGenerator chunkGenerator = ((ChunkProviderServer) chunkProvider).chunkGenerator;
 
-                    chunkDataTFC.resetLastUpdateYear();
-                }
+        // If past the update time, then run some regeneration of natural resources
+        long updateDelta = CalendarTFC.PLAYER_TIME.getTicks() - chunkDataTFC.getLastUpdateTick();
+        boolean resourceRegen = needsResourceRegen(chunkDataTFC), plantRegen = needsPlantRegen(chunkDataTFC);
+        if (!resourceRegen && !plantRegen)
+        {
+            // Already regenerated since it was queued
+            return false;
+        }
 
-                // Update snow / ice from large calendar changes
-                if (updateDelta > ICalendar.TICKS_IN_DAY * 4)
-                {
-                    SNOW_GEN.generate(RANDOM, pos.x, pos.z, event.world, chunkGenerator, chunkProvider);
-                }
+        if (resourceRegen)
+        {
+            float regenerationModifier = MathHelper.clamp((float) updateDelta / (4 * ConfigTFC.General.WORLD_REGEN.minimumTime * ICalendar.TICKS_IN_DAY), 0, 1);
+
+            // Loose rocks - factors in time since last update
+            if (ConfigTFC.General.WORLD_REGEN.sticksRocksModifier > 0)
+            {
+                double rockModifier = ConfigTFC.General.WORLD_REGEN.sticksRocksModifier * regenerationModifier;
+                ROCKS_GEN.setFactor(rockModifier);
+                ROCKS_GEN.generate(RANDOM, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
+
+                int stickDensity = (int) (rockModifier * (1 + (int) (3f * chunkDataTFC.getFloraDensity())));
+                WorldGenTrees.generateLooseSticks(RANDOM, chunkX, chunkZ, world, stickDensity);
+            }
+
+            chunkDataTFC.resetLastUpdateTick();
+        }
+
+        // Plants + crops. Only runs once (maximum) each year
+        if (plantRegen)
+        {
+            if (RANDOM.nextInt(20) == 0)
+            {
+                CROPS_GEN.generate(RANDOM, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
             }
+            BUSH_GEN.generate(RANDOM, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
+
+            chunkDataTFC.resetLastUpdateYear();
+        }
+
+        // Update snow / ice from large calendar changes
+        if (updateDelta > ICalendar.TICKS_IN_DAY * 4)
+        {
+            SNOW_GEN.generate(RANDOM, chunkX, chunkZ, world, chunkGenerator, chunkProvider);
+        }
+        chunk.markDirty();
+        return true;
+    }
+
+    private static final class RegenEntry
+    {
+        private final int x, z;
+        private final long lastUpdateYear, lastUpdateTick;
+
+        private RegenEntry(int x, int z, long lastUpdateYear, long lastUpdateTick)
+        {
+            this.x = x;
+            this.z = z;
+            this.lastUpdateYear = lastUpdateYear;
+            this.lastUpdateTick = lastUpdateTick;
         }
     }
 }
@@ -0,0 +1,229 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.block;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Tracks the blocks that a multiblock structure depends on, so the structure only needs to be checked again after one of them has changed.
+ * Changes are detected via {@link IWorldEventListener#notifyBlockUpdate(World, BlockPos, IBlockState, IBlockState, int)}, which is called for block changes sent to clients, and for tile entity updates (see {@link net.dries007.tfc.objects.te.TEBase#markForBlockUpdate()})
+ * Block changes that aren't sent to clients (i.e. some world editing tools) are not detected, so structures are also checked again every {@link MultiblockTracker#REVALIDATE_INTERVAL} ticks.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class MultiblockTracker implements IWorldEventListener
+{
+    private static final int REVALIDATE_INTERVAL = 20 * 60;
+    private static final Map<World, MultiblockTracker> TRACKERS = new IdentityHashMap<>();
+
+    /**
+     * Starts tracking the blocks in the box between min and max (inclusive). The structure will start out as changed.
+     * On client side, this returns a structure which is always changed.
+     * {@link Structure#remove()} must be called when the structure is no longer needed, i.e. from {@link net.minecraft.tileentity.TileEntity#invalidate()} and {@link net.minecraft.tileentity.TileEntity#onChunkUnload()}
+     */
+    public static Structure track(World world, BlockPos min, BlockPos max)
+    {
+        Structure structure = new Structure(min, max);
+        MultiblockTracker tracker = TRACKERS.get(world);
+        if (tracker != null)
+        {
+            tracker.add(structure);
+        }
+        else
+        {
+            structure.alwaysChanged = true;
+        }
+        return structure;
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event)
+    {
+        World world = event.getWorld();
+        if (!world.isRemote)
+        {
+            MultiblockTracker tracker = new MultiblockTracker();
+            TRACKERS.put(world, tracker);
+            world.addEventListener(tracker);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        MultiblockTracker tracker = TRACKERS.remove(event.getWorld());
+        if (tracker != null)
+        {
+            event.getWorld().removeEventListener(tracker);
+        }
+    }
+
+    private final Long2ObjectMap<List<Structure>> structuresByChunk = new Long2ObjectOpenHashMap<>();
+
+    private MultiblockTracker() {}
+
+    @Override
+    public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags)
+    {
+        List<Structure> structures = structuresByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (structures != null)
+        {
+            for (Structure structure : structures)
+            {
+                if (structure.contains(pos))
+                {
+                    structure.changed = true;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void notifyLightSet(BlockPos pos) {}
+
+    @Override
+    public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+
+    @Override
+    public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {}
+
+    @Override
+    public void playRecord(SoundEvent soundIn, BlockPos pos) {}
+
+    @Override
+    public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+    @Override
+    public void onEntityAdded(Entity entityIn) {}
+
+    @Override
+    public void onEntityRemoved(Entity entityIn) {}
+
+    @Override
+    public void broadcastSound(int soundID, BlockPos pos, int data) {}
+
+    @Override
+    public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {}
+
+    @Override
+    public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {}
+
+    private void add(Structure structure)
+    {
+        structure.tracker = this;
+        for (int chunkX = structure.minX >> 4; chunkX <= structure.maxX >> 4; chunkX++)
+        {
+            for (int chunkZ = structure.minZ >> 4; chunkZ <= structure.maxZ >> 4; chunkZ++)
+            {
+                structuresByChunk.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), key -> new ArrayList<>(1)).add(structure);
+            }
+        }
+    }
+
+    private void remove(Structure structure)
+    {
+        for (int chunkX = structure.minX >> 4; chunkX <= structure.maxX >> 4; chunkX++)
+        {
+            for (int chunkZ = structure.minZ >> 4; chunkZ <= structure.maxZ >> 4; chunkZ++)
+            {
+                long key = ChunkPos.asLong(chunkX, chunkZ);
+                List<Structure> structures = structuresByChunk.get(key);
+                if (structures != null)
+                {
+                    structures.remove(structure);
+                    if (structures.isEmpty())
+                    {
+                        structuresByChunk.remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A box of tracked block positions
+     */
+    public static final class Structure
+    {
+        private final int minX, minY, minZ, maxX, maxY, maxZ;
+        private MultiblockTracker tracker;
+        private boolean changed = true, alwaysChanged = false;
+        private long lastChecked;
+
+        private Structure(BlockPos min, BlockPos max)
+        {
+            minX = Math.min(min.getX(), max.getX());
+            minY = Math.min(min.getY(), max.getY());
+            minZ = Math.min(min.getZ(), max.getZ());
+            maxX = Math.max(min.getX(), max.getX());
+            maxY = Math.max(min.getY(), max.getY());
+            maxZ = Math.max(min.getZ(), max.getZ());
+        }
+
+        /**
+         * Checks, and resets, if any block in this structure has changed since the last call
+         *
+         * @return true if the structure needs to be checked again
+         */
+        public boolean checkChanged(World world)
+        {
+            long tick = world.getTotalWorldTime();
+            if (changed || alwaysChanged || tick - lastChecked >= REVALIDATE_INTERVAL)
+            {
+                changed = false;
+                lastChecked = tick;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Marks the structure as changed, for changes which don't come from blocks in the world
+         */
+        public void markChanged()
+        {
+            changed = true;
+        }
+
+        public void remove()
+        {
+            if (tracker != null)
+            {
+                tracker.remove(this);
+                tracker = null;
+            }
+        }
+
+        private boolean contains(BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX && pos.getY() >= minY && pos.getY() <= maxY && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.calendar;
+
+import java.util.*;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Catches up {@link ICalendarTickable} tile entities which do not tick, so they don't need to be in the world's ticking list just to notice calendar changes.
+ * They are updated once after every calendar jump (sleeping, or changing the time), and once after the chunk they are in is loaded.
+ * Both are done at the end of the next world tick, as catching up may change blocks.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class CalendarCatchUpHandler
+{
+    private static final Set<World> PENDING_SWEEPS = Collections.newSetFromMap(new IdentityHashMap<>());
+    private static final Map<World, LongSet> PENDING_CHUNKS = new IdentityHashMap<>();
+    private static long sweeps = 0, chunks = 0, tilesUpdated = 0;
+
+    public static long getSweeps()
+    {
+        return sweeps;
+    }
+
+    public static long getChunks()
+    {
+        return chunks;
+    }
+
+    public static long getTilesUpdated()
+    {
+        return tilesUpdated;
+    }
+
+    /**
+     * Called whenever the calendar jumps forward. All loaded tile entities will be caught up at the end of the next tick
+     */
+    public static void onCalendarJump()
+    {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (server != null)
+        {
+            Collections.addAll(PENDING_SWEEPS, server.worlds);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        World world = event.getWorld();
+        Chunk chunk = event.getChunk();
+        if (!world.isRemote && !chunk.getTileEntityMap().isEmpty())
+        {
+            PENDING_CHUNKS.computeIfAbsent(world, key -> new LongOpenHashSet()).add(ChunkPos.asLong(chunk.x, chunk.z));
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        PENDING_SWEEPS.remove(event.getWorld());
+        PENDING_CHUNKS.remove(event.getWorld());
+    }
+
+    @SubscribeEvent
+    public static void onWorldTick(TickEvent.WorldTickEvent event)
+    {
+        if (!event.world.isRemote && event.phase == TickEvent.Phase.END)
+        {
+            List<ICalendarTickable> tiles = new ArrayList<>();
+            LongSet pendingChunks = PENDING_CHUNKS.remove(event.world);
+            if (PENDING_SWEEPS.remove(event.world))
+            {
+                // This includes every pending chunk as well
+                sweeps++;
+                collect(event.world.loadedTileEntityList, tiles);
+            }
+            else if (pendingChunks != null)
+            {
+                for (LongIterator iterator = pendingChunks.iterator(); iterator.hasNext(); )
+                {
+                    long key = iterator.nextLong();
+                    Chunk chunk = event.world.getChunkProvider().getLoadedChunk((int) key, (int) (key >> 32));
+                    if (chunk != null)
+                    {
+                        chunks++;
+                        collect(chunk.getTileEntityMap().values(), tiles);
+                    }
+                }
+            }
+
+            // Collected first, as catching up may add or remove tile entities
+            for (ICalendarTickable tile : tiles)
+            {
+                if (!tile.getTileEntity().isInvalid())
+                {
+                    tilesUpdated++;
+                    tile.checkForCalendarUpdate();
+                }
+            }
+        }
+    }
+
+    private static void collect(Collection<TileEntity> source, List<ICalendarTickable> tiles)
+    {
+        for (TileEntity te : source)
+        {
+            // Ticking tile entities already check the calendar themselves
+            if (te instanceof ICalendarTickable && !(te instanceof ITickable))
+            {
+                tiles.add((ICalendarTickable) te);
+            }
+        }
+    }
+
+    private CalendarCatchUpHandler() {}
+}
@@ -129,6 +129,7 @@ public final class CalendarTFC implements INBTSerializable<NBTTagCompound>
         }
 
         TerraFirmaCraft.getNetwork().sendToAll(new PacketCalendarUpdate(this));
+        CalendarCatchUpHandler.onCalendarJump();
     }
 
     /**
@@ -150,6 +151,7 @@ public final class CalendarTFC implements INBTSerializable<NBTTagCompound>
         playerTime += worldTimeJump;
 
         TerraFirmaCraft.getNetwork().sendToAll(new PacketCalendarUpdate(this));
+        CalendarCatchUpHandler.onCalendarJump();
         return worldTimeJump;
     }
 
@@ -10,6 +10,7 @@ import net.minecraft.tileentity.TileEntity;
 /**
  * This is implemented on TileEntities that need to receive updates whenever the calendar changes drastically
  * Note: the default {@code update()} casts the implementor to {@link TileEntity}
+ * Ticking implementations check for updates themselves. Ones which do not tick are checked by {@link CalendarCatchUpHandler} after calendar jumps, and after they are loaded
  *
  * @see CalendarTFC#runTransaction(long, long, Runnable)
  */
@@ -23,7 +24,7 @@ public interface ICalendarTickable
     /**
      * Here we check every tick for a calendar discrepancy. This only checks for differences in player time, and calls {@link ICalendarTickable#onCalendarUpdate(long playerTickDelta)} as necessary
      *
-     * Implementations MUST call {@code ICalendarTickable.super.update()} in their implementation
+     * Ticking implementations MUST call {@code ICalendarTickable.super.update()} in their implementation
      */
     @SuppressWarnings("ConstantConditions")
     default void checkForCalendarUpdate()
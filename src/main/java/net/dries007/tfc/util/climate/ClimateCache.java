@@ -5,34 +5,140 @@
 
 package net.dries007.tfc.util.climate;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import javax.annotation.Nonnull;
 
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
 /**
  * This stores climate data for when the world context is not available
+ * Entries are removed when their chunk is unloaded. In addition, the cache holds at most a fixed number of chunks, after which the least recently used (approximately, using the clock algorithm) are evicted.
+ * This is accessed from multiple threads on client side (chunk rendering), so all access is synchronized.
  */
 public final class ClimateCache
 {
-    private final Map<ChunkPos, ClimateData> backingMap = new HashMap<>();
+    private final Long2IntMap slotsByChunk;
+    private final long[] keys;
+    private final ClimateData[] values;
+    private final boolean[] referenced;
+    private final IntArrayList freeSlots;
+    private int nextSlot, clockHand;
+    private long hits, misses, evictions, removals;
+
+    public ClimateCache(int capacity)
+    {
+        slotsByChunk = new Long2IntOpenHashMap(capacity);
+        slotsByChunk.defaultReturnValue(-1);
+        keys = new long[capacity];
+        values = new ClimateData[capacity];
+        referenced = new boolean[capacity];
+        freeSlots = new IntArrayList();
+    }
 
     @Nonnull
     public ClimateData get(BlockPos pos)
     {
-        return get(new ChunkPos(pos));
+        return get(pos.getX() >> 4, pos.getZ() >> 4);
     }
 
     @Nonnull
     public ClimateData get(ChunkPos pos)
     {
-        return backingMap.getOrDefault(pos, ClimateData.DEFAULT);
+        return get(pos.x, pos.z);
+    }
+
+    @Nonnull
+    public synchronized ClimateData get(int chunkX, int chunkZ)
+    {
+        int slot = slotsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+        if (slot == -1)
+        {
+            misses++;
+            return ClimateData.DEFAULT;
+        }
+        hits++;
+        referenced[slot] = true;
+        return values[slot];
+    }
+
+    public synchronized void update(ChunkPos pos, float temperature, float rainfall)
+    {
+        long key = ChunkPos.asLong(pos.x, pos.z);
+        int slot = slotsByChunk.get(key);
+        if (slot == -1)
+        {
+            slot = allocateSlot();
+            keys[slot] = key;
+            slotsByChunk.put(key, slot);
+        }
+        values[slot] = new ClimateData(temperature, rainfall);
+        referenced[slot] = true;
+    }
+
+    public synchronized void remove(int chunkX, int chunkZ)
+    {
+        int slot = slotsByChunk.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (slot != -1)
+        {
+            removals++;
+            values[slot] = null;
+            freeSlots.add(slot);
+        }
+    }
+
+    public synchronized void clear()
+    {
+        slotsByChunk.clear();
+        freeSlots.clear();
+        nextSlot = 0;
+        clockHand = 0;
+        for (int i = 0; i < values.length; i++)
+        {
+            values[i] = null;
+            referenced[i] = false;
+        }
+    }
+
+    /**
+     * @return the hit, miss, eviction and removal counts, and the current size, for debugging purposes
+     */
+    public synchronized Map<String, Long> getCounters()
+    {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        counters.put("hits", hits);
+        counters.put("misses", misses);
+        counters.put("evictions", evictions);
+        counters.put("removals", removals);
+        counters.put("size", (long) slotsByChunk.size());
+        return counters;
     }
 
-    public void update(ChunkPos pos, float temperature, float rainfall)
+    private int allocateSlot()
     {
-        backingMap.put(pos, new ClimateData(temperature, rainfall));
+        if (!freeSlots.isEmpty())
+        {
+            return freeSlots.removeInt(freeSlots.size() - 1);
+        }
+        if (nextSlot < keys.length)
+        {
+            return nextSlot++;
+        }
+        // Full, so evict the first entry which hasn't been used since the clock hand last passed it
+        while (referenced[clockHand])
+        {
+            referenced[clockHand] = false;
+            clockHand = (clockHand + 1) % keys.length;
+        }
+        int slot = clockHand;
+        clockHand = (clockHand + 1) % keys.length;
+        slotsByChunk.remove(keys[slot]);
+        evictions++;
+        return slot;
     }
 }
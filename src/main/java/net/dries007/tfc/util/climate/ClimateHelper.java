@@ -20,7 +20,12 @@ import static net.dries007.tfc.world.classic.WorldTypeTFC.SEALEVEL;
 
 public class ClimateHelper
 {
-    private static final Random RANDOM = new Random();
+    // The time dependent parts of the temperature only change once per hour, and are cached per hour and day
+    private static final HourFactors[] HOUR_FACTORS = new HourFactors[64];
+    private static final DayFactor[] DAY_FACTORS = new DayFactor[1024];
+    // Latitude factors are tabled for this many blocks on either side of z = 0, further away they are computed
+    private static final int LATITUDE_TABLE_RADIUS = 16384;
+    private static volatile LatitudeTable latitudeTable;
 
     /**
      * @return The month adjusted temperature. This gets the base temperature, before daily / hourly changes
@@ -35,24 +40,8 @@ public class ClimateHelper
      */
     public static float dailyTemp(float regionalTemp, int z, long timeOffset)
     {
-        // Hottest part of the day at 12, coldest at 0
-        int hourOfDay = ICalendarFormatted.getHourOfDay(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        if (hourOfDay > 12)
-        {
-            // Range: 0 - 12
-            hourOfDay = 24 - hourOfDay;
-        }
-        // Range: -1 - 1
-        float hourModifier = (hourOfDay / 6f) - 1f;
-
-        // Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
-        long day = ICalendar.getTotalDays(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
-        RANDOM.setSeed(day);
-        // Range: -1 - 1
-        final float dailyModifier = RANDOM.nextFloat() - RANDOM.nextFloat();
-
-        // Max daily / hourly variance is +/- 4 C
-        return monthlyTemp(regionalTemp, z, timeOffset) + (dailyModifier + 0.3f * hourModifier) * 3f;
+        HourFactors factors = getHourFactors(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset);
+        return monthlyTemp(regionalTemp, z, factors) + factors.variance;
     }
 
     /**
@@ -60,15 +49,7 @@ public class ClimateHelper
      */
     public static float monthlyTemp(float regionalTemp, int z, long timeOffset)
     {
-        long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
-        Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth());
-
-        final float currentMonthFactor = monthFactor(regionalTemp, monthOfYear, z);
-        final float nextMonthFactor = monthFactor(regionalTemp, monthOfYear.next(), z);
-
-        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, CalendarTFC.CALENDAR_TIME.getDaysInMonth()) / CalendarTFC.CALENDAR_TIME.getDaysInMonth();
-        // Affine combination to smooth temperature transition
-        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+        return monthlyTemp(regionalTemp, z, getHourFactors(CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset));
     }
 
     /**
@@ -118,13 +99,136 @@ public class ClimateHelper
      */
     public static float latitudeFactor(int chunkZ)
     {
+        LatitudeTable table = latitudeTable;
         int tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
-        if (ConfigTFC.General.WORLD.temperatureMode == TemperatureMode.ENDLESS)
+        TemperatureMode mode = ConfigTFC.General.WORLD.temperatureMode;
+        int hemisphere = ConfigTFC.General.WORLD.hemisphereType.getValue();
+        if (table == null || table.tempRange != tempRange || table.mode != mode || table.hemisphere != hemisphere)
+        {
+            // The config has changed, or this is the first use
+            table = new LatitudeTable(tempRange, mode, hemisphere);
+            latitudeTable = table;
+        }
+        if (chunkZ >= -LATITUDE_TABLE_RADIUS && chunkZ <= LATITUDE_TABLE_RADIUS)
+        {
+            return table.values[chunkZ + LATITUDE_TABLE_RADIUS];
+        }
+        return latitudeFactor(chunkZ, tempRange, mode, hemisphere);
+    }
+
+    private static float latitudeFactor(int chunkZ, int tempRange, TemperatureMode mode, int hemisphere)
+    {
+        if (mode == TemperatureMode.ENDLESS)
         {
             chunkZ = MathHelper.clamp(chunkZ, -tempRange / 2, tempRange / 2);
         }
-        return 0.5f + 0.5f * ConfigTFC.General.WORLD.hemisphereType.getValue() * (float) Math.sin(Math.PI * chunkZ / tempRange);
+        return 0.5f + 0.5f * hemisphere * (float) Math.sin(Math.PI * chunkZ / tempRange);
+    }
+
+    private static float monthlyTemp(float regionalTemp, int z, HourFactors factors)
+    {
+        final float currentMonthFactor = monthFactor(regionalTemp, factors.monthTempModifier, z);
+        final float nextMonthFactor = monthFactor(regionalTemp, factors.nextMonthTempModifier, z);
+
+        // Affine combination to smooth temperature transition
+        return currentMonthFactor * (1 - factors.delta) + nextMonthFactor * factors.delta;
+    }
+
+    private static HourFactors getHourFactors(long time)
+    {
+        final long hour = ICalendar.getTotalHours(time);
+        final long daysInMonth = CalendarTFC.CALENDAR_TIME.getDaysInMonth();
+        final int index = (int) (hour & (HOUR_FACTORS.length - 1));
+        HourFactors factors = HOUR_FACTORS[index];
+        if (factors == null || factors.hour != hour || factors.daysInMonth != daysInMonth)
+        {
+            factors = new HourFactors(time, hour, daysInMonth);
+            HOUR_FACTORS[index] = factors;
+        }
+        return factors;
+    }
+
+    /**
+     * Range: -1 - 1
+     * Note: this does not use world seed, as that is not synced from server - client, resulting in the seed being different
+     */
+    private static float getDailyModifier(long day)
+    {
+        final int index = (int) (day & (DAY_FACTORS.length - 1));
+        DayFactor factor = DAY_FACTORS[index];
+        if (factor == null || factor.day != day)
+        {
+            Random random = new Random(day);
+            factor = new DayFactor(day, random.nextFloat() - random.nextFloat());
+            DAY_FACTORS[index] = factor;
+        }
+        return factor.value;
     }
 
     private ClimateHelper() {}
+
+    /**
+     * Everything about the temperature that depends on the time. Every part of it is a function of the total hours, so this is the same for any time in the same hour
+     * Instances are immutable, so they can be shared between the client and server threads
+     */
+    private static final class HourFactors
+    {
+        private final long hour, daysInMonth;
+        private final float monthTempModifier, nextMonthTempModifier, delta, variance;
+
+        private HourFactors(long time, long hour, long daysInMonth)
+        {
+            this.hour = hour;
+            this.daysInMonth = daysInMonth;
+
+            Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, daysInMonth);
+            this.monthTempModifier = monthOfYear.getTemperatureModifier();
+            this.nextMonthTempModifier = monthOfYear.next().getTemperatureModifier();
+            this.delta = (float) ICalendarFormatted.getDayOfMonth(time, daysInMonth) / daysInMonth;
+
+            // Hottest part of the day at 12, coldest at 0
+            int hourOfDay = ICalendarFormatted.getHourOfDay(time);
+            if (hourOfDay > 12)
+            {
+                // Range: 0 - 12
+                hourOfDay = 24 - hourOfDay;
+            }
+            // Range: -1 - 1
+            float hourModifier = (hourOfDay / 6f) - 1f;
+            final float dailyModifier = getDailyModifier(ICalendar.getTotalDays(time));
+
+            // Max daily / hourly variance is +/- 4 C
+            this.variance = (dailyModifier + 0.3f * hourModifier) * 3f;
+        }
+    }
+
+    private static final class DayFactor
+    {
+        private final long day;
+        private final float value;
+
+        private DayFactor(long day, float value)
+        {
+            this.day = day;
+            this.value = value;
+        }
+    }
+
+    private static final class LatitudeTable
+    {
+        private final int tempRange, hemisphere;
+        private final TemperatureMode mode;
+        private final float[] values = new float[2 * LATITUDE_TABLE_RADIUS + 1];
+
+        private LatitudeTable(int tempRange, TemperatureMode mode, int hemisphere)
+        {
+            this.tempRange = tempRange;
+            this.mode = mode;
+            this.hemisphere = hemisphere;
+            for (int i = 0; i < values.length; i++)
+            {
+                values[i] = latitudeFactor(i - LATITUDE_TABLE_RADIUS, tempRange, mode, hemisphere);
+            }
+        }
+    }
 }
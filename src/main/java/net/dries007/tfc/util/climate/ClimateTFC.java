@@ -8,13 +8,19 @@ package net.dries007.tfc.util.climate;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraftforge.fml.common.FMLCommonHandler;
 
 import net.dries007.tfc.util.calendar.Month;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 public final class ClimateTFC
 {
-    private static final ClimateCache CACHE = new ClimateCache();
+    /**
+     * The server cache holds every chunk watched by any player, the client cache only holds the chunks the client has loaded
+     * They are separate as in single player both sides would otherwise fight over the same entries
+     */
+    private static final ClimateCache SERVER_CACHE = new ClimateCache(1 << 15);
+    private static final ClimateCache CLIENT_CACHE = new ClimateCache(1 << 13);
 
     public static float getActualTemp(World world, BlockPos pos)
     {
@@ -38,7 +44,7 @@ public final class ClimateTFC
 
     public static float getActualTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.actualTemp(CACHE.get(pos).getRegionalTemp(), pos.getY(), pos.getZ(), timeOffset);
+        return ClimateHelper.actualTemp(getCache().get(pos).getRegionalTemp(), pos.getY(), pos.getZ(), timeOffset);
     }
 
     public static float getDailyTemp(World world, BlockPos pos)
@@ -63,7 +69,7 @@ public final class ClimateTFC
 
     public static float getDailyTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.dailyTemp(CACHE.get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
+        return ClimateHelper.dailyTemp(getCache().get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
     }
 
     public static float getMonthlyTemp(World world, BlockPos pos)
@@ -88,7 +94,7 @@ public final class ClimateTFC
 
     public static float getMonthlyTemp(BlockPos pos, long timeOffset)
     {
-        return ClimateHelper.monthlyTemp(CACHE.get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
+        return ClimateHelper.monthlyTemp(getCache().get(pos).getRegionalTemp(), pos.getZ(), timeOffset);
     }
 
     public static float getAvgTemp(World world, BlockPos pos)
@@ -103,7 +109,7 @@ public final class ClimateTFC
 
     public static float getAvgTemp(BlockPos pos)
     {
-        return ClimateHelper.monthFactor(CACHE.get(pos).getRegionalTemp(), Month.AVERAGE_TEMPERATURE_MODIFIER, pos.getZ());
+        return ClimateHelper.monthFactor(getCache().get(pos).getRegionalTemp(), Month.AVERAGE_TEMPERATURE_MODIFIER, pos.getZ());
     }
 
     public static float getRainfall(World world, BlockPos pos)
@@ -113,12 +119,41 @@ public final class ClimateTFC
 
     public static float getRainfall(BlockPos pos)
     {
-        return CACHE.get(pos).getRainfall();
+        return getCache().get(pos).getRainfall();
     }
 
-    public static void update(ChunkPos pos, float temperature, float rainfall)
+    public static void update(World world, ChunkPos pos, float temperature, float rainfall)
     {
-        CACHE.update(pos, temperature, rainfall);
+        getCache(world.isRemote).update(pos, temperature, rainfall);
+    }
+
+    /**
+     * Called when a chunk with climate data is unloaded, on either side
+     */
+    public static void onChunkUnload(World world, int chunkX, int chunkZ)
+    {
+        getCache(world.isRemote).remove(chunkX, chunkZ);
+    }
+
+    /**
+     * Called when the overworld (server side) or the client world is unloaded
+     */
+    public static void onWorldUnload(World world)
+    {
+        getCache(world.isRemote).clear();
+    }
+
+    public static ClimateCache getCache(boolean isClient)
+    {
+        return isClient ? CLIENT_CACHE : SERVER_CACHE;
+    }
+
+    /**
+     * For the methods without a world, the side is determined by the current thread
+     */
+    private static ClimateCache getCache()
+    {
+        return getCache(FMLCommonHandler.instance().getEffectiveSide().isClient());
     }
 
     private ClimateTFC() {}
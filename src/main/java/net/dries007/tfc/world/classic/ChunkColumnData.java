@@ -0,0 +1,33 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkPrimer;
+
+/**
+ * The result of the first, world independent, stage of chunk generation, see {@link ColumnDataGenerator}
+ * Instances are created on any thread, and then handed over to the server thread to build the chunk. They are only used for a single chunk.
+ */
+final class ChunkColumnData
+{
+    final int chunkX, chunkZ;
+    final ChunkPrimer roughTerrain = new ChunkPrimer(); // Stone, salt water and air only, without the y offset
+    final Biome[] biomes = new Biome[324]; // 18x18, with a border of one block around the chunk
+    final int[] rockLayer1 = new int[256];
+    final int[] rockLayer2 = new int[256];
+    final int[] rockLayer3 = new int[256];
+    final DataLayer[] stabilityLayer = new DataLayer[256];
+    final DataLayer[] drainageLayer = new DataLayer[256];
+    final double[] surfaceNoise = new double[256];
+    float rainfall, floraDensity, floraDiversity, regionalTemp, averageTemp;
+
+    ChunkColumnData(int chunkX, int chunkZ)
+    {
+        this.chunkX = chunkX;
+        this.chunkZ = chunkZ;
+    }
+}
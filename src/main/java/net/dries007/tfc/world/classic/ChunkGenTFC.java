@@ -17,16 +17,13 @@ import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.init.Blocks;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.ChunkPrimer;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraft.world.gen.MapGenBase;
-import net.minecraft.world.gen.NoiseGeneratorOctaves;
-import net.minecraft.world.gen.NoiseGeneratorPerlin;
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.event.ForgeEventFactory;
 import net.minecraftforge.event.terraingen.InitMapGenEvent;
 import net.minecraftforge.event.terraingen.TerrainGen;
@@ -37,18 +34,12 @@ import mcp.MethodsReturnNonnullByDefault;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Rock;
-import net.dries007.tfc.api.types.RockCategory;
 import net.dries007.tfc.objects.blocks.BlocksTFC;
 import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.objects.fluids.FluidsTFC;
-import net.dries007.tfc.util.calendar.Month;
-import net.dries007.tfc.util.climate.ClimateHelper;
 import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataProvider;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
-import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
-import net.dries007.tfc.world.classic.genlayers.datalayers.drainage.GenDrainageLayer;
-import net.dries007.tfc.world.classic.genlayers.datalayers.ph.GenPHLayer;
 import net.dries007.tfc.world.classic.mapgen.MapGenCavesTFC;
 import net.dries007.tfc.world.classic.mapgen.MapGenRavineTFC;
 import net.dries007.tfc.world.classic.mapgen.MapGenRiverRavine;
@@ -74,7 +65,6 @@ public class ChunkGenTFC implements IChunkGenerator
     public static final IBlockState SNOW = Blocks.SNOW_LAYER.getDefaultState().withProperty(BlockSnow.LAYERS, 1);
     public static final IBlockState SALT_WATER_ICE = BlocksTFC.SEA_ICE.getDefaultState();
     public static final IBlockState FRESH_WATER_ICE = Blocks.ICE.getDefaultState();
-    private static final float[] parabolicField = new float[25];
 
     /* This is done here rather than GameRegistry.registerWorldGenerator since we need to control the ordering of them better */
     private static final IWorldGenerator LAVA_FISSURE_GEN = new RarityBasedWorldGen(x -> x.lavaFissureRarity, new WorldGenFissure(true));
@@ -93,49 +83,12 @@ public class ChunkGenTFC implements IChunkGenerator
     private static final IWorldGenerator LAVAFALL_GEN = new WorldGenFalls(Blocks.FLOWING_LAVA.getDefaultState(), 5);
     private static final IWorldGenerator SNOW_ICE_GEN = new WorldGenSnowIce();
 
-    static
-    {
-        for (int x = -2; x <= 2; ++x)
-        {
-            for (int y = -2; y <= 2; ++y)
-            {
-                parabolicField[x + 2 + (y + 2) * 5] = 10.0F / MathHelper.sqrt(x * x + y * y + 0.2F);
-                // Results in the following plot: http://i.imgur.com/rxrui67.png
-            }
-        }
-    }
-
     public final WorldGenSettings s;
     private final World world;
     private final long seed;
     private final Random rand;
-    private final NoiseGeneratorOctaves noiseGen1;
-    private final NoiseGeneratorOctaves noiseGen2;
-    private final NoiseGeneratorOctaves noiseGen3;
-    private final NoiseGeneratorOctaves noiseGen4;
-    private final NoiseGeneratorOctaves noiseGen5;
-    private final NoiseGeneratorOctaves noiseGen6;
-    private final NoiseGeneratorOctaves mobSpawnerNoise;
-    private final NoiseGeneratorPerlin noiseGen7; // Rainfall
-    private final NoiseGeneratorPerlin noiseGen8; // Flora Density
-    private final NoiseGeneratorPerlin noiseGen9; // Flora Diversity
-    private final NoiseGeneratorPerlin noiseGen10; // Temperature
-    private final GenLayerTFC rocksGenLayer1;
-    private final GenLayerTFC rocksGenLayer2;
-    private final GenLayerTFC rocksGenLayer3;
-    private final GenLayerTFC stabilityGenLayer;
-    private final GenLayerTFC phGenLayer;
-    private final GenLayerTFC drainageGenLayer;
-    private final double[] noise1 = new double[425];
-    private final double[] noise2 = new double[425];
-    private final double[] noise3 = new double[425];
-    private final double[] noise4 = new double[256];
-    private final double[] noise5 = new double[425];
-    private final double[] noise6 = new double[425];
-    private final double[] heightMap = new double[425];
-    private final Biome[] biomes = new Biome[324];
-    private final DataLayer[] stabilityLayer = new DataLayer[256];
-    private final DataLayer[] drainageLayer = new DataLayer[256];
+    private final ColumnDataPipeline columnDataPipeline;
+    private final DataLayer[] stabilityLayer = new DataLayer[256]; // Shared with the cave generator
     private final int[] seaLevelOffsetMap = new int[256];
     private final int[] chunkHeightMap = new int[256];
 
@@ -147,9 +100,12 @@ public class ChunkGenTFC implements IChunkGenerator
     private final int seaLevel = 32;
     private final int yOffset = 112;
     private final float rainfallSpread, floraDensitySpread, floraDiversitySpread;
-    private int[] rockLayer1 = new int[256];
-    private int[] rockLayer2 = new int[256];
-    private int[] rockLayer3 = new int[256];
+    private Biome[] biomes;
+    private DataLayer[] drainageLayer;
+    private double[] surfaceNoise;
+    private int[] rockLayer1;
+    private int[] rockLayer2;
+    private int[] rockLayer3;
     private float rainfall;
     private float averageTemp;
 
@@ -160,27 +116,6 @@ public class ChunkGenTFC implements IChunkGenerator
         rand = new Random(seed);
         s = WorldGenSettings.fromString(settingsString).build();
 
-        noiseGen1 = new NoiseGeneratorOctaves(rand, 4);
-        noiseGen2 = new NoiseGeneratorOctaves(rand, 16);
-        noiseGen3 = new NoiseGeneratorOctaves(rand, 8);
-        noiseGen4 = new NoiseGeneratorOctaves(rand, 4);
-        noiseGen5 = new NoiseGeneratorOctaves(rand, 2);
-        noiseGen6 = new NoiseGeneratorOctaves(rand, 1);
-        mobSpawnerNoise = new NoiseGeneratorOctaves(rand, 8);
-
-        rocksGenLayer1 = GenLayerTFC.initializeRock(seed + 1, RockCategory.Layer.TOP, s.rockLayerSize);
-        rocksGenLayer2 = GenLayerTFC.initializeRock(seed + 2, RockCategory.Layer.MIDDLE, s.rockLayerSize);
-        rocksGenLayer3 = GenLayerTFC.initializeRock(seed + 3, RockCategory.Layer.BOTTOM, s.rockLayerSize);
-
-        noiseGen7 = new NoiseGeneratorPerlin(new Random(seed + 4), 4);
-        noiseGen8 = new NoiseGeneratorPerlin(new Random(seed + 5), 4);
-        noiseGen9 = new NoiseGeneratorPerlin(new Random(seed + 6), 4);
-        noiseGen10 = new NoiseGeneratorPerlin(new Random(seed + 7), 4);
-
-        stabilityGenLayer = GenLayerTFC.initializeStability(seed + 9);
-        phGenLayer = GenPHLayer.initializePH(seed + 10);
-        drainageGenLayer = GenDrainageLayer.initialize(seed + 11);
-
         caveGen = TerrainGen.getModdedMapGen(new MapGenCavesTFC(stabilityLayer), InitMapGenEvent.EventType.CAVE);
         surfaceRavineGen = new MapGenRavineTFC(s.surfaceRavineRarity, s.surfaceRavineHeight, s.surfaceRavineVariability);
         ravineGen = new MapGenRavineTFC(s.ravineRarity, s.ravineHeight, s.ravineVariability);
@@ -190,45 +125,44 @@ public class ChunkGenTFC implements IChunkGenerator
         rainfallSpread = (float) ConfigTFC.General.WORLD.rainfallSpreadFactor;
         floraDiversitySpread = (float) ConfigTFC.General.WORLD.floraDiversitySpreadFactor;
         floraDensitySpread = (float) ConfigTFC.General.WORLD.floraDensitySpreadFactor;
+        columnDataPipeline = new ColumnDataPipeline(() -> new ColumnDataGenerator(seed, s, SALT_WATER, rainfallSpread, floraDensitySpread, floraDiversitySpread), ConfigTFC.General.WORLD.generationThreads, ConfigTFC.General.WORLD.generationPrefetchRadius);
         world.setSeaLevel(WorldTypeTFC.SEALEVEL); // Set sea level so squids can spawn
         WorldEntitySpawnerTFC.init(); // Called here so only TFC Worlds are affected
     }
 
+    /**
+     * Stops computing column data ahead of time. Called when the world is unloaded
+     */
+    public void onWorldUnload()
+    {
+        columnDataPipeline.shutdown();
+    }
+
     @Override
     public Chunk generateChunk(int chunkX, int chunkZ)
     {
-        Arrays.fill(noise1, 0);
-        Arrays.fill(noise2, 0);
-        Arrays.fill(noise3, 0);
-        Arrays.fill(noise4, 0);
-        Arrays.fill(noise5, 0);
-        Arrays.fill(noise6, 0);
         Arrays.fill(seaLevelOffsetMap, 0);
         Arrays.fill(chunkHeightMap, 0);
-        Arrays.fill(heightMap, 0);
-
-        rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
-        ChunkPrimer chunkPrimerIn = new ChunkPrimer();
-        generateRoughTerrain(chunkX, chunkZ, chunkPrimerIn);
-
-        world.getBiomeProvider().getBiomes(biomes, chunkX * 16 - 1, chunkZ * 16 - 1, 18, 18);
-
-        loadLayerGeneratorData(stabilityGenLayer, stabilityLayer, chunkX * 16, chunkZ * 16, 16, 16);
-        loadLayerGeneratorData(drainageGenLayer, drainageLayer, chunkX * 16, chunkZ * 16, 16, 16);
-
-        rainfall = MathHelper.clamp(250f + 250f * rainfallSpread * (float) noiseGen7.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 500);
-        float floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
-        float floraDensity = MathHelper.clamp((0.3f + 0.2f * rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
 
-        rockLayer1 = rocksGenLayer1.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer2 = rocksGenLayer2.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-        rockLayer3 = rocksGenLayer3.getInts(chunkX * 16, chunkZ * 16, 16, 16).clone();
-
-        final float regionalFactor = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
-        averageTemp = ClimateHelper.monthFactor(regionalFactor, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
+        // The height field, rock layers and climate are computed ahead of time if possible
+        ChunkColumnData column = columnDataPipeline.take(chunkX, chunkZ, world.getChunkProvider(), this::isChunkWatched);
+        ChunkPrimer chunkPrimerIn = column.roughTerrain;
+        biomes = column.biomes;
+        System.arraycopy(column.stabilityLayer, 0, stabilityLayer, 0, 256);
+        drainageLayer = column.drainageLayer;
+        surfaceNoise = column.surfaceNoise;
+        rockLayer1 = column.rockLayer1;
+        rockLayer2 = column.rockLayer2;
+        rockLayer3 = column.rockLayer3;
+        rainfall = column.rainfall;
+        averageTemp = column.averageTemp;
+        final float floraDensity = column.floraDensity;
+        final float floraDiversity = column.floraDiversity;
+        final float regionalFactor = column.regionalTemp;
 
+        rand.setSeed(chunkX * 341873128712L + chunkZ * 132897987541L);
         CustomChunkPrimer chunkPrimerOut = new CustomChunkPrimer();
-        replaceBlocksForBiomeHigh(chunkX, chunkZ, chunkPrimerIn, chunkPrimerOut);
+        replaceBlocksForBiomeHigh(chunkPrimerIn, chunkPrimerOut);
 
         if (caveGen instanceof MapGenCavesTFC)
         {
@@ -358,176 +292,13 @@ public class ChunkGenTFC implements IChunkGenerator
         return false; //todo
     }
 
-    @SuppressWarnings("SameParameterValue")
-    private void loadLayerGeneratorData(GenLayerTFC gen, DataLayer[] layers, int x, int y, int width, int height)
-    {
-        IntCache.resetIntCache();
-        int[] ints = gen.getInts(x, y, width, height);
-        for (int i = 0; i < width * height; ++i)
-        {
-            layers[i] = DataLayer.get(ints[i]);
-        }
-    }
-
-    @SuppressWarnings("PointlessArithmeticExpression")
-    private void generateRoughTerrain(int chunkX, int chunkZ, ChunkPrimer primer)
-    {
-        world.getBiomeProvider().getBiomesForGeneration(biomes, chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
-        generateHeightMap(chunkX * 4, chunkZ * 4);
-
-        for (int x = 0; x < 4; ++x)
-        {
-            for (int z = 0; z < 4; ++z)
-            {
-                for (int y = 0; y < 16; ++y)
-                {
-                    double noiseDL = heightMap[((x + 0) * 5 + z + 0) * 17 + y];
-                    double noiseUL = heightMap[((x + 0) * 5 + z + 1) * 17 + y];
-                    double noiseDR = heightMap[((x + 1) * 5 + z + 0) * 17 + y];
-                    double noiseUR = heightMap[((x + 1) * 5 + z + 1) * 17 + y];
-                    final double noiseDLA = (heightMap[((x + 0) * 5 + z + 0) * 17 + y + 1] - noiseDL) * 0.125D;
-                    final double noiseULA = (heightMap[((x + 0) * 5 + z + 1) * 17 + y + 1] - noiseUL) * 0.125D;
-                    final double noiseDRA = (heightMap[((x + 1) * 5 + z + 0) * 17 + y + 1] - noiseDR) * 0.125D;
-                    final double noiseURA = (heightMap[((x + 1) * 5 + z + 1) * 17 + y + 1] - noiseUR) * 0.125D;
-
-                    for (int yy = 0; yy < 8; ++yy)
-                    {
-                        double var34 = noiseDL;
-                        double var36 = noiseUL;
-                        final double var38 = (noiseDR - noiseDL) * 0.25D;
-                        final double var40 = (noiseUR - noiseUL) * 0.25D;
-
-                        for (int xx = 0; xx < 4; ++xx)
-                        {
-                            final double var49 = (var36 - var34) * 0.25D;
-                            double var47 = var34 - var49;
-
-                            for (int zz = 0; zz < 4; ++zz)
-                            {
-                                if ((var47 += var49) > 0.0D)
-                                    primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, STONE);
-                                else if (y * 8 + yy < seaLevel)
-                                    primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, SALT_WATER);
-                                else primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, AIR);
-                            }
-                            var34 += var38;
-                            var36 += var40;
-                        }
-                        noiseDL += noiseDLA;
-                        noiseUL += noiseULA;
-                        noiseDR += noiseDRA;
-                        noiseUR += noiseURA;
-                    }
-                }
-            }
-        }
-    }
-
-    private void generateHeightMap(int xPos, int zPos)
-    {
-        noiseGen6.generateNoiseOctaves(noise6, xPos, zPos, 5, 5, 200.0D, 200.0D, 0.5D);
-        noiseGen3.generateNoiseOctaves(noise3, xPos, 0, zPos, 5, 17, 5, 12.5, 6.25, 12.5);
-        noiseGen1.generateNoiseOctaves(noise1, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
-        noiseGen2.generateNoiseOctaves(noise2, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
-
-        int i = 0;
-        int j = 0;
-
-        for (int x = 0; x < 5; ++x)
-        {
-            for (int z = 0; z < 5; ++z)
-            {
-                float variationBlended = 0.0F;
-                float rootBlended = 0.0F;
-                float totalBlendedHeight = 0.0F;
-                Biome baseBiome = biomes[x + 2 + (z + 2) * 10];
-
-                for (int xR = -2; xR <= 2; ++xR)
-                {
-                    for (int zR = -2; zR <= 2; ++zR)
-                    {
-                        Biome blendBiome = biomes[x + xR + 2 + (z + zR + 2) * 10];
-                        float blendedHeight = parabolicField[xR + 2 + (zR + 2) * 5] / 2.0F;
-                        if (blendBiome.getBaseHeight() > baseBiome.getBaseHeight())
-                            blendedHeight *= 0.5F;
-
-                        variationBlended += blendBiome.getHeightVariation() * blendedHeight;
-                        rootBlended += blendBiome.getBaseHeight() * blendedHeight;
-                        totalBlendedHeight += blendedHeight;
-                    }
-                }
-
-                variationBlended /= totalBlendedHeight;
-                rootBlended /= totalBlendedHeight;
-                variationBlended = variationBlended * 0.9F + 0.1F;
-                rootBlended = (rootBlended * 4.0F - 1.0F) / 8.0F;
-
-                double scaledNoise6Value = noise6[j++] / 8000.0D;
-
-                if (scaledNoise6Value < 0.0D)
-                    scaledNoise6Value = -scaledNoise6Value * 0.3D; //If negative, make positive and shrink by a third?
-
-                scaledNoise6Value = scaledNoise6Value * 3.0D - 2.0D;
-
-                if (scaledNoise6Value < 0.0D) // Only true when noise6[index2] is between -17,777 and 0, scaledNoise6Value will be at maximum -2
-                {
-                    scaledNoise6Value /= 2.0D; // Results in values between 0 and -1
-                    if (scaledNoise6Value < -1.0D) //Error Checking
-                        scaledNoise6Value = -1.0D;
-                    scaledNoise6Value /= 1.4D * 2.0D; // Results in values between 0 and -0.357143
-                }
-                else
-                {
-                    if (scaledNoise6Value > 1.0D)
-                        scaledNoise6Value = 1.0D;
-                    scaledNoise6Value /= 8.0D; // Results in values between 0 and 0.125
-                }
-
-                for (int y = 0; y < 17; ++y)
-                {
-                    double rootBlendedCopy = rootBlended;
-                    rootBlendedCopy += scaledNoise6Value * 0.2D;
-                    rootBlendedCopy = rootBlendedCopy * 17 / 16.0D;
-                    double var28 = 17 / 2.0D + rootBlendedCopy * 4.0D;
-                    double output;
-                    double var32 = (y - var28) * 12.0D * 256.0D / 256.0D / (2.70 + variationBlended);
-
-                    if (var32 < 0.0D)
-                        var32 *= 4.0D;
-
-                    double var34 = noise1[i] / 512.0D;
-                    double var36 = noise2[i] / 512.0D;
-                    double var38 = (noise3[i] / 10.0D + 1.0D) / 2.0D;
-
-                    if (var38 < 0.0D)
-                        output = var34;
-                    else if (var38 > 1.0D)
-                        output = var36;
-                    else
-                        output = var34 + (var36 - var34) * var38;
-
-                    output -= var32;
-                    if (y > 17 - 4)
-                    {
-                        double var40 = (y - (17 - 4)) / 3.0F;
-                        output = output * (1.0D - var40) + -10.0D * var40;
-                    }
-
-                    heightMap[i++] = output;
-                }
-            }
-        }
-    }
-
     private Biome getBiomeOffset(int x, int z)
     {
         return biomes[(z + 1) * 18 + (x + 1)]; //todo: check, was (z + 1) + (x + 1) * 18
     }
 
-    private void replaceBlocksForBiomeHigh(int chunkX, int chunkZ, ChunkPrimer inp, CustomChunkPrimer outp)
+    private void replaceBlocksForBiomeHigh(ChunkPrimer inp, CustomChunkPrimer outp)
     {
-        double var6 = 0.03125D;
-        noiseGen4.generateNoiseOctaves(noise4, chunkX * 16, chunkZ * 16, 0, 16, 16, 1, var6 * 4.0D, var6, var6 * 4.0D);
         boolean[] cliffMap = new boolean[256];
         for (int x = 0; x < 16; ++x)
         {
@@ -542,7 +313,7 @@ public class ChunkGenTFC implements IChunkGenerator
 
                 DataLayer drainage = drainageLayer[colIndex];
                 DataLayer stability = stabilityLayer[colIndex];
-                int noise = (int) (noise4[colIndex] / 3.0D + 6.0D);
+                int noise = (int) (surfaceNoise[colIndex] / 3.0D + 6.0D);
                 int smooth = -1;
 
                 IBlockState surfaceBlock = BlockRockVariant.get(rock1, rainfall + 1.3 * rand.nextGaussian() >= 150f ? Rock.Type.GRASS : Rock.Type.DRY_GRASS).getDefaultState();
@@ -780,4 +551,9 @@ public class ChunkGenTFC implements IChunkGenerator
             }
         }
     }
+
+    private boolean isChunkWatched(long chunkKey)
+    {
+        return world instanceof WorldServer && ((WorldServer) world).getPlayerChunkMap().contains((int) chunkKey, (int) (chunkKey >> 32));
+    }
 }
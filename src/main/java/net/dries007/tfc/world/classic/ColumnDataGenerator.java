@@ -0,0 +1,312 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.Random;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Biomes;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.gen.NoiseGeneratorOctaves;
+import net.minecraft.world.gen.NoiseGeneratorPerlin;
+
+import net.dries007.tfc.api.types.RockCategory;
+import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.util.climate.ClimateHelper;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.datalayers.drainage.GenDrainageLayer;
+
+/**
+ * The first stage of chunk generation: the height field, rock layers, data layers and climate of a chunk
+ * This only depends on the world seed and settings, not on the world itself, so it can run on any thread.
+ * Each instance must only be used by one thread at a time, as it owns its own noise and layer generators, and {@link GenLayerTFC#useThreadLocalIntCache()} must be called on worker threads
+ * The rough terrain is the same stone, air and sea water as {@link ChunkGenTFC} uses, but the sea water is passed in, so this only needs the rock and biome registries
+ */
+final class ColumnDataGenerator implements ColumnDataPipeline.Generator
+{
+    private static final int SEA_LEVEL = 32; // Sea level of the rough terrain, before the y offset is applied
+    private static final IBlockState STONE = Blocks.STONE.getDefaultState();
+    private static final IBlockState AIR = Blocks.AIR.getDefaultState();
+    private static final float[] PARABOLIC_FIELD = new float[25];
+
+    static
+    {
+        for (int x = -2; x <= 2; ++x)
+        {
+            for (int y = -2; y <= 2; ++y)
+            {
+                PARABOLIC_FIELD[x + 2 + (y + 2) * 5] = 10.0F / MathHelper.sqrt(x * x + y * y + 0.2F);
+                // Results in the following plot: http://i.imgur.com/rxrui67.png
+            }
+        }
+    }
+
+    private final NoiseGeneratorOctaves noiseGen1;
+    private final NoiseGeneratorOctaves noiseGen2;
+    private final NoiseGeneratorOctaves noiseGen3;
+    private final NoiseGeneratorOctaves noiseGen4;
+    private final NoiseGeneratorOctaves noiseGen6;
+    private final NoiseGeneratorPerlin noiseGen7; // Rainfall
+    private final NoiseGeneratorPerlin noiseGen8; // Flora Density
+    private final NoiseGeneratorPerlin noiseGen9; // Flora Diversity
+    private final NoiseGeneratorPerlin noiseGen10; // Temperature
+    private final GenLayerTFC biomesGenLayer;
+    private final GenLayerTFC biomeIndexGenLayer;
+    private final GenLayerTFC rocksGenLayer1;
+    private final GenLayerTFC rocksGenLayer2;
+    private final GenLayerTFC rocksGenLayer3;
+    private final GenLayerTFC stabilityGenLayer;
+    private final GenLayerTFC drainageGenLayer;
+    private final IBlockState seaWater;
+    private final float rainfallSpread, floraDensitySpread, floraDiversitySpread;
+
+    ColumnDataGenerator(long seed, WorldGenSettings settings, IBlockState seaWater, float rainfallSpread, float floraDensitySpread, float floraDiversitySpread)
+    {
+        // The generators must be created in this order, as they share the same random
+        Random rand = new Random(seed);
+        noiseGen1 = new NoiseGeneratorOctaves(rand, 4);
+        noiseGen2 = new NoiseGeneratorOctaves(rand, 16);
+        noiseGen3 = new NoiseGeneratorOctaves(rand, 8);
+        noiseGen4 = new NoiseGeneratorOctaves(rand, 4);
+        new NoiseGeneratorOctaves(rand, 2); // Unused
+        noiseGen6 = new NoiseGeneratorOctaves(rand, 1);
+
+        // The same layers as the biome provider, see BiomeProviderTFC
+        GenLayerTFC[] biomeLayers = GenLayerTFC.initializeBiomes(seed);
+        biomesGenLayer = biomeLayers[0];
+        biomeIndexGenLayer = biomeLayers[1];
+
+        rocksGenLayer1 = GenLayerTFC.initializeRock(seed + 1, RockCategory.Layer.TOP, settings.rockLayerSize);
+        rocksGenLayer2 = GenLayerTFC.initializeRock(seed + 2, RockCategory.Layer.MIDDLE, settings.rockLayerSize);
+        rocksGenLayer3 = GenLayerTFC.initializeRock(seed + 3, RockCategory.Layer.BOTTOM, settings.rockLayerSize);
+
+        noiseGen7 = new NoiseGeneratorPerlin(new Random(seed + 4), 4);
+        noiseGen8 = new NoiseGeneratorPerlin(new Random(seed + 5), 4);
+        noiseGen9 = new NoiseGeneratorPerlin(new Random(seed + 6), 4);
+        noiseGen10 = new NoiseGeneratorPerlin(new Random(seed + 7), 4);
+
+        stabilityGenLayer = GenLayerTFC.initializeStability(seed + 9);
+        drainageGenLayer = GenDrainageLayer.initialize(seed + 11);
+
+        this.seaWater = seaWater;
+        this.rainfallSpread = rainfallSpread;
+        this.floraDensitySpread = floraDensitySpread;
+        this.floraDiversitySpread = floraDiversitySpread;
+    }
+
+    @Override
+    public ChunkColumnData generate(int chunkX, int chunkZ)
+    {
+        ChunkColumnData data = new ChunkColumnData(chunkX, chunkZ);
+
+        Biome[] biomesForGeneration = getBiomes(biomesGenLayer, new Biome[100], chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
+        double[] heightMap = generateHeightMap(biomesForGeneration, chunkX * 4, chunkZ * 4);
+        generateRoughTerrain(heightMap, data.roughTerrain);
+
+        getBiomes(biomeIndexGenLayer, data.biomes, chunkX * 16 - 1, chunkZ * 16 - 1, 18, 18);
+
+        loadLayerGeneratorData(stabilityGenLayer, data.stabilityLayer, chunkX * 16, chunkZ * 16, 16, 16);
+        loadLayerGeneratorData(drainageGenLayer, data.drainageLayer, chunkX * 16, chunkZ * 16, 16, 16);
+
+        data.rainfall = MathHelper.clamp(250f + 250f * rainfallSpread * (float) noiseGen7.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 500);
+        data.floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
+        data.floraDensity = MathHelper.clamp((0.3f + 0.2f * data.rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
+
+        loadLayerGeneratorData(rocksGenLayer1, data.rockLayer1, chunkX * 16, chunkZ * 16);
+        loadLayerGeneratorData(rocksGenLayer2, data.rockLayer2, chunkX * 16, chunkZ * 16);
+        loadLayerGeneratorData(rocksGenLayer3, data.rockLayer3, chunkX * 16, chunkZ * 16);
+
+        data.regionalTemp = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
+        data.averageTemp = ClimateHelper.monthFactor(data.regionalTemp, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
+
+        double var6 = 0.03125D;
+        noiseGen4.generateNoiseOctaves(data.surfaceNoise, chunkX * 16, chunkZ * 16, 0, 16, 16, 1, var6 * 4.0D, var6, var6 * 4.0D);
+        return data;
+    }
+
+    /**
+     * Same as {@link net.minecraft.world.biome.BiomeProvider#getBiomes(Biome[], int, int, int, int, boolean)}, without the cache
+     */
+    private Biome[] getBiomes(GenLayerTFC layer, Biome[] biomes, int x, int z, int width, int height)
+    {
+        GenLayerTFC.resetIntCache();
+        int[] ints = layer.getInts(x, z, width, height);
+        for (int i = 0; i < width * height; ++i)
+        {
+            biomes[i] = Biome.getBiome(ints[i], Biomes.DEFAULT);
+        }
+        return biomes;
+    }
+
+    @SuppressWarnings("SameParameterValue")
+    private void loadLayerGeneratorData(GenLayerTFC gen, DataLayer[] layers, int x, int y, int width, int height)
+    {
+        GenLayerTFC.resetIntCache();
+        int[] ints = gen.getInts(x, y, width, height);
+        for (int i = 0; i < width * height; ++i)
+        {
+            layers[i] = DataLayer.get(ints[i]);
+        }
+    }
+
+    private void loadLayerGeneratorData(GenLayerTFC gen, int[] layer, int x, int y)
+    {
+        GenLayerTFC.resetIntCache();
+        System.arraycopy(gen.getInts(x, y, 16, 16), 0, layer, 0, 256);
+    }
+
+    @SuppressWarnings("PointlessArithmeticExpression")
+    private void generateRoughTerrain(double[] heightMap, ChunkPrimer primer)
+    {
+        for (int x = 0; x < 4; ++x)
+        {
+            for (int z = 0; z < 4; ++z)
+            {
+                for (int y = 0; y < 16; ++y)
+                {
+                    double noiseDL = heightMap[((x + 0) * 5 + z + 0) * 17 + y];
+                    double noiseUL = heightMap[((x + 0) * 5 + z + 1) * 17 + y];
+                    double noiseDR = heightMap[((x + 1) * 5 + z + 0) * 17 + y];
+                    double noiseUR = heightMap[((x + 1) * 5 + z + 1) * 17 + y];
+                    final double noiseDLA = (heightMap[((x + 0) * 5 + z + 0) * 17 + y + 1] - noiseDL) * 0.125D;
+                    final double noiseULA = (heightMap[((x + 0) * 5 + z + 1) * 17 + y + 1] - noiseUL) * 0.125D;
+                    final double noiseDRA = (heightMap[((x + 1) * 5 + z + 0) * 17 + y + 1] - noiseDR) * 0.125D;
+                    final double noiseURA = (heightMap[((x + 1) * 5 + z + 1) * 17 + y + 1] - noiseUR) * 0.125D;
+
+                    for (int yy = 0; yy < 8; ++yy)
+                    {
+                        double var34 = noiseDL;
+                        double var36 = noiseUL;
+                        final double var38 = (noiseDR - noiseDL) * 0.25D;
+                        final double var40 = (noiseUR - noiseUL) * 0.25D;
+
+                        for (int xx = 0; xx < 4; ++xx)
+                        {
+                            final double var49 = (var36 - var34) * 0.25D;
+                            double var47 = var34 - var49;
+
+                            for (int zz = 0; zz < 4; ++zz)
+                            {
+                                if ((var47 += var49) > 0.0D)
+                                    primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, STONE);
+                                else if (y * 8 + yy < SEA_LEVEL)
+                                    primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, seaWater);
+                                else primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, AIR);
+                            }
+                            var34 += var38;
+                            var36 += var40;
+                        }
+                        noiseDL += noiseDLA;
+                        noiseUL += noiseULA;
+                        noiseDR += noiseDRA;
+                        noiseUR += noiseURA;
+                    }
+                }
+            }
+        }
+    }
+
+    private double[] generateHeightMap(Biome[] biomes, int xPos, int zPos)
+    {
+        double[] noise1 = noiseGen1.generateNoiseOctaves(null, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
+        double[] noise2 = noiseGen2.generateNoiseOctaves(null, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
+        double[] noise3 = noiseGen3.generateNoiseOctaves(null, xPos, 0, zPos, 5, 17, 5, 12.5, 6.25, 12.5);
+        double[] noise6 = noiseGen6.generateNoiseOctaves(null, xPos, zPos, 5, 5, 200.0D, 200.0D, 0.5D);
+        double[] heightMap = new double[425];
+
+        int i = 0;
+        int j = 0;
+
+        for (int x = 0; x < 5; ++x)
+        {
+            for (int z = 0; z < 5; ++z)
+            {
+                float variationBlended = 0.0F;
+                float rootBlended = 0.0F;
+                float totalBlendedHeight = 0.0F;
+                Biome baseBiome = biomes[x + 2 + (z + 2) * 10];
+
+                for (int xR = -2; xR <= 2; ++xR)
+                {
+                    for (int zR = -2; zR <= 2; ++zR)
+                    {
+                        Biome blendBiome = biomes[x + xR + 2 + (z + zR + 2) * 10];
+                        float blendedHeight = PARABOLIC_FIELD[xR + 2 + (zR + 2) * 5] / 2.0F;
+                        if (blendBiome.getBaseHeight() > baseBiome.getBaseHeight())
+                            blendedHeight *= 0.5F;
+
+                        variationBlended += blendBiome.getHeightVariation() * blendedHeight;
+                        rootBlended += blendBiome.getBaseHeight() * blendedHeight;
+                        totalBlendedHeight += blendedHeight;
+                    }
+                }
+
+                variationBlended /= totalBlendedHeight;
+                rootBlended /= totalBlendedHeight;
+                variationBlended = variationBlended * 0.9F + 0.1F;
+                rootBlended = (rootBlended * 4.0F - 1.0F) / 8.0F;
+
+                double scaledNoise6Value = noise6[j++] / 8000.0D;
+
+                if (scaledNoise6Value < 0.0D)
+                    scaledNoise6Value = -scaledNoise6Value * 0.3D; //If negative, make positive and shrink by a third?
+
+                scaledNoise6Value = scaledNoise6Value * 3.0D - 2.0D;
+
+                if (scaledNoise6Value < 0.0D) // Only true when noise6[index2] is between -17,777 and 0, scaledNoise6Value will be at maximum -2
+                {
+                    scaledNoise6Value /= 2.0D; // Results in values between 0 and -1
+                    if (scaledNoise6Value < -1.0D) //Error Checking
+                        scaledNoise6Value = -1.0D;
+                    scaledNoise6Value /= 1.4D * 2.0D; // Results in values between 0 and -0.357143
+                }
+                else
+                {
+                    if (scaledNoise6Value > 1.0D)
+                        scaledNoise6Value = 1.0D;
+                    scaledNoise6Value /= 8.0D; // Results in values between 0 and 0.125
+                }
+
+                for (int y = 0; y < 17; ++y)
+                {
+                    double rootBlendedCopy = rootBlended;
+                    rootBlendedCopy += scaledNoise6Value * 0.2D;
+                    rootBlendedCopy = rootBlendedCopy * 17 / 16.0D;
+                    double var28 = 17 / 2.0D + rootBlendedCopy * 4.0D;
+                    double output;
+                    double var32 = (y - var28) * 12.0D * 256.0D / 256.0D / (2.70 + variationBlended);
+
+                    if (var32 < 0.0D)
+                        var32 *= 4.0D;
+
+                    double var34 = noise1[i] / 512.0D;
+                    double var36 = noise2[i] / 512.0D;
+                    double var38 = (noise3[i] / 10.0D + 1.0D) / 2.0D;
+
+                    if (var38 < 0.0D)
+                        output = var34;
+                    else if (var38 > 1.0D)
+                        output = var36;
+                    else
+                        output = var34 + (var36 - var34) * var38;
+
+                    output -= var32;
+                    if (y > 17 - 4)
+                    {
+                        double var40 = (y - (17 - 4)) / 3.0F;
+                        output = output * (1.0D - var40) + -10.0D * var40;
+                    }
+
+                    heightMap[i++] = output;
+                }
+            }
+        }
+        return heightMap;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.IChunkProvider;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+
+/**
+ * Computes {@link ChunkColumnData} for chunks around the ones being generated, on a pool of worker threads, so it is (hopefully) ready by the time those chunks are generated.
+ * Each worker thread has its own {@link Generator}. This is only accessed from the server thread.
+ * At most a few tasks per worker are kept. Tasks for chunks which are no longer near the chunk being generated, or watched by a player, are dropped.
+ */
+final class ColumnDataPipeline
+{
+    private static final int PENDING_PER_THREAD = 16;
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final Generator serverGenerator;
+    private final Long2ObjectOpenHashMap<Future<ChunkColumnData>> pending = new Long2ObjectOpenHashMap<>();
+    private final ThreadLocal<Generator> workerGenerators;
+    private final ThreadPoolExecutor executor;
+    private final int prefetchRadius, maxPending;
+
+    /**
+     * @param generatorFactory creates a generator. Called once for the server thread, and once by each worker thread
+     * @param threads          the number of worker threads. If zero, everything is generated on the server thread, when required
+     */
+    ColumnDataPipeline(Supplier<? extends Generator> generatorFactory, int threads, int prefetchRadius)
+    {
+        this.serverGenerator = generatorFactory.get();
+        this.workerGenerators = ThreadLocal.withInitial(generatorFactory);
+        this.prefetchRadius = prefetchRadius;
+        this.maxPending = threads * PENDING_PER_THREAD;
+        if (threads > 0)
+        {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), task -> {
+                Thread thread = new Thread(() -> {
+                    GenLayerTFC.useThreadLocalIntCache();
+                    task.run();
+                }, "TFC Column Generator #" + THREAD_ID.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            // Idle threads stop, so nothing is left behind if the pipeline isn't shut down
+            executor.allowCoreThreadTimeOut(true);
+            this.executor = executor;
+        }
+        else
+        {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Gets the column data for a chunk which is about to be generated, and starts computing the data for the chunks around it
+     * This never waits for the worker threads: if the data for this chunk isn't ready yet, it is generated on the server thread instead
+     *
+     * @param chunkProvider used to skip chunks which have already been generated
+     * @param isWatched     if a chunk (by {@link ChunkPos#asLong(int, int)}) is watched by a player. Tasks for other chunks are dropped once they are outside the prefetch radius
+     */
+    ChunkColumnData take(int chunkX, int chunkZ, IChunkProvider chunkProvider, LongPredicate isWatched)
+    {
+        Future<ChunkColumnData> future = pending.remove(ChunkPos.asLong(chunkX, chunkZ));
+        if (executor != null)
+        {
+            dropUnneeded(chunkX, chunkZ, isWatched);
+            prefetch(chunkX, chunkZ, chunkProvider);
+        }
+
+        ChunkColumnData data = null;
+        if (future != null)
+        {
+            if (future.isDone())
+            {
+                data = get(future);
+            }
+            else
+            {
+                // Not ready in time, and the server thread must not wait for the workers, as they may have a full queue ahead of this task
+                future.cancel(false);
+            }
+        }
+        if (data == null)
+        {
+            data = serverGenerator.generate(chunkX, chunkZ);
+        }
+        return data;
+    }
+
+    /**
+     * Cancels all pending tasks and stops the worker threads. Call when the world is unloaded
+     */
+    void shutdown()
+    {
+        pending.values().forEach(future -> future.cancel(false));
+        pending.clear();
+        if (executor != null)
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return the number of pending (queued, running or finished but not yet used) tasks
+     */
+    int getPendingCount()
+    {
+        return pending.size();
+    }
+
+    private void dropUnneeded(int chunkX, int chunkZ, LongPredicate isWatched)
+    {
+        boolean dropped = false;
+        ObjectIterator<Long2ObjectMap.Entry<Future<ChunkColumnData>>> iterator = pending.long2ObjectEntrySet().fastIterator();
+        while (iterator.hasNext())
+        {
+            Long2ObjectMap.Entry<Future<ChunkColumnData>> entry = iterator.next();
+            long key = entry.getLongKey();
+            int x = (int) key, z = (int) (key >> 32); // See ChunkPos#asLong
+            if ((Math.abs(x - chunkX) > prefetchRadius || Math.abs(z - chunkZ) > prefetchRadius) && !isWatched.test(key))
+            {
+                entry.getValue().cancel(false);
+                iterator.remove();
+                dropped = true;
+            }
+        }
+        if (dropped)
+        {
+            // Removes the cancelled tasks from the work queue
+            executor.purge();
+        }
+    }
+
+    private void prefetch(int chunkX, int chunkZ, IChunkProvider chunkProvider)
+    {
+        // Nearest chunks first, as those are the most likely to be generated next
+        for (int ring = 1; ring <= prefetchRadius; ring++)
+        {
+            for (int x = chunkX - ring; x <= chunkX + ring; x++)
+            {
+                for (int z = chunkZ - ring; z <= chunkZ + ring; z++)
+                {
+                    if (Math.abs(x - chunkX) != ring && Math.abs(z - chunkZ) != ring)
+                    {
+                        continue; // Not on the edge of this ring
+                    }
+                    if (pending.size() >= maxPending)
+                    {
+                        // The workers are behind, so anything further away would likely not be ready in time
+                        return;
+                    }
+                    long key = ChunkPos.asLong(x, z);
+                    if (!pending.containsKey(key) && !chunkProvider.isChunkGeneratedAt(x, z))
+                    {
+                        final int taskX = x, taskZ = z;
+                        pending.put(key, executor.submit(() -> workerGenerators.get().generate(taskX, taskZ)));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param future a completed task
+     */
+    @Nullable
+    private ChunkColumnData get(Future<ChunkColumnData> future)
+    {
+        try
+        {
+            return future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        catch (ExecutionException | CancellationException e)
+        {
+            TerraFirmaCraft.getLog().warn("Column data generation failed, generating again on the server thread", e);
+        }
+        return null;
+    }
+
+    /**
+     * Computes the column data of a chunk. See {@link ColumnDataGenerator}
+     */
+    @FunctionalInterface
+    interface Generator
+    {
+        ChunkColumnData generate(int chunkX, int chunkZ);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.IntSupplier;
+import javax.annotation.Nullable;
+
+import net.minecraft.world.biome.Biome;
+
+import net.dries007.tfc.util.climate.BiomeHelper;
+import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+
+/**
+ * Describes where a creature spawns during world generation, without needing an instance of the creature.
+ * The spawn weight only depends on the biome type (see {@link BiomeHelper#getBiomeType(float, float, float)}) and if the biome is on land, which allows {@link WorldEntitySpawnerTFC} to precompute the candidates for each climate.
+ */
+public final class CreatureSpawnRule
+{
+    /**
+     * Spawns in any of the provided biome types, excluding oceans and beaches
+     */
+    public static CreatureSpawnRule onLand(IntSupplier rarity, BiomeHelper.BiomeType first, BiomeHelper.BiomeType... others)
+    {
+        return new CreatureSpawnRule(rarity, EnumSet.of(first, others), true);
+    }
+
+    /**
+     * Spawns anywhere, if the rarity is not zero
+     */
+    public static CreatureSpawnRule anywhere(IntSupplier rarity)
+    {
+        return new CreatureSpawnRule(rarity, null, false);
+    }
+
+    private final IntSupplier rarity;
+    private final Set<BiomeHelper.BiomeType> biomeTypes; // null = any biome type, including none
+    private final boolean landOnly;
+
+    private CreatureSpawnRule(IntSupplier rarity, @Nullable Set<BiomeHelper.BiomeType> biomeTypes, boolean landOnly)
+    {
+        this.rarity = rarity;
+        this.biomeTypes = biomeTypes == null ? null : Collections.unmodifiableSet(biomeTypes);
+        this.landOnly = landOnly;
+    }
+
+    /**
+     * @return 0 if can't spawn, 1 or more for how often this creature spawns (1 in N chunks)
+     * @see net.dries007.tfc.api.types.ICreatureTFC#getSpawnWeight(Biome, float, float, float, float)
+     */
+    public int getSpawnWeight(Biome biome, float temperature, float rainfall, float floraDensity)
+    {
+        if (canSpawnIn(BiomeHelper.getBiomeType(temperature, rainfall, floraDensity), !BiomesTFC.isOceanicBiome(biome) && !BiomesTFC.isBeachBiome(biome)))
+        {
+            return getRarity();
+        }
+        return 0;
+    }
+
+    public boolean canSpawnIn(@Nullable BiomeHelper.BiomeType biomeType, boolean land)
+    {
+        return (land || !landOnly) && (biomeTypes == null || biomeTypes.contains(biomeType));
+    }
+
+    /**
+     * @return the spawn weight in a valid climate. This is read from the config every time, so it may change
+     */
+    public int getRarity()
+    {
+        return rarity.getAsInt();
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.*;
+import javax.annotation.Nullable;
+
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Plant;
+import net.dries007.tfc.api.types.Tree;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Precomputed lists of the trees and plants that can possibly generate in a climate, so world gen doesn't have to go through the whole registry for every chunk.
+ * The climate is split into buckets of temperature, rainfall and flora density. Each bucket holds every candidate whose valid range overlaps it, in registry order.
+ * Callers still check each candidate exactly, so the results (and the order in which they are used) are the same as checking the entire registry.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class FloraIndex
+{
+    /**
+     * The order trees are tried in, most dominant first
+     */
+    public static final Comparator<Tree> TREE_ORDER = (s, t) -> (int) (t.getDominance() - s.getDominance());
+
+    private static final float TEMP_MIN = -30f, TEMP_STEP = 2.5f;
+    private static final int TEMP_BUCKETS = 32; // The first and last buckets extend to infinity
+    private static final float RAIN_MIN = 0f, RAIN_STEP = 25f;
+    private static final int RAIN_BUCKETS = 20;
+    private static final float DENSITY_MIN = 0f, DENSITY_STEP = 0.1f;
+    private static final int DENSITY_BUCKETS = 10;
+
+    private static volatile FloraIndex instance;
+
+    public static FloraIndex get()
+    {
+        FloraIndex index = instance;
+        if (index == null)
+        {
+            index = new FloraIndex();
+            instance = index;
+        }
+        return index;
+    }
+
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event)
+    {
+        if (!event.getWorld().isRemote && event.getWorld().provider.getDimension() == 0)
+        {
+            // Loading a world can remap the registries, which may change the registry order
+            instance = null;
+        }
+    }
+
+    private static int bucket(float value, float min, float step, int buckets)
+    {
+        int i = (int) Math.floor((value - min) / step);
+        return i < 0 ? 0 : (i >= buckets ? buckets - 1 : i);
+    }
+
+    /**
+     * Checks if the closed range [lo, hi] overlaps a bucket
+     * The bucket is widened by half a step, so rounding while picking a bucket can never leave out a valid candidate
+     */
+    private static boolean overlaps(float lo, float hi, int bucket, float min, float step, int buckets)
+    {
+        float bucketMin = bucket == 0 ? Float.NEGATIVE_INFINITY : min + (bucket - 0.5f) * step;
+        float bucketMax = bucket == buckets - 1 ? Float.POSITIVE_INFINITY : min + (bucket + 1.5f) * step;
+        return lo <= bucketMax && hi >= bucketMin;
+    }
+
+    private final TreeBucket[] trees;
+    private final Plant[][][] plants;
+
+    private FloraIndex()
+    {
+        List<Tree> allTrees = new ArrayList<>(TFCRegistries.TREES.getValuesCollection());
+        trees = new TreeBucket[TEMP_BUCKETS * RAIN_BUCKETS * DENSITY_BUCKETS];
+        for (int t = 0; t < TEMP_BUCKETS; t++)
+        {
+            for (int r = 0; r < RAIN_BUCKETS; r++)
+            {
+                for (int d = 0; d < DENSITY_BUCKETS; d++)
+                {
+                    List<Tree> candidates = new ArrayList<>();
+                    for (Tree tree : allTrees)
+                    {
+                        if (overlaps(tree.getMinTemp(), tree.getMaxTemp(), t, TEMP_MIN, TEMP_STEP, TEMP_BUCKETS) && overlaps(tree.getMinRain(), tree.getMaxRain(), r, RAIN_MIN, RAIN_STEP, RAIN_BUCKETS) && overlaps(tree.getMinDensity(), tree.getMaxDensity(), d, DENSITY_MIN, DENSITY_STEP, DENSITY_BUCKETS))
+                        {
+                            candidates.add(tree);
+                        }
+                    }
+                    trees[(t * RAIN_BUCKETS + r) * DENSITY_BUCKETS + d] = new TreeBucket(candidates.toArray(new Tree[0]));
+                }
+            }
+        }
+
+        List<Plant> allPlants = new ArrayList<>(TFCRegistries.PLANTS.getValuesCollection());
+        PlantGroup[] groups = PlantGroup.values();
+        plants = new Plant[groups.length][TEMP_BUCKETS * RAIN_BUCKETS][];
+        for (PlantGroup group : groups)
+        {
+            for (int t = 0; t < TEMP_BUCKETS; t++)
+            {
+                for (int r = 0; r < RAIN_BUCKETS; r++)
+                {
+                    List<Plant> candidates = new ArrayList<>();
+                    for (Plant plant : allPlants)
+                    {
+                        // Same range as Plant#isValidTempForWorldGen
+                        float avgTemp = Float.sum(plant.getMinTemp(), plant.getMaxTemp()) / 2f;
+                        float tempRange = Float.sum(plant.getMaxTemp(), -plant.getMinTemp()) / 4f;
+                        if (group.types.contains(plant.getPlantType()) && overlaps(avgTemp - tempRange, avgTemp + tempRange, t, TEMP_MIN, TEMP_STEP, TEMP_BUCKETS) && overlaps(plant.getMinRain(), plant.getMaxRain(), r, RAIN_MIN, RAIN_STEP, RAIN_BUCKETS))
+                        {
+                            candidates.add(plant);
+                        }
+                    }
+                    plants[group.ordinal()][t * RAIN_BUCKETS + r] = candidates.toArray(new Plant[0]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets all trees that are valid at this location, sorted by {@link #TREE_ORDER}
+     * The returned list is a copy, and can be modified by the caller
+     */
+    public List<Tree> getValidTrees(float temp, float rain, float density)
+    {
+        return new ArrayList<>(Arrays.asList(getTreeBucket(temp, rain, density).getValidTrees(temp, rain, density)));
+    }
+
+    /**
+     * Gets the first of the most dominant trees that are valid at this location
+     */
+    @Nullable
+    public Tree getDominantTree(float temp, float rain, float density)
+    {
+        Tree result = null;
+        for (Tree tree : getTreeBucket(temp, rain, density).candidates)
+        {
+            // Same as Stream#min, which keeps the first of equal elements
+            if (tree.isValidLocation(temp, rain, density) && (result == null || TREE_ORDER.compare(result, tree) > 0))
+            {
+                result = tree;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the plants in this group that might be able to generate in this climate, in registry order
+     * These still need to be checked with {@link Plant#isValidTempForWorldGen(float)} and {@link Plant#isValidRain(float)}. Do not modify the returned array
+     */
+    public Plant[] getPlants(PlantGroup group, float temp, float rain)
+    {
+        return plants[group.ordinal()][bucket(temp, TEMP_MIN, TEMP_STEP, TEMP_BUCKETS) * RAIN_BUCKETS + bucket(rain, RAIN_MIN, RAIN_STEP, RAIN_BUCKETS)];
+    }
+
+    private TreeBucket getTreeBucket(float temp, float rain, float density)
+    {
+        int t = bucket(temp, TEMP_MIN, TEMP_STEP, TEMP_BUCKETS);
+        int r = bucket(rain, RAIN_MIN, RAIN_STEP, RAIN_BUCKETS);
+        int d = bucket(density, DENSITY_MIN, DENSITY_STEP, DENSITY_BUCKETS);
+        return trees[(t * RAIN_BUCKETS + r) * DENSITY_BUCKETS + d];
+    }
+
+    /**
+     * The plant types that {@link net.dries007.tfc.world.classic.biomes.BiomeDecoratorTFC} decorates together
+     */
+    public enum PlantGroup
+    {
+        MUSHROOM(Plant.PlantType.MUSHROOM),
+        CACTUS(Plant.PlantType.CACTUS),
+        FLOATING(Plant.PlantType.FLOATING, Plant.PlantType.FLOATING_SEA),
+        REED(Plant.PlantType.REED, Plant.PlantType.TALL_REED, Plant.PlantType.REED_SEA, Plant.PlantType.TALL_REED_SEA),
+        FLOWERS(Plant.PlantType.WATER, Plant.PlantType.TALL_WATER, Plant.PlantType.EMERGENT_TALL_WATER, Plant.PlantType.WATER_SEA, Plant.PlantType.TALL_WATER_SEA, Plant.PlantType.EMERGENT_TALL_WATER_SEA, Plant.PlantType.EPIPHYTE, Plant.PlantType.CREEPING, Plant.PlantType.HANGING, Plant.PlantType.TALL_PLANT, Plant.PlantType.STANDARD),
+        DEAD_BUSH(Plant.PlantType.DESERT, Plant.PlantType.DESERT_TALL_PLANT, Plant.PlantType.DRY, Plant.PlantType.DRY_TALL_PLANT),
+        GRASS(Plant.PlantType.SHORT_GRASS, Plant.PlantType.TALL_GRASS);
+
+        private final Set<Plant.PlantType> types;
+
+        PlantGroup(Plant.PlantType first, Plant.PlantType... rest)
+        {
+            this.types = EnumSet.of(first, rest);
+        }
+    }
+
+    /**
+     * The tree candidates of a single bucket
+     * The sorted valid trees are cached per combination of valid candidates, since that is usually only a handful per bucket
+     */
+    private static final class TreeBucket
+    {
+        private final Tree[] candidates;
+        private final Long2ObjectMap<Tree[]> sortedByMask = new Long2ObjectOpenHashMap<>();
+
+        private TreeBucket(Tree[] candidates)
+        {
+            this.candidates = candidates;
+        }
+
+        private Tree[] getValidTrees(float temp, float rain, float density)
+        {
+            if (candidates.length > Long.SIZE)
+            {
+                return sortValidTrees(temp, rain, density);
+            }
+
+            long mask = 0;
+            for (int i = 0; i < candidates.length; i++)
+            {
+                if (candidates[i].isValidLocation(temp, rain, density))
+                {
+                    mask |= 1L << i;
+                }
+            }
+            synchronized (sortedByMask)
+            {
+                Tree[] sorted = sortedByMask.get(mask);
+                if (sorted == null)
+                {
+                    sorted = sortValidTrees(temp, rain, density);
+                    sortedByMask.put(mask, sorted);
+                }
+                return sorted;
+            }
+        }
+
+        private Tree[] sortValidTrees(float temp, float rain, float density)
+        {
+            // Filtering in registry order, then sorting, gives the same order as sorting the filtered registry did
+            List<Tree> valid = new ArrayList<>();
+            for (Tree tree : candidates)
+            {
+                if (tree.isValidLocation(temp, rain, density))
+                {
+                    valid.add(tree);
+                }
+            }
+            valid.sort(TREE_ORDER);
+            return valid.toArray(new Tree[0]);
+        }
+    }
+}
@@ -5,9 +5,8 @@
 
 package net.dries007.tfc.world.classic;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
+import java.util.*;
+import javax.annotation.Nullable;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLiving;
@@ -15,11 +14,14 @@ import net.minecraft.entity.EnumCreatureType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.minecraft.world.biome.Biome;
+import net.minecraftforge.fml.common.registry.EntityEntry;
 import net.minecraftforge.fml.common.registry.ForgeRegistries;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.types.ICreatureTFC;
+import net.dries007.tfc.util.climate.BiomeHelper;
 import net.dries007.tfc.util.climate.ClimateTFC;
+import net.dries007.tfc.world.classic.biomes.BiomesTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 
 /*
@@ -29,6 +31,10 @@ import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 @SuppressWarnings("WeakerAccess")
 public final class WorldEntitySpawnerTFC
 {
+    private static final BiomeHelper.BiomeType[] BIOME_TYPES = BiomeHelper.BiomeType.values();
+    private static final Map<Class<? extends Entity>, CreatureSpawnRule> SPAWN_RULES = new HashMap<>();
+    private static volatile List<SpawnCandidate>[] candidateTable;
+
     public static void init()
     {
         EnumCreatureType.MONSTER.maxNumberOfCreature = ConfigTFC.General.DIFFICULTY.mobSpawnCount;
@@ -57,72 +63,155 @@ public final class WorldEntitySpawnerTFC
         final float floraDensity = ChunkDataTFC.getFloraDensity(worldIn, chunkBlockPos);
         final float floraDiversity = ChunkDataTFC.getFloraDiversity(worldIn, chunkBlockPos);
 
+        final BiomeHelper.BiomeType biomeType = BiomeHelper.getBiomeType(temperature, rainfall, floraDensity);
+        final boolean land = !BiomesTFC.isOceanicBiome(biomeIn) && !BiomesTFC.isBeachBiome(biomeIn);
+
         // Spawns only one group
-        ForgeRegistries.ENTITIES.getValuesCollection().stream()
-            .filter(x -> {
-                if (ICreatureTFC.class.isAssignableFrom(x.getEntityClass()))
+        for (SpawnCandidate candidate : getCandidates(biomeType, land))
+        {
+            int weight = candidate.getSpawnWeight(worldIn, biomeIn, temperature, rainfall, floraDensity, floraDiversity);
+            if (weight > 0 && randomIn.nextInt(weight) == 0)
+            {
+                spawnGroup(worldIn, candidate.entry, centerX, centerZ, diameterX, diameterZ, randomIn);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Registers the spawn rule for a creature, so that it can be considered for world gen spawning without creating an instance
+     * Creatures implementing {@link ICreatureTFC} without a registered rule still work, but will be constructed every time their spawn weight is needed
+     */
+    public static void registerSpawnRule(Class<? extends Entity> entityClass, CreatureSpawnRule rule)
+    {
+        SPAWN_RULES.put(entityClass, rule);
+        candidateTable = null;
+    }
+
+    /**
+     * The candidates are all creatures that can possibly spawn in this climate, in entity registry order.
+     * Checking them in the same order as before keeps world gen spawning the same for the same seed
+     */
+    private static List<SpawnCandidate> getCandidates(@Nullable BiomeHelper.BiomeType biomeType, boolean land)
+    {
+        List<SpawnCandidate>[] table = candidateTable;
+        if (table == null)
+        {
+            table = buildCandidateTable();
+            candidateTable = table;
+        }
+        return table[(biomeType == null ? BIOME_TYPES.length : biomeType.ordinal()) * 2 + (land ? 1 : 0)];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<SpawnCandidate>[] buildCandidateTable()
+    {
+        List<SpawnCandidate>[] table = new List[(BIOME_TYPES.length + 1) * 2];
+        for (int i = 0; i < table.length; i++)
+        {
+            table[i] = new ArrayList<>();
+        }
+        for (EntityEntry entry : ForgeRegistries.ENTITIES.getValuesCollection())
+        {
+            if (ICreatureTFC.class.isAssignableFrom(entry.getEntityClass()))
+            {
+                CreatureSpawnRule rule = SPAWN_RULES.get(entry.getEntityClass());
+                SpawnCandidate candidate = new SpawnCandidate(entry, rule);
+                for (int i = 0; i <= BIOME_TYPES.length; i++)
                 {
-                    Entity ent = x.newInstance(worldIn);
-                    if (ent instanceof ICreatureTFC)
+                    BiomeHelper.BiomeType biomeType = i < BIOME_TYPES.length ? BIOME_TYPES[i] : null;
+                    for (boolean land : new boolean[] {false, true})
                     {
-                        int weight = ((ICreatureTFC) ent).getSpawnWeight(biomeIn, temperature, rainfall, floraDensity, floraDiversity);
-                        return weight > 0 && randomIn.nextInt(weight) == 0;
+                        if (rule == null || rule.canSpawnIn(biomeType, land))
+                        {
+                            table[i * 2 + (land ? 1 : 0)].add(candidate);
+                        }
                     }
                 }
-                return false;
-            }).findFirst()
-            .ifPresent(entityEntry ->
+            }
+        }
+        return table;
+    }
+
+    private static void spawnGroup(World worldIn, EntityEntry entityEntry, int centerX, int centerZ, int diameterX, int diameterZ, Random randomIn)
+    {
+        List<EntityLiving> group = new ArrayList<>();
+        EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
+        if (!(creature instanceof ICreatureTFC))
+        {
+            return; // Make sure to not crash
+        }
+        ICreatureTFC creatureTFC = (ICreatureTFC) creature;
+        int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
+        int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
+        while (individuals > 0)
+        {
+            int j = centerX + randomIn.nextInt(diameterX);
+            int k = centerZ + randomIn.nextInt(diameterZ);
+            BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
+            creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
+            if (creature.getCanSpawnHere()) // fix entities spawning inside walls
             {
-                List<EntityLiving> group = new ArrayList<>();
-                EntityLiving creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                if (!(creature instanceof ICreatureTFC))
-                {
-                    return; // Make sure to not crash
-                }
-                ICreatureTFC creatureTFC = (ICreatureTFC) creature;
-                int fallback = 5; // Fallback measure if some mod completely deny this entity spawn
-                int individuals = Math.max(1, creatureTFC.getMinGroupSize()) + randomIn.nextInt(creatureTFC.getMaxGroupSize() - Math.max(0, creatureTFC.getMinGroupSize() - 1));
-                while (individuals > 0)
+                if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
                 {
-                    int j = centerX + randomIn.nextInt(diameterX);
-                    int k = centerZ + randomIn.nextInt(diameterZ);
-                    BlockPos blockpos = worldIn.getTopSolidOrLiquidBlock(new BlockPos(j, 0, k));
-                    creature.setLocationAndAngles((float) j + 0.5F, blockpos.getY(), (float) k + 0.5F, randomIn.nextFloat() * 360.0F, 0.0F);
-                    if (creature.getCanSpawnHere()) // fix entities spawning inside walls
+                    if (--fallback > 0)
                     {
-                        if (net.minecraftforge.event.ForgeEventFactory.canEntitySpawn(creature, worldIn, j + 0.5f, (float) blockpos.getY(), k + 0.5f, null) == net.minecraftforge.fml.common.eventhandler.Event.Result.DENY)
-                        {
-                            if (--fallback > 0)
-                            {
-                                continue;
-                            }
-                            else
-                            {
-                                break; // Someone doesn't want me to spawn :(
-                            }
-                        }
-                        fallback = 5;
-                        // Spawn pass! let's continue
-                        worldIn.spawnEntity(creature);
-                        group.add(creature);
-                        creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
-                        if (--individuals > 0)
-                        {
-                            //We still need to spawn more
-                            creature = (EntityLiving) entityEntry.newInstance(worldIn);
-                            creatureTFC = (ICreatureTFC) creature;
-                        }
+                        continue;
                     }
                     else
                     {
-                        if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
-                        {
-                            break;
-                        }
+                        break; // Someone doesn't want me to spawn :(
                     }
                 }
-                // Apply the group spawning mechanics!
-                creatureTFC.getGroupingRules().accept(group, randomIn);
-            });
+                fallback = 5;
+                // Spawn pass! let's continue
+                worldIn.spawnEntity(creature);
+                group.add(creature);
+                creature.onInitialSpawn(worldIn.getDifficultyForLocation(new BlockPos(creature)), null);
+                if (--individuals > 0)
+                {
+                    //We still need to spawn more
+                    creature = (EntityLiving) entityEntry.newInstance(worldIn);
+                    creatureTFC = (ICreatureTFC) creature;
+                }
+            }
+            else
+            {
+                if (--fallback <= 0) //Trying to spawn in water or inside walls too many times, let's break
+                {
+                    break;
+                }
+            }
+        }
+        // Apply the group spawning mechanics!
+        creatureTFC.getGroupingRules().accept(group, randomIn);
+    }
+
+    private static final class SpawnCandidate
+    {
+        private final EntityEntry entry;
+        private final CreatureSpawnRule rule;
+
+        private SpawnCandidate(EntityEntry entry, @Nullable CreatureSpawnRule rule)
+        {
+            this.entry = entry;
+            this.rule = rule;
+        }
+
+        private int getSpawnWeight(World world, Biome biome, float temperature, float rainfall, float floraDensity, float floraDiversity)
+        {
+            if (rule != null)
+            {
+                // The candidate table already checked the climate
+                return rule.getRarity();
+            }
+            // No rule was registered, so this needs an instance of the creature
+            Entity entity = entry.newInstance(world);
+            if (entity instanceof ICreatureTFC)
+            {
+                return ((ICreatureTFC) entity).getSpawnWeight(biome, temperature, rainfall, floraDensity, floraDiversity);
+            }
+            return 0;
+        }
     }
 }
@@ -20,6 +20,7 @@ import net.minecraftforge.event.terraingen.TerrainGen;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Plant;
 import net.dries007.tfc.util.climate.ClimateTFC;
+import net.dries007.tfc.world.classic.FloraIndex;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 import net.dries007.tfc.world.classic.worldgen.WorldGenPlantTFC;
 import net.dries007.tfc.world.classic.worldgen.WorldGenSandTFC;
@@ -149,13 +150,14 @@ public class BiomeDecoratorTFC extends BiomeDecorator
         final float rainfall = ChunkDataTFC.getRainfall(world, chunkPos);
         final float floraDensity = data.getFloraDensity(); // Use for various plant based decoration (tall grass, those vanilla jungle shrub things, etc.)
         final float floraDiversity = data.getFloraDiversity();
+        final FloraIndex floraIndex = FloraIndex.get();
 
         this.chunkPos = chunkPos;
         // todo: settings for all the rarities?
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.SHROOM))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.MUSHROOM, avgTemperature, rainfall))
             {
                 if (plant.getPlantType() == Plant.PlantType.MUSHROOM && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -172,7 +174,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.CACTUS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.CACTUS, avgTemperature, rainfall))
             {
                 if (plant.getPlantType() == Plant.PlantType.CACTUS && plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -190,7 +192,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.LILYPAD))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.FLOATING, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -221,7 +223,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.REED))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.REED, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -254,7 +256,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.FLOWERS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.FLOWERS, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -334,7 +336,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.DEAD_BUSH))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.DEAD_BUSH, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -367,7 +369,7 @@ public class BiomeDecoratorTFC extends BiomeDecorator
 
         if (TerrainGen.decorate(world, rng, forgeChunkPos, DecorateBiomeEvent.Decorate.EventType.GRASS))
         {
-            for (Plant plant : TFCRegistries.PLANTS.getValuesCollection())
+            for (Plant plant : floraIndex.getPlants(FloraIndex.PlantGroup.GRASS, avgTemperature, rainfall))
             {
                 if (plant.isValidTempForWorldGen(avgTemperature) && plant.isValidRain(rainfall))
                 {
@@ -5,17 +5,18 @@
 
 package net.dries007.tfc.world.classic.chunkdata;
 
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.CapabilityManager;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
+import net.minecraftforge.event.world.ChunkEvent;
 import net.minecraftforge.event.world.ChunkWatchEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 
 import net.dries007.tfc.TerraFirmaCraft;
-import net.dries007.tfc.network.PacketChunkData;
 import net.dries007.tfc.util.climate.ClimateTFC;
 
 import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
@@ -51,12 +52,39 @@ public final class CapabilityChunkData
             if (data != null && data.isInitialized())
             {
                 // Update server side climate
-                ClimateTFC.update(chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
+                ClimateTFC.update(chunk.getWorld(), chunk.getPos(), data.getRegionalTemp(), data.getRainfall());
 
-                // Update client side data
-                NBTTagCompound nbt = (NBTTagCompound) ChunkDataProvider.CHUNK_DATA_CAPABILITY.writeNBT(data, null);
-                TerraFirmaCraft.getNetwork().sendTo(new PacketChunkData(chunk.getPos(), nbt, data.getRegionalTemp(), data.getRainfall()), event.getPlayer());
+                // Update client side data, batched at the end of the tick
+                ChunkDataSyncHandler.enqueue(event.getPlayer(), chunk.getPos());
             }
         }
     }
+
+    @SubscribeEvent
+    public static void onChunkWatchUnWatch(ChunkWatchEvent.UnWatch event)
+    {
+        ChunkDataSyncHandler.dequeue(event.getPlayer(), event.getChunk());
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(ChunkEvent.Unload event)
+    {
+        Chunk chunk = event.getChunk();
+        ChunkDataTFC data = chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+        // Only chunks with climate data, so other dimensions don't remove entries at the same position
+        if (data != null && data.isInitialized())
+        {
+            ClimateTFC.onChunkUnload(chunk.getWorld(), chunk.x, chunk.z);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onWorldUnload(WorldEvent.Unload event)
+    {
+        World world = event.getWorld();
+        if (world.isRemote || world.provider.getDimension() == 0)
+        {
+            ClimateTFC.onWorldUnload(world);
+        }
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.dries007.tfc.TerraFirmaCraft;
+import net.dries007.tfc.network.PacketChunkData;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * Collects the chunks each player started watching, and sends their client side data at the end of the server tick.
+ * All chunks for the same player are batched into as few {@link PacketChunkData} as possible
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class ChunkDataSyncHandler
+{
+    private static final int MAX_CHUNKS_PER_PACKET = 64;
+    private static final Map<EntityPlayerMP, LongSet> PENDING = new IdentityHashMap<>();
+    private static final ByteBuf SCRATCH = Unpooled.buffer();
+    private static long packetsSent = 0, chunksSent = 0, bytesSent = 0;
+
+    public static long getPacketsSent()
+    {
+        return packetsSent;
+    }
+
+    public static long getChunksSent()
+    {
+        return chunksSent;
+    }
+
+    public static long getBytesSent()
+    {
+        return bytesSent;
+    }
+
+    @SubscribeEvent
+    public static void onServerTick(TickEvent.ServerTickEvent event)
+    {
+        if (event.phase == TickEvent.Phase.END && !PENDING.isEmpty())
+        {
+            flush();
+        }
+    }
+
+    static void enqueue(EntityPlayerMP player, ChunkPos pos)
+    {
+        PENDING.computeIfAbsent(player, key -> new LongLinkedOpenHashSet()).add(ChunkPos.asLong(pos.x, pos.z));
+    }
+
+    static void dequeue(EntityPlayerMP player, ChunkPos pos)
+    {
+        LongSet chunks = PENDING.get(player);
+        if (chunks != null)
+        {
+            chunks.remove(ChunkPos.asLong(pos.x, pos.z));
+        }
+    }
+
+    private static void flush()
+    {
+        for (Map.Entry<EntityPlayerMP, LongSet> entry : PENDING.entrySet())
+        {
+            EntityPlayerMP player = entry.getKey();
+            if (player.hasDisconnected())
+            {
+                continue;
+            }
+
+            ByteBuf payload = null;
+            int count = 0;
+            for (LongIterator iterator = entry.getValue().iterator(); iterator.hasNext(); )
+            {
+                long key = iterator.nextLong();
+                int x = (int) key, z = (int) (key >> 32);
+                Chunk chunk = player.getServerWorld().getChunkProvider().getLoadedChunk(x, z);
+                ChunkDataTFC data = chunk == null ? null : chunk.getCapability(ChunkDataProvider.CHUNK_DATA_CAPABILITY, null);
+                if (data != null && data.isInitialized())
+                {
+                    SCRATCH.clear();
+                    data.writeSyncData(SCRATCH);
+
+                    if (payload == null)
+                    {
+                        payload = Unpooled.buffer();
+                    }
+                    payload.writeInt(x);
+                    payload.writeInt(z);
+                    ByteBufUtils.writeVarInt(payload, SCRATCH.readableBytes(), 5);
+                    payload.writeBytes(SCRATCH);
+                    count++;
+
+                    if (count == MAX_CHUNKS_PER_PACKET)
+                    {
+                        send(player, count, payload);
+                        payload = null;
+                        count = 0;
+                    }
+                }
+            }
+            if (payload != null)
+            {
+                send(player, count, payload);
+            }
+        }
+        PENDING.clear();
+    }
+
+    private static void send(EntityPlayerMP player, int count, ByteBuf payload)
+    {
+        packetsSent++;
+        chunksSent += count;
+        bytesSent += payload.readableBytes();
+        TerraFirmaCraft.getNetwork().sendTo(new PacketChunkData(count, payload), player);
+    }
+
+    private ChunkDataSyncHandler() {}
+}
@@ -9,7 +9,6 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
@@ -20,8 +19,12 @@ import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.registries.ForgeRegistry;
 
+import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.api.registries.TFCRegistries;
 import net.dries007.tfc.api.types.Rock;
@@ -30,6 +33,7 @@ import net.dries007.tfc.util.NBTBuilder;
 import net.dries007.tfc.util.calendar.CalendarTFC;
 import net.dries007.tfc.util.calendar.ICalendar;
 import net.dries007.tfc.world.classic.DataLayer;
+import net.dries007.tfc.world.classic.FloraIndex;
 import net.dries007.tfc.world.classic.worldgen.vein.Vein;
 
 import static net.dries007.tfc.world.classic.WorldTypeTFC.ROCKLAYER2;
@@ -44,9 +48,9 @@ public final class ChunkDataTFC
 
     static
     {
-        Arrays.fill(EMPTY.drainageLayer, DataLayer.ERROR);
-        Arrays.fill(EMPTY.stabilityLayer, DataLayer.ERROR);
-        Arrays.fill(EMPTY.seaLevelOffset, -1);
+        Arrays.fill(EMPTY.drainageLayer, (byte) DataLayer.ERROR.layerID);
+        Arrays.fill(EMPTY.stabilityLayer, (byte) DataLayer.ERROR.layerID);
+        Arrays.fill(EMPTY.seaLevelOffset, (byte) -1);
     }
 
     @Nonnull
@@ -117,12 +121,11 @@ public final class ChunkDataTFC
         return get(world, pos).getRockLayerHeight(pos.getX() & 15, pos.getY(), pos.getZ() & 15);
     }
 
-    private final int[] rockLayer1 = new int[256];
-    private final int[] rockLayer2 = new int[256];
-    private final int[] rockLayer3 = new int[256];
-    private final DataLayer[] drainageLayer = new DataLayer[256]; // To be removed / replaced?
-    private final DataLayer[] stabilityLayer = new DataLayer[256]; // To be removed / replaced?
-    private final int[] seaLevelOffset = new int[256];
+    private int[] rockPalette = new int[1]; // Registry ids of the rocks in this chunk
+    private byte[] rockIndices = new byte[3 * 128]; // Palette index per layer and column. Two per byte (4 bits each), one per byte if the palette is larger than 16, or two bytes each if it is larger than 256
+    private final byte[] drainageLayer = new byte[256]; // DataLayer ids. To be removed / replaced?
+    private final byte[] stabilityLayer = new byte[256]; // DataLayer ids. To be removed / replaced?
+    private final byte[] seaLevelOffset = new byte[256];
     private boolean initialized = false;
     private int fishPopulation = FISH_POP_MAX; // todo: Set this based on biome? temp? rng?
     private float rainfall;
@@ -131,6 +134,8 @@ public final class ChunkDataTFC
     private float floraDensity;
     private float floraDiversity;
     private Set<Vein> generatedVeins = new HashSet<>();
+    private final SupportIndex supportIndex = new SupportIndex();
+    private final OreIndex oreIndex = new OreIndex();
     private int chunkWorkage;
     private long protectedTicks; // Used for hostile spawn protection. Starts negative, increases by players in the area
     private long lastUpdateTick, lastUpdateYear; // The last time this chunk was updated by world regen
@@ -142,12 +147,13 @@ public final class ChunkDataTFC
     public void setGenerationData(int[] rockLayer1, int[] rockLayer2, int[] rockLayer3, DataLayer[] stabilityLayer, DataLayer[] drainageLayer, int[] seaLevelOffset, float rainfall, float regionalTemp, float avgTemp, float floraDensity, float floraDiversity)
     {
         this.initialized = true;
-        System.arraycopy(rockLayer1, 0, this.rockLayer1, 0, 256);
-        System.arraycopy(rockLayer2, 0, this.rockLayer2, 0, 256);
-        System.arraycopy(rockLayer3, 0, this.rockLayer3, 0, 256);
-        System.arraycopy(stabilityLayer, 0, this.stabilityLayer, 0, 256);
-        System.arraycopy(drainageLayer, 0, this.drainageLayer, 0, 256);
-        System.arraycopy(seaLevelOffset, 0, this.seaLevelOffset, 0, 256);
+        setRockLayers(rockLayer1, rockLayer2, rockLayer3);
+        for (int i = 0; i < 256; i++)
+        {
+            this.stabilityLayer[i] = (byte) stabilityLayer[i].layerID;
+            this.drainageLayer[i] = (byte) drainageLayer[i].layerID;
+            this.seaLevelOffset[i] = (byte) seaLevelOffset[i];
+        }
 
         this.rainfall = rainfall;
         this.regionalTemp = regionalTemp;
@@ -159,6 +165,9 @@ public final class ChunkDataTFC
 
         this.lastUpdateTick = CalendarTFC.PLAYER_TIME.getTicks();
         this.lastUpdateYear = CalendarTFC.CALENDAR_TIME.getTotalYears();
+
+        // New chunks don't have any supports
+        this.supportIndex.markBuilt();
     }
 
     /**
@@ -180,6 +189,22 @@ public final class ChunkDataTFC
         return generatedVeins;
     }
 
+    /**
+     * @return the index of support beams in this chunk. Only valid if this chunk data is initialized
+     */
+    public SupportIndex getSupportIndex()
+    {
+        return supportIndex;
+    }
+
+    /**
+     * @return the index of ore blocks in this chunk. Only valid if this chunk data is initialized, and not saved with it
+     */
+    public OreIndex getOreIndex()
+    {
+        return oreIndex;
+    }
+
     public boolean canWork(int amount)
     {
         return ConfigTFC.Devices.SLUICE.maxWorkChunk == 0 || chunkWorkage <= ConfigTFC.Devices.SLUICE.maxWorkChunk + amount;
@@ -336,45 +361,48 @@ public final class ChunkDataTFC
 
     public List<Tree> getValidTrees()
     {
-        return TFCRegistries.TREES.getValuesCollection().stream()
-            .filter(t -> t.isValidLocation(avgTemp, rainfall, floraDensity))
-            .sorted((s, t) -> (int) (t.getDominance() - s.getDominance()))
-            .collect(Collectors.toList());
+        return FloraIndex.get().getValidTrees(avgTemp, rainfall, floraDensity);
     }
 
     @Nullable
     public Tree getSparseGenTree()
     {
-        return TFCRegistries.TREES.getValuesCollection().stream()
-            .filter(t -> t.isValidLocation(0.5f * avgTemp + 10f, 0.5f * rainfall + 120f, 0.5f))
-            .min((s, t) -> (int) (t.getDominance() - s.getDominance()))
-            .orElse(null);
+        return FloraIndex.get().getDominantTree(0.5f * avgTemp + 10f, 0.5f * rainfall + 120f, 0.5f);
     }
 
     // Directly accessing the DataLayer is discouraged (except for getting the name). It's easy to use the wrong value.
     public Rock getRockLayer1(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer1[z << 4 | x]);
+        return getRock(z << 4 | x);
     }
 
     public Rock getRockLayer2(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer2[z << 4 | x]);
+        return getRock(1 << 8 | z << 4 | x);
     }
 
     public Rock getRockLayer3(int x, int z)
     {
-        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockLayer3[z << 4 | x]);
+        return getRock(2 << 8 | z << 4 | x);
     }
 
     public DataLayer getStabilityLayer(int x, int z)
     {
-        return stabilityLayer[z << 4 | x];
+        return getDataLayer(stabilityLayer[z << 4 | x]);
     }
 
     public DataLayer getDrainageLayer(int x, int z)
     {
-        return drainageLayer[z << 4 | x];
+        return getDataLayer(drainageLayer[z << 4 | x]);
+    }
+
+    /**
+     * {@link DataLayer#ERROR} has an id of -1, which is stored as 0xFF
+     */
+    private DataLayer getDataLayer(byte layerId)
+    {
+        int id = layerId & 0xFF;
+        return id == 0xFF ? DataLayer.ERROR : DataLayer.get(id);
     }
 
     public Rock getRockLayerHeight(int x, int y, int z)
@@ -385,20 +413,197 @@ public final class ChunkDataTFC
         return getRockLayer1(x, z);
     }
 
-    public static final class ChunkDataStorage implements Capability.IStorage<ChunkDataTFC>
+    /**
+     * Writes the data which is used on client side, for {@link net.dries007.tfc.network.PacketChunkData}
+     * Rocks are written as indices into a palette of the rocks in this chunk, and the ore veins and other server only data is not sent
+     */
+    public void writeSyncData(ByteBuf buf)
+    {
+        ByteBufUtils.writeVarInt(buf, rockPalette.length, 5);
+        for (int id : rockPalette)
+        {
+            ByteBufUtils.writeVarInt(buf, id, 5);
+        }
+        int bits = getPaletteBits(rockPalette.length);
+        if (bits == 16)
+        {
+            for (int i = 0; i < 3 * 256; i++)
+            {
+                buf.writeShort(getRockIndex(i));
+            }
+        }
+        else
+        {
+            // 8 is a multiple of bits, so every byte holds a whole number of indices
+            int perByte = 8 / bits;
+            for (int i = 0; i < 3 * 256; i += perByte)
+            {
+                int packed = 0;
+                for (int j = 0; j < perByte; j++)
+                {
+                    packed |= getRockIndex(i + j) << (j * bits);
+                }
+                buf.writeByte(packed);
+            }
+        }
+
+        buf.writeBytes(seaLevelOffset);
+        buf.writeBytes(stabilityLayer);
+        buf.writeBytes(drainageLayer);
+
+        buf.writeFloat(rainfall);
+        buf.writeFloat(regionalTemp);
+        buf.writeFloat(avgTemp);
+        buf.writeFloat(floraDensity);
+        buf.writeFloat(floraDiversity);
+        buf.writeByte(fishPopulation);
+        buf.writeLong(protectedTicks);
+    }
+
+    /**
+     * Reads the data written by {@link ChunkDataTFC#writeSyncData(ByteBuf)}, on client side
+     */
+    public void readSyncData(ByteBuf buf)
+    {
+        int[] palette = new int[ByteBufUtils.readVarInt(buf, 5)];
+        for (int i = 0; i < palette.length; i++)
+        {
+            palette[i] = ByteBufUtils.readVarInt(buf, 5);
+        }
+        setRockPalette(palette);
+        int bits = getPaletteBits(palette.length);
+        if (bits == 16)
+        {
+            for (int i = 0; i < 3 * 256; i++)
+            {
+                setRockIndex(i, buf.readUnsignedShort());
+            }
+        }
+        else
+        {
+            int perByte = 8 / bits, mask = (1 << bits) - 1;
+            for (int i = 0; i < 3 * 256; i += perByte)
+            {
+                int packed = buf.readUnsignedByte();
+                for (int j = 0; j < perByte; j++)
+                {
+                    setRockIndex(i + j, packed >> (j * bits) & mask);
+                }
+            }
+        }
+
+        buf.readBytes(seaLevelOffset);
+        buf.readBytes(stabilityLayer);
+        buf.readBytes(drainageLayer);
+
+        rainfall = buf.readFloat();
+        regionalTemp = buf.readFloat();
+        avgTemp = buf.readFloat();
+        floraDensity = buf.readFloat();
+        floraDiversity = buf.readFloat();
+        fishPopulation = buf.readUnsignedByte();
+        protectedTicks = buf.readLong();
+
+        initialized = true;
+    }
+
+    private static int getPaletteBits(int paletteSize)
+    {
+        if (paletteSize <= 2) return 1;
+        if (paletteSize <= 4) return 2;
+        if (paletteSize <= 16) return 4;
+        if (paletteSize <= 256) return 8;
+        return 16;
+    }
+
+    /**
+     * @param i the layer (0 - 2) and column index, as layer << 8 | z << 4 | x
+     */
+    private Rock getRock(int i)
+    {
+        return ((ForgeRegistry<Rock>) TFCRegistries.ROCKS).getValue(rockPalette[getRockIndex(i)]);
+    }
+
+    private int getRockIndex(int i)
+    {
+        if (rockIndices.length == 3 * 512)
+        {
+            return (rockIndices[i << 1] & 0xFF) << 8 | (rockIndices[(i << 1) + 1] & 0xFF);
+        }
+        if (rockIndices.length == 3 * 256)
+        {
+            return rockIndices[i] & 0xFF;
+        }
+        return (rockIndices[i >> 1] >> ((i & 1) << 2)) & 15;
+    }
+
+    private void setRockIndex(int i, int index)
     {
-        public static NBTTagByteArray write(DataLayer[] layers)
+        if (rockIndices.length == 3 * 512)
+        {
+            rockIndices[i << 1] = (byte) (index >> 8);
+            rockIndices[(i << 1) + 1] = (byte) index;
+        }
+        else if (rockIndices.length == 3 * 256)
+        {
+            rockIndices[i] = (byte) index;
+        }
+        else
         {
-            return new NBTTagByteArray(Arrays.stream(layers).map(x -> (byte) x.layerID).collect(Collectors.toList()));
+            int shift = (i & 1) << 2;
+            rockIndices[i >> 1] = (byte) ((rockIndices[i >> 1] & ~(15 << shift)) | index << shift);
         }
+    }
 
-        public static void read(DataLayer[] layers, byte[] bytes)
+    /**
+     * Sets the palette, and resizes the indices to fit it. The indices need to be set afterwards
+     */
+    private void setRockPalette(int[] palette)
+    {
+        rockPalette = palette;
+        int length = palette.length > 256 ? 3 * 512 : (palette.length > 16 ? 3 * 256 : 3 * 128);
+        if (rockIndices.length != length)
         {
-            for (int i = bytes.length - 1; i >= 0; i--)
+            rockIndices = new byte[length];
+        }
+    }
+
+    /**
+     * Builds the palette from unpacked rock layers of registry ids
+     */
+    private void setRockLayers(int[] rockLayer1, int[] rockLayer2, int[] rockLayer3)
+    {
+        // There's usually only a handful of different rocks in a chunk
+        int[][] layers = {rockLayer1, rockLayer2, rockLayer3};
+        IntList palette = new IntArrayList();
+        for (int[] layer : layers)
+        {
+            for (int id : layer)
             {
-                layers[i] = DataLayer.get(bytes[i]);
+                if (!palette.contains(id))
+                {
+                    palette.add(id);
+                }
             }
         }
+        setRockPalette(palette.toIntArray());
+        for (int i = 0; i < 3 * 256; i++)
+        {
+            setRockIndex(i, palette.indexOf(layers[i >> 8][i & 255]));
+        }
+    }
+
+    public static final class ChunkDataStorage implements Capability.IStorage<ChunkDataTFC>
+    {
+        /**
+         * The current save format. Version 0 (no version tag) stored rock layers and sea level offsets as int arrays
+         */
+        private static final int FORMAT_VERSION = 1;
+
+        private static void read(byte[] layers, byte[] bytes)
+        {
+            System.arraycopy(bytes, 0, layers, 0, Math.min(bytes.length, layers.length));
+        }
 
         @Nullable
         @Override
@@ -411,13 +616,14 @@ public final class ChunkDataTFC
             NBTTagCompound root = new NBTTagCompound();
             root.setBoolean("valid", true);
 
-            root.setTag("rockLayer1", new NBTTagIntArray(instance.rockLayer1));
-            root.setTag("rockLayer2", new NBTTagIntArray(instance.rockLayer2));
-            root.setTag("rockLayer3", new NBTTagIntArray(instance.rockLayer3));
-            root.setTag("seaLevelOffset", new NBTTagIntArray(instance.seaLevelOffset));
+            root.setInteger("version", FORMAT_VERSION);
 
-            root.setTag("stabilityLayer", write(instance.stabilityLayer));
-            root.setTag("drainageLayer", write(instance.drainageLayer));
+            root.setTag("rockPalette", new NBTTagIntArray(instance.rockPalette.clone()));
+            root.setTag("rockIndices", new NBTTagByteArray(instance.rockIndices.clone()));
+            root.setTag("seaLevelOffset", new NBTTagByteArray(instance.seaLevelOffset.clone()));
+
+            root.setTag("stabilityLayer", new NBTTagByteArray(instance.stabilityLayer.clone()));
+            root.setTag("drainageLayer", new NBTTagByteArray(instance.drainageLayer.clone()));
 
             root.setInteger("fishPopulation", instance.fishPopulation);
 
@@ -439,6 +645,11 @@ public final class ChunkDataTFC
             }
             root.setTag("veins", veinList);
 
+            if (instance.supportIndex.isBuilt())
+            {
+                root.setTag("supports", new NBTTagIntArray(instance.supportIndex.serialize()));
+            }
+
             return root;
         }
 
@@ -448,10 +659,24 @@ public final class ChunkDataTFC
             NBTTagCompound root = (NBTTagCompound) nbt;
             if (nbt != null && root.getBoolean("valid"))
             {
-                System.arraycopy(root.getIntArray("rockLayer1"), 0, instance.rockLayer1, 0, 256);
-                System.arraycopy(root.getIntArray("rockLayer2"), 0, instance.rockLayer2, 0, 256);
-                System.arraycopy(root.getIntArray("rockLayer3"), 0, instance.rockLayer3, 0, 256);
-                System.arraycopy(root.getIntArray("seaLevelOffset"), 0, instance.seaLevelOffset, 0, 256);
+                if (root.getInteger("version") >= 1)
+                {
+                    int[] palette = root.getIntArray("rockPalette");
+                    byte[] indices = root.getByteArray("rockIndices");
+                    instance.setRockPalette(palette.length == 0 ? new int[1] : palette);
+                    read(instance.rockIndices, indices);
+                    read(instance.seaLevelOffset, root.getByteArray("seaLevelOffset"));
+                }
+                else
+                {
+                    // Legacy format, unpacked int arrays
+                    instance.setRockLayers(root.getIntArray("rockLayer1"), root.getIntArray("rockLayer2"), root.getIntArray("rockLayer3"));
+                    int[] seaLevelOffset = root.getIntArray("seaLevelOffset");
+                    for (int i = 0; i < Math.min(256, seaLevelOffset.length); i++)
+                    {
+                        instance.seaLevelOffset[i] = (byte) seaLevelOffset[i];
+                    }
+                }
 
                 read(instance.stabilityLayer, root.getByteArray("stabilityLayer"));
                 read(instance.drainageLayer, root.getByteArray("drainageLayer"));
@@ -477,6 +702,12 @@ public final class ChunkDataTFC
                     instance.generatedVeins.add(Vein.deserialize(veinList.getCompoundTagAt(i)));
                 }
 
+                // Chunks saved before the support index existed will be scanned when the index is first used
+                if (root.hasKey("supports", Constants.NBT.TAG_INT_ARRAY))
+                {
+                    instance.supportIndex.deserialize(root.getIntArray("supports"));
+                }
+
                 instance.initialized = true;
             }
         }
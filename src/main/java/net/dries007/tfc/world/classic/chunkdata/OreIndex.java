@@ -0,0 +1,193 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.SoundCategory;
+import net.minecraft.util.SoundEvent;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorldEventListener;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * An index of all ore block positions in a single chunk, per chunk section. Ore blocks are the block states of any registered vein, see {@link VeinRegistry#isOreBlock(IBlockState)}
+ * Each section is scanned the first time it is used, and then kept up to date by {@link Tracker}, which listens to block changes in the world.
+ * Block changes are only sent to world listeners once a chunk is populated and has ticked (see {@link Chunk#isPopulated()}), so before that sections are scanned every time instead of being kept.
+ * For the same reason, the index is not saved with the chunk data.
+ */
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public final class OreIndex
+{
+    @SubscribeEvent
+    public static void onWorldLoad(WorldEvent.Load event)
+    {
+        World world = event.getWorld();
+        if (!world.isRemote)
+        {
+            world.addEventListener(new Tracker());
+        }
+    }
+
+    private static int pack(int x, int y, int z)
+    {
+        return (x & 15) << 12 | (z & 15) << 8 | (y & 255);
+    }
+
+    private final IntSet[] sections = new IntSet[16]; // null if that section hasn't been scanned yet
+
+    /**
+     * Visits all ore blocks in this chunk which are inside the box (inclusive), in no particular order
+     *
+     * @param chunk the chunk this index belongs to
+     */
+    public void collect(Chunk chunk, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Visitor visitor)
+    {
+        final int chunkX = chunk.x << 4, chunkZ = chunk.z << 4;
+        final boolean tracked = chunk.isPopulated();
+        for (int sectionY = Math.max(minY, 0) >> 4; sectionY <= Math.min(maxY, 255) >> 4; sectionY++)
+        {
+            ExtendedBlockStorage storage = chunk.getBlockStorageArray()[sectionY];
+            IntSet section = sections[sectionY];
+            if (section == null)
+            {
+                section = scan(storage);
+                if (tracked)
+                {
+                    sections[sectionY] = section;
+                }
+            }
+            if (storage == Chunk.NULL_BLOCK_STORAGE)
+            {
+                continue;
+            }
+            for (int packed : section)
+            {
+                int x = chunkX | (packed >> 12 & 15), y = packed & 255, z = chunkZ | (packed >> 8 & 15);
+                if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ)
+                {
+                    visitor.visit(x, y, z, storage.get(x & 15, y & 15, z & 15));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the index for a single block change
+     */
+    void update(BlockPos pos, IBlockState oldState, IBlockState newState)
+    {
+        IntSet section = sections[pos.getY() >> 4];
+        if (section != null && oldState != newState)
+        {
+            boolean wasOre = VeinRegistry.INSTANCE.isOreBlock(oldState), isOre = VeinRegistry.INSTANCE.isOreBlock(newState);
+            if (isOre && !wasOre)
+            {
+                section.add(pack(pos.getX(), pos.getY(), pos.getZ()));
+            }
+            else if (wasOre && !isOre)
+            {
+                section.remove(pack(pos.getX(), pos.getY(), pos.getZ()));
+            }
+        }
+    }
+
+    private IntSet scan(@Nullable ExtendedBlockStorage storage)
+    {
+        IntSet positions = new IntOpenHashSet();
+        if (storage != Chunk.NULL_BLOCK_STORAGE && !storage.isEmpty())
+        {
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        if (VeinRegistry.INSTANCE.isOreBlock(storage.get(x, y, z)))
+                        {
+                            positions.add(pack(x, storage.getYLocation() + y, z));
+                        }
+                    }
+                }
+            }
+        }
+        return positions;
+    }
+
+    @FunctionalInterface
+    public interface Visitor
+    {
+        void visit(int x, int y, int z, IBlockState state);
+    }
+
+    /**
+     * Keeps the ore index of loaded chunks up to date
+     * Changes are detected via {@link IWorldEventListener#notifyBlockUpdate(World, BlockPos, IBlockState, IBlockState, int)}, which is called for block changes sent to clients. Block changes that aren't sent to clients (i.e. some world editing tools) are not detected.
+     */
+    private static final class Tracker implements IWorldEventListener
+    {
+        @Override
+        public void notifyBlockUpdate(World worldIn, BlockPos pos, IBlockState oldState, IBlockState newState, int flags)
+        {
+            // This is also called for every tile entity update, where the state doesn't change
+            if (oldState != newState)
+            {
+                ChunkDataTFC data = ChunkDataTFC.get(worldIn, pos);
+                if (data.isInitialized())
+                {
+                    data.getOreIndex().update(pos, oldState, newState);
+                }
+            }
+        }
+
+        @Override
+        public void notifyLightSet(BlockPos pos) {}
+
+        @Override
+        public void markBlockRangeForRenderUpdate(int x1, int y1, int z1, int x2, int y2, int z2) {}
+
+        @Override
+        public void playSoundToAllNearExcept(@Nullable EntityPlayer player, SoundEvent soundIn, SoundCategory category, double x, double y, double z, float volume, float pitch) {}
+
+        @Override
+        public void playRecord(SoundEvent soundIn, BlockPos pos) {}
+
+        @Override
+        public void spawnParticle(int particleID, boolean ignoreRange, double xCoord, double yCoord, double zCoord, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+        @Override
+        public void spawnParticle(int id, boolean ignoreRange, boolean minimiseParticleLevel, double x, double y, double z, double xSpeed, double ySpeed, double zSpeed, int... parameters) {}
+
+        @Override
+        public void onEntityAdded(Entity entityIn) {}
+
+        @Override
+        public void onEntityRemoved(Entity entityIn) {}
+
+        @Override
+        public void broadcastSound(int soundID, BlockPos pos, int data) {}
+
+        @Override
+        public void playEvent(EntityPlayer player, int type, BlockPos blockPosIn, int data) {}
+
+        @Override
+        public void sendBlockBreakProgress(int breakerId, BlockPos pos, int progress) {}
+    }
+}
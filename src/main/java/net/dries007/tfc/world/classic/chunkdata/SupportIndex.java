@@ -0,0 +1,115 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Collection;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import net.dries007.tfc.objects.blocks.wood.BlockSupport;
+
+/**
+ * An index of all {@link BlockSupport} positions in a single chunk
+ * It is maintained by {@link BlockSupport} when placed or broken, and saved with {@link ChunkDataTFC}
+ * Chunks saved before this index existed are scanned once, the first time the index is used
+ */
+public final class SupportIndex
+{
+    private static int pack(int x, int y, int z)
+    {
+        return (x & 15) << 12 | (z & 15) << 8 | (y & 255);
+    }
+
+    private final IntSet positions = new IntOpenHashSet();
+    private boolean built = false;
+
+    public void add(BlockPos pos)
+    {
+        positions.add(pack(pos.getX(), pos.getY(), pos.getZ()));
+    }
+
+    public void remove(BlockPos pos)
+    {
+        positions.remove(pack(pos.getX(), pos.getY(), pos.getZ()));
+    }
+
+    /**
+     * Adds all support positions in this chunk which are inside the box (inclusive)
+     *
+     * @param chunk the chunk this index belongs to
+     */
+    public void collect(Chunk chunk, int minX, int minY, int minZ, int maxX, int maxY, int maxZ, Collection<BlockPos> supports)
+    {
+        if (!built)
+        {
+            rebuild(chunk);
+        }
+        int chunkX = chunk.x << 4, chunkZ = chunk.z << 4;
+        for (int packed : positions)
+        {
+            int x = chunkX | (packed >> 12 & 15), y = packed & 255, z = chunkZ | (packed >> 8 & 15);
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ)
+            {
+                supports.add(new BlockPos(x, y, z));
+            }
+        }
+    }
+
+    int[] serialize()
+    {
+        return positions.toIntArray();
+    }
+
+    void deserialize(int[] packed)
+    {
+        positions.clear();
+        for (int value : packed)
+        {
+            positions.add(value);
+        }
+        built = true;
+    }
+
+    void markBuilt()
+    {
+        built = true;
+    }
+
+    boolean isBuilt()
+    {
+        return built;
+    }
+
+    private void rebuild(Chunk chunk)
+    {
+        positions.clear();
+        for (ExtendedBlockStorage section : chunk.getBlockStorageArray())
+        {
+            if (section != Chunk.NULL_BLOCK_STORAGE && !section.isEmpty())
+            {
+                for (int y = 0; y < 16; y++)
+                {
+                    for (int z = 0; z < 16; z++)
+                    {
+                        for (int x = 0; x < 16; x++)
+                        {
+                            if (section.get(x, y, z).getBlock() instanceof BlockSupport)
+                            {
+                                positions.add(pack(x, section.getYLocation() + y, z));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        built = true;
+        chunk.markDirty();
+    }
+}
@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 public class GenLayerFuzzyZoomTFC extends GenLayerTFC
 {
@@ -24,7 +23,7 @@ public class GenLayerFuzzyZoomTFC extends GenLayerTFC
         int var7 = (par3 >> 1) + 3;
         int var8 = (par4 >> 1) + 3;
         int[] var9 = this.parent.getInts(var5, var6, var7, var8);
-        int[] var10 = IntCache.getIntCache(var7 * 2 * var8 * 2);
+        int[] var10 = getIntCache(var7 * 2 * var8 * 2);
         int var11 = var7 << 1;
         int var13;
 
@@ -50,7 +49,7 @@ public class GenLayerFuzzyZoomTFC extends GenLayerTFC
         }
 
 
-        int[] var20 = IntCache.getIntCache(par3 * par4);
+        int[] var20 = getIntCache(par3 * par4);
 
         for (var13 = 0; var13 < par4; ++var13)
             System.arraycopy(var10, (var13 + (par2 & 1)) * (var7 << 1) + (par1 & 1), var20, var13 * par3, par3); //NOPMD
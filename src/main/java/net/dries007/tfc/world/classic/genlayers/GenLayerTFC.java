@@ -14,6 +14,7 @@ import javax.imageio.ImageIO;
 
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 import net.dries007.tfc.ConfigTFC;
@@ -54,6 +55,42 @@ public abstract class GenLayerTFC extends GenLayer
         new Color(0x232C16),    // Dark Olive Green
     };
 
+    private static final ThreadLocal<IntArrayCache> THREAD_INT_CACHE = new ThreadLocal<>();
+
+    /**
+     * Makes layers evaluated on the current thread use an int cache confined to this thread, instead of the shared vanilla {@link IntCache}
+     * This allows layers to be evaluated on worker threads. Note that layer instances are still not thread safe (they store the chunk seed), so each thread needs its own layers.
+     */
+    public static void useThreadLocalIntCache()
+    {
+        if (THREAD_INT_CACHE.get() == null)
+        {
+            THREAD_INT_CACHE.set(new IntArrayCache());
+        }
+    }
+
+    /**
+     * Marks all int arrays handed out on the current thread as free. This must be called before each top level {@link GenLayer#getInts(int, int, int, int)} call
+     */
+    public static void resetIntCache()
+    {
+        IntArrayCache cache = THREAD_INT_CACHE.get();
+        if (cache != null)
+        {
+            cache.reset();
+        }
+        else
+        {
+            IntCache.resetIntCache();
+        }
+    }
+
+    protected static int[] getIntCache(int size)
+    {
+        IntArrayCache cache = THREAD_INT_CACHE.get();
+        return cache != null ? cache.get(size) : IntCache.getIntCache(size);
+    }
+
     public static GenLayerTFC[] initializeBiomes(long seed)
     {
         // Continent generator
@@ -0,0 +1,51 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.genlayers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A copy of {@link net.minecraft.world.gen.layer.IntCache}, which isn't static, so each thread can have its own
+ *
+ * @see GenLayerTFC#useThreadLocalIntCache()
+ */
+final class IntArrayCache
+{
+    private final List<int[]> freeSmallArrays = new ArrayList<>();
+    private final List<int[]> inUseSmallArrays = new ArrayList<>();
+    private final List<int[]> freeLargeArrays = new ArrayList<>();
+    private final List<int[]> inUseLargeArrays = new ArrayList<>();
+    private int largeArraySize = 256;
+
+    int[] get(int size)
+    {
+        if (size <= 256)
+        {
+            int[] array = freeSmallArrays.isEmpty() ? new int[256] : freeSmallArrays.remove(freeSmallArrays.size() - 1);
+            inUseSmallArrays.add(array);
+            return array;
+        }
+        if (size > largeArraySize)
+        {
+            // All previous large arrays are too small now
+            largeArraySize = size;
+            freeLargeArrays.clear();
+            inUseLargeArrays.clear();
+        }
+        int[] array = freeLargeArrays.isEmpty() ? new int[largeArraySize] : freeLargeArrays.remove(freeLargeArrays.size() - 1);
+        inUseLargeArrays.add(array);
+        return array;
+    }
+
+    void reset()
+    {
+        freeLargeArrays.addAll(inUseLargeArrays);
+        freeSmallArrays.addAll(inUseSmallArrays);
+        inUseLargeArrays.clear();
+        inUseSmallArrays.clear();
+    }
+}
@@ -10,7 +10,6 @@ import java.util.Objects;
 
 import net.minecraft.world.biome.Biome;
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
@@ -36,7 +35,7 @@ public class GenLayerBiomeTFC extends GenLayerTFC
     public int[] getInts(int x, int y, int sizeX, int sizeY)
     {
         int[] ints = parent.getInts(x, y, sizeX, sizeY);
-        int[] out = IntCache.getIntCache(sizeX * sizeY);
+        int[] out = getIntCache(sizeX * sizeY);
 
         for (int yy = 0; yy < sizeY; ++yy)
         {
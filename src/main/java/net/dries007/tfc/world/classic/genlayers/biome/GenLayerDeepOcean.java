@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.world.classic.genlayers.biome;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
 public class GenLayerDeepOcean extends GenLayerTFC
@@ -24,7 +22,7 @@ public class GenLayerDeepOcean extends GenLayerTFC
         int zSize = parZSize + 2;
         int thisID;
         int[] parentIDs = this.parent.getInts(parX - 1, parZ - 1, xSize, zSize);
-        int[] outCache = IntCache.getIntCache(parXSize * parZSize);
+        int[] outCache = getIntCache(parXSize * parZSize);
 
         for (int z = 0; z < parZSize; ++z)
         {
@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.world.classic.genlayers.datalayers.drainage;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
 public class GenLayerDrainageInit extends GenLayerTFC
@@ -19,7 +17,7 @@ public class GenLayerDrainageInit extends GenLayerTFC
     @Override
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] outCache = IntCache.getIntCache(maxX * maxZ);
+        int[] outCache = getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers.datalayers.drainage;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
@@ -22,7 +21,7 @@ public class GenLayerDrainageMix extends GenLayerTFC
     public int[] getInts(int x, int z, int xSize, int zSize)
     {
         int[] var5 = this.parent.getInts(x - 1, z - 1, xSize + 2, zSize + 2);
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = getIntCache(xSize * zSize);
         int thisID;
         int id0;
         int id1;
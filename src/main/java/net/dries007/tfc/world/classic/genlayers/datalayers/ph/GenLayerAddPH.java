@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers.datalayers.ph;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
@@ -26,7 +25,7 @@ public class GenLayerAddPH extends GenLayerTFC
         int var7 = xSize + 2;
         int var8 = zSize + 2;
         int[] inCache = this.parent.getInts(var5, var6, var7, var8);
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = getIntCache(xSize * zSize);
 
         for (int var11 = 0; var11 < zSize; ++var11)
         {
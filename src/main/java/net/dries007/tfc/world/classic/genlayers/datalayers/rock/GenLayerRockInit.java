@@ -9,7 +9,6 @@ import java.util.Arrays;
 import java.util.Objects;
 import javax.annotation.Nonnull;
 
-import net.minecraft.world.gen.layer.IntCache;
 import net.minecraftforge.registries.ForgeRegistry;
 
 import net.dries007.tfc.ConfigTFC;
@@ -38,7 +37,7 @@ public class GenLayerRockInit extends GenLayerTFC
     @Nonnull
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] cache = IntCache.getIntCache(maxX * maxZ);
+        int[] cache = getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
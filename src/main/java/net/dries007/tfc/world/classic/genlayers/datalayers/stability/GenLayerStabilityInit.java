@@ -5,8 +5,6 @@
 
 package net.dries007.tfc.world.classic.genlayers.datalayers.stability;
 
-import net.minecraft.world.gen.layer.IntCache;
-
 import net.dries007.tfc.world.classic.DataLayer;
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
@@ -20,7 +18,7 @@ public class GenLayerStabilityInit extends GenLayerTFC
     @Override
     public int[] getInts(int par1, int par2, int maxX, int maxZ)
     {
-        int[] cache = IntCache.getIntCache(maxX * maxZ);
+        int[] cache = getIntCache(maxX * maxZ);
 
         for (int z = 0; z < maxZ; ++z)
         {
@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers.river;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
@@ -22,7 +21,7 @@ public class GenLayerRiverInitTFC extends GenLayerTFC
     public int[] getInts(int xCoord, int zCoord, int xSize, int zSize)
     {
         int[] parentCache = this.parent.getInts(xCoord, zCoord, xSize, zSize);
-        int[] outCache = IntCache.getIntCache(xSize * zSize);
+        int[] outCache = getIntCache(xSize * zSize);
 
         for (int z = 0; z < zSize; ++z)
         {
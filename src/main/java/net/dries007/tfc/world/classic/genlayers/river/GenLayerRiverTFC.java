@@ -6,7 +6,6 @@
 package net.dries007.tfc.world.classic.genlayers.river;
 
 import net.minecraft.world.gen.layer.GenLayer;
-import net.minecraft.world.gen.layer.IntCache;
 
 import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
 
@@ -24,7 +23,7 @@ public class GenLayerRiverTFC extends GenLayerTFC
         int sizeX2 = sizeX + 2;
         int sizeZ2 = sizeZ + 2;
         int[] ints = this.parent.getInts(x - 1, z - 1, sizeX2, sizeZ2);
-        int[] out = IntCache.getIntCache(sizeX * sizeZ);
+        int[] out = getIntCache(sizeX * sizeZ);
 
         for (int zz = 0; zz < sizeZ; ++zz)
         {
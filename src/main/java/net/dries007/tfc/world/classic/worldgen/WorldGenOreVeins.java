@@ -8,15 +8,18 @@ package net.dries007.tfc.world.classic.worldgen;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.IChunkProvider;
 import net.minecraft.world.gen.IChunkGenerator;
 import net.minecraftforge.fml.common.IWorldGenerator;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import net.dries007.tfc.ConfigTFC;
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.api.types.Rock;
@@ -24,13 +27,37 @@ import net.dries007.tfc.objects.blocks.stone.BlockRockVariant;
 import net.dries007.tfc.world.classic.ChunkGenTFC;
 import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
 import net.dries007.tfc.world.classic.worldgen.vein.Vein;
-import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinIndex;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinOracle;
 
 public class WorldGenOreVeins implements IWorldGenerator
 {
-    private static final Random LOCAL_RANDOM = new Random();
     public static int CHUNK_RADIUS = 1;
 
+    private static final int VEIN_CACHE_SIZE = 256;
+    // Each chunk's veins are needed by every chunk around it, so they are cached instead of being recreated each time
+    private static final Long2ObjectLinkedOpenHashMap<List<Vein>> VEIN_CACHE = new Long2ObjectLinkedOpenHashMap<>();
+    private static long veinCacheSeed;
+
+    private static final AtomicLong BLOCKS_EVALUATED = new AtomicLong(), NANOS = new AtomicLong();
+
+    /**
+     * @return the number of block positions vein placement has rolled for
+     */
+    public static long getBlocksEvaluated()
+    {
+        return BLOCKS_EVALUATED.get();
+    }
+
+    /**
+     * @return the average number of block positions evaluated per second spent in vein placement
+     */
+    public static long getBlocksPerSecond()
+    {
+        long nanos = NANOS.get();
+        return nanos == 0 ? 0 : BLOCKS_EVALUATED.get() * 1_000_000_000L / nanos;
+    }
+
     // Used to generate chunk
     public static List<Vein> getNearbyVeins(int chunkX, int chunkZ, long worldSeed, int radius)
     {
@@ -39,20 +66,44 @@ public class WorldGenOreVeins implements IWorldGenerator
         {
             for (int z = -radius; z <= radius; z++)
             {
-                getVeinsAtChunk(veins, chunkX + x, chunkZ + z, worldSeed);
+                veins.addAll(getVeinsAtChunk(chunkX + x, chunkZ + z, worldSeed));
             }
         }
         return veins;
     }
 
-    // Gets veins at a single chunk. Deterministic for a specific chunk x/z and world seed
-    private static void getVeinsAtChunk(List<Vein> listToAdd, int chunkX, int chunkZ, long worldSeed)
+    private static List<Vein> getVeinsAtChunk(int chunkX, int chunkZ, long worldSeed)
     {
-        LOCAL_RANDOM.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
-        listToAdd.addAll(VeinRegistry.INSTANCE.getVeins().values().stream()
-            .filter(veinType -> LOCAL_RANDOM.nextInt(veinType.getRarity()) == 0)
-            .map(veinType -> veinType.createVein(LOCAL_RANDOM, chunkX, chunkZ))
-            .collect(Collectors.toList()));
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        synchronized (VEIN_CACHE)
+        {
+            if (veinCacheSeed != worldSeed)
+            {
+                VEIN_CACHE.clear();
+                veinCacheSeed = worldSeed;
+            }
+            List<Vein> veins = VEIN_CACHE.getAndMoveToLast(key);
+            if (veins != null)
+            {
+                return veins;
+            }
+        }
+
+        // Veins don't change after they are created, so these can be shared between threads
+        List<Vein> veins = new ArrayList<>();
+        new VeinOracle(worldSeed).getVeinsAtChunk(veins, chunkX, chunkZ);
+        synchronized (VEIN_CACHE)
+        {
+            if (veinCacheSeed == worldSeed)
+            {
+                VEIN_CACHE.putAndMoveToLast(key, veins);
+                if (VEIN_CACHE.size() > VEIN_CACHE_SIZE)
+                {
+                    VEIN_CACHE.removeFirst();
+                }
+            }
+        }
+        return veins;
     }
 
     @Override
@@ -64,11 +115,15 @@ public class WorldGenOreVeins implements IWorldGenerator
         if (!chunkData.isInitialized()) return;
         if (world.provider.getDimension() != 0) return;
 
+        final long startTime = System.nanoTime();
+        long blocksEvaluated = 0;
+        final BlockPos.MutableBlockPos posAt = new BlockPos.MutableBlockPos();
         List<Vein> veins = getNearbyVeins(chunkX, chunkZ, world.getSeed(), CHUNK_RADIUS);
 
         for (Vein vein : veins)
         {
             boolean generated = false;
+            final int lowestY = vein.getLowestY(), highestY = vein.getHighestY();
             for (int x = chunkBlockPos.getX() + 8; x < chunkBlockPos.getX() + 24; x++)
             {
                 for (int z = chunkBlockPos.getZ() + 8; z < chunkBlockPos.getZ() + 24; z++)
@@ -76,19 +131,24 @@ public class WorldGenOreVeins implements IWorldGenerator
                     // Do checks here that are specific to the the horizontal position, not the vertical one
                     if (vein.inRange(x, z, 0))
                     {
-                        for (int y = vein.getLowestY(); y <= vein.getHighestY(); y++)
+                        final Chunk chunk = world.getChunk(x >> 4, z >> 4);
+                        for (int y = lowestY; y <= highestY; y++)
                         {
-                            final BlockPos posAt = new BlockPos(x, y, z);
-                            final IBlockState stateAt = world.getBlockState(posAt);
-
-                            // Do checks specific to the individual block pos that is getting replaced
-                            if (random.nextDouble() < vein.getChanceToGenerate(posAt) && stateAt.getBlock() instanceof BlockRockVariant)
+                            // Every position rolls, even where the chance is zero, so the veins are the same as they have always been
+                            // The block is only looked at when the roll succeeds, as that is rare
+                            blocksEvaluated++;
+                            if (random.nextDouble() < vein.getChanceToGenerate(x, y, z))
                             {
-                                final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
-                                if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
+                                // Do checks specific to the individual block pos that is getting replaced
+                                final IBlockState stateAt = chunk.getBlockState(x, y, z);
+                                if (stateAt.getBlock() instanceof BlockRockVariant)
                                 {
-                                    world.setBlockState(posAt, vein.getOreState(blockAt.getRock()), 2);
-                                    generated = true;
+                                    final BlockRockVariant blockAt = (BlockRockVariant) stateAt.getBlock();
+                                    if (blockAt.getType() == Rock.Type.RAW && vein.canSpawnIn(blockAt.getRock()))
+                                    {
+                                        world.setBlockState(posAt.setPos(x, y, z), vein.getOreState(blockAt.getRock()), 2);
+                                        generated = true;
+                                    }
                                 }
                             }
                         }
@@ -101,6 +161,7 @@ public class WorldGenOreVeins implements IWorldGenerator
                 if (generated)
                 {
                     chunkData.markVeinGenerated(vein);
+                    VeinIndex.get(world).add(vein);
                 }
                 else if (ConfigTFC.General.DEBUG.enable)
                 {
@@ -111,5 +172,7 @@ public class WorldGenOreVeins implements IWorldGenerator
                 }
             }
         }
+        BLOCKS_EVALUATED.addAndGet(blocksEvaluated);
+        NANOS.addAndGet(System.nanoTime() - startTime);
     }
 }
\ No newline at end of file
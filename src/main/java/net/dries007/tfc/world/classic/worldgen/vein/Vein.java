@@ -112,6 +112,14 @@ public class Vein
      * Different for different vein shapes
      */
     public double getChanceToGenerate(BlockPos pos)
+    {
+        return getChanceToGenerate(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Same as {@link #getChanceToGenerate(BlockPos)}, without needing a position object for every block
+     */
+    public double getChanceToGenerate(int x, int y, int z)
     {
         return 0;
     }
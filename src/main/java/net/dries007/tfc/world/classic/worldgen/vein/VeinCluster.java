@@ -14,6 +14,7 @@ import net.dries007.tfc.api.types.Ore;
 public class VeinCluster extends Vein
 {
     private final Cluster[] spawnPoints;
+    private final int minY, maxY; // No cluster reaches outside of these
 
     public VeinCluster(BlockPos pos, VeinType veinType, Ore.Grade grade, Random rand)
     {
@@ -36,16 +37,36 @@ public class VeinCluster extends Vein
             );
             spawnPoints[i] = new Cluster(clusterPos, maxClusterSize * (0.4 + 0.6 * rand.nextDouble()));
         }
+
+        int minY = Integer.MAX_VALUE, maxY = Integer.MIN_VALUE;
+        for (Cluster c : spawnPoints)
+        {
+            minY = Math.min(minY, (int) Math.floor(c.pos.getY() - c.radius));
+            maxY = Math.max(maxY, (int) Math.ceil(c.pos.getY() + c.radius));
+        }
+        this.minY = minY;
+        this.maxY = maxY;
     }
 
     @Override
-    public double getChanceToGenerate(BlockPos pos)
+    public double getChanceToGenerate(int x, int y, int z)
     {
-        double shortestRadius = -1;
+        if (y < minY || y > maxY)
+        {
+            return 0;
+        }
+        double shortestRadius = 1; // Anything further away than this doesn't generate
         for (Cluster c : spawnPoints)
         {
-            double radius = pos.distanceSq(c.pos) / c.radiusSq;
-            if (shortestRadius == -1 || radius < shortestRadius)
+            // Same as BlockPos#distanceSq. Clusters this far away vertically can't be closer than their radius, and would never be used
+            double dy = (double) y - c.pos.getY();
+            if (dy * dy >= c.radiusSq)
+            {
+                continue;
+            }
+            double dx = (double) x - c.pos.getX(), dz = (double) z - c.pos.getZ();
+            double radius = (dx * dx + dy * dy + dz * dz) / c.radiusSq;
+            if (radius < shortestRadius)
             {
                 shortestRadius = radius;
             }
@@ -67,11 +88,12 @@ public class VeinCluster extends Vein
     private static final class Cluster
     {
         final BlockPos pos;
-        final double radiusSq;
+        final double radius, radiusSq;
 
         Cluster(BlockPos pos, double radius)
         {
             this.pos = pos;
+            this.radius = radius;
             this.radiusSq = radius * radius;
         }
     }
@@ -0,0 +1,282 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.*;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.dries007.tfc.api.types.Ore;
+import net.dries007.tfc.world.classic.chunkdata.ChunkDataTFC;
+
+import static net.dries007.tfc.TerraFirmaCraft.MOD_ID;
+
+/**
+ * An index of every ore vein that has generated in a world, saved with the world.
+ * Veins are grouped by the region (32x32 chunks) their center is in, so they can be found without loading the chunks they generated in.
+ * Veins are added as they generate, and veins that generated before the index existed are added when their chunk is loaded.
+ */
+@ParametersAreNonnullByDefault
+@Mod.EventBusSubscriber(modid = MOD_ID)
+public class VeinIndex extends WorldSavedData
+{
+    private static final String NAME = MOD_ID + "_veins";
+    private static final int REGION_SHIFT = 9; // 512 blocks
+
+    @Nonnull
+    public static VeinIndex get(World world)
+    {
+        MapStorage mapStorage = world.getPerWorldStorage();
+        VeinIndex data = (VeinIndex) mapStorage.getOrLoadData(VeinIndex.class, NAME);
+        if (data == null)
+        {
+            data = new VeinIndex(NAME);
+            mapStorage.setData(NAME, data);
+        }
+        return data;
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(ChunkEvent.Load event)
+    {
+        World world = event.getWorld();
+        if (!world.isRemote && world.provider.getDimension() == 0)
+        {
+            ChunkDataTFC chunkData = ChunkDataTFC.get(event.getChunk());
+            if (!chunkData.getGeneratedVeins().isEmpty())
+            {
+                VeinIndex index = get(world);
+                for (Vein vein : chunkData.getGeneratedVeins())
+                {
+                    index.add(vein);
+                }
+            }
+        }
+    }
+
+    private static long regionKey(int regionX, int regionZ)
+    {
+        return ChunkPos.asLong(regionX, regionZ);
+    }
+
+    private static long distanceSq(Vein vein, BlockPos pos)
+    {
+        long dx = vein.getPos().getX() - pos.getX(), dz = vein.getPos().getZ() - pos.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    private final Long2ObjectMap<Set<Vein>> regions = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    @SuppressWarnings("WeakerAccess")
+    public VeinIndex(String name)
+    {
+        super(name);
+    }
+
+    /**
+     * Adds a generated vein to the index. Veins of unknown types are not indexed, and adding the same vein twice does nothing
+     */
+    public void add(Vein vein)
+    {
+        if (vein.getType() != null)
+        {
+            BlockPos pos = vein.getPos();
+            Set<Vein> region = regions.computeIfAbsent(regionKey(pos.getX() >> REGION_SHIFT, pos.getZ() >> REGION_SHIFT), key -> new HashSet<>());
+            if (region.add(new Vein(pos, vein.getType(), vein.getGrade())))
+            {
+                size++;
+                markDirty();
+            }
+        }
+    }
+
+    /**
+     * Gets all veins with their center in the area between min and max (inclusive), in no particular order
+     *
+     * @param type the vein type to look for, or null for any
+     */
+    @Nonnull
+    public List<Vein> getVeins(int minX, int minZ, int maxX, int maxZ, @Nullable VeinType type)
+    {
+        List<Vein> veins = new ArrayList<>();
+        for (int regionX = minX >> REGION_SHIFT; regionX <= maxX >> REGION_SHIFT; regionX++)
+        {
+            for (int regionZ = minZ >> REGION_SHIFT; regionZ <= maxZ >> REGION_SHIFT; regionZ++)
+            {
+                Set<Vein> region = regions.get(regionKey(regionX, regionZ));
+                if (region != null)
+                {
+                    for (Vein vein : region)
+                    {
+                        BlockPos pos = vein.getPos();
+                        if (pos.getX() >= minX && pos.getX() <= maxX && pos.getZ() >= minZ && pos.getZ() <= maxZ && (type == null || type == vein.getType()))
+                        {
+                            veins.add(vein);
+                        }
+                    }
+                }
+            }
+        }
+        return veins;
+    }
+
+    /**
+     * Gets all veins with their center within a horizontal distance of a position, in no particular order
+     *
+     * @param type the vein type to look for, or null for any
+     */
+    @Nonnull
+    public List<Vein> getVeinsInRadius(BlockPos center, int radius, @Nullable VeinType type)
+    {
+        List<Vein> veins = getVeins(center.getX() - radius, center.getZ() - radius, center.getX() + radius, center.getZ() + radius, type);
+        veins.removeIf(vein -> distanceSq(vein, center) > (long) radius * radius);
+        return veins;
+    }
+
+    /**
+     * Gets the vein with its center horizontally nearest to a position
+     * Regions are searched in rings around the position, so this stops as soon as no closer vein can exist
+     *
+     * @param type      the vein type to look for, or null for any
+     * @param maxRadius the maximum horizontal distance to look at
+     * @return the nearest vein, or null if there is none within the maximum distance
+     */
+    @Nullable
+    public Vein getNearestVein(BlockPos center, int maxRadius, @Nullable VeinType type)
+    {
+        final int centerX = center.getX() >> REGION_SHIFT, centerZ = center.getZ() >> REGION_SHIFT;
+        final int maxRing = (maxRadius >> REGION_SHIFT) + 1;
+        Vein nearest = null;
+        long nearestDistanceSq = (long) maxRadius * maxRadius;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            // Every region in this ring is at least this far from the center
+            long ringDistance = Math.max(0, ((long) (ring - 1) << REGION_SHIFT));
+            if (ringDistance * ringDistance > nearestDistanceSq)
+            {
+                break;
+            }
+            for (int regionX = centerX - ring; regionX <= centerX + ring; regionX++)
+            {
+                for (int regionZ = centerZ - ring; regionZ <= centerZ + ring; regionZ++)
+                {
+                    if (Math.abs(regionX - centerX) != ring && Math.abs(regionZ - centerZ) != ring)
+                    {
+                        continue; // Not on the edge of this ring
+                    }
+                    Set<Vein> region = regions.get(regionKey(regionX, regionZ));
+                    if (region != null)
+                    {
+                        for (Vein vein : region)
+                        {
+                            long distanceSq = distanceSq(vein, center);
+                            if ((type == null || type == vein.getType()) && distanceSq <= nearestDistanceSq)
+                            {
+                                nearest = vein;
+                                nearestDistanceSq = distanceSq;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * @return the number of indexed veins
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * @return the number of regions with at least one indexed vein
+     */
+    public int getRegionCount()
+    {
+        return regions.size();
+    }
+
+    /**
+     * Veins are written as four ints each: x, y, z, and the index of the type in a palette of names, shifted left by two, together with the grade
+     */
+    @Override
+    public void readFromNBT(NBTTagCompound nbt)
+    {
+        regions.clear();
+        size = 0;
+
+        NBTTagList palette = nbt.getTagList("types", Constants.NBT.TAG_STRING);
+        VeinType[] types = new VeinType[palette.tagCount()];
+        for (int i = 0; i < types.length; i++)
+        {
+            // Types removed from the config are null, and those veins are dropped
+            types[i] = VeinRegistry.INSTANCE.getVein(palette.getStringTagAt(i));
+        }
+
+        int[] veins = nbt.getIntArray("veins");
+        for (int i = 0; i + 3 < veins.length; i += 4)
+        {
+            int typeIndex = veins[i + 3] >> 2;
+            if (typeIndex >= 0 && typeIndex < types.length && types[typeIndex] != null)
+            {
+                add(new Vein(new BlockPos(veins[i], veins[i + 1], veins[i + 2]), types[typeIndex], Ore.Grade.valueOf(veins[i + 3] & 3)));
+            }
+        }
+        setDirty(false);
+    }
+
+    @Override
+    @Nonnull
+    public NBTTagCompound writeToNBT(NBTTagCompound nbt)
+    {
+        Object2IntMap<VeinType> typeIndices = new Object2IntOpenHashMap<>();
+        NBTTagList palette = new NBTTagList();
+        int[] veins = new int[size * 4];
+        int i = 0;
+        for (Set<Vein> region : regions.values())
+        {
+            for (Vein vein : region)
+            {
+                VeinType type = vein.getType();
+                if (!typeIndices.containsKey(type))
+                {
+                    typeIndices.put(type, palette.tagCount());
+                    //noinspection ConstantConditions
+                    palette.appendTag(new NBTTagString(type.getRegistryName()));
+                }
+                veins[i++] = vein.getPos().getX();
+                veins[i++] = vein.getPos().getY();
+                veins[i++] = vein.getPos().getZ();
+                veins[i++] = (typeIndices.getInt(type) << 2) | vein.getGrade().ordinal();
+            }
+        }
+        nbt.setTag("types", palette);
+        nbt.setIntArray("veins", veins);
+        return nbt;
+    }
+}
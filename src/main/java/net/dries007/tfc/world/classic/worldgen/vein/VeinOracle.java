@@ -0,0 +1,68 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Places veins using only the world seed, the same way world gen does, so veins can be found for chunks that have not generated yet.
+ * Note that these are the veins world gen will try to generate. A vein only actually generates where it finds a rock it can spawn in, which the seed alone can't tell.
+ * This holds no world state and can be used from any thread, once the vein registry is loaded.
+ */
+public final class VeinOracle
+{
+    private static final ThreadLocal<Random> RANDOM = ThreadLocal.withInitial(Random::new);
+
+    private final long worldSeed;
+
+    public VeinOracle(long worldSeed)
+    {
+        this.worldSeed = worldSeed;
+    }
+
+    /**
+     * Gets the veins that start in a single chunk. Deterministic for a specific chunk x/z and world seed
+     */
+    public void getVeinsAtChunk(List<Vein> listToAdd, int chunkX, int chunkZ)
+    {
+        Random random = RANDOM.get();
+        random.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
+        for (VeinType veinType : VeinRegistry.INSTANCE.getVeins().values())
+        {
+            if (random.nextInt(veinType.getRarity()) == 0)
+            {
+                listToAdd.add(veinType.createVein(random, chunkX, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * Gets the veins that start in the chunks between min and max (inclusive)
+     *
+     * @param type the vein type to look for, or null for any
+     */
+    @Nonnull
+    public List<Vein> getVeins(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, @Nullable VeinType type)
+    {
+        List<Vein> veins = new ArrayList<>();
+        for (int x = minChunkX; x <= maxChunkX; x++)
+        {
+            for (int z = minChunkZ; z <= maxChunkZ; z++)
+            {
+                getVeinsAtChunk(veins, x, z);
+            }
+        }
+        if (type != null)
+        {
+            veins.removeIf(vein -> vein.getType() != type);
+        }
+        return veins;
+    }
+}
@@ -8,11 +8,13 @@ package net.dries007.tfc.world.classic.worldgen.vein;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
+import net.minecraft.block.state.IBlockState;
 
 import net.dries007.tfc.TerraFirmaCraft;
 import net.dries007.tfc.util.collections.WeightedCollection;
@@ -26,6 +28,7 @@ public enum VeinRegistry
 
     private final WeightedCollection<VeinType> weightedVeinTypes = new WeightedCollection<>();
     private final Map<String, VeinType> veinTypeRegistry = new HashMap<>();
+    private final Map<IBlockState, Boolean> oreBlocks = new ConcurrentHashMap<>();
 
     @Nonnull
     public WeightedCollection<VeinType> getVeins()
@@ -45,11 +48,32 @@ public enum VeinRegistry
         return veinTypeRegistry.get(name);
     }
 
+    /**
+     * Checks {@link VeinType#isOreBlock(IBlockState)} for every registered vein, cached per block state
+     *
+     * @return true if the block state is part of any vein
+     */
+    public boolean isOreBlock(IBlockState state)
+    {
+        return oreBlocks.computeIfAbsent(state, key ->
+        {
+            for (VeinType type : weightedVeinTypes.values())
+            {
+                if (type.isOreBlock(key))
+                {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
     /**
      * Wraps things up and output to log
      */
     public void postInit()
     {
+        oreBlocks.clear();
         // Reset max chunk radius and number of rolls for veins
         int maxRadius = 0;
         for (VeinType type : veinTypeRegistry.values())
@@ -63,6 +87,18 @@ public enum VeinRegistry
         TerraFirmaCraft.getLog().info("Vein Registry Initialized, with {} veins, {} max radius, {} total weight", veinTypeRegistry.size(), maxRadius, weightedVeinTypes.getTotalWeight());
     }
 
+    /**
+     * Adds a vein, the same as if it was read from a file
+     */
+    void register(String name, VeinType vein)
+    {
+        vein.setRegistryName(name);
+
+        veinTypeRegistry.put(name, vein);
+        weightedVeinTypes.add(vein.getWeight(), vein);
+        oreBlocks.clear();
+    }
+
     /**
      * Read file and load valid veins into registry
      *
@@ -82,10 +118,7 @@ public enum VeinRegistry
                     properVeinName = subfolder + "/" + properVeinName;
                 }
                 VeinType vein = GSON.fromJson(entry.getValue(), VeinType.class);
-                vein.setRegistryName(properVeinName);
-
-                veinTypeRegistry.put(properVeinName, vein);
-                weightedVeinTypes.add(vein.getWeight(), vein);
+                register(properVeinName, vein);
 
                 TerraFirmaCraft.getLog().info("Registered new vein " + vein.toString());
             }
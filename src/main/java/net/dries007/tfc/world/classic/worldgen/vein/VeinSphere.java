@@ -23,9 +23,15 @@ public class VeinSphere extends Vein
     }
 
     @Override
-    public double getChanceToGenerate(BlockPos pos)
+    public double getChanceToGenerate(int x, int y, int z)
     {
-        double dist = this.pos.distanceSq(pos) / radiusSq;
+        // Same as BlockPos#distanceSq
+        double dx = (double) pos.getX() - x, dy = (double) pos.getY() - y, dz = (double) pos.getZ() - z;
+        if (dy * dy >= radiusSq)
+        {
+            return 0;
+        }
+        double dist = (dx * dx + dy * dy + dz * dz) / radiusSq;
         if (dist < 0.8)
         {
             return type.getDensity();
@@ -0,0 +1,71 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.event.RegistryEvent;
+import net.minecraftforge.fml.common.registry.ForgeRegistries;
+
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.registries.TFCRegistryEvent;
+import net.dries007.tfc.types.DefaultRocks;
+import net.dries007.tfc.types.Registries;
+import net.dries007.tfc.world.classic.biomes.BiomesTFC;
+
+import static net.dries007.tfc.api.registries.TFCRegistryNames.ROCK;
+import static net.dries007.tfc.api.registries.TFCRegistryNames.ROCK_TYPE;
+
+/**
+ * Sets up the registries for tests, by calling the same event handlers the game does while loading
+ * The registries are shared by all tests in the same JVM, so each part is only set up once. Nothing is injected into object holders.
+ */
+public final class TestHelper
+{
+    private static boolean registriesCreated, rocksRegistered, biomesRegistered;
+
+    /**
+     * Registers vanilla, and creates the (empty) TFC registries
+     */
+    public static synchronized void createRegistries()
+    {
+        if (!registriesCreated)
+        {
+            registriesCreated = true;
+            Bootstrap.register();
+            Registries.onNewRegistryEvent(new RegistryEvent.NewRegistry());
+        }
+    }
+
+    /**
+     * Registers the default rock categories and rocks
+     */
+    public static synchronized void registerRocks()
+    {
+        createRegistries();
+        if (!rocksRegistered)
+        {
+            rocksRegistered = true;
+            DefaultRocks.onPreRegisterRockCategory(new TFCRegistryEvent.RegisterPreBlock<>(ROCK_TYPE, TFCRegistries.ROCK_CATEGORIES));
+            DefaultRocks.onPreRegisterRock(new TFCRegistryEvent.RegisterPreBlock<>(ROCK, TFCRegistries.ROCKS));
+        }
+    }
+
+    /**
+     * Registers the TFC biomes. The {@link BiomesTFC} fields stay null, but the world gen biome list is filled in, which is what the biome layers use
+     */
+    public static synchronized void registerBiomes()
+    {
+        createRegistries();
+        if (!biomesRegistered)
+        {
+            biomesRegistered = true;
+            BiomesTFC.registerBiomes(new RegistryEvent.Register<>(new ResourceLocation("biomes"), ForgeRegistries.BIOMES));
+        }
+    }
+
+    private TestHelper() {}
+}
@@ -0,0 +1,86 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.recipes;
+
+import java.util.Random;
+import java.util.function.IntPredicate;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.api.recipes.barrel.BarrelRecipe;
+import net.dries007.tfc.api.recipes.quern.QuernRecipe;
+
+import static net.dries007.tfc.api.recipes.RecipeIndexTest.*;
+
+/**
+ * Measures recipe lookups through the recipe index against the linear search over the registry they replaced, with a registry of a few thousand recipes (about the size of the heat recipe registry with a few addons)
+ * Lookups are made for random inputs, of which some have recipes and some don't. Run with the benchmark task.
+ */
+public class RecipeIndexBenchmark
+{
+    private static final int RECIPES = 2000;
+    private static final int INPUTS = 4096;
+    private static final int WARMUP = 20_000;
+    private static final int LOOKUPS = 200_000;
+
+    private static ItemStack[] stacks;
+    private static FluidStack[] fluidStacks;
+
+    @BeforeClass
+    public static void setup()
+    {
+        setupIngredients();
+        Random random = new Random(1);
+        registerRecipes(random, "benchmark", RECIPES);
+
+        stacks = new ItemStack[INPUTS];
+        fluidStacks = new FluidStack[INPUTS];
+        for (int i = 0; i < INPUTS; i++)
+        {
+            stacks[i] = randomStack(random);
+            fluidStacks[i] = randomFluid(random);
+        }
+    }
+
+    /**
+     * @return the average time per lookup, in nanoseconds
+     */
+    private static double time(IntPredicate lookup)
+    {
+        int found = 0;
+        for (int i = 0; i < WARMUP; i++)
+        {
+            found += lookup.test(i % INPUTS) ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            found += lookup.test(i % INPUTS) ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.println("(" + found + " recipes found)");
+        return (double) nanos / LOOKUPS;
+    }
+
+    @Test
+    public void benchmarkItemLookups()
+    {
+        double indexed = time(i -> QuernRecipe.get(stacks[i]) != null);
+        double linear = time(i -> getOldQuernRecipe(stacks[i]) != null);
+        System.out.println(String.format("Item lookups, %d recipes: %.0f ns indexed, %.0f ns linear (%.1fx)", RECIPES, indexed, linear, linear / indexed));
+    }
+
+    @Test
+    public void benchmarkFluidLookups()
+    {
+        double indexed = time(i -> BarrelRecipe.get(stacks[i], fluidStacks[i]) != null);
+        double linear = time(i -> getOldBarrelRecipe(stacks[i], fluidStacks[i], false) != null);
+        System.out.println(String.format("Fluid lookups, %d recipes: %.0f ns indexed, %.0f ns linear (%.1fx)", RECIPES, indexed, linear, linear / indexed));
+    }
+}
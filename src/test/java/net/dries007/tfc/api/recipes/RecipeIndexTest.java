@@ -0,0 +1,258 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.api.recipes;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.annotation.Nullable;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.oredict.OreDictionary;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.api.recipes.barrel.BarrelRecipe;
+import net.dries007.tfc.api.recipes.quern.QuernRecipe;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.objects.inventory.ingredient.IIngredient;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks recipe lookups through the recipe index against the linear search over the registry they replaced
+ * Uses quern recipes for item lookups and barrel recipes for fluid lookups, with random recipes made of every kind of ingredient the index handles: items with and without metadata, ore names, fluids, and ingredients that can't be indexed.
+ */
+public class RecipeIndexTest
+{
+    static final String[] ORE_NAMES = {"plankWood", "dye", "dyeRed", "gemDiamond", "ingotIron", "stickWood", "blockWool", "dustRedstone", "testRedThings", "testEmptyOre"};
+
+    private static final int RECIPES = 400;
+    private static final int LOOKUPS = 20_000;
+
+    private static boolean ingredientsAdded;
+    private static Item[] items;
+    private static Fluid[] fluids;
+
+    @BeforeClass
+    public static void setup()
+    {
+        setupIngredients();
+        registerRecipes(new Random(1), "test", RECIPES);
+    }
+
+    /**
+     * Adds the fluids and ore names used by the test recipes
+     */
+    static synchronized void setupIngredients()
+    {
+        TestHelper.createRegistries();
+        if (!ingredientsAdded)
+        {
+            ingredientsAdded = true;
+            items = new Item[] {Item.getItemFromBlock(Blocks.PLANKS), Item.getItemFromBlock(Blocks.WOOL), Items.DYE, Items.STICK, Items.DIAMOND, Items.IRON_INGOT, Items.REDSTONE, Items.APPLE, Items.BREAD};
+
+            Fluid first = new Fluid("tfc_test_first", new ResourceLocation("blocks/water_still"), new ResourceLocation("blocks/water_flow"));
+            Fluid second = new Fluid("tfc_test_second", new ResourceLocation("blocks/water_still"), new ResourceLocation("blocks/water_flow"));
+            FluidRegistry.registerFluid(first);
+            FluidRegistry.registerFluid(second);
+            fluids = new Fluid[] {FluidRegistry.WATER, FluidRegistry.LAVA, first, second};
+
+            // An ore name made of items that are also matched by other ore names, items and metadata, and an ore name without any items
+            OreDictionary.registerOre("testRedThings", new ItemStack(Items.DYE, 1, 1));
+            OreDictionary.registerOre("testRedThings", Items.REDSTONE);
+            OreDictionary.registerOre("testRedThings", new ItemStack(Blocks.WOOL, 1, 14));
+            OreDictionary.getOreID("testEmptyOre");
+        }
+    }
+
+    /**
+     * Registers random quern and barrel recipes
+     */
+    static void registerRecipes(Random random, String prefix, int count)
+    {
+        for (int i = 0; i < count; i++)
+        {
+            TFCRegistries.QUERN.register(new QuernRecipe(randomItemIngredient(random), new ItemStack(Items.SUGAR)).setRegistryName(new ResourceLocation("tfc", prefix + "_quern_" + i)));
+            TFCRegistries.BARREL.register(new BarrelRecipe(randomFluidIngredient(random), randomItemIngredient(random), null, new ItemStack(Items.SUGAR), random.nextBoolean() ? 0 : 8000).setRegistryName(new ResourceLocation("tfc", prefix + "_barrel_" + i)));
+        }
+    }
+
+    static IIngredient<ItemStack> randomItemIngredient(Random random)
+    {
+        Item item = items[random.nextInt(items.length)];
+        int amount = random.nextInt(4) == 0 ? 16 : 1;
+        int type = random.nextInt(20);
+        if (type < 6)
+        {
+            return IIngredient.of(new ItemStack(item, amount, random.nextInt(16)));
+        }
+        else if (type < 11)
+        {
+            return IIngredient.of(item, amount);
+        }
+        else if (type < 19)
+        {
+            return IIngredient.of(ORE_NAMES[random.nextInt(ORE_NAMES.length)], amount);
+        }
+        // Not indexed, so these are candidates for every item
+        return random.nextBoolean() ? IIngredient.of(ItemStack.EMPTY) : stack -> stack.getCount() >= 48;
+    }
+
+    static IIngredient<FluidStack> randomFluidIngredient(Random random)
+    {
+        int amount = random.nextInt(4) == 0 ? 2000 : 100;
+        int type = random.nextInt(20);
+        if (type < 12)
+        {
+            return IIngredient.of(fluids[random.nextInt(fluids.length)], amount);
+        }
+        else if (type < 19)
+        {
+            return IIngredient.of(amount, fluids[random.nextInt(fluids.length)], fluids[random.nextInt(fluids.length)]);
+        }
+        // Not indexed, so these are candidates for every fluid
+        return random.nextBoolean() ? IIngredient.any() : fluid -> fluid == null;
+    }
+
+    static ItemStack randomStack(Random random)
+    {
+        if (random.nextInt(20) == 0)
+        {
+            return ItemStack.EMPTY;
+        }
+        int count = random.nextInt(3) == 0 ? 64 : 1 + random.nextInt(16);
+        return new ItemStack(items[random.nextInt(items.length)], count, random.nextInt(16));
+    }
+
+    @Nullable
+    static FluidStack randomFluid(Random random)
+    {
+        if (random.nextInt(10) == 0)
+        {
+            return null;
+        }
+        return new FluidStack(fluids[random.nextInt(fluids.length)], random.nextBoolean() ? 1000 : 5000);
+    }
+
+    /**
+     * The quern lookup before the recipe index
+     */
+    @Nullable
+    static QuernRecipe getOldQuernRecipe(ItemStack stack)
+    {
+        return TFCRegistries.QUERN.getValuesCollection().stream().filter(x -> x.getIngredients().get(0).test(stack)).findFirst().orElse(null);
+    }
+
+    /**
+     * The barrel lookup before the recipe index
+     */
+    @Nullable
+    static BarrelRecipe getOldBarrelRecipe(ItemStack stack, @Nullable FluidStack fluidStack, boolean instant)
+    {
+        return TFCRegistries.BARREL.getValuesCollection().stream().filter(x -> x.isValidInput(fluidStack, stack) && (x.getDuration() == 0) == instant).findFirst().orElse(null);
+    }
+
+    @Test
+    public void testItemLookupsMatchLinearSearch()
+    {
+        Random random = new Random(2);
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            ItemStack stack = randomStack(random);
+            QuernRecipe expected = getOldQuernRecipe(stack);
+            assertSame(expected, QuernRecipe.get(stack));
+            // Again, from the cached candidates
+            assertSame(expected, QuernRecipe.get(stack));
+            if (expected != null)
+            {
+                found++;
+            }
+        }
+        // Make sure this tested both found and missing recipes
+        assertTrue(found > 0 && found < LOOKUPS);
+    }
+
+    @Test
+    public void testFluidLookupsMatchLinearSearch()
+    {
+        Random random = new Random(3);
+        for (int i = 0; i < LOOKUPS; i++)
+        {
+            ItemStack stack = randomStack(random);
+            FluidStack fluidStack = randomFluid(random);
+            assertSame(getOldBarrelRecipe(stack, fluidStack, false), BarrelRecipe.get(stack, fluidStack));
+            assertSame(getOldBarrelRecipe(stack, fluidStack, true), BarrelRecipe.getInstant(stack, fluidStack));
+
+            boolean expected = TFCRegistries.BARREL.getValuesCollection().stream().anyMatch(x -> x.getFluidIngredient().testIgnoreCount(fluidStack));
+            assertEquals(expected, BarrelRecipe.isBarrelFluid(fluidStack));
+        }
+    }
+
+    @Test
+    public void testCachedMissIsRebuiltForNewRecipes()
+    {
+        ItemStack stack = new ItemStack(Items.CLOCK);
+        assertNull(QuernRecipe.get(stack));
+        assertNull(QuernRecipe.get(stack));
+
+        // The registry has grown, so the index, and the cached miss, are rebuilt
+        QuernRecipe recipe = new QuernRecipe(IIngredient.of(Items.CLOCK), new ItemStack(Items.SUGAR));
+        TFCRegistries.QUERN.register(recipe.setRegistryName(new ResourceLocation("tfc", "test_quern_clock")));
+        assertSame(getOldQuernRecipe(stack), QuernRecipe.get(stack));
+        assertSame(recipe, QuernRecipe.get(stack));
+    }
+
+    @Test
+    public void testOreDictionaryChangesAfterInvalidate()
+    {
+        OreDictionary.getOreID("testLateOre");
+        QuernRecipe recipe = new QuernRecipe(IIngredient.of("testLateOre"), new ItemStack(Items.SUGAR));
+        TFCRegistries.QUERN.register(recipe.setRegistryName(new ResourceLocation("tfc", "test_quern_late_ore")));
+
+        ItemStack stack = new ItemStack(Items.NAME_TAG);
+        assertNull(QuernRecipe.get(stack));
+
+        // Like CraftTweaker adding to the ore dictionary, after which the indexes are invalidated
+        OreDictionary.registerOre("testLateOre", Items.NAME_TAG);
+        RecipeIndex.invalidateAll();
+        assertSame(getOldQuernRecipe(stack), QuernRecipe.get(stack));
+        assertSame(recipe, QuernRecipe.get(stack));
+    }
+
+    @Test
+    public void testFindAllMatchesLinearSearch()
+    {
+        Random random = new Random(4);
+        List<QuernRecipe> recipes = new ArrayList<>(TFCRegistries.QUERN.getValuesCollection());
+        RecipeIndex<QuernRecipe> index = new RecipeIndex<>(() -> recipes, (recipe, keys) -> recipe.getIngredients().get(0).addIndexKeys(keys));
+        for (int i = 0; i < LOOKUPS / 10; i++)
+        {
+            ItemStack stack = randomStack(random);
+            List<QuernRecipe> expected = new ArrayList<>();
+            for (QuernRecipe recipe : recipes)
+            {
+                if (recipe.getIngredients().get(0).test(stack))
+                {
+                    expected.add(recipe);
+                }
+            }
+            assertEquals(expected, index.findAll(stack, x -> x.getIngredients().get(0).test(stack)));
+        }
+    }
+}
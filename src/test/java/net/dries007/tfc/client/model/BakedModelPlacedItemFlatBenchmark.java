@@ -0,0 +1,74 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.client.model;
+
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static net.dries007.tfc.client.model.BakedModelPlacedItemFlatTest.createItemModel;
+import static net.dries007.tfc.client.model.BakedModelPlacedItemFlatTest.createSprite;
+import static net.dries007.tfc.client.model.BakedModelPlacedItemFlatTest.createStickPixels;
+
+/**
+ * Measures the CPU side cost of baking placed items into the chunk: building the transformed quads of an item model (once per model and rotation, then cached), and checking if a model can be baked (once per model, then cached)
+ * Uses the quads of a generated item model for a stick shaped texture. Run with the benchmark task.
+ */
+public class BakedModelPlacedItemFlatBenchmark
+{
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+    }
+
+    @Test
+    public void benchmarkQuadGeneration()
+    {
+        IBakedModel model = createItemModel(createSprite(createStickPixels(0xFF808080)), -1);
+        ItemStack stack = new ItemStack(Items.STICK);
+
+        int quads = 0;
+        for (int i = 0; i < WARMUP; i++)
+        {
+            quads += BakedModelPlacedItemFlat.buildQuads(model, i & 3).size();
+            BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(model);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            quads += BakedModelPlacedItemFlat.buildQuads(model, i & 3).size();
+        }
+        long buildNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int bakeable = 0;
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            bakeable += BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(model) ? 1 : 0;
+        }
+        long checkNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            // Cached after the first call, this is what happens each frame for each placed item
+            bakeable += BakedModelPlacedItemFlat.canBake(stack, model) ? 1 : 0;
+        }
+        long cachedCheckNanos = System.nanoTime() - start;
+
+        System.out.println(String.format("Item model with %d quads: building the transformed quads takes %.1f us", model.getQuads(null, null, 0).size(), buildNanos / 1e3 / ITERATIONS));
+        System.out.println(String.format("Checking if the model can be baked takes %.1f us, or %.0f ns once cached", checkNanos / 1e3 / ITERATIONS, (double) cachedCheckNanos / ITERATIONS));
+        System.out.println("(" + quads + " quads built, " + bakeable + " checks passed)");
+    }
+}
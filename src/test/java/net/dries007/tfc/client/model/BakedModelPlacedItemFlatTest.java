@@ -0,0 +1,323 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.client.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import javax.vecmath.Matrix4f;
+import javax.vecmath.Vector4f;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.block.model.IBakedModel;
+import net.minecraft.client.renderer.block.model.ItemOverrideList;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Enchantments;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.client.model.ItemLayerModel;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the transform used for the baked quads against the calls TESRPlacedItemFlat makes, which are replayed here the way OpenGL applies them
+ * Also checks which items are left to the TESR, using item models built the same way as generated item models
+ */
+public class BakedModelPlacedItemFlatTest
+{
+    private static final float EPSILON = 1e-5f;
+    private static final int OPAQUE = 0xFF808080, TRANSPARENT = 0, TRANSLUCENT = 0x80808080;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+    }
+
+    /**
+     * A 16x16 sprite, which fills the whole (16x16) atlas
+     */
+    static TextureAtlasSprite createSprite(int[] pixels)
+    {
+        TextureAtlasSprite sprite = new TextureAtlasSprite("tfc:test") {};
+        sprite.setIconWidth(16);
+        sprite.setIconHeight(16);
+        sprite.initSprite(16, 16, 0, 0, false);
+        sprite.setFramesTextureData(Collections.singletonList(new int[][] {pixels}));
+        return sprite;
+    }
+
+    /**
+     * A diagonal line, like a stick, with the rest of the sprite transparent
+     */
+    static int[] createStickPixels(int color)
+    {
+        int[] pixels = new int[256];
+        for (int i = 2; i < 14; i++)
+        {
+            pixels[i * 16 + 15 - i] = color;
+            pixels[i * 16 + 14 - i] = color;
+        }
+        return pixels;
+    }
+
+    /**
+     * The same quads as a generated item model with a single layer
+     */
+    static IBakedModel createItemModel(TextureAtlasSprite sprite, int tintIndex)
+    {
+        List<BakedQuad> quads = ItemLayerModel.getQuadsForSprite(tintIndex, sprite, DefaultVertexFormats.ITEM, Optional.empty());
+        return new IBakedModel()
+        {
+            @Nonnull
+            @Override
+            public List<BakedQuad> getQuads(@Nullable IBlockState state, @Nullable EnumFacing side, long rand)
+            {
+                return side == null ? quads : Collections.emptyList();
+            }
+
+            @Override
+            public boolean isAmbientOcclusion()
+            {
+                return false;
+            }
+
+            @Override
+            public boolean isGui3d()
+            {
+                return false;
+            }
+
+            @Override
+            public boolean isBuiltInRenderer()
+            {
+                return false;
+            }
+
+            @Nonnull
+            @Override
+            public TextureAtlasSprite getParticleTexture()
+            {
+                return sprite;
+            }
+
+            @Nonnull
+            @Override
+            public ItemOverrideList getOverrides()
+            {
+                return ItemOverrideList.NONE;
+            }
+        };
+    }
+
+    /**
+     * A column major matrix, which multiplies each call on the right, the same as the fixed function OpenGL matrix stack
+     */
+    private static final class GlMatrix
+    {
+        private final double[] m = {1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1};
+
+        private void mult(double[] other)
+        {
+            double[] result = new double[16];
+            for (int column = 0; column < 4; column++)
+            {
+                for (int row = 0; row < 4; row++)
+                {
+                    double sum = 0;
+                    for (int k = 0; k < 4; k++)
+                    {
+                        sum += m[k * 4 + row] * other[column * 4 + k];
+                    }
+                    result[column * 4 + row] = sum;
+                }
+            }
+            System.arraycopy(result, 0, m, 0, 16);
+        }
+
+        private void translate(double x, double y, double z)
+        {
+            mult(new double[] {1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, x, y, z, 1});
+        }
+
+        private void scale(double x, double y, double z)
+        {
+            mult(new double[] {x, 0, 0, 0, 0, y, 0, 0, 0, 0, z, 0, 0, 0, 0, 1});
+        }
+
+        /**
+         * See the glRotate specification
+         */
+        private void rotate(double angle, double x, double y, double z)
+        {
+            double c = Math.cos(Math.toRadians(angle)), s = Math.sin(Math.toRadians(angle));
+            mult(new double[] {
+                x * x * (1 - c) + c, y * x * (1 - c) + z * s, x * z * (1 - c) - y * s, 0,
+                x * y * (1 - c) - z * s, y * y * (1 - c) + c, y * z * (1 - c) + x * s, 0,
+                x * z * (1 - c) + y * s, y * z * (1 - c) - x * s, z * z * (1 - c) + c, 0,
+                0, 0, 0, 1
+            });
+        }
+
+        /**
+         * The same as glMultMatrix, for a vecmath (row major) matrix
+         */
+        private void multMatrix(Matrix4f matrix)
+        {
+            double[] other = new double[16];
+            for (int row = 0; row < 4; row++)
+            {
+                for (int column = 0; column < 4; column++)
+                {
+                    other[column * 4 + row] = matrix.getElement(row, column);
+                }
+            }
+            mult(other);
+        }
+
+        private double[] transform(double x, double y, double z)
+        {
+            double[] result = new double[3];
+            for (int row = 0; row < 3; row++)
+            {
+                result[row] = m[row] * x + m[4 + row] * y + m[8 + row] * z + m[12 + row];
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The TESR at the origin: its own calls, then the ones RenderItem#renderItem makes for a FIXED item
+     */
+    private static GlMatrix tesrTransform(@Nullable Matrix4f itemTransform, byte rotation)
+    {
+        GlMatrix matrix = new GlMatrix();
+        matrix.translate(0.5, 0.03125, 0.5);
+        matrix.scale(.5f, .5f, .5f);
+        matrix.rotate(90f, 1f, 0f, 0f);
+        matrix.rotate(90f * (float) rotation, 0f, 0f, 1f);
+        if (itemTransform != null)
+        {
+            // ForgeHooksClient#handleCameraTransforms
+            matrix.multMatrix(itemTransform);
+        }
+        // RenderItem#renderItem(ItemStack, IBakedModel)
+        matrix.translate(-0.5F, -0.5F, -0.5F);
+        return matrix;
+    }
+
+    /**
+     * An item transform like the ones from item model json: a rotation, translation and scale
+     */
+    private static Matrix4f randomItemTransform(Random random)
+    {
+        GlMatrix gl = new GlMatrix();
+        gl.translate(random.nextFloat() - 0.5f, random.nextFloat() - 0.5f, random.nextFloat() - 0.5f);
+        gl.rotate(random.nextInt(360), 0, 1, 0);
+        gl.rotate(random.nextInt(360), 1, 0, 0);
+        gl.scale(0.25f + random.nextFloat(), 0.25f + random.nextFloat(), 0.25f + random.nextFloat());
+
+        Matrix4f matrix = new Matrix4f();
+        for (int row = 0; row < 4; row++)
+        {
+            for (int column = 0; column < 4; column++)
+            {
+                matrix.setElement(row, column, (float) gl.m[column * 4 + row]);
+            }
+        }
+        return matrix;
+    }
+
+    private static void assertSameTransform(GlMatrix expected, Matrix4f actual, Random random)
+    {
+        for (int i = 0; i < 64; i++)
+        {
+            float x = random.nextFloat(), y = random.nextFloat(), z = random.nextFloat();
+            double[] expectedPoint = expected.transform(x, y, z);
+            Vector4f actualPoint = new Vector4f(x, y, z, 1);
+            actual.transform(actualPoint);
+
+            assertEquals(expectedPoint[0], actualPoint.x, EPSILON);
+            assertEquals(expectedPoint[1], actualPoint.y, EPSILON);
+            assertEquals(expectedPoint[2], actualPoint.z, EPSILON);
+            assertEquals(1, actualPoint.w, EPSILON);
+        }
+    }
+
+    @Test
+    public void testTransformMatchesTESR()
+    {
+        Random random = new Random(1);
+        for (byte rotation = 0; rotation < 8; rotation++)
+        {
+            // Rotations are stored as a byte, but only the lowest two bits are used for the quad cache
+            assertSameTransform(tesrTransform(null, rotation), BakedModelPlacedItemFlat.getTransform(null, rotation & 3), random);
+            for (int i = 0; i < 32; i++)
+            {
+                Matrix4f itemTransform = randomItemTransform(random);
+                assertSameTransform(tesrTransform(itemTransform, rotation), BakedModelPlacedItemFlat.getTransform(itemTransform, rotation & 3), random);
+            }
+        }
+    }
+
+    @Test
+    public void testOpaqueModelsAreBaked()
+    {
+        IBakedModel model = createItemModel(createSprite(createStickPixels(OPAQUE)), -1);
+        assertTrue(BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(model));
+        assertTrue(BakedModelPlacedItemFlat.canBake(new ItemStack(Items.STICK), model));
+        assertEquals(model.getQuads(null, null, 0).size(), BakedModelPlacedItemFlat.buildQuads(model, 0).size());
+    }
+
+    @Test
+    public void testEnchantedItemsAreLeftToTheTESR()
+    {
+        IBakedModel model = createItemModel(createSprite(createStickPixels(OPAQUE)), -1);
+        ItemStack stack = new ItemStack(Items.STICK);
+        stack.addEnchantment(Enchantments.UNBREAKING, 1);
+        assertFalse(BakedModelPlacedItemFlat.canBake(stack, model));
+    }
+
+    @Test
+    public void testTintedModelsAreLeftToTheTESR()
+    {
+        IBakedModel model = createItemModel(createSprite(createStickPixels(OPAQUE)), 0);
+        assertFalse(BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(model));
+        assertFalse(BakedModelPlacedItemFlat.canBake(new ItemStack(Items.STICK), model));
+    }
+
+    @Test
+    public void testTranslucentModelsAreLeftToTheTESR()
+    {
+        int[] pixels = createStickPixels(OPAQUE);
+        pixels[7 * 16 + 8] = TRANSLUCENT;
+        assertFalse(BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(createItemModel(createSprite(pixels), -1)));
+
+        // Transparent pixels are cut out, the same as by the item renderer
+        pixels[7 * 16 + 8] = TRANSPARENT;
+        assertTrue(BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(createItemModel(createSprite(pixels), -1)));
+    }
+
+    @Test
+    public void testSpritesWithoutTextureDataAreLeftToTheTESR()
+    {
+        TextureAtlasSprite sprite = createSprite(createStickPixels(OPAQUE));
+        IBakedModel model = createItemModel(sprite, -1);
+        sprite.clearFramesTextureData();
+        assertFalse(BakedModelPlacedItemFlat.hasOnlyOpaqueUntintedQuads(model));
+    }
+}
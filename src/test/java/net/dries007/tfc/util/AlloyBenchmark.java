@@ -0,0 +1,82 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.api.recipes.AlloyRecipe;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Metal;
+
+import static net.dries007.tfc.util.AlloyTest.*;
+
+/**
+ * Measures finding the result of an alloy by testing every recipe, through the recipe matcher, and from the cached result (which is what a crucible or blast furnace gets each tick while its content doesn't change)
+ * Uses the random recipes of {@link AlloyTest}, and random alloys that match one of them. Run with the benchmark task.
+ */
+public class AlloyBenchmark
+{
+    private static final int ALLOYS = 4096;
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private static List<AlloyRecipe> recipes;
+    private static Alloy[] alloys;
+
+    @BeforeClass
+    public static void setup()
+    {
+        registerRecipes();
+        recipes = new ArrayList<>(TFCRegistries.ALLOYS.getValuesCollection());
+        Random random = new Random(1);
+        alloys = new Alloy[ALLOYS];
+        for (int i = 0; i < ALLOYS; )
+        {
+            // Only alloys with a result, as outside of the game the unknown metal is null, so a missing result is never cached
+            Alloy alloy = createAlloy(random, recipes);
+            if (getResultByScan(alloy, recipes) != Metal.UNKNOWN)
+            {
+                alloys[i++] = alloy;
+            }
+        }
+    }
+
+    /**
+     * @return the average time per alloy, in nanoseconds
+     */
+    private static double time(Function<Alloy, Metal> result)
+    {
+        int found = 0;
+        for (int i = 0; i < WARMUP; i++)
+        {
+            found += result.apply(alloys[i % ALLOYS]) != Metal.UNKNOWN ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            found += result.apply(alloys[i % ALLOYS]) != Metal.UNKNOWN ? 1 : 0;
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.println("(" + found + " alloys matched)");
+        return (double) nanos / ITERATIONS;
+    }
+
+    @Test
+    public void benchmarkAlloyResult()
+    {
+        Alloy.RecipeMatcher matcher = new Alloy.RecipeMatcher(recipes);
+        double scan = time(alloy -> getResultByScan(alloy, recipes));
+        double matched = time(alloy -> alloy.computeResult(matcher));
+        double cached = time(Alloy::getResult);
+        System.out.println(String.format("Alloy result, %d recipes: %.0f ns testing every recipe, %.0f ns with the matcher, %.0f ns cached", recipes.size(), scan, matched, cached));
+    }
+}
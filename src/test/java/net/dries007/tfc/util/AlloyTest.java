@@ -0,0 +1,244 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util;
+
+import java.util.*;
+import javax.annotation.Nullable;
+
+import net.minecraft.util.ResourceLocation;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.api.recipes.AlloyRecipe;
+import net.dries007.tfc.api.registries.TFCRegistries;
+import net.dries007.tfc.api.types.Metal;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks alloy results from the recipe matcher, and the cached result of an alloy, against testing every alloy recipe in order, which is how alloy results were found before the matcher
+ * Recipes are random, with a few component metals so that many recipes share a set of components, and some recipes having a result that is a component of other recipes.
+ */
+public class AlloyTest
+{
+    static final int METALS = 64;
+    static final int COMPONENT_METALS = 8;
+    static final int REGISTERED_RECIPES = 60;
+
+    private static final int UNREGISTERED_RECIPES = 80;
+    private static final int SHARED_RESULTS = 12;
+    private static final int ALLOYS = 20_000;
+
+    private static boolean recipesRegistered;
+    static Metal[] metals;
+
+    @BeforeClass
+    public static void setup()
+    {
+        registerRecipes();
+    }
+
+    /**
+     * Creates the test metals, and registers a recipe for each of the first {@link AlloyTest#REGISTERED_RECIPES} metals
+     */
+    static synchronized void registerRecipes()
+    {
+        TestHelper.createRegistries();
+        if (!recipesRegistered)
+        {
+            recipesRegistered = true;
+            metals = new Metal[METALS];
+            for (int i = 0; i < METALS; i++)
+            {
+                metals[i] = new Metal(new ResourceLocation("tfc", "test_metal_" + i), Metal.Tier.TIER_I, true, 0.35f, 1000, 0xFFFFFFFF, null, null);
+            }
+            Random random = new Random(1);
+            for (int i = 0; i < REGISTERED_RECIPES; i++)
+            {
+                // Alloy recipes are named after their result, so registered recipes can't share a result
+                TFCRegistries.ALLOYS.register(createRecipe(random, metals[i]));
+            }
+        }
+    }
+
+    /**
+     * Creates a recipe of two or three component metals, with ranges around a random ratio of those metals
+     */
+    static AlloyRecipe createRecipe(Random random, Metal result)
+    {
+        int components = 2 + random.nextInt(2);
+        List<Metal> componentMetals = new ArrayList<>(Arrays.asList(metals).subList(0, COMPONENT_METALS));
+        Collections.shuffle(componentMetals, random);
+
+        double[] weights = new double[components];
+        double total = 0;
+        for (int i = 0; i < components; i++)
+        {
+            weights[i] = 0.1 + random.nextDouble();
+            total += weights[i];
+        }
+        AlloyRecipe.Builder builder = new AlloyRecipe.Builder(result);
+        for (int i = 0; i < components; i++)
+        {
+            double ratio = weights[i] / total, spread = 0.02 + 0.15 * random.nextDouble();
+            builder.add(componentMetals.get(i), ratio - spread, ratio + spread);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Creates an alloy which is either made of random metals, or is close to one of the recipes, possibly with some of the recipe result added
+     */
+    static Alloy createAlloy(Random random, List<AlloyRecipe> recipes)
+    {
+        Alloy alloy = new Alloy();
+        if (random.nextInt(4) == 0)
+        {
+            int count = 1 + random.nextInt(4);
+            for (int i = 0; i < count; i++)
+            {
+                alloy.add(metals[random.nextInt(COMPONENT_METALS + 4)], 1 + random.nextInt(1000));
+            }
+        }
+        else
+        {
+            AlloyRecipe recipe = recipes.get(random.nextInt(recipes.size()));
+            for (Map.Entry<Metal, AlloyRecipe.DoubleRange> entry : recipe.getMetals().entrySet())
+            {
+                AlloyRecipe.DoubleRange range = entry.getValue();
+                double ratio = range.getMin() + (range.getMax() - range.getMin()) * random.nextDouble();
+                alloy.add(entry.getKey(), Math.max(1, (int) (1000 * ratio)));
+            }
+            if (random.nextInt(3) == 0)
+            {
+                alloy.add(recipe.getResult(), 1 + random.nextInt(500));
+            }
+        }
+        return alloy;
+    }
+
+    /**
+     * Finds the result of an alloy by testing every recipe in order, the same as before alloy recipes were matched by their components
+     * This assumes no metal in the alloy is under {@link Alloy#EPSILON}, which holds for the alloys in these tests. An alloy that has been emptied keeps its old metals in {@link Alloy#getMetals()} until metal is added again, so it is checked by amount.
+     */
+    @Nullable
+    static Metal getResultByScan(Alloy alloy, Collection<AlloyRecipe> recipes)
+    {
+        if (alloy.getAmount() > 0 && alloy.getMetals().size() == 1)
+        {
+            return alloy.getMetals().keySet().iterator().next();
+        }
+        for (AlloyRecipe recipe : recipes)
+        {
+            if (alloy.matchesRecipe(recipe))
+            {
+                return recipe.getResult();
+            }
+        }
+        return Metal.UNKNOWN;
+    }
+
+    @Test
+    public void testMatcherMatchesScan()
+    {
+        // Many more recipes than results, so several recipes share a result. Candidates with the same result must still be tested in order
+        Random random = new Random(2);
+        List<AlloyRecipe> recipes = new ArrayList<>();
+        for (int i = 0; i < UNREGISTERED_RECIPES; i++)
+        {
+            recipes.add(createRecipe(random, metals[random.nextInt(SHARED_RESULTS)]));
+        }
+        Alloy.RecipeMatcher matcher = new Alloy.RecipeMatcher(recipes);
+
+        int matched = 0;
+        for (int i = 0; i < ALLOYS; i++)
+        {
+            Alloy alloy = createAlloy(random, recipes);
+            Metal expected = getResultByScan(alloy, recipes);
+            assertSame(expected, alloy.computeResult(matcher));
+            if (expected != Metal.UNKNOWN && alloy.getMetals().size() > 1)
+            {
+                matched++;
+            }
+        }
+        // Make sure this compared alloys that match a recipe, and ones that don't
+        assertTrue(matched > ALLOYS / 10 && matched < ALLOYS);
+    }
+
+    @Test
+    public void testRegisteredRecipesMatchScan()
+    {
+        Random random = new Random(3);
+        List<AlloyRecipe> recipes = new ArrayList<>(TFCRegistries.ALLOYS.getValuesCollection());
+        int matched = 0;
+        for (int i = 0; i < ALLOYS; i++)
+        {
+            Alloy alloy = createAlloy(random, recipes);
+            Metal expected = getResultByScan(alloy, recipes);
+            assertSame(expected, alloy.getResult());
+            if (expected != Metal.UNKNOWN && alloy.getMetals().size() > 1)
+            {
+                matched++;
+            }
+        }
+        assertTrue(matched > ALLOYS / 10);
+    }
+
+    @Test
+    public void testCachedResultMatchesScan()
+    {
+        // Changes a few alloys over and over, checking the (cached) result after every change
+        Random random = new Random(4);
+        List<AlloyRecipe> recipes = new ArrayList<>(TFCRegistries.ALLOYS.getValuesCollection());
+        // Kept small enough that no metal added falls under epsilon of the total
+        Alloy[] alloys = {new Alloy(10_000), new Alloy(10_000), new Alloy(10_000)};
+        for (int i = 0; i < ALLOYS; i++)
+        {
+            Alloy alloy = alloys[random.nextInt(alloys.length)];
+            switch (random.nextInt(5))
+            {
+                case 0:
+                    alloy.removeAlloy(random.nextInt(alloy.getAmount() + 100), false);
+                    break;
+                case 1:
+                    Alloy other = alloys[random.nextInt(alloys.length)];
+                    if (other != alloy && alloy.getAmount() + other.getAmount() <= alloy.getMaxAmount())
+                    {
+                        alloy.add(other);
+                    }
+                    break;
+                case 2:
+                    alloy.removeAlloy(alloy.getAmount(), false);
+                    alloy.add(createAlloy(random, recipes));
+                    break;
+                default:
+                    alloy.add(metals[random.nextInt(COMPONENT_METALS)], 1 + random.nextInt(300));
+                    break;
+            }
+            Metal expected = getResultByScan(alloy, recipes);
+            assertSame(expected, alloy.getResult());
+            assertSame(expected, alloy.getResult());
+        }
+    }
+
+    @Test
+    public void testInvalidatedMatcherMatchesScan()
+    {
+        Random random = new Random(5);
+        List<AlloyRecipe> recipes = new ArrayList<>(TFCRegistries.ALLOYS.getValuesCollection());
+        for (int i = 0; i < ALLOYS / 10; i++)
+        {
+            if (i % 100 == 0)
+            {
+                Alloy.invalidateRecipes();
+            }
+            Alloy alloy = createAlloy(random, recipes);
+            assertSame(getResultByScan(alloy, recipes), alloy.getResult());
+        }
+    }
+}
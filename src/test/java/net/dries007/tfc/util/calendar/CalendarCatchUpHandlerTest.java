@@ -0,0 +1,214 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.calendar;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.ITickable;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that tile entities caught up after their chunk loads see the same calendar updates as if they still ticked, which is what they did before the handler existed
+ */
+public class CalendarCatchUpHandlerTest
+{
+    private static final long SAVED_TICK = 200, LOADED_TICK = 1000;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+    }
+
+    private static void setPlayerTime(long playerTime)
+    {
+        NBTTagCompound nbt = CalendarTFC.INSTANCE.serializeNBT();
+        nbt.setLong("playerTime", playerTime);
+        CalendarTFC.INSTANCE.deserializeNBT(nbt);
+    }
+
+    /**
+     * Loads a chunk with the tile entities, and runs the end of a world tick
+     */
+    private static void loadChunk(TestWorld world, TileEntity... tiles)
+    {
+        int y = 0;
+        for (TileEntity tile : tiles)
+        {
+            tile.setWorld(world);
+            world.chunk.getTileEntityMap().put(new BlockPos(0, y++, 0), tile);
+        }
+        CalendarCatchUpHandler.onChunkLoad(new ChunkEvent.Load(world.chunk));
+        CalendarCatchUpHandler.onWorldTick(new TickEvent.WorldTickEvent(Side.SERVER, TickEvent.Phase.END, world));
+    }
+
+    @After
+    public void reset()
+    {
+        CalendarTFC.INSTANCE.resetTo(new CalendarTFC());
+    }
+
+    @Test
+    public void testChunkLoadMatchesTicking()
+    {
+        TestWorld world = new TestWorld();
+        CalendarTile ticking = new CalendarTile(SAVED_TICK), caughtUp = new CalendarTile(SAVED_TICK);
+        ticking.setWorld(world);
+
+        setPlayerTime(LOADED_TICK);
+        loadChunk(world, caughtUp);
+        for (long tick = LOADED_TICK; tick < LOADED_TICK + 100; tick++)
+        {
+            // What the tile entity did when it was ticking
+            setPlayerTime(tick);
+            ticking.checkForCalendarUpdate();
+        }
+
+        assertEquals(Collections.singletonList(LOADED_TICK - SAVED_TICK - 1), caughtUp.updates);
+        assertEquals(ticking.updates, caughtUp.updates);
+        assertEquals(LOADED_TICK, caughtUp.getLastUpdateTick());
+    }
+
+    @Test
+    public void testOnlyValidNonTickingTilesAreCaughtUp()
+    {
+        TestWorld world = new TestWorld();
+        CalendarTile caughtUp = new CalendarTile(SAVED_TICK), ticking = new TickingCalendarTile(SAVED_TICK), invalid = new CalendarTile(SAVED_TICK);
+        invalid.invalidate();
+
+        setPlayerTime(LOADED_TICK);
+        loadChunk(world, caughtUp, ticking, invalid, new TileEntity() {});
+
+        assertEquals(1, caughtUp.updates.size());
+        assertEquals(0, ticking.updates.size()); // This checks for itself, when it ticks
+        assertEquals(0, invalid.updates.size());
+    }
+
+    private static class CalendarTile extends TileEntity implements ICalendarTickable
+    {
+        private final List<Long> updates = new ArrayList<>();
+        private long lastUpdateTick;
+
+        private CalendarTile(long lastUpdateTick)
+        {
+            this.lastUpdateTick = lastUpdateTick;
+        }
+
+        @Override
+        public void onCalendarUpdate(long playerTickDelta)
+        {
+            updates.add(playerTickDelta);
+        }
+
+        @Override
+        public long getLastUpdateTick()
+        {
+            return lastUpdateTick;
+        }
+
+        @Override
+        public void setLastUpdateTick(long tick)
+        {
+            lastUpdateTick = tick;
+        }
+    }
+
+    private static class TickingCalendarTile extends CalendarTile implements ITickable
+    {
+        private TickingCalendarTile(long lastUpdateTick)
+        {
+            super(lastUpdateTick);
+        }
+
+        @Override
+        public void update()
+        {
+            checkForCalendarUpdate();
+        }
+    }
+
+    /**
+     * A server world with a single loaded chunk
+     */
+    private static class TestWorld extends World
+    {
+        private final Chunk chunk;
+
+        private TestWorld()
+        {
+            super(null, new WorldInfo(new WorldSettings(0, GameType.SURVIVAL, false, false, WorldType.DEFAULT), "test"), new WorldProviderSurface(), new Profiler(), false);
+            chunk = new Chunk(this, 0, 0);
+            chunkProvider = createChunkProvider();
+        }
+
+        @Override
+        protected IChunkProvider createChunkProvider()
+        {
+            return new IChunkProvider()
+            {
+                @Nullable
+                @Override
+                public Chunk getLoadedChunk(int x, int z)
+                {
+                    return x == 0 && z == 0 ? chunk : null;
+                }
+
+                @Override
+                public Chunk provideChunk(int x, int z)
+                {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public boolean tick()
+                {
+                    return false;
+                }
+
+                @Override
+                public String makeString()
+                {
+                    return "TestWorld";
+                }
+
+                @Override
+                public boolean isChunkGeneratedAt(int x, int z)
+                {
+                    return x == 0 && z == 0;
+                }
+            };
+        }
+
+        @Override
+        protected boolean isChunkLoaded(int x, int z, boolean allowEmpty)
+        {
+            return x == 0 && z == 0;
+        }
+    }
+}
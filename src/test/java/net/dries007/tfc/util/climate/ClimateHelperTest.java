@@ -0,0 +1,144 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.util.climate;
+
+import java.util.Random;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.MathHelper;
+import org.junit.After;
+import org.junit.Test;
+
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.util.calendar.CalendarTFC;
+import net.dries007.tfc.util.calendar.ICalendar;
+import net.dries007.tfc.util.calendar.ICalendarFormatted;
+import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.util.config.HemisphereType;
+import net.dries007.tfc.util.config.TemperatureMode;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the cached and tabled temperatures against the formulas they replaced, which are copied here as they were
+ */
+public class ClimateHelperTest
+{
+    private static final int[] MONTH_LENGTHS = {8, 30, 7};
+    private static final int[] TEMP_RANGES = {40_000, 20_000, 1_000};
+    private static final int SAMPLES = 20_000;
+
+    private static float oldDailyTemp(float regionalTemp, int z, long time, long daysInMonth)
+    {
+        int hourOfDay = ICalendarFormatted.getHourOfDay(time);
+        if (hourOfDay > 12)
+        {
+            hourOfDay = 24 - hourOfDay;
+        }
+        float hourModifier = (hourOfDay / 6f) - 1f;
+
+        Random random = new Random(ICalendar.getTotalDays(time));
+        final float dailyModifier = random.nextFloat() - random.nextFloat();
+
+        return oldMonthlyTemp(regionalTemp, z, time, daysInMonth) + (dailyModifier + 0.3f * hourModifier) * 3f;
+    }
+
+    private static float oldMonthlyTemp(float regionalTemp, int z, long time, long daysInMonth)
+    {
+        Month monthOfYear = ICalendarFormatted.getMonthOfYear(time, daysInMonth);
+
+        final float currentMonthFactor = oldMonthFactor(regionalTemp, monthOfYear.getTemperatureModifier(), z);
+        final float nextMonthFactor = oldMonthFactor(regionalTemp, monthOfYear.next().getTemperatureModifier(), z);
+
+        final float delta = (float) ICalendarFormatted.getDayOfMonth(time, daysInMonth) / daysInMonth;
+        return currentMonthFactor * (1 - delta) + nextMonthFactor * delta;
+    }
+
+    private static float oldMonthFactor(float regionalTemp, float monthTempModifier, int z)
+    {
+        return (41f - monthTempModifier * 1.1f * (1 - 0.8f * oldLatitudeFactor(z))) + regionalTemp;
+    }
+
+    private static float oldLatitudeFactor(int chunkZ)
+    {
+        int tempRange = ConfigTFC.General.WORLD.latitudeTemperatureModifier;
+        if (ConfigTFC.General.WORLD.temperatureMode == TemperatureMode.ENDLESS)
+        {
+            chunkZ = MathHelper.clamp(chunkZ, -tempRange / 2, tempRange / 2);
+        }
+        return 0.5f + 0.5f * ConfigTFC.General.WORLD.hemisphereType.getValue() * (float) Math.sin(Math.PI * chunkZ / tempRange);
+    }
+
+    private static void setCalendar(int daysInMonth, long calendarTime)
+    {
+        NBTTagCompound nbt = new NBTTagCompound();
+        nbt.setInteger("daysInMonth", daysInMonth);
+        nbt.setLong("calendarTime", calendarTime);
+        CalendarTFC.INSTANCE.deserializeNBT(nbt);
+    }
+
+    private static int randomZ(Random random)
+    {
+        // Mostly inside the latitude table, sometimes far outside it
+        return random.nextInt(10) == 0 ? random.nextInt() : random.nextInt(80_001) - 40_000;
+    }
+
+    @After
+    public void reset()
+    {
+        ConfigTFC.General.WORLD.latitudeTemperatureModifier = 40_000;
+        ConfigTFC.General.WORLD.temperatureMode = TemperatureMode.CYCLIC;
+        ConfigTFC.General.WORLD.hemisphereType = HemisphereType.COLD_NORTH_HOT_SOUTH;
+        CalendarTFC.INSTANCE.resetTo(new CalendarTFC());
+    }
+
+    @Test
+    public void testLatitudeFactorMatchesFormula()
+    {
+        Random random = new Random(1);
+        for (int tempRange : TEMP_RANGES)
+        {
+            for (TemperatureMode mode : TemperatureMode.values())
+            {
+                for (HemisphereType hemisphere : HemisphereType.values())
+                {
+                    // Changing the config must not leave an old table behind
+                    ConfigTFC.General.WORLD.latitudeTemperatureModifier = tempRange;
+                    ConfigTFC.General.WORLD.temperatureMode = mode;
+                    ConfigTFC.General.WORLD.hemisphereType = hemisphere;
+                    for (int i = 0; i < SAMPLES; i++)
+                    {
+                        int z = randomZ(random);
+                        assertEquals("z = " + z, oldLatitudeFactor(z), ClimateHelper.latitudeFactor(z), 0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTemperatureMatchesFormula()
+    {
+        for (int daysInMonth : MONTH_LENGTHS)
+        {
+            // The same times for each month length, so cached hours from the previous month length must not be used
+            Random random = new Random(2);
+            setCalendar(daysInMonth, random.nextInt(1000) * ICalendar.TICKS_IN_DAY * 30L);
+            for (int i = 0; i < SAMPLES; i++)
+            {
+                // Times close together, so the same hours are used more than once, and sometimes much further away
+                long timeOffset = random.nextInt(10) == 0 ? random.nextInt(Integer.MAX_VALUE) : random.nextInt(4 * ICalendar.TICKS_IN_DAY);
+                long time = CalendarTFC.CALENDAR_TIME.getTicks() + timeOffset;
+                float regionalTemp = random.nextFloat() * 40f - 20f;
+                int z = randomZ(random);
+
+                String message = "time = " + time + ", days in month = " + daysInMonth + ", z = " + z;
+                assertEquals(message, oldMonthlyTemp(regionalTemp, z, time, daysInMonth), ClimateHelper.monthlyTemp(regionalTemp, z, timeOffset), 0);
+                assertEquals(message, oldDailyTemp(regionalTemp, z, time, daysInMonth), ClimateHelper.dailyTemp(regionalTemp, z, timeOffset), 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.minecraft.init.Blocks;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+
+/**
+ * Measures the column data generated per second, with a growing number of threads, each with its own generator the same as the pipeline's workers
+ * With one thread, this is the cost of the first stage of chunk generation on the server thread. Run with the benchmark task.
+ */
+public class ColumnDataGeneratorBenchmark
+{
+    private static final long SEED = 5_318_008L;
+    private static final int WARMUP_CHUNKS = 512;
+    private static final int CHUNKS = 4096;
+
+    private static WorldGenSettings settings;
+
+    @BeforeClass
+    public static void setup()
+    {
+        TestHelper.registerRocks();
+        TestHelper.registerBiomes();
+        settings = WorldGenSettings.fromString("").build();
+    }
+
+    /**
+     * @return the time taken, in nanoseconds
+     */
+    private static long generate(ExecutorService executor, ThreadLocal<ColumnDataGenerator> generators, int offset, int chunks) throws Exception
+    {
+        long start = System.nanoTime();
+        List<Future<ChunkColumnData>> futures = new ArrayList<>();
+        for (int i = 0; i < chunks; i++)
+        {
+            final int chunkX = offset + (i & 63), chunkZ = i >> 6;
+            futures.add(executor.submit(() -> generators.get().generate(chunkX, chunkZ)));
+        }
+        for (Future<ChunkColumnData> future : futures)
+        {
+            future.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static void benchmark(int threads) throws Exception
+    {
+        ThreadLocal<ColumnDataGenerator> generators = ThreadLocal.withInitial(() ->
+        {
+            GenLayerTFC.useThreadLocalIntCache();
+            return new ColumnDataGenerator(SEED, settings, Blocks.WATER.getDefaultState(), 1, 1, 1);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            generate(executor, generators, -1000, WARMUP_CHUNKS);
+            long nanos = generate(executor, generators, 0, CHUNKS);
+            System.out.println(String.format("Column data with %d thread(s): %.0f chunks/s", threads, CHUNKS * 1e9 / nanos));
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void benchmarkThreads() throws Exception
+    {
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads < maxThreads; threads *= 2)
+        {
+            benchmark(threads);
+        }
+        benchmark(maxThreads);
+    }
+}
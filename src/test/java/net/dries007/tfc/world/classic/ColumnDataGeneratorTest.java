@@ -0,0 +1,424 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.GameType;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.biome.Biome;
+import net.minecraft.world.biome.BiomeProvider;
+import net.minecraft.world.chunk.ChunkPrimer;
+import net.minecraft.world.gen.NoiseGeneratorOctaves;
+import net.minecraft.world.gen.NoiseGeneratorPerlin;
+import net.minecraft.world.gen.layer.GenLayer;
+import net.minecraft.world.gen.layer.IntCache;
+import net.minecraft.world.storage.WorldInfo;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.ConfigTFC;
+import net.dries007.tfc.TestHelper;
+import net.dries007.tfc.api.types.RockCategory;
+import net.dries007.tfc.util.calendar.Month;
+import net.dries007.tfc.util.climate.ClimateHelper;
+import net.dries007.tfc.world.classic.genlayers.GenLayerTFC;
+import net.dries007.tfc.world.classic.genlayers.datalayers.drainage.GenDrainageLayer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks the column data generator, on the server thread and on worker threads, against the first stage of chunk generation as {@link ChunkGenTFC} did it before, which is copied here
+ * The old generation uses the world's biome provider, and the shared vanilla {@link IntCache}, on the test thread.
+ */
+public class ColumnDataGeneratorTest
+{
+    private static final long SEED = 5_318_008L;
+    private static final int CHUNKS = 48;
+    private static final int THREADS = 4;
+
+    private static IBlockState seaWater;
+    private static WorldGenSettings settings;
+
+    @BeforeClass
+    public static void setup()
+    {
+        TestHelper.registerRocks();
+        TestHelper.registerBiomes();
+        seaWater = Blocks.WATER.getDefaultState();
+        settings = WorldGenSettings.fromString("").build();
+    }
+
+    private static ColumnDataGenerator createGenerator()
+    {
+        return new ColumnDataGenerator(SEED, settings, seaWater, (float) ConfigTFC.General.WORLD.rainfallSpreadFactor, (float) ConfigTFC.General.WORLD.floraDensitySpreadFactor, (float) ConfigTFC.General.WORLD.floraDiversitySpreadFactor);
+    }
+
+    /**
+     * Groups of neighbouring chunks, far apart, in a random order
+     */
+    private static List<ChunkPos> randomChunks(Random random)
+    {
+        List<ChunkPos> chunks = new ArrayList<>();
+        while (chunks.size() < CHUNKS)
+        {
+            int x = random.nextInt(20_000) - 10_000, z = random.nextInt(20_000) - 10_000;
+            chunks.add(new ChunkPos(x, z));
+            chunks.add(new ChunkPos(x + 1, z));
+            chunks.add(new ChunkPos(x, z - 1));
+        }
+        return chunks;
+    }
+
+    private static void assertSameData(ChunkColumnData expected, ChunkColumnData actual)
+    {
+        String message = "Chunk " + expected.chunkX + ", " + expected.chunkZ;
+        assertEquals(message, expected.chunkX, actual.chunkX);
+        assertEquals(message, expected.chunkZ, actual.chunkZ);
+        for (int x = 0; x < 16; x++)
+        {
+            for (int z = 0; z < 16; z++)
+            {
+                for (int y = 0; y < 256; y++)
+                {
+                    assertSame(message, expected.roughTerrain.getBlockState(x, y, z), actual.roughTerrain.getBlockState(x, y, z));
+                }
+            }
+        }
+        assertArrayEquals(message, expected.biomes, actual.biomes);
+        assertArrayEquals(message, expected.rockLayer1, actual.rockLayer1);
+        assertArrayEquals(message, expected.rockLayer2, actual.rockLayer2);
+        assertArrayEquals(message, expected.rockLayer3, actual.rockLayer3);
+        assertArrayEquals(message, expected.stabilityLayer, actual.stabilityLayer);
+        assertArrayEquals(message, expected.drainageLayer, actual.drainageLayer);
+        assertArrayEquals(message, expected.surfaceNoise, actual.surfaceNoise, 0);
+        assertEquals(message, expected.rainfall, actual.rainfall, 0);
+        assertEquals(message, expected.floraDensity, actual.floraDensity, 0);
+        assertEquals(message, expected.floraDiversity, actual.floraDiversity, 0);
+        assertEquals(message, expected.regionalTemp, actual.regionalTemp, 0);
+        assertEquals(message, expected.averageTemp, actual.averageTemp, 0);
+    }
+
+    @Test
+    public void testServerThreadMatchesOldGeneration()
+    {
+        OldGenerator oldGenerator = new OldGenerator();
+        ColumnDataGenerator generator = createGenerator();
+        for (ChunkPos pos : randomChunks(new Random(1)))
+        {
+            assertSameData(oldGenerator.generate(pos.x, pos.z), generator.generate(pos.x, pos.z));
+        }
+    }
+
+    @Test
+    public void testWorkerThreadsMatchOldGeneration() throws Exception
+    {
+        List<ChunkPos> chunks = randomChunks(new Random(2));
+        ThreadLocal<ColumnDataGenerator> generators = ThreadLocal.withInitial(() ->
+        {
+            GenLayerTFC.useThreadLocalIntCache();
+            return createGenerator();
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<ChunkColumnData>> futures = new ArrayList<>();
+            for (ChunkPos pos : chunks)
+            {
+                futures.add(executor.submit(() -> generators.get().generate(pos.x, pos.z)));
+            }
+
+            // This uses the vanilla int cache while the workers are running, which they must not touch
+            OldGenerator oldGenerator = new OldGenerator();
+            for (int i = 0; i < chunks.size(); i++)
+            {
+                assertSameData(oldGenerator.generate(chunks.get(i).x, chunks.get(i).z), futures.get(i).get());
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The first stage of {@link ChunkGenTFC#generateChunk(int, int)}, as it was before it was moved to {@link ColumnDataGenerator}
+     */
+    @SuppressWarnings("PointlessArithmeticExpression")
+    private static final class OldGenerator
+    {
+        private final NoiseGeneratorOctaves noiseGen1;
+        private final NoiseGeneratorOctaves noiseGen2;
+        private final NoiseGeneratorOctaves noiseGen3;
+        private final NoiseGeneratorOctaves noiseGen4;
+        private final NoiseGeneratorOctaves noiseGen6;
+        private final NoiseGeneratorPerlin noiseGen7; // Rainfall
+        private final NoiseGeneratorPerlin noiseGen8; // Flora Density
+        private final NoiseGeneratorPerlin noiseGen9; // Flora Diversity
+        private final NoiseGeneratorPerlin noiseGen10; // Temperature
+        private final GenLayerTFC rocksGenLayer1;
+        private final GenLayerTFC rocksGenLayer2;
+        private final GenLayerTFC rocksGenLayer3;
+        private final GenLayerTFC stabilityGenLayer;
+        private final GenLayerTFC drainageGenLayer;
+        private final BiomeProvider biomeProvider;
+
+        private final double[] noise1 = new double[425];
+        private final double[] noise2 = new double[425];
+        private final double[] noise3 = new double[425];
+        private final double[] noise6 = new double[425];
+        private final double[] heightMap = new double[425];
+        private final float[] parabolicField = new float[25];
+        private final Biome[] biomes = new Biome[324];
+        private final int seaLevel = 32;
+        private final float rainfallSpread, floraDensitySpread, floraDiversitySpread;
+
+        private OldGenerator()
+        {
+            Random rand = new Random(SEED);
+            noiseGen1 = new NoiseGeneratorOctaves(rand, 4);
+            noiseGen2 = new NoiseGeneratorOctaves(rand, 16);
+            noiseGen3 = new NoiseGeneratorOctaves(rand, 8);
+            noiseGen4 = new NoiseGeneratorOctaves(rand, 4);
+            new NoiseGeneratorOctaves(rand, 2); // noiseGen5
+            noiseGen6 = new NoiseGeneratorOctaves(rand, 1);
+
+            rocksGenLayer1 = GenLayerTFC.initializeRock(SEED + 1, RockCategory.Layer.TOP, settings.rockLayerSize);
+            rocksGenLayer2 = GenLayerTFC.initializeRock(SEED + 2, RockCategory.Layer.MIDDLE, settings.rockLayerSize);
+            rocksGenLayer3 = GenLayerTFC.initializeRock(SEED + 3, RockCategory.Layer.BOTTOM, settings.rockLayerSize);
+
+            noiseGen7 = new NoiseGeneratorPerlin(new Random(SEED + 4), 4);
+            noiseGen8 = new NoiseGeneratorPerlin(new Random(SEED + 5), 4);
+            noiseGen9 = new NoiseGeneratorPerlin(new Random(SEED + 6), 4);
+            noiseGen10 = new NoiseGeneratorPerlin(new Random(SEED + 7), 4);
+
+            stabilityGenLayer = GenLayerTFC.initializeStability(SEED + 9);
+            drainageGenLayer = GenDrainageLayer.initialize(SEED + 11);
+
+            rainfallSpread = (float) ConfigTFC.General.WORLD.rainfallSpreadFactor;
+            floraDiversitySpread = (float) ConfigTFC.General.WORLD.floraDiversitySpreadFactor;
+            floraDensitySpread = (float) ConfigTFC.General.WORLD.floraDensitySpreadFactor;
+
+            // The same as BiomeProviderTFC, which needs a world
+            biomeProvider = new BiomeProvider(new WorldInfo(new WorldSettings(SEED, GameType.SURVIVAL, true, false, WorldType.DEFAULT), "test"))
+            {
+                @Override
+                public GenLayer[] getModdedBiomeGenerators(WorldType worldType, long seed, GenLayer[] original)
+                {
+                    return GenLayerTFC.initializeBiomes(seed);
+                }
+            };
+
+            for (int x = -2; x <= 2; ++x)
+            {
+                for (int y = -2; y <= 2; ++y)
+                {
+                    parabolicField[x + 2 + (y + 2) * 5] = 10.0F / MathHelper.sqrt(x * x + y * y + 0.2F);
+                }
+            }
+        }
+
+        private ChunkColumnData generate(int chunkX, int chunkZ)
+        {
+            ChunkColumnData data = new ChunkColumnData(chunkX, chunkZ);
+            generateRoughTerrain(chunkX, chunkZ, data.roughTerrain);
+
+            biomeProvider.getBiomes(biomes, chunkX * 16 - 1, chunkZ * 16 - 1, 18, 18);
+            System.arraycopy(biomes, 0, data.biomes, 0, 324);
+
+            loadLayerGeneratorData(stabilityGenLayer, data.stabilityLayer, chunkX * 16, chunkZ * 16, 16, 16);
+            loadLayerGeneratorData(drainageGenLayer, data.drainageLayer, chunkX * 16, chunkZ * 16, 16, 16);
+
+            data.rainfall = MathHelper.clamp(250f + 250f * rainfallSpread * (float) noiseGen7.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 500);
+            data.floraDiversity = MathHelper.clamp(0.5f + 0.5f * floraDiversitySpread * (float) noiseGen9.getValue(chunkX * 0.005, chunkZ * 0.005), 0, 1);
+            data.floraDensity = MathHelper.clamp((0.3f + 0.2f * data.rainfall / 500f) + 0.4f * floraDensitySpread * (float) noiseGen8.getValue(chunkX * 0.05, chunkZ * 0.05), 0, 1);
+
+            System.arraycopy(rocksGenLayer1.getInts(chunkX * 16, chunkZ * 16, 16, 16), 0, data.rockLayer1, 0, 256);
+            System.arraycopy(rocksGenLayer2.getInts(chunkX * 16, chunkZ * 16, 16, 16), 0, data.rockLayer2, 0, 256);
+            System.arraycopy(rocksGenLayer3.getInts(chunkX * 16, chunkZ * 16, 16, 16), 0, data.rockLayer3, 0, 256);
+
+            data.regionalTemp = 5f * 0.09f * (float) noiseGen10.getValue(chunkX * 0.05, chunkZ * 0.05); // Range -5 <> 5
+            data.averageTemp = ClimateHelper.monthFactor(data.regionalTemp, Month.AVERAGE_TEMPERATURE_MODIFIER, chunkZ << 4);
+
+            // From replaceBlocksForBiomeHigh
+            double var6 = 0.03125D;
+            noiseGen4.generateNoiseOctaves(data.surfaceNoise, chunkX * 16, chunkZ * 16, 0, 16, 16, 1, var6 * 4.0D, var6, var6 * 4.0D);
+            return data;
+        }
+
+        @SuppressWarnings("SameParameterValue")
+        private void loadLayerGeneratorData(GenLayerTFC gen, DataLayer[] layers, int x, int y, int width, int height)
+        {
+            IntCache.resetIntCache();
+            int[] ints = gen.getInts(x, y, width, height);
+            for (int i = 0; i < width * height; ++i)
+            {
+                layers[i] = DataLayer.get(ints[i]);
+            }
+        }
+
+        private void generateRoughTerrain(int chunkX, int chunkZ, ChunkPrimer primer)
+        {
+            biomeProvider.getBiomesForGeneration(biomes, chunkX * 4 - 2, chunkZ * 4 - 2, 10, 10);
+            generateHeightMap(chunkX * 4, chunkZ * 4);
+
+            for (int x = 0; x < 4; ++x)
+            {
+                for (int z = 0; z < 4; ++z)
+                {
+                    for (int y = 0; y < 16; ++y)
+                    {
+                        double noiseDL = heightMap[((x + 0) * 5 + z + 0) * 17 + y];
+                        double noiseUL = heightMap[((x + 0) * 5 + z + 1) * 17 + y];
+                        double noiseDR = heightMap[((x + 1) * 5 + z + 0) * 17 + y];
+                        double noiseUR = heightMap[((x + 1) * 5 + z + 1) * 17 + y];
+                        final double noiseDLA = (heightMap[((x + 0) * 5 + z + 0) * 17 + y + 1] - noiseDL) * 0.125D;
+                        final double noiseULA = (heightMap[((x + 0) * 5 + z + 1) * 17 + y + 1] - noiseUL) * 0.125D;
+                        final double noiseDRA = (heightMap[((x + 1) * 5 + z + 0) * 17 + y + 1] - noiseDR) * 0.125D;
+                        final double noiseURA = (heightMap[((x + 1) * 5 + z + 1) * 17 + y + 1] - noiseUR) * 0.125D;
+
+                        for (int yy = 0; yy < 8; ++yy)
+                        {
+                            double var34 = noiseDL;
+                            double var36 = noiseUL;
+                            final double var38 = (noiseDR - noiseDL) * 0.25D;
+                            final double var40 = (noiseUR - noiseUL) * 0.25D;
+
+                            for (int xx = 0; xx < 4; ++xx)
+                            {
+                                final double var49 = (var36 - var34) * 0.25D;
+                                double var47 = var34 - var49;
+
+                                for (int zz = 0; zz < 4; ++zz)
+                                {
+                                    if ((var47 += var49) > 0.0D)
+                                        primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, Blocks.STONE.getDefaultState());
+                                    else if (y * 8 + yy < seaLevel)
+                                        primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, seaWater);
+                                    else primer.setBlockState(x * 4 + xx, y * 8 + yy, z * 4 + zz, Blocks.AIR.getDefaultState());
+                                }
+                                var34 += var38;
+                                var36 += var40;
+                            }
+                            noiseDL += noiseDLA;
+                            noiseUL += noiseULA;
+                            noiseDR += noiseDRA;
+                            noiseUR += noiseURA;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void generateHeightMap(int xPos, int zPos)
+        {
+            noiseGen6.generateNoiseOctaves(noise6, xPos, zPos, 5, 5, 200.0D, 200.0D, 0.5D);
+            noiseGen3.generateNoiseOctaves(noise3, xPos, 0, zPos, 5, 17, 5, 12.5, 6.25, 12.5);
+            noiseGen1.generateNoiseOctaves(noise1, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
+            noiseGen2.generateNoiseOctaves(noise2, xPos, 0, zPos, 5, 17, 5, 1000D, 1000D, 1000D);
+
+            int i = 0;
+            int j = 0;
+
+            for (int x = 0; x < 5; ++x)
+            {
+                for (int z = 0; z < 5; ++z)
+                {
+                    float variationBlended = 0.0F;
+                    float rootBlended = 0.0F;
+                    float totalBlendedHeight = 0.0F;
+                    Biome baseBiome = biomes[x + 2 + (z + 2) * 10];
+
+                    for (int xR = -2; xR <= 2; ++xR)
+                    {
+                        for (int zR = -2; zR <= 2; ++zR)
+                        {
+                            Biome blendBiome = biomes[x + xR + 2 + (z + zR + 2) * 10];
+                            float blendedHeight = parabolicField[xR + 2 + (zR + 2) * 5] / 2.0F;
+                            if (blendBiome.getBaseHeight() > baseBiome.getBaseHeight())
+                                blendedHeight *= 0.5F;
+
+                            variationBlended += blendBiome.getHeightVariation() * blendedHeight;
+                            rootBlended += blendBiome.getBaseHeight() * blendedHeight;
+                            totalBlendedHeight += blendedHeight;
+                        }
+                    }
+
+                    variationBlended /= totalBlendedHeight;
+                    rootBlended /= totalBlendedHeight;
+                    variationBlended = variationBlended * 0.9F + 0.1F;
+                    rootBlended = (rootBlended * 4.0F - 1.0F) / 8.0F;
+
+                    double scaledNoise6Value = noise6[j++] / 8000.0D;
+
+                    if (scaledNoise6Value < 0.0D)
+                        scaledNoise6Value = -scaledNoise6Value * 0.3D;
+
+                    scaledNoise6Value = scaledNoise6Value * 3.0D - 2.0D;
+
+                    if (scaledNoise6Value < 0.0D)
+                    {
+                        scaledNoise6Value /= 2.0D;
+                        if (scaledNoise6Value < -1.0D)
+                            scaledNoise6Value = -1.0D;
+                        scaledNoise6Value /= 1.4D * 2.0D;
+                    }
+                    else
+                    {
+                        if (scaledNoise6Value > 1.0D)
+                            scaledNoise6Value = 1.0D;
+                        scaledNoise6Value /= 8.0D;
+                    }
+
+                    for (int y = 0; y < 17; ++y)
+                    {
+                        double rootBlendedCopy = rootBlended;
+                        rootBlendedCopy += scaledNoise6Value * 0.2D;
+                        rootBlendedCopy = rootBlendedCopy * 17 / 16.0D;
+                        double var28 = 17 / 2.0D + rootBlendedCopy * 4.0D;
+                        double output;
+                        double var32 = (y - var28) * 12.0D * 256.0D / 256.0D / (2.70 + variationBlended);
+
+                        if (var32 < 0.0D)
+                            var32 *= 4.0D;
+
+                        double var34 = noise1[i] / 512.0D;
+                        double var36 = noise2[i] / 512.0D;
+                        double var38 = (noise3[i] / 10.0D + 1.0D) / 2.0D;
+
+                        if (var38 < 0.0D)
+                            output = var34;
+                        else if (var38 > 1.0D)
+                            output = var36;
+                        else
+                            output = var34 + (var36 - var34) * var38;
+
+                        output -= var32;
+                        if (y > 17 - 4)
+                        {
+                            double var40 = (y - (17 - 4)) / 3.0F;
+                            output = output * (1.0D - var40) + -10.0D * var40;
+                        }
+
+                        heightMap[i++] = output;
+                    }
+                }
+            }
+        }
+    }
+}
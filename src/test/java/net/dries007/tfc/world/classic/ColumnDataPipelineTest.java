@@ -0,0 +1,237 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunkProvider;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the column data pipeline against generating every chunk on the server thread, using a generator which doesn't need the world gen registries
+ */
+public class ColumnDataPipelineTest
+{
+    private static final int THREADS = 2;
+    private static final int RADIUS = 2;
+    private static final int CHUNKS = 64;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+    }
+
+    private static float expectedRainfall(int chunkX, int chunkZ)
+    {
+        return (float) ((chunkX * 31 + chunkZ) % 1000);
+    }
+
+    /**
+     * A generator that takes some time, and counts how many chunks were generated on the thread that created it
+     */
+    private static ColumnDataPipeline.Generator createGenerator(Thread serverThread, AtomicInteger serverCalls)
+    {
+        return (chunkX, chunkZ) ->
+        {
+            if (Thread.currentThread() == serverThread)
+            {
+                serverCalls.incrementAndGet();
+            }
+            sleep(2);
+            ChunkColumnData data = new ChunkColumnData(chunkX, chunkZ);
+            data.rainfall = expectedRainfall(chunkX, chunkZ);
+            return data;
+        };
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch)
+    {
+        try
+        {
+            latch.await();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(int millis)
+    {
+        try
+        {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Generates a band of chunks, one column at a time, the way a player walking in a straight line would generate them
+     *
+     * @param width            the number of chunks in each column
+     * @param serverWorkMillis the time taken by the rest of chunk generation, on the server thread
+     */
+    private static void generateBand(ColumnDataPipeline pipeline, int threads, int width, int serverWorkMillis)
+    {
+        FakeChunkProvider chunkProvider = new FakeChunkProvider();
+        for (int x = 0; x < CHUNKS; x++)
+        {
+            for (int z = -width / 2; z <= width / 2; z++)
+            {
+                // Chunks in the band are the ones a player would be watching
+                ChunkColumnData data = pipeline.take(x, z, chunkProvider, key -> Math.abs((int) (key >> 32)) <= width / 2);
+                chunkProvider.generated.add(ChunkPos.asLong(x, z));
+
+                assertEquals(x, data.chunkX);
+                assertEquals(z, data.chunkZ);
+                assertEquals(expectedRainfall(x, z), data.rainfall, 0);
+                assertTrue("Pending tasks " + pipeline.getPendingCount(), pipeline.getPendingCount() <= threads * 16);
+                sleep(serverWorkMillis);
+            }
+        }
+    }
+
+    @Test
+    public void testPrefetchedDataMatchesServerGeneration()
+    {
+        AtomicInteger serverCalls = new AtomicInteger();
+        Thread serverThread = Thread.currentThread();
+        ColumnDataPipeline pipeline = new ColumnDataPipeline(() -> createGenerator(serverThread, serverCalls), THREADS, RADIUS);
+        // Enough time for the rest of each chunk that the workers keep up
+        generateBand(pipeline, THREADS, 1, 10);
+        pipeline.shutdown();
+
+        // The first chunk isn't prefetched, and occasionally a slow task is generated again
+        assertTrue("Chunks generated on the server thread: " + serverCalls.get(), serverCalls.get() < CHUNKS / 4);
+    }
+
+    @Test(timeout = 10_000)
+    public void testUnfinishedTasksAreNotWaitedFor()
+    {
+        AtomicInteger serverCalls = new AtomicInteger();
+        Thread serverThread = Thread.currentThread();
+        CountDownLatch release = new CountDownLatch(1);
+        ColumnDataPipeline pipeline = new ColumnDataPipeline(() ->
+        {
+            ColumnDataPipeline.Generator generator = createGenerator(serverThread, serverCalls);
+            return (chunkX, chunkZ) ->
+            {
+                if (Thread.currentThread() != serverThread)
+                {
+                    // Workers never finish, until the end of the test
+                    awaitUninterruptibly(release);
+                }
+                return generator.generate(chunkX, chunkZ);
+            };
+        }, THREADS, 1);
+        FakeChunkProvider chunkProvider = new FakeChunkProvider();
+        try
+        {
+            for (int x = 0; x < 8; x++)
+            {
+                ChunkColumnData data = pipeline.take(x, 0, chunkProvider, key -> false);
+                chunkProvider.generated.add(ChunkPos.asLong(x, 0));
+                assertEquals(x, data.chunkX);
+                assertEquals(expectedRainfall(x, 0), data.rainfall, 0);
+            }
+            assertEquals(8, serverCalls.get());
+        }
+        finally
+        {
+            release.countDown();
+            pipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testWithoutWorkerThreads()
+    {
+        AtomicInteger serverCalls = new AtomicInteger();
+        Thread serverThread = Thread.currentThread();
+        ColumnDataPipeline pipeline = new ColumnDataPipeline(() -> createGenerator(serverThread, serverCalls), 0, RADIUS);
+        generateBand(pipeline, 0, 1, 0);
+        pipeline.shutdown();
+
+        assertEquals(CHUNKS, serverCalls.get());
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    @Test
+    public void testTasksOutsideTheAreaAreDropped()
+    {
+        AtomicInteger serverCalls = new AtomicInteger();
+        Thread serverThread = Thread.currentThread();
+        ColumnDataPipeline pipeline = new ColumnDataPipeline(() -> createGenerator(serverThread, serverCalls), THREADS, 1);
+        FakeChunkProvider chunkProvider = new FakeChunkProvider();
+        int area = 3 * 3 - 1;
+
+        pipeline.take(0, 0, chunkProvider, key -> false);
+        assertEquals(area, pipeline.getPendingCount());
+
+        // Far away, and not watched, so only the new area is left
+        pipeline.take(100, 100, chunkProvider, key -> false);
+        assertEquals(area, pipeline.getPendingCount());
+
+        // Watched chunks are kept
+        pipeline.take(-100, -100, chunkProvider, key -> true);
+        assertEquals(2 * area, pipeline.getPendingCount());
+
+        pipeline.shutdown();
+        assertEquals(0, pipeline.getPendingCount());
+    }
+
+    private static final class FakeChunkProvider implements IChunkProvider
+    {
+        private final LongSet generated = new LongOpenHashSet();
+
+        @Nullable
+        @Override
+        public Chunk getLoadedChunk(int x, int z)
+        {
+            return null;
+        }
+
+        @Override
+        public Chunk provideChunk(int x, int z)
+        {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean tick()
+        {
+            return false;
+        }
+
+        @Override
+        public String makeString()
+        {
+            return "FakeChunkProvider";
+        }
+
+        @Override
+        public boolean isChunkGeneratedAt(int x, int z)
+        {
+            return generated.contains(ChunkPos.asLong(x, z));
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import static net.dries007.tfc.world.classic.chunkdata.ChunkDataSyncTest.*;
+
+/**
+ * Measures the cost and size of chunk data sync, against sending the save NBT, which is how chunk data was sent before
+ * Both the NBT in the save format from before rock palettes (which is what was sent at the time) and the current save format are measured. Veins are left out of the NBT, so its numbers are a lower bound. Run with the benchmark task.
+ */
+public class ChunkDataSyncBenchmark
+{
+    private static final int[] PALETTE_SIZES = {4, 16, 64};
+    private static final int CHUNKS = 256;
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+
+    private static final ByteBuf BUFFER = Unpooled.buffer();
+
+    @BeforeClass
+    public static void setup()
+    {
+        ChunkDataSyncTest.setup();
+    }
+
+    /**
+     * @return the average time per chunk, in nanoseconds
+     */
+    private static <T> double time(T[] values, BiConsumer<T, ByteBuf> writer)
+    {
+        for (int i = 0; i < WARMUP; i++)
+        {
+            BUFFER.clear();
+            writer.accept(values[i % CHUNKS], BUFFER);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            BUFFER.clear();
+            writer.accept(values[i % CHUNKS], BUFFER);
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    /**
+     * @return the average size per chunk, in bytes
+     */
+    private static <T> double size(T[] values, BiConsumer<T, ByteBuf> writer)
+    {
+        long total = 0;
+        for (T value : values)
+        {
+            BUFFER.clear();
+            writer.accept(value, BUFFER);
+            total += BUFFER.readableBytes();
+        }
+        return (double) total / values.length;
+    }
+
+    @Test
+    public void benchmarkSyncData()
+    {
+        for (int paletteSize : PALETTE_SIZES)
+        {
+            Random random = new Random(paletteSize);
+            NBTTagCompound[] legacy = new NBTTagCompound[CHUNKS], current = new NBTTagCompound[CHUNKS];
+            ChunkDataTFC[] chunks = new ChunkDataTFC[CHUNKS];
+            for (int i = 0; i < CHUNKS; i++)
+            {
+                legacy[i] = createLegacyNbt(random, paletteSize);
+                chunks[i] = createChunkData(legacy[i]);
+                current[i] = writeNBT(chunks[i]);
+            }
+
+            BiConsumer<ChunkDataTFC, ByteBuf> sync = (data, buf) -> data.writeSyncData(buf);
+            BiConsumer<NBTTagCompound, ByteBuf> nbt = (tag, buf) -> ByteBufUtils.writeTag(buf, tag);
+            System.out.println(String.format("Chunk data, %d rocks: sync data %.0f bytes in %.0f ns, old save NBT %.0f bytes in %.0f ns, current save NBT %.0f bytes in %.0f ns", paletteSize,
+                size(chunks, sync), time(chunks, sync), size(legacy, nbt), time(legacy, nbt), size(current, nbt), time(current, nbt)));
+        }
+    }
+}
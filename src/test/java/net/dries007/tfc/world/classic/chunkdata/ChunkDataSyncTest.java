@@ -0,0 +1,173 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Random;
+
+import net.minecraft.init.Bootstrap;
+import net.minecraft.nbt.NBTTagByteArray;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagIntArray;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the chunk data sent to clients reads back the same as it was written, for every width of rock palette index
+ * The chunk data is compared through its save NBT, which holds the palette and the packed indices, for the values that are synced.
+ */
+public class ChunkDataSyncTest
+{
+    static final String[] SYNCED_KEYS = {"rockPalette", "rockIndices", "seaLevelOffset", "stabilityLayer", "drainageLayer", "fishPopulation", "rainfall", "regionalTemp", "avgTemp", "floraDensity", "floraDiversity", "protectedTicks"};
+
+    private static final ChunkDataTFC.ChunkDataStorage STORAGE = new ChunkDataTFC.ChunkDataStorage();
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+    }
+
+    /**
+     * Creates chunk data in the save format used before palettes, with rock layers as registry ids
+     * The ids don't need to be registered, as neither saving nor syncing looks them up
+     *
+     * @param paletteSize the number of different rocks in the chunk, up to 768
+     */
+    static NBTTagCompound createLegacyNbt(Random random, int paletteSize)
+    {
+        int[] ids = new int[paletteSize];
+        for (int i = 0; i < paletteSize; i++)
+        {
+            ids[i] = i * 7 + random.nextInt(7); // Different ids, some over 127 so they need more than one byte
+        }
+        int[][] layers = new int[3][256];
+        for (int i = 0; i < 3 * 256; i++)
+        {
+            // Every rock once, then random ones
+            layers[i >> 8][i & 255] = ids[i < paletteSize ? i : random.nextInt(paletteSize)];
+        }
+        int[] seaLevelOffset = new int[256];
+        byte[] stabilityLayer = new byte[256], drainageLayer = new byte[256];
+        for (int i = 0; i < 256; i++)
+        {
+            seaLevelOffset[i] = random.nextInt(40) - 10;
+            stabilityLayer[i] = (byte) (110 + random.nextInt(2));
+            drainageLayer[i] = (byte) (120 + random.nextInt(6));
+        }
+
+        NBTTagCompound root = new NBTTagCompound();
+        root.setBoolean("valid", true);
+        root.setTag("rockLayer1", new NBTTagIntArray(layers[0]));
+        root.setTag("rockLayer2", new NBTTagIntArray(layers[1]));
+        root.setTag("rockLayer3", new NBTTagIntArray(layers[2]));
+        root.setTag("seaLevelOffset", new NBTTagIntArray(seaLevelOffset));
+        root.setTag("stabilityLayer", new NBTTagByteArray(stabilityLayer));
+        root.setTag("drainageLayer", new NBTTagByteArray(drainageLayer));
+        root.setInteger("fishPopulation", random.nextInt(ChunkDataTFC.FISH_POP_MAX + 1));
+        root.setFloat("rainfall", 500 * random.nextFloat());
+        root.setFloat("regionalTemp", 60 * random.nextFloat() - 30);
+        root.setFloat("avgTemp", 60 * random.nextFloat() - 30);
+        root.setFloat("floraDensity", random.nextFloat());
+        root.setFloat("floraDiversity", random.nextFloat());
+        root.setInteger("chunkWorkage", random.nextInt(100));
+        root.setLong("protectedTicks", random.nextLong());
+        return root;
+    }
+
+    static ChunkDataTFC createChunkData(NBTTagCompound nbt)
+    {
+        ChunkDataTFC data = new ChunkDataTFC();
+        STORAGE.readNBT(null, data, null, nbt);
+        return data;
+    }
+
+    static NBTTagCompound writeNBT(ChunkDataTFC data)
+    {
+        return (NBTTagCompound) STORAGE.writeNBT(null, data, null);
+    }
+
+    private static int getVarIntSize(int value)
+    {
+        return value < (1 << 7) ? 1 : (value < (1 << 14) ? 2 : 3);
+    }
+
+    private static void testRoundTrip(int paletteSize, int expectedBits)
+    {
+        Random random = new Random(paletteSize);
+        for (int i = 0; i < 20; i++)
+        {
+            ChunkDataTFC data = createChunkData(createLegacyNbt(random, paletteSize));
+            ByteBuf buf = Unpooled.buffer();
+            data.writeSyncData(buf);
+            int size = buf.readableBytes();
+
+            ChunkDataTFC synced = new ChunkDataTFC();
+            synced.readSyncData(buf);
+            assertEquals(0, buf.readableBytes());
+            assertTrue(synced.isInitialized());
+
+            // Saved and loaded again, which checks the layout of the indices in the save format for this palette size
+            NBTTagCompound expected = writeNBT(data), actual = writeNBT(synced), reloaded = writeNBT(createChunkData(expected));
+            for (String key : SYNCED_KEYS)
+            {
+                assertEquals(key, expected.getTag(key), actual.getTag(key));
+                assertEquals(key, expected.getTag(key), reloaded.getTag(key));
+            }
+
+            // The palette, the packed indices, then sea level offsets, stability and drainage, the climate, fish population and spawn protection
+            int[] palette = expected.getIntArray("rockPalette");
+            assertEquals(paletteSize, palette.length);
+            int expectedSize = getVarIntSize(palette.length);
+            for (int id : palette)
+            {
+                expectedSize += getVarIntSize(id);
+            }
+            expectedSize += 3 * 256 * expectedBits / 8 + 3 * 256 + 5 * 4 + 1 + 8;
+            assertEquals(expectedSize, size);
+        }
+    }
+
+    @Test
+    public void testOneBitPalette()
+    {
+        testRoundTrip(1, 1);
+        testRoundTrip(2, 1);
+    }
+
+    @Test
+    public void testTwoBitPalette()
+    {
+        testRoundTrip(3, 2);
+        testRoundTrip(4, 2);
+    }
+
+    @Test
+    public void testFourBitPalette()
+    {
+        testRoundTrip(5, 4);
+        testRoundTrip(16, 4);
+    }
+
+    @Test
+    public void testEightBitPalette()
+    {
+        testRoundTrip(17, 8);
+        testRoundTrip(256, 8);
+    }
+
+    @Test
+    public void testSixteenBitPalette()
+    {
+        testRoundTrip(257, 16);
+        testRoundTrip(3 * 256, 16);
+    }
+}
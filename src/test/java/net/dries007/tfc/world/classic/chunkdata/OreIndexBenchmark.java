@@ -0,0 +1,111 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+
+import static net.dries007.tfc.world.classic.chunkdata.OreIndexTest.*;
+
+/**
+ * Measures finding the ore blocks of a prospector's pick through the ore index, against scanning every block in the cube, which is what the pick did before the index existed
+ * Times are per chunk, for the part of the cube inside that chunk. The pick looks at four chunks or more. The old scan went through the world for each block, so its time here is a lower bound. Run with the benchmark task.
+ */
+public class OreIndexBenchmark
+{
+    private static final int CHUNKS = 16;
+    private static final int CENTERS = 1024;
+    private static final int WARMUP = 2000;
+    private static final int ITERATIONS = 20_000;
+
+    private static Chunk[] chunks;
+    private static BlockPos[] centers;
+
+    @BeforeClass
+    public static void setup()
+    {
+        OreIndexTest.setup();
+        Random random = new Random(1);
+        chunks = new Chunk[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            chunks[i] = createChunk(random, true);
+        }
+        centers = new BlockPos[CENTERS];
+        for (int i = 0; i < CENTERS; i++)
+        {
+            centers[i] = randomCenter(random);
+        }
+    }
+
+    /**
+     * @return the average time per chunk, in microseconds
+     */
+    private static double time(IntUnaryOperator prospect)
+    {
+        int found = 0;
+        for (int i = 0; i < WARMUP; i++)
+        {
+            found += prospect.applyAsInt(i);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            found += prospect.applyAsInt(i);
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.println("(" + found + " ore blocks found)");
+        return nanos / 1000.0 / ITERATIONS;
+    }
+
+    private static int scanCube(Chunk chunk, BlockPos center)
+    {
+        int found = 0;
+        for (int y = Math.max(center.getY() - RADIUS, 0); y <= Math.min(center.getY() + RADIUS, 255); y++)
+        {
+            for (int z = Math.max(center.getZ() - RADIUS, 0); z <= Math.min(center.getZ() + RADIUS, 15); z++)
+            {
+                for (int x = Math.max(center.getX() - RADIUS, 0); x <= Math.min(center.getX() + RADIUS, 15); x++)
+                {
+                    if (VeinRegistry.INSTANCE.isOreBlock(getState(chunk, x, y, z)))
+                    {
+                        found++;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static int collect(Chunk chunk, OreIndex index, BlockPos center)
+    {
+        int[] found = {0};
+        index.collect(chunk, center.getX() - RADIUS, center.getY() - RADIUS, center.getZ() - RADIUS, center.getX() + RADIUS, center.getY() + RADIUS, center.getZ() + RADIUS, (x, y, z, state) -> found[0]++);
+        return found[0];
+    }
+
+    @Test
+    public void benchmarkProspecting()
+    {
+        OreIndex[] indexes = new OreIndex[CHUNKS];
+        for (int i = 0; i < CHUNKS; i++)
+        {
+            indexes[i] = new OreIndex();
+        }
+        double scan = time(i -> scanCube(chunks[i % CHUNKS], centers[i % CENTERS]));
+        // The first use of the pick in a chunk, where the sections it covers are scanned into the index
+        double first = time(i -> collect(chunks[i % CHUNKS], new OreIndex(), centers[i % CENTERS]));
+        double indexed = time(i -> collect(chunks[i % CHUNKS], indexes[i % CHUNKS], centers[i % CENTERS]));
+        System.out.println(String.format("Prospecting, per chunk: %.1f us scanning the cube, %.1f us the first time through the index, %.1f us through the index (%.1fx)", scan, first, indexed, scan / indexed));
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.chunkdata;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.world.classic.worldgen.vein.VeinRegistry;
+import net.dries007.tfc.world.classic.worldgen.vein.VeinType;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the ore index against scanning every block in the prospector's pick cube, which is what the pick did before the index existed
+ */
+public class OreIndexTest
+{
+    static final int RADIUS = 12; // Same as the prospector's pick
+    private static final int SAMPLES = 200;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+        // A custom vein, which is any block state, so gold ore is indexed, but iron ore is not
+        VeinRegistry.INSTANCE.getVeins().add(1, new VeinType.CustomVeinType(Blocks.GOLD_ORE.getDefaultState(), ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.SPHERE, 8, 8, 10, 0, 255, 50));
+    }
+
+    static Chunk createChunk(Random random, boolean populated)
+    {
+        Chunk chunk = new Chunk(null, 0, 0);
+        for (int sectionY = 0; sectionY < 6; sectionY++)
+        {
+            if (random.nextInt(5) == 0)
+            {
+                continue; // Leave some sections empty
+            }
+            ExtendedBlockStorage storage = new ExtendedBlockStorage(sectionY << 4, false);
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        storage.set(x, y, z, randomState(random));
+                    }
+                }
+            }
+            chunk.getBlockStorageArray()[sectionY] = storage;
+        }
+        if (populated)
+        {
+            chunk.setTerrainPopulated(true);
+            chunk.setLightPopulated(true);
+            chunk.onTick(true);
+        }
+        return chunk;
+    }
+
+    private static IBlockState randomState(Random random)
+    {
+        int roll = random.nextInt(100);
+        if (roll < 3)
+        {
+            return Blocks.GOLD_ORE.getDefaultState();
+        }
+        else if (roll < 6)
+        {
+            return Blocks.IRON_ORE.getDefaultState();
+        }
+        else if (roll < 10)
+        {
+            return Blocks.AIR.getDefaultState();
+        }
+        return Blocks.STONE.getDefaultState();
+    }
+
+    static IBlockState getState(Chunk chunk, int x, int y, int z)
+    {
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[y >> 4];
+        return storage == Chunk.NULL_BLOCK_STORAGE ? Blocks.AIR.getDefaultState() : storage.get(x & 15, y & 15, z & 15);
+    }
+
+    /**
+     * Sets a block, and notifies the index the way the world listener would
+     */
+    private static void setState(Chunk chunk, OreIndex index, BlockPos pos, IBlockState state)
+    {
+        ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
+        if (storage != Chunk.NULL_BLOCK_STORAGE)
+        {
+            IBlockState oldState = storage.get(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15);
+            storage.set(pos.getX() & 15, pos.getY() & 15, pos.getZ() & 15, state);
+            index.update(pos, oldState, state);
+        }
+    }
+
+    /**
+     * The cube scan the prospector's pick used to do, for the part of the cube inside this chunk
+     */
+    private static Set<BlockPos> scanCube(Chunk chunk, BlockPos center)
+    {
+        Set<BlockPos> found = new HashSet<>();
+        for (int y = Math.max(center.getY() - RADIUS, 0); y <= Math.min(center.getY() + RADIUS, 255); y++)
+        {
+            for (int z = Math.max(center.getZ() - RADIUS, 0); z <= Math.min(center.getZ() + RADIUS, 15); z++)
+            {
+                for (int x = Math.max(center.getX() - RADIUS, 0); x <= Math.min(center.getX() + RADIUS, 15); x++)
+                {
+                    if (VeinRegistry.INSTANCE.isOreBlock(getState(chunk, x, y, z)))
+                    {
+                        found.add(new BlockPos(x, y, z));
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static Set<BlockPos> collect(Chunk chunk, OreIndex index, BlockPos center)
+    {
+        Set<BlockPos> found = new HashSet<>();
+        index.collect(chunk, center.getX() - RADIUS, center.getY() - RADIUS, center.getZ() - RADIUS, center.getX() + RADIUS, center.getY() + RADIUS, center.getZ() + RADIUS, (x, y, z, state) ->
+        {
+            assertEquals(getState(chunk, x, y, z), state);
+            found.add(new BlockPos(x, y, z));
+        });
+        return found;
+    }
+
+    static BlockPos randomCenter(Random random)
+    {
+        return new BlockPos(random.nextInt(48) - 16, random.nextInt(120) - 10, random.nextInt(48) - 16);
+    }
+
+    @Test
+    public void testIndexMatchesCubeScan()
+    {
+        Random random = new Random(1);
+        Chunk chunk = createChunk(random, true);
+        OreIndex index = new OreIndex();
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            BlockPos center = randomCenter(random);
+            assertEquals("Center " + center, scanCube(chunk, center), collect(chunk, index, center));
+        }
+    }
+
+    @Test
+    public void testIndexFollowsBlockChanges()
+    {
+        Random random = new Random(2);
+        Chunk chunk = createChunk(random, true);
+        OreIndex index = new OreIndex();
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            // Scan first, so the index holds every section it covers before the blocks change
+            BlockPos center = randomCenter(random);
+            collect(chunk, index, center);
+            for (int j = 0; j < 50; j++)
+            {
+                setState(chunk, index, new BlockPos(random.nextInt(16), random.nextInt(96), random.nextInt(16)), randomState(random));
+            }
+            assertEquals("Center " + center, scanCube(chunk, center), collect(chunk, index, center));
+        }
+    }
+
+    @Test
+    public void testUnpopulatedChunkIsScanned()
+    {
+        Random random = new Random(3);
+        Chunk chunk = createChunk(random, false);
+        OreIndex index = new OreIndex();
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            // World listeners aren't told about these changes, so the index must not keep anything
+            BlockPos center = randomCenter(random);
+            collect(chunk, index, center);
+            for (int j = 0; j < 50; j++)
+            {
+                BlockPos pos = new BlockPos(random.nextInt(16), random.nextInt(96), random.nextInt(16));
+                ExtendedBlockStorage storage = chunk.getBlockStorageArray()[pos.getY() >> 4];
+                if (storage != Chunk.NULL_BLOCK_STORAGE)
+                {
+                    storage.set(pos.getX(), pos.getY() & 15, pos.getZ(), randomState(random));
+                }
+            }
+            assertEquals("Center " + center, scanCube(chunk, center), collect(chunk, index, center));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.api.types.Ore;
+
+import static net.dries007.tfc.world.classic.worldgen.vein.VeinIndexTest.*;
+
+/**
+ * Measures vein index queries over a 10k x 10k block area with about one vein per chunk, against searching a plain list of the same veins
+ * The list search is a lower bound for finding veins before the index existed, which loaded every chunk in the area. Query sizes are those of /findveins. Run with the benchmark task.
+ */
+public class VeinIndexBenchmark
+{
+    private static final int AREA = 10_000;
+    private static final int VEINS = (AREA / 16) * (AREA / 16);
+    private static final int CENTERS = 1024;
+    private static final int WARMUP = 200;
+    private static final int QUERIES = 2000;
+
+    private static final List<Vein> VEIN_LIST = new ArrayList<>();
+    private static VeinIndex index;
+    private static BlockPos[] centers;
+
+    @BeforeClass
+    public static void setup()
+    {
+        VeinIndexTest.setup();
+        Random random = new Random(1);
+        index = new VeinIndex("benchmark");
+        for (int i = 0; i < VEINS; i++)
+        {
+            Vein vein = new Vein(new BlockPos(random.nextInt(AREA), random.nextInt(256), random.nextInt(AREA)), random.nextBoolean() ? gold : iron, Ore.Grade.valueOf(random.nextInt(3)));
+            VEIN_LIST.add(vein);
+            index.add(vein);
+        }
+        centers = new BlockPos[CENTERS];
+        for (int i = 0; i < CENTERS; i++)
+        {
+            centers[i] = new BlockPos(random.nextInt(AREA), 0, random.nextInt(AREA));
+        }
+    }
+
+    /**
+     * @return the average time per query, in microseconds
+     */
+    private static double time(int queries, IntUnaryOperator query)
+    {
+        int found = 0;
+        for (int i = 0; i < Math.min(WARMUP, queries); i++)
+        {
+            found += query.applyAsInt(i % CENTERS);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < queries; i++)
+        {
+            found += query.applyAsInt(i % CENTERS);
+        }
+        long nanos = System.nanoTime() - start;
+        System.out.println("(" + found + " veins found)");
+        return nanos / 1000.0 / queries;
+    }
+
+    private static int getVeinsFromList(BlockPos center, int radius)
+    {
+        int found = 0;
+        for (Vein vein : VEIN_LIST)
+        {
+            BlockPos pos = vein.getPos();
+            if (Math.abs(pos.getX() - center.getX()) <= radius && Math.abs(pos.getZ() - center.getZ()) <= radius && vein.getType() == gold)
+            {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private static int getNearestFromList(BlockPos center, int maxRadius)
+    {
+        long nearestDistanceSq = (long) maxRadius * maxRadius + 1;
+        for (Vein vein : VEIN_LIST)
+        {
+            if (vein.getType() == gold)
+            {
+                nearestDistanceSq = Math.min(nearestDistanceSq, distanceSq(vein, center));
+            }
+        }
+        return nearestDistanceSq <= (long) maxRadius * maxRadius ? 1 : 0;
+    }
+
+    @Test
+    public void benchmarkAreaQueries()
+    {
+        for (int chunkRadius : new int[] {8, 64, 312})
+        {
+            int radius = chunkRadius << 4;
+            double indexed = time(QUERIES, i -> index.getVeins(centers[i].getX() - radius, centers[i].getZ() - radius, centers[i].getX() + radius, centers[i].getZ() + radius, gold).size());
+            double list = time(QUERIES / 10, i -> getVeinsFromList(centers[i], radius));
+            System.out.println(String.format("Area query, %d veins, radius %d chunks: %.1f us indexed, %.1f us searching a list", VEINS, chunkRadius, indexed, list));
+        }
+    }
+
+    @Test
+    public void benchmarkNearestQueries()
+    {
+        int maxRadius = 1000 << 4;
+        double indexed = time(QUERIES, i -> index.getNearestVein(centers[i], maxRadius, gold) == null ? 0 : 1);
+        double list = time(QUERIES / 10, i -> getNearestFromList(centers[i], maxRadius));
+        System.out.println(String.format("Nearest query, %d veins: %.1f us indexed, %.1f us searching a list", VEINS, indexed, list));
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.*;
+import javax.annotation.Nullable;
+
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.nbt.NBTTagString;
+import net.minecraft.util.math.BlockPos;
+import net.minecraftforge.common.util.Constants;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.api.types.Ore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the vein index against searching a plain list of every vein, which is what finding veins amounted to before the index existed
+ */
+public class VeinIndexTest
+{
+    private static final int VEINS = 5000;
+    private static final int SPREAD = 8192; // Veins are placed in [-SPREAD, SPREAD), which covers many regions
+    private static final int SAMPLES = 2000;
+
+    static VeinType gold, iron;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+        // Registered, as saved veins are read back by the name of their type
+        gold = register("test/index_gold", new VeinType.CustomVeinType(Blocks.GOLD_ORE.getDefaultState(), ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.SPHERE, 8, 8, 10, 0, 255, 50));
+        iron = register("test/index_iron", new VeinType.CustomVeinType(Blocks.IRON_ORE.getDefaultState(), ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.SPHERE, 8, 8, 10, 0, 255, 50));
+    }
+
+    private static synchronized VeinType register(String name, VeinType type)
+    {
+        if (VeinRegistry.INSTANCE.getVein(name) == null)
+        {
+            VeinRegistry.INSTANCE.register(name, type);
+        }
+        return VeinRegistry.INSTANCE.getVein(name);
+    }
+
+    static long distanceSq(Vein vein, BlockPos pos)
+    {
+        long dx = vein.getPos().getX() - pos.getX(), dz = vein.getPos().getZ() - pos.getZ();
+        return dx * dx + dz * dz;
+    }
+
+    private static BlockPos randomPos(Random random)
+    {
+        return new BlockPos(random.nextInt(2 * SPREAD) - SPREAD, random.nextInt(256), random.nextInt(2 * SPREAD) - SPREAD);
+    }
+
+    @Nullable
+    private static VeinType randomType(Random random)
+    {
+        switch (random.nextInt(3))
+        {
+            case 0:
+                return gold;
+            case 1:
+                return iron;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Creates an index and the list of veins in it. Some veins are added twice, which the index should ignore
+     */
+    private static VeinIndex createIndex(Random random, List<Vein> veins)
+    {
+        VeinIndex index = new VeinIndex("test");
+        for (int i = 0; i < VEINS; i++)
+        {
+            Vein vein = new Vein(randomPos(random), random.nextBoolean() ? gold : iron, Ore.Grade.valueOf(random.nextInt(3)));
+            veins.add(vein);
+            index.add(vein);
+            if (random.nextInt(10) == 0)
+            {
+                index.add(new Vein(vein.getPos(), vein.getType(), vein.getGrade()));
+            }
+        }
+        return index;
+    }
+
+    @Test
+    public void testAreaMatchesList()
+    {
+        Random random = new Random(1);
+        List<Vein> veins = new ArrayList<>();
+        VeinIndex index = createIndex(random, veins);
+        assertEquals(VEINS, index.size());
+
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            BlockPos min = randomPos(random);
+            int maxX = min.getX() + random.nextInt(2048), maxZ = min.getZ() + random.nextInt(2048);
+            VeinType type = randomType(random);
+
+            Set<Vein> expected = new HashSet<>();
+            for (Vein vein : veins)
+            {
+                BlockPos pos = vein.getPos();
+                if (pos.getX() >= min.getX() && pos.getX() <= maxX && pos.getZ() >= min.getZ() && pos.getZ() <= maxZ && (type == null || type == vein.getType()))
+                {
+                    expected.add(vein);
+                }
+            }
+            List<Vein> found = index.getVeins(min.getX(), min.getZ(), maxX, maxZ, type);
+            assertEquals(expected.size(), found.size());
+            assertEquals(expected, new HashSet<>(found));
+        }
+    }
+
+    @Test
+    public void testRadiusMatchesList()
+    {
+        Random random = new Random(2);
+        List<Vein> veins = new ArrayList<>();
+        VeinIndex index = createIndex(random, veins);
+
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            BlockPos center = randomPos(random);
+            int radius = random.nextInt(2048);
+            VeinType type = randomType(random);
+
+            Set<Vein> expected = new HashSet<>();
+            for (Vein vein : veins)
+            {
+                if (distanceSq(vein, center) <= (long) radius * radius && (type == null || type == vein.getType()))
+                {
+                    expected.add(vein);
+                }
+            }
+            assertEquals(expected, new HashSet<>(index.getVeinsInRadius(center, radius, type)));
+        }
+    }
+
+    @Test
+    public void testNearestMatchesList()
+    {
+        Random random = new Random(3);
+        List<Vein> veins = new ArrayList<>();
+        VeinIndex index = createIndex(random, veins);
+
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            // Also outside of the area with veins, where the search has to go through empty regions
+            BlockPos center = new BlockPos(random.nextInt(4 * SPREAD) - 2 * SPREAD, 0, random.nextInt(4 * SPREAD) - 2 * SPREAD);
+            int maxRadius = random.nextInt(4096);
+            VeinType type = randomType(random);
+
+            long expectedDistanceSq = Long.MAX_VALUE;
+            for (Vein vein : veins)
+            {
+                if (distanceSq(vein, center) <= (long) maxRadius * maxRadius && (type == null || type == vein.getType()))
+                {
+                    expectedDistanceSq = Math.min(expectedDistanceSq, distanceSq(vein, center));
+                }
+            }
+
+            // Veins at the same distance are equally valid, so only the distance is compared
+            Vein nearest = index.getNearestVein(center, maxRadius, type);
+            if (expectedDistanceSq == Long.MAX_VALUE)
+            {
+                assertNull("Center " + center, nearest);
+            }
+            else
+            {
+                assertEquals("Center " + center, expectedDistanceSq, nearest == null ? -1 : distanceSq(nearest, center));
+                assertEquals(type == null ? nearest.getType() : type, nearest.getType());
+            }
+        }
+    }
+
+    @Test
+    public void testSaveRoundTrip()
+    {
+        Random random = new Random(4);
+        List<Vein> veins = new ArrayList<>();
+        VeinIndex index = createIndex(random, veins);
+        NBTTagCompound nbt = index.writeToNBT(new NBTTagCompound());
+
+        // Each type once in the palette, and four ints per vein
+        NBTTagList palette = nbt.getTagList("types", Constants.NBT.TAG_STRING);
+        assertEquals(2, palette.tagCount());
+        assertEquals(new HashSet<>(Arrays.asList("test/index_gold", "test/index_iron")), new HashSet<>(Arrays.asList(palette.getStringTagAt(0), palette.getStringTagAt(1))));
+        assertEquals(4 * VEINS, nbt.getIntArray("veins").length);
+
+        VeinIndex loaded = new VeinIndex("test");
+        loaded.readFromNBT(nbt);
+        assertEquals(VEINS, loaded.size());
+        assertFalse(loaded.isDirty());
+        // Compares position, type and grade of every vein, and every grade is used
+        Set<Vein> found = new HashSet<>(loaded.getVeins(-SPREAD, -SPREAD, SPREAD, SPREAD, null));
+        assertEquals(new HashSet<>(veins), found);
+        for (Ore.Grade grade : Ore.Grade.values())
+        {
+            assertTrue(found.stream().anyMatch(vein -> vein.getGrade() == grade));
+        }
+        assertEquals(index.getRegionCount(), loaded.getRegionCount());
+        assertEquals(nbt.getIntArray("veins").length, loaded.writeToNBT(new NBTTagCompound()).getIntArray("veins").length);
+    }
+
+    @Test
+    public void testUnknownTypesAreDropped()
+    {
+        Random random = new Random(5);
+        List<Vein> veins = new ArrayList<>();
+        NBTTagCompound nbt = createIndex(random, veins).writeToNBT(new NBTTagCompound());
+
+        // A type index outside of the palette, which is dropped
+        NBTTagList palette = nbt.getTagList("types", Constants.NBT.TAG_STRING);
+        int[] data = nbt.getIntArray("veins");
+        Vein outside = new Vein(new BlockPos(data[0], data[1], data[2]), VeinRegistry.INSTANCE.getVein(palette.getStringTagAt(data[3] >> 2)), Ore.Grade.valueOf(data[3] & 3));
+        data[3] = (palette.tagCount() << 2) | (data[3] & 3);
+        nbt.setIntArray("veins", data);
+
+        // And a vein type which was removed from the config since the world was saved
+        palette.set("test/index_iron".equals(palette.getStringTagAt(0)) ? 0 : 1, new NBTTagString("test/removed"));
+
+        VeinIndex loaded = new VeinIndex("test");
+        loaded.readFromNBT(nbt);
+        Set<Vein> expected = new HashSet<>(veins);
+        expected.removeIf(vein -> vein.getType() == iron);
+        expected.remove(outside);
+        assertEquals(expected, new HashSet<>(loaded.getVeins(-SPREAD, -SPREAD, SPREAD, SPREAD, null)));
+        assertEquals(expected.size(), loaded.size());
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Work under Copyright. Licensed under the EUPL.
+ * See the project README.md and LICENSE.txt for more information.
+ */
+
+package net.dries007.tfc.world.classic.worldgen.vein;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import net.dries007.tfc.api.types.Metal;
+import net.dries007.tfc.api.types.Ore;
+import net.dries007.tfc.world.classic.worldgen.WorldGenOreVeins;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Checks the vein oracle, and the vein cache of world gen, against the vein placement world gen used before either existed
+ * Veins are compared by position, type and grade, and by class. Veins created later in a chunk only match if the ones before them used the random numbers the same way.
+ */
+public class VeinOracleTest
+{
+    private static final int SEEDS = 20;
+    private static final int CHUNKS = 500;
+
+    private static final Random LOCAL_RANDOM = new Random();
+
+    private static VeinType rareType;
+
+    @BeforeClass
+    public static void setup()
+    {
+        Bootstrap.register();
+        Ore gradedOre = new Ore(new ResourceLocation("tfc", "test_graded_ore"), new Metal(new ResourceLocation("tfc", "test_metal"), Metal.Tier.TIER_I, true, 0.35f, 1000, 0xFFFFFFFF, null, null), true, 0, 0);
+        Ore ungradedOre = new Ore(new ResourceLocation("tfc", "test_ungraded_ore"));
+
+        register("test/common_sphere", new VeinType(gradedOre, ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.SPHERE, 16, 8, 3, 20, 120, 40));
+        register("test/common_cluster", new VeinType(gradedOre, ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.CLUSTER, 24, 12, 5, 30, 90, 60));
+        register("test/ungraded_cluster", new VeinType(ungradedOre, ItemStack.EMPTY, Collections.emptyList(), VeinType.Shape.CLUSTER, 32, 16, 20, 5, 200, 30));
+        register("test/custom_sphere", createCustomType(Blocks.IRON_ORE.getDefaultState(), VeinType.Shape.SPHERE, 60));
+        register("test/rare_cluster", createCustomType(Blocks.GOLD_ORE.getDefaultState(), VeinType.Shape.CLUSTER, 150));
+        rareType = VeinRegistry.INSTANCE.getVein("test/rare_cluster");
+    }
+
+    private static VeinType createCustomType(IBlockState state, VeinType.Shape shape, int rarity)
+    {
+        return new VeinType.CustomVeinType(state, ItemStack.EMPTY, Collections.emptyList(), shape, 12, 12, rarity, 10, 100, 50);
+    }
+
+    private static void register(String name, VeinType type)
+    {
+        if (VeinRegistry.INSTANCE.getVein(name) == null)
+        {
+            VeinRegistry.INSTANCE.register(name, type);
+        }
+    }
+
+    /**
+     * The vein placement of world gen, before the vein oracle and the vein cache
+     */
+    private static void getOldVeinsAtChunk(List<Vein> listToAdd, int chunkX, int chunkZ, long worldSeed)
+    {
+        LOCAL_RANDOM.setSeed(worldSeed + chunkX * 341873128712L + chunkZ * 132897987541L);
+        listToAdd.addAll(VeinRegistry.INSTANCE.getVeins().values().stream()
+            .filter(veinType -> LOCAL_RANDOM.nextInt(veinType.getRarity()) == 0)
+            .map(veinType -> veinType.createVein(LOCAL_RANDOM, chunkX, chunkZ))
+            .collect(Collectors.toList()));
+    }
+
+    private static List<Vein> getOldNearbyVeins(int chunkX, int chunkZ, long worldSeed, int radius)
+    {
+        List<Vein> veins = new ArrayList<>();
+        for (int x = -radius; x <= radius; x++)
+        {
+            for (int z = -radius; z <= radius; z++)
+            {
+                getOldVeinsAtChunk(veins, chunkX + x, chunkZ + z, worldSeed);
+            }
+        }
+        return veins;
+    }
+
+    private static List<Vein> getOldVeins(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, long worldSeed, @Nullable VeinType type)
+    {
+        List<Vein> veins = new ArrayList<>();
+        for (int x = minChunkX; x <= maxChunkX; x++)
+        {
+            for (int z = minChunkZ; z <= maxChunkZ; z++)
+            {
+                getOldVeinsAtChunk(veins, x, z, worldSeed);
+            }
+        }
+        return veins.stream().filter(vein -> type == null || vein.getType() == type).collect(Collectors.toList());
+    }
+
+    private static int randomChunk(Random random)
+    {
+        // Mostly near spawn, with some far out where the chunk seed overflows
+        return random.nextBoolean() ? random.nextInt(256) - 128 : random.nextInt(3_750_000) - 1_875_000;
+    }
+
+    private static void assertSameVeins(List<Vein> expected, List<Vein> actual)
+    {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+        {
+            Vein expectedVein = expected.get(i), actualVein = actual.get(i);
+            assertEquals(expectedVein.getPos(), actualVein.getPos());
+            assertSame(expectedVein.getType(), actualVein.getType());
+            assertSame(expectedVein.getGrade(), actualVein.getGrade());
+            assertSame(expectedVein.getClass(), actualVein.getClass());
+        }
+    }
+
+    @Test
+    public void testVeinsAtChunkMatchOldPlacement()
+    {
+        Random random = new Random(1);
+        int veins = 0;
+        for (int i = 0; i < SEEDS; i++)
+        {
+            long seed = random.nextLong();
+            VeinOracle oracle = new VeinOracle(seed);
+            for (int j = 0; j < CHUNKS; j++)
+            {
+                int chunkX = randomChunk(random), chunkZ = randomChunk(random);
+                List<Vein> expected = new ArrayList<>(), actual = new ArrayList<>();
+                getOldVeinsAtChunk(expected, chunkX, chunkZ, seed);
+                oracle.getVeinsAtChunk(actual, chunkX, chunkZ);
+                assertSameVeins(expected, actual);
+                veins += expected.size();
+            }
+        }
+        // Make sure this compared something
+        assertFalse(veins < SEEDS * CHUNKS / 4);
+    }
+
+    @Test
+    public void testAreaMatchesOldPlacement()
+    {
+        Random random = new Random(2);
+        for (int i = 0; i < SEEDS; i++)
+        {
+            long seed = random.nextLong();
+            VeinOracle oracle = new VeinOracle(seed);
+            for (int j = 0; j < CHUNKS / 10; j++)
+            {
+                int minX = randomChunk(random), minZ = randomChunk(random);
+                int maxX = minX + random.nextInt(12), maxZ = minZ + random.nextInt(12);
+                VeinType type = random.nextBoolean() ? rareType : null;
+                assertSameVeins(getOldVeins(minX, minZ, maxX, maxZ, seed, type), oracle.getVeins(minX, minZ, maxX, maxZ, type));
+            }
+        }
+    }
+
+    @Test
+    public void testNearbyVeinsMatchOldPlacement()
+    {
+        Random random = new Random(3);
+        long[] seeds = new long[SEEDS];
+        for (int i = 0; i < SEEDS; i++)
+        {
+            seeds[i] = random.nextLong();
+        }
+        for (int i = 0; i < CHUNKS * 4; i++)
+        {
+            // Walks over neighbouring chunks, like world gen does, so the cache is hit. Changing the seed should empty it.
+            long seed = seeds[(i / 200) % SEEDS];
+            int chunkX = (i % 200) / 20 - 5, chunkZ = i % 20 - 10;
+            int radius = 1 + random.nextInt(2);
+            assertSameVeins(getOldNearbyVeins(chunkX, chunkZ, seed, radius), WorldGenOreVeins.getNearbyVeins(chunkX, chunkZ, seed, radius));
+        }
+    }
+}